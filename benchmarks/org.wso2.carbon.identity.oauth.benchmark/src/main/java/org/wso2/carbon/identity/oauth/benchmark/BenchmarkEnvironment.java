@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.apache.commons.lang.StringUtils;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.mockito.MockedStatic;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.IdentityKeyStoreResolver;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.keyidprovider.DefaultKeyIDProviderImpl;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Shared fixtures of the OAuth microbenchmarks.
+ * <p>
+ * The benchmarks run outside the OSGi container, so the services the OAuth component normally receives through
+ * declarative services are replaced with in-memory stubs, and the database is an embedded H2 instance seeded with
+ * the same identity.sql script used by the unit tests. Static stubs opened through Mockito are bound to the thread
+ * that opened them, hence every benchmark state using them is thread scoped and opens them in its own setup.
+ */
+public final class BenchmarkEnvironment {
+
+    public static final String TENANT_DOMAIN = "carbon.super";
+    public static final int TENANT_ID = -1234;
+    public static final String CLIENT_ID = "benchmarkClientId";
+    public static final String APPLICATION_NAME = "benchmarkApplication";
+    public static final String USERNAME = "admin";
+    public static final String USER_STORE_DOMAIN = "PRIMARY";
+    public static final String TOKEN_ENDPOINT = "https://localhost:9443/oauth2/token";
+    public static final String[] SCOPES = {"openid", "profile", "internal_login"};
+
+    private static final String CARBON_HOME_DIRECTORY = "carbon-home";
+    private static final String KEY_STORE_PATH = "repository/resources/security/wso2carbon.jks";
+    private static final String KEY_STORE_PASSWORD = "wso2carbon";
+    private static final String KEY_ALIAS = "wso2carbon";
+    private static final String DB_SCRIPT_PATH = "dbScripts/identity.sql";
+    private static final String DB_URL = "jdbc:h2:mem:oauth-benchmark;DB_CLOSE_DELAY=-1";
+    private static final String USER_ID = UUID.randomUUID().toString();
+    private static final String ADD_OAUTH_APP_SQL = "INSERT INTO IDN_OAUTH_CONSUMER_APPS (CONSUMER_KEY, " +
+            "CONSUMER_SECRET, USERNAME, TENANT_ID, USER_DOMAIN, APP_NAME, OAUTH_VERSION, CALLBACK_URL, GRANT_TYPES, " +
+            "APP_STATE) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static JdbcConnectionPool dataSource;
+    private static PrivateKey privateKey;
+    private static Certificate certificate;
+
+    private BenchmarkEnvironment() {
+
+    }
+
+    /**
+     * Point carbon.home to the benchmark carbon home unless it is already set. The carbon home is populated from the
+     * OAuth component test resources at build time.
+     *
+     * @return Carbon home directory.
+     */
+    public static synchronized String initCarbonHome() {
+
+        String carbonHome = System.getProperty(CarbonBaseConstants.CARBON_HOME);
+        if (StringUtils.isBlank(carbonHome)) {
+            carbonHome = Paths.get("target", CARBON_HOME_DIRECTORY).toAbsolutePath().toString();
+            System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        }
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH,
+                Paths.get(carbonHome, "repository", "conf").toString());
+        return carbonHome;
+    }
+
+    /**
+     * Get the embedded H2 data source, creating it and registering the benchmark application on first use.
+     *
+     * @return Data source of the embedded database.
+     * @throws Exception If the database could not be initialized.
+     */
+    public static synchronized DataSource getDataSource() throws Exception {
+
+        if (dataSource == null) {
+            Path script = Paths.get(initCarbonHome(), DB_SCRIPT_PATH);
+            JdbcConnectionPool pool = JdbcConnectionPool.create(DB_URL, "username", "password");
+            try (Connection connection = pool.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("RUNSCRIPT FROM '" + script + "'");
+                }
+                try (PreparedStatement prepStmt = connection.prepareStatement(ADD_OAUTH_APP_SQL)) {
+                    prepStmt.setString(1, CLIENT_ID);
+                    prepStmt.setString(2, UUID.randomUUID().toString());
+                    prepStmt.setString(3, USERNAME);
+                    prepStmt.setInt(4, TENANT_ID);
+                    prepStmt.setString(5, USER_STORE_DOMAIN);
+                    prepStmt.setString(6, APPLICATION_NAME);
+                    prepStmt.setString(7, "OAuth-2.0");
+                    prepStmt.setString(8, "https://localhost:8080/callback");
+                    prepStmt.setString(9, "authorization_code password refresh_token");
+                    prepStmt.setString(10, "ACTIVE");
+                    prepStmt.execute();
+                }
+            }
+            dataSource = pool;
+        }
+        return dataSource;
+    }
+
+    /**
+     * Register a realm service stub that resolves the super tenant, and the default key ID provider.
+     */
+    public static void registerServices() throws Exception {
+
+        initCarbonHome();
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId(anyString())).thenReturn(TENANT_ID);
+        when(tenantManager.getDomain(anyInt())).thenReturn(TENANT_DOMAIN);
+        IdentityTenantUtil.setRealmService(realmService);
+        OAuthComponentServiceHolder.getInstance().setRealmService(realmService);
+        OAuth2ServiceComponentHolder.setKeyIDProvider(new DefaultKeyIDProviderImpl());
+    }
+
+    /**
+     * Open a static stub of the key store resolver that serves the signing key and certificate of the benchmark
+     * key store. The caller owns the returned stub and must close it on tear down.
+     *
+     * @return Static stub of the key store resolver.
+     * @throws Exception If the key store could not be loaded.
+     */
+    public static MockedStatic<IdentityKeyStoreResolver> mockKeyStoreResolver() throws Exception {
+
+        loadKeyStore();
+        IdentityKeyStoreResolver keyStoreResolver = mock(IdentityKeyStoreResolver.class);
+        when(keyStoreResolver.getPrivateKey(anyString(), any())).thenReturn(privateKey);
+        when(keyStoreResolver.getCertificate(anyString(), any())).thenReturn(certificate);
+        MockedStatic<IdentityKeyStoreResolver> staticResolver = mockStatic(IdentityKeyStoreResolver.class);
+        staticResolver.when(IdentityKeyStoreResolver::getInstance).thenReturn(keyStoreResolver);
+        return staticResolver;
+    }
+
+    public static synchronized Certificate getCertificate() throws Exception {
+
+        loadKeyStore();
+        return certificate;
+    }
+
+    public static AuthenticatedUser newAuthenticatedUser() {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName(USERNAME);
+        authenticatedUser.setUserStoreDomain(USER_STORE_DOMAIN);
+        authenticatedUser.setTenantDomain(TENANT_DOMAIN);
+        authenticatedUser.setUserId(USER_ID);
+        authenticatedUser.setAuthenticatedSubjectIdentifier(USERNAME);
+        authenticatedUser.setFederatedUser(false);
+        return authenticatedUser;
+    }
+
+    public static OAuthTokenReqMessageContext newTokenRequestContext(String grantType) {
+
+        OAuth2AccessTokenReqDTO tokenReqDTO = new OAuth2AccessTokenReqDTO();
+        tokenReqDTO.setClientId(CLIENT_ID);
+        tokenReqDTO.setGrantType(grantType);
+        tokenReqDTO.setScope(SCOPES);
+        tokenReqDTO.setTenantDomain(TENANT_DOMAIN);
+        OAuthTokenReqMessageContext tokenReqMessageContext = new OAuthTokenReqMessageContext(tokenReqDTO);
+        tokenReqMessageContext.setAuthorizedUser(newAuthenticatedUser());
+        tokenReqMessageContext.setScope(SCOPES);
+        return tokenReqMessageContext;
+    }
+
+    private static synchronized void loadKeyStore() throws Exception {
+
+        if (privateKey != null) {
+            return;
+        }
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream inputStream = Files.newInputStream(Paths.get(initCarbonHome(), KEY_STORE_PATH))) {
+            keyStore.load(inputStream, KEY_STORE_PASSWORD.toCharArray());
+        }
+        certificate = keyStore.getCertificate(KEY_ALIAS);
+        privateKey = (PrivateKey) keyStore.getKey(KEY_ALIAS, KEY_STORE_PASSWORD.toCharArray());
+    }
+}
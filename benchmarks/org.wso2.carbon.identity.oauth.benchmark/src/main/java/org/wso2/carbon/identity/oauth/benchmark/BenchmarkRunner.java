@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.base.CarbonBaseConstants;
+
+import java.nio.file.Paths;
+
+/**
+ * Entry point of the OAuth microbenchmarks.
+ * <p>
+ * Build with {@code mvn clean install -Pbenchmark} and run with
+ * {@code java -jar benchmarks/org.wso2.carbon.identity.oauth.benchmark/target/benchmarks.jar [jmh options]}.
+ * Throughput and the GC profiler's allocation rate ({@code gc.alloc.rate.norm}) are reported for every benchmark
+ * and written as JSON to {@code target/jmh-result.json}, so that results of two builds can be compared.
+ * Regular JMH command line options (e.g. a benchmark name regex) are honoured.
+ */
+public class BenchmarkRunner {
+
+    private static final String RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+
+        String carbonHome = BenchmarkEnvironment.initCarbonHome();
+        Options commandLineOptions = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(Paths.get(RESULT_FILE).toAbsolutePath().toString())
+                .jvmArgsAppend("-D" + CarbonBaseConstants.CARBON_HOME + "=" + carbonHome)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks token hashing of {@link HashingPersistenceProcessor}, which runs on every token persistence and
+ * lookup when token hashing is enabled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class HashingPersistenceProcessorBenchmark {
+
+    @Param({"SHA-256", "SHA-512"})
+    public String hashAlgorithm;
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private HashingPersistenceProcessor persistenceProcessor;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        BenchmarkEnvironment.initCarbonHome();
+        OAuthServerConfiguration config = mock(OAuthServerConfiguration.class);
+        when(config.getHashAlgorithm()).thenReturn(hashAlgorithm);
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(config);
+
+        persistenceProcessor = new HashingPersistenceProcessor();
+        accessToken = UUID.randomUUID().toString();
+        refreshToken = UUID.randomUUID().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public String hashAccessToken() throws Exception {
+
+        return persistenceProcessor.getProcessedAccessTokenIdentifier(accessToken);
+    }
+
+    @Benchmark
+    public String hashRefreshToken() throws Exception {
+
+        return persistenceProcessor.getProcessedRefreshToken(refreshToken);
+    }
+
+    /**
+     * Looks up an access token the way a validation request does, where the token is hashed by both the validation
+     * flow and the access token DAO.
+     */
+    @Benchmark
+    public String hashAccessTokenTwiceWithinRequest() throws Exception {
+
+        boolean hashMemoStarted = HashingPersistenceProcessor.startHashMemo();
+        try {
+            persistenceProcessor.getProcessedAccessTokenIdentifier(accessToken);
+            return persistenceProcessor.getProcessedAccessTokenIdentifier(accessToken);
+        } finally {
+            if (hashMemoStarted) {
+                HashingPersistenceProcessor.clearHashMemo();
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.IdentityKeyStoreResolver;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.openidconnect.CustomClaimsCallbackHandler;
+import org.wso2.carbon.identity.openidconnect.DefaultIDTokenBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.sql.DataSource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks building and signing an ID token with {@link DefaultIDTokenBuilder} for a password grant.
+ * <p>
+ * The application is resolved through the app info cache and the OAuth app DAO backed by the embedded H2 database.
+ * The issuer resolution, which needs the identity provider management service, and the system application check are
+ * stubbed, and no custom claims are added.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class IDTokenBuilderBenchmark {
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<IdentityKeyStoreResolver> identityKeyStoreResolver;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private MockedStatic<OAuth2Util> oAuth2Util;
+    private DefaultIDTokenBuilder idTokenBuilder;
+    private OAuthTokenReqMessageContext tokenReqMessageContext;
+    private OAuth2AccessTokenRespDTO tokenRespDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.registerServices();
+        DataSource dataSource = BenchmarkEnvironment.getDataSource();
+
+        OAuthServerConfiguration config = mock(OAuthServerConfiguration.class);
+        when(config.getIdTokenSignatureAlgorithm()).thenReturn("SHA256withRSA");
+        when(config.getPersistenceProcessor()).thenReturn(new PlainTextPersistenceProcessor());
+        when(config.getTimeStampSkewInSeconds()).thenReturn(300L);
+        when(config.getOpenIDConnectCustomClaimsCallbackHandler()).thenReturn(new PassThroughClaimsCallbackHandler());
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(config);
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenAnswer(
+                invocation -> dataSource.getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenAnswer(
+                invocation -> dataSource.getConnection());
+        identityKeyStoreResolver = BenchmarkEnvironment.mockKeyStoreResolver();
+
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class, Mockito.CALLS_REAL_METHODS);
+        identityTenantUtil.when(() -> IdentityTenantUtil.isSystemApplication(anyString(), anyString()))
+                .thenReturn(false);
+        oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+        oAuth2Util.when(() -> OAuth2Util.getIdTokenIssuer(anyString(), anyString(), anyBoolean()))
+                .thenReturn(BenchmarkEnvironment.TOKEN_ENDPOINT);
+        oAuth2Util.when(() -> OAuth2Util.isMtlsRequest(any())).thenReturn(false);
+
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(BenchmarkEnvironment.TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(BenchmarkEnvironment.TENANT_ID);
+
+        HttpServletRequestWrapper request = mock(HttpServletRequestWrapper.class);
+        when(request.getRequestURL()).thenReturn(new StringBuffer(BenchmarkEnvironment.TOKEN_ENDPOINT));
+        tokenReqMessageContext = BenchmarkEnvironment.newTokenRequestContext(OAuthConstants.GrantTypes.PASSWORD);
+        tokenReqMessageContext.getOauth2AccessTokenReqDTO().setHttpServletRequestWrapper(request);
+        tokenRespDTO = new OAuth2AccessTokenRespDTO();
+        tokenRespDTO.setAccessToken(UUID.randomUUID().toString());
+
+        idTokenBuilder = new DefaultIDTokenBuilder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        oAuth2Util.close();
+        identityTenantUtil.close();
+        identityKeyStoreResolver.close();
+        identityDatabaseUtil.close();
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public String buildIDToken() throws Exception {
+
+        return idTokenBuilder.buildIDToken(tokenReqMessageContext, tokenRespDTO);
+    }
+
+    /**
+     * Claims callback handler that adds no user claims, keeping the user store out of the measurement.
+     */
+    private static class PassThroughClaimsCallbackHandler implements CustomClaimsCallbackHandler {
+
+        @Override
+        public JWTClaimsSet handleCustomClaims(JWTClaimsSet.Builder builder, OAuthTokenReqMessageContext request) {
+
+            return builder.build();
+        }
+
+        @Override
+        public JWTClaimsSet handleCustomClaims(JWTClaimsSet.Builder builder, OAuthAuthzReqMessageContext request) {
+
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.TokenProvider;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.model.RefreshTokenValidationDataDO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.TokenValidationHandler;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks {@link TokenValidationHandler#buildIntrospectionResponse(OAuth2TokenValidationRequestDTO)} for an
+ * active opaque bearer token.
+ * <p>
+ * Tokens are served from an in-memory {@link TokenProvider}, while the application lookups go through the regular
+ * app info cache and OAuth app DAO backed by the embedded H2 database. Only the service provider lookup, which
+ * needs the application management service, is stubbed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class IntrospectionBenchmark {
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<OrganizationManagementUtil> organizationManagementUtil;
+    private MockedStatic<LoggerUtils> loggerUtils;
+    private MockedStatic<OAuth2Util> oAuth2Util;
+    private TokenProvider previousTokenProvider;
+    private TokenValidationHandler tokenValidationHandler;
+    private OAuth2TokenValidationRequestDTO validationRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.registerServices();
+        DataSource dataSource = BenchmarkEnvironment.getDataSource();
+
+        OAuthServerConfiguration config = mock(OAuthServerConfiguration.class);
+        when(config.getPersistenceProcessor()).thenReturn(new PlainTextPersistenceProcessor());
+        when(config.getTokenValidatorClassNames()).thenReturn(Collections.emptyMap());
+        when(config.getAllowedScopes()).thenReturn(Collections.emptyList());
+        when(config.getTimeStampSkewInSeconds()).thenReturn(300L);
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(config);
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenAnswer(
+                invocation -> dataSource.getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenAnswer(
+                invocation -> dataSource.getConnection());
+
+        organizationManagementUtil = mockStatic(OrganizationManagementUtil.class);
+        organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(anyString()))
+                .thenReturn(false);
+        loggerUtils = mockStatic(LoggerUtils.class);
+        loggerUtils.when(LoggerUtils::isDiagnosticLogsEnabled).thenReturn(false);
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName(BenchmarkEnvironment.APPLICATION_NAME);
+        serviceProvider.setApplicationVersion("v1.0.0");
+        oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+        oAuth2Util.when(() -> OAuth2Util.getServiceProvider(anyString(), any())).thenReturn(serviceProvider);
+
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(BenchmarkEnvironment.TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(BenchmarkEnvironment.TENANT_ID);
+
+        String accessToken = UUID.randomUUID().toString();
+        long issuedTime = System.currentTimeMillis();
+        AccessTokenDO accessTokenDO = new AccessTokenDO(BenchmarkEnvironment.CLIENT_ID,
+                BenchmarkEnvironment.newAuthenticatedUser(), BenchmarkEnvironment.SCOPES, new Timestamp(issuedTime),
+                new Timestamp(issuedTime), TimeUnit.DAYS.toMillis(1), TimeUnit.DAYS.toMillis(1),
+                OAuthConstants.UserType.APPLICATION_USER);
+        accessTokenDO.setAccessToken(accessToken);
+        accessTokenDO.setTokenId(UUID.randomUUID().toString());
+        accessTokenDO.setTokenState(OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE);
+        accessTokenDO.setTenantID(BenchmarkEnvironment.TENANT_ID);
+        accessTokenDO.setAppResidentTenantId(BenchmarkEnvironment.TENANT_ID);
+
+        InMemoryTokenProvider tokenProvider = new InMemoryTokenProvider();
+        tokenProvider.addAccessToken(accessTokenDO);
+        previousTokenProvider = OAuth2ServiceComponentHolder.getInstance().getTokenProvider();
+        OAuth2ServiceComponentHolder.getInstance().setTokenProvider(tokenProvider);
+
+        tokenValidationHandler = TokenValidationHandler.getInstance();
+        validationRequest = new OAuth2TokenValidationRequestDTO();
+        OAuth2TokenValidationRequestDTO.OAuth2AccessToken token = validationRequest.new OAuth2AccessToken();
+        token.setIdentifier(accessToken);
+        token.setTokenType("bearer");
+        validationRequest.setAccessToken(token);
+
+        OAuth2IntrospectionResponseDTO response = tokenValidationHandler.buildIntrospectionResponse(validationRequest);
+        if (!response.isActive()) {
+            throw new IllegalStateException("Benchmark token is not active: " + response.getError());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        OAuth2ServiceComponentHolder.getInstance().setTokenProvider(previousTokenProvider);
+        oAuth2Util.close();
+        loggerUtils.close();
+        organizationManagementUtil.close();
+        identityDatabaseUtil.close();
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public OAuth2IntrospectionResponseDTO introspectActiveToken() throws Exception {
+
+        return tokenValidationHandler.buildIntrospectionResponse(validationRequest);
+    }
+
+    /**
+     * Token provider serving pre-issued tokens from memory, mirroring the contract of the default provider.
+     */
+    private static class InMemoryTokenProvider implements TokenProvider {
+
+        private final Map<String, AccessTokenDO> accessTokens = new ConcurrentHashMap<>();
+
+        void addAccessToken(AccessTokenDO accessTokenDO) {
+
+            accessTokens.put(accessTokenDO.getAccessToken(), accessTokenDO);
+        }
+
+        @Override
+        public AccessTokenDO getVerifiedAccessToken(String accessToken, boolean includeExpired)
+                throws IdentityOAuth2Exception {
+
+            AccessTokenDO accessTokenDO = accessTokens.get(accessToken);
+            if (accessTokenDO == null && !includeExpired) {
+                throw new IllegalArgumentException("Invalid Access Token. ACTIVE access token is not found.");
+            }
+            return accessTokenDO;
+        }
+
+        @Override
+        public RefreshTokenValidationDataDO getVerifiedRefreshToken(String refreshToken, String consumerKey)
+                throws IdentityOAuth2Exception {
+
+            return null;
+        }
+
+        @Override
+        public AccessTokenDO getVerifiedRefreshToken(String refreshToken) throws IdentityOAuth2Exception {
+
+            return null;
+        }
+    }
+}
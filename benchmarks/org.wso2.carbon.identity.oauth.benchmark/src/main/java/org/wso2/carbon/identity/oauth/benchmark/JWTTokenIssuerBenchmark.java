@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.core.IdentityKeyStoreResolver;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.token.JWTTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks signing of self contained access tokens by {@link JWTTokenIssuer}, including the resolution of the
+ * signing tenant, key, certificate thumbprint and key ID.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class JWTTokenIssuerBenchmark {
+
+    private static final String AUTHORIZED_PARTY = "azp";
+    private static final String CLIENT_ID = "client_id";
+    private static final Map<String, String> SIGNATURE_ALGORITHMS = new HashMap<>();
+
+    static {
+        SIGNATURE_ALGORITHMS.put("RS256", "SHA256withRSA");
+        SIGNATURE_ALGORITHMS.put("PS256", "PS256");
+    }
+
+    @Param({"RS256", "PS256"})
+    public String algorithm;
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<IdentityKeyStoreResolver> identityKeyStoreResolver;
+    private BenchmarkJWTTokenIssuer tokenIssuer;
+    private OAuthTokenReqMessageContext tokenReqMessageContext;
+    private JWTClaimsSet jwtClaimsSet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.registerServices();
+        OAuthServerConfiguration config = mock(OAuthServerConfiguration.class);
+        when(config.getSignatureAlgorithm()).thenReturn(SIGNATURE_ALGORITHMS.get(algorithm));
+        when(config.getUseSPTenantDomainValue()).thenReturn(false);
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(config);
+        identityKeyStoreResolver = BenchmarkEnvironment.mockKeyStoreResolver();
+
+        tokenIssuer = new BenchmarkJWTTokenIssuer();
+        tokenReqMessageContext = BenchmarkEnvironment.newTokenRequestContext(OAuthConstants.GrantTypes.PASSWORD);
+
+        long now = System.currentTimeMillis();
+        jwtClaimsSet = new JWTClaimsSet.Builder()
+                .issuer(BenchmarkEnvironment.TOKEN_ENDPOINT)
+                .subject(BenchmarkEnvironment.USERNAME)
+                .audience(BenchmarkEnvironment.CLIENT_ID)
+                .claim(AUTHORIZED_PARTY, BenchmarkEnvironment.CLIENT_ID)
+                .claim(CLIENT_ID, BenchmarkEnvironment.CLIENT_ID)
+                .claim(OAuthConstants.OAuth20Params.SCOPE, String.join(" ",
+                        Arrays.asList(BenchmarkEnvironment.SCOPES)))
+                .issueTime(new Date(now))
+                .notBeforeTime(new Date(now))
+                .expirationTime(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .jwtID(UUID.randomUUID().toString())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        identityKeyStoreResolver.close();
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public String signAccessToken() throws Exception {
+
+        return tokenIssuer.sign(jwtClaimsSet, tokenReqMessageContext);
+    }
+
+    /**
+     * Exposes the signing step of the issuer to the benchmark.
+     */
+    private static class BenchmarkJWTTokenIssuer extends JWTTokenIssuer {
+
+        BenchmarkJWTTokenIssuer() throws IdentityOAuth2Exception {
+
+            super();
+        }
+
+        String sign(JWTClaimsSet jwtClaimsSet, OAuthTokenReqMessageContext tokenContext)
+                throws IdentityOAuth2Exception {
+
+            return signJWT(jwtClaimsSet, tokenContext, null);
+        }
+    }
+}
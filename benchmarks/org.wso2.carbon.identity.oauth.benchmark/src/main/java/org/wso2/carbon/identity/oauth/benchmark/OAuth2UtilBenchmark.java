@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.security.cert.Certificate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+/**
+ * Benchmarks the {@link OAuth2Util} helpers that run on every JWT issuance and validation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class OAuth2UtilBenchmark {
+
+    private static final String JWT = "eyJ4NXQiOiJOVEF4Wm1NeE5ETXlaRGczTVRVMVpHTTBNekV6T0RKaFpXSTRORE5sWkRVMU9HRmtOakZp" +
+            "TkEiLCJraWQiOiJOVEF4Wm1NeE5ETXlaRGczTVRVMVpHTTBNekV6T0RKaFpXSTRORE5sWkRVMU9HRmtOakZpTkFfUlMyNTYiLCJ0eXAi" +
+            "OiJhdCtqd3QiLCJhbGciOiJSUzI1NiJ9.eyJzdWIiOiJhZG1pbiIsImF1dCI6IkFQUExJQ0FUSU9OX1VTRVIiLCJpc3MiOiJodHRwcz" +
+            "ovL2xvY2FsaG9zdDo5NDQzL29hdXRoMi90b2tlbiIsImNsaWVudF9pZCI6ImJlbmNobWFya0NsaWVudElkIiwic2NvcGUiOiJvcGVu" +
+            "aWQiLCJleHAiOjE4OTM0NTYwMDB9.c2lnbmF0dXJl";
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private Certificate certificate;
+    private String opaqueToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.registerServices();
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance)
+                .thenReturn(mock(OAuthServerConfiguration.class));
+
+        certificate = BenchmarkEnvironment.getCertificate();
+        opaqueToken = UUID.randomUUID().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public boolean isJWTWithJWT() {
+
+        return OAuth2Util.isJWT(JWT);
+    }
+
+    @Benchmark
+    public boolean isJWTWithOpaqueToken() {
+
+        return OAuth2Util.isJWT(opaqueToken);
+    }
+
+    @Benchmark
+    public String getThumbPrint() throws Exception {
+
+        return OAuth2Util.getThumbPrint(certificate);
+    }
+
+    @Benchmark
+    public String getKID() throws Exception {
+
+        return OAuth2Util.getKID(certificate, JWSAlgorithm.RS256, BenchmarkEnvironment.TENANT_DOMAIN);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.apache.oltu.oauth2.as.issuer.UUIDValueGenerator;
+import org.apache.oltu.oauth2.as.issuer.ValueGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth.tokenvaluegenerator.SHA256Generator;
+import org.wso2.carbon.identity.oauth.tokenvaluegenerator.SecureRandomValueGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the token value generators, one of which runs for every access token, refresh token and authorization
+ * code issued. A single generator is shared by the benchmark threads, as it is shared by the token requests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TokenValueGeneratorBenchmark {
+
+    @Param({"UUID", "SHA256", "SecureRandom"})
+    public String generator;
+
+    private ValueGenerator valueGenerator;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("deprecation")
+    public void setUp() {
+
+        switch (generator) {
+            case "UUID":
+                valueGenerator = new UUIDValueGenerator();
+                break;
+            case "SHA256":
+                valueGenerator = new SHA256Generator();
+                break;
+            default:
+                valueGenerator = new SecureRandomValueGenerator(32);
+        }
+    }
+
+    @Benchmark
+    public String generateValue() throws Exception {
+
+        return valueGenerator.generateValue();
+    }
+}
@@ -30,6 +30,8 @@ public class CibaConstants {
     public static final long MAXIMUM_REQUESTED_EXPIRY_IN_SEC = 3600;
     public static final long MAXIMUM_NOT_BEFORE_TIME_IN_SEC = 3600;
     public static final long SEC_TO_MILLISEC_FACTOR = 1000;
+    public static final String POLLING_STATE_CACHE_KEY_PREFIX = "CIBA:";
+    public static final String POLLING_STATE_INDEX_CACHE_KEY_PREFIX = "CIBA-AuthReqId:";
     public static final String INTERVAL = "interval";
     public static final String AUTH_REQ_ID = "auth_req_id";
     public static final String REQUEST = "request";
@@ -27,6 +27,8 @@ import org.wso2.carbon.identity.oauth.ciba.common.CibaConstants;
 import org.wso2.carbon.identity.oauth.ciba.exceptions.CibaCoreException;
 import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeDO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCache;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheKey;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
 import java.sql.Connection;
@@ -57,6 +59,7 @@ public class CibaMgtDAOImpl implements CibaMgtDAO {
                 prepStmt.setString(2, authCodeKey);
                 prepStmt.execute();
                 IdentityDatabaseUtil.commitTransaction(connection);
+                clearPollingState(authCodeKey);
                 if (log.isDebugEnabled()) {
                     log.debug("Successfully persisted the authentication status: " + authenticationStatus +
                             " identified by authCodeKey: " + authCodeKey);
@@ -93,6 +96,7 @@ public class CibaMgtDAOImpl implements CibaMgtDAO {
                 prepStmt.setString(7, authCodeKey);
                 prepStmt.execute();
                 IdentityDatabaseUtil.commitTransaction(connection);
+                clearPollingState(authCodeKey);
                 if (log.isDebugEnabled()) {
                     log.debug("Successfully updated the authentication request status to 'AUTHENTICATED' for the " +
                             "request identified by authCodeKey: " + authCodeKey);
@@ -342,4 +346,16 @@ public class CibaMgtDAOImpl implements CibaMgtDAO {
                     "Error in retrieving scopes for the authCodeKey: " + authCodeKey, e);
         }
     }
+
+    /**
+     * Clears the polling state of the request once its status changes, so that the next poll reads the request from
+     * the database.
+     *
+     * @param authCodeKey Identifier of the CIBA request.
+     */
+    private void clearPollingState(String authCodeKey) {
+
+        PollingStateCache.getInstance().clearCacheEntry(
+                new PollingStateCacheKey(CibaConstants.POLLING_STATE_CACHE_KEY_PREFIX + authCodeKey));
+    }
 }
@@ -28,6 +28,9 @@ import org.wso2.carbon.identity.oauth.ciba.dao.CibaDAOFactory;
 import org.wso2.carbon.identity.oauth.ciba.exceptions.CibaCoreException;
 import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeDO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCache;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheEntry;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheKey;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.model.RequestParameter;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
@@ -95,6 +98,9 @@ public class CibaGrantHandler extends AbstractAuthorizationGrantHandler {
         // Obtain authentication request identifier from request.
         String authReqId = getAuthReqId(tokReqMsgCtx);
 
+        // Answer the polls of a pending request without reading the request from the database.
+        handleCachedPollingState(authReqId, tokReqMsgCtx.getOauth2AccessTokenReqDTO().getClientId());
+
         try {
             // Check whether provided authReqId is a valid and retrieve AuthCode if exists.
             CibaAuthCodeDO cibaAuthCodeDO = retrieveCibaAuthCode(authReqId);
@@ -122,6 +128,7 @@ public class CibaGrantHandler extends AbstractAuthorizationGrantHandler {
             // Validate whether user is authenticated.
             if (isAuthorizationPending(cibaAuthCodeDO)) {
                 updateLastPolledTime(cibaAuthCodeDO);
+                cachePollingState(authReqId, cibaAuthCodeDO);
                 throw new IdentityOAuth2Exception(AUTHORIZATION_PENDING, "Authorization pending");
             }
 
@@ -246,6 +253,77 @@ public class CibaGrantHandler extends AbstractAuthorizationGrantHandler {
                 latestPollingTime);
     }
 
+    /**
+     * Answers a poll for a pending request from the polling state cache. Polling frequency is tracked on the
+     * cached state, hence the request is read from the database only after its status changes.
+     *
+     * @param authReqId Authentication Request Identifier.
+     * @param clientId  Client id of the token request.
+     * @throws IdentityOAuth2Exception With authorization_pending or slow_down, if the request is pending.
+     */
+    private void handleCachedPollingState(String authReqId, String clientId) throws IdentityOAuth2Exception {
+
+        PollingStateCache pollingStateCache = PollingStateCache.getInstance();
+        PollingStateCacheEntry pollingStateIndex = pollingStateCache.getValueFromCache(
+                new PollingStateCacheKey(CibaConstants.POLLING_STATE_INDEX_CACHE_KEY_PREFIX + authReqId));
+        if (pollingStateIndex == null) {
+            return;
+        }
+        PollingStateCacheKey cacheKey = new PollingStateCacheKey(CibaConstants.POLLING_STATE_CACHE_KEY_PREFIX +
+                pollingStateIndex.getReference());
+        PollingStateCacheEntry pollingState = pollingStateCache.getValueFromCache(cacheKey);
+        if (pollingState == null || !StringUtils.equals(clientId, pollingState.getConsumerKey())) {
+            return;
+        }
+        long currentTimeInMillis = Calendar.getInstance(TimeZone.getTimeZone(CibaConstants.UTC)).getTimeInMillis();
+        if (pollingState.isExpired(currentTimeInMillis)) {
+            // Let the database path mark the request as expired.
+            pollingStateCache.clearCacheEntry(cacheKey);
+            return;
+        }
+        boolean slowDown = pollingState.recordPoll(currentTimeInMillis,
+                CibaConstants.INTERVAL_INCREMENT_VALUE_IN_SEC * SEC_TO_MILLISEC_FACTOR);
+        // The cache may hold a copy of the entry, hence the updated polling state is added again.
+        pollingStateCache.addToCache(cacheKey, pollingState);
+        if (slowDown) {
+            if (log.isDebugEnabled()) {
+                log.debug("Rigorous polling for the token made by client: " + clientId + " for the request " +
+                        "identified by auth_req_id: " + authReqId + ". Updated the cached polling frequency.");
+            }
+            throw new IdentityOAuth2Exception(SLOW_DOWN, "Slow down");
+        }
+        throw new IdentityOAuth2Exception(AUTHORIZATION_PENDING, "Authorization pending");
+    }
+
+    /**
+     * Caches the polling state of a pending request.
+     *
+     * @param authReqId      Authentication Request Identifier.
+     * @param cibaAuthCodeDO DO that accumulates information regarding authentication and token requests.
+     */
+    private void cachePollingState(String authReqId, CibaAuthCodeDO cibaAuthCodeDO) {
+
+        PollingStateCache pollingStateCache = PollingStateCache.getInstance();
+        if (cibaAuthCodeDO.getIssuedTime() == null || !pollingStateCache.isPollingStateTrackingEnabled()) {
+            return;
+        }
+        PollingStateCacheEntry pollingState = new PollingStateCacheEntry();
+        pollingState.setConsumerKey(cibaAuthCodeDO.getConsumerKey());
+        pollingState.setStatus(String.valueOf(cibaAuthCodeDO.getAuthReqStatus()));
+        pollingState.setExpiryTime(cibaAuthCodeDO.getIssuedTime().getTime() +
+                cibaAuthCodeDO.getExpiresIn() * SEC_TO_MILLISEC_FACTOR);
+        pollingState.setPollingInterval(cibaAuthCodeDO.getInterval() * SEC_TO_MILLISEC_FACTOR);
+        pollingState.setLastPolledTime(Calendar.getInstance(TimeZone.getTimeZone(CibaConstants.UTC))
+                .getTimeInMillis());
+        pollingStateCache.addToCache(new PollingStateCacheKey(CibaConstants.POLLING_STATE_CACHE_KEY_PREFIX +
+                cibaAuthCodeDO.getCibaAuthCodeKey()), pollingState);
+
+        PollingStateCacheEntry pollingStateIndex = new PollingStateCacheEntry();
+        pollingStateIndex.setReference(cibaAuthCodeDO.getCibaAuthCodeKey());
+        pollingStateCache.addToCache(new PollingStateCacheKey(CibaConstants.POLLING_STATE_INDEX_CACHE_KEY_PREFIX +
+                authReqId), pollingStateIndex);
+    }
+
     /**
      * Validates whether user is authenticated or not.
      *
@@ -28,11 +28,16 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.common.testng.WithH2Database;
 import org.wso2.carbon.identity.oauth.ciba.common.AuthReqStatus;
+import org.wso2.carbon.identity.oauth.ciba.common.CibaConstants;
 import org.wso2.carbon.identity.oauth.ciba.dao.CibaDAOFactory;
 import org.wso2.carbon.identity.oauth.ciba.dao.CibaMgtDAO;
+import org.wso2.carbon.identity.oauth.ciba.exceptions.ErrorCodes;
 import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeDO;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCache;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheEntry;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheKey;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -40,13 +45,24 @@ import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.TimeZone;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WithH2Database(files = {"dbScripts/h2.sql", "dbScripts/identity.sql"})
 @Listeners(MockitoTestNGListener.class)
 public class CibaGrantHandlerTest {
 
+    private static final String AUTH_REQ_ID = "dummyAuthReqId";
+    private static final String AUTH_CODE_KEY = "dummyAuthCodeKey";
+    private static final String CLIENT_ID = "dummyClientId";
+    private static final long POLLING_INTERVAL = 5000L;
+    private static final PollingStateCacheKey POLLING_STATE_CACHE_KEY =
+            new PollingStateCacheKey(CibaConstants.POLLING_STATE_CACHE_KEY_PREFIX + AUTH_CODE_KEY);
+
     @Mock
     OAuthServerConfiguration mockOAuthServerConfiguration;
 
@@ -203,6 +219,88 @@ public class CibaGrantHandlerTest {
                 firstDummyString, secondDummyString);
     }
 
+    @Test
+    public void testCachedPollWithinIntervalSlowsDown() throws Exception {
+
+        long lastPolledTime = System.currentTimeMillis();
+        PollingStateCacheEntry pollingState = buildCachedPollingState(lastPolledTime);
+        PollingStateCache pollingStateCache = mockPollingStateCache(pollingState);
+
+        try (MockedStatic<PollingStateCache> pollingStateCacheStatic = mockStatic(PollingStateCache.class)) {
+            pollingStateCacheStatic.when(PollingStateCache::getInstance).thenReturn(pollingStateCache);
+            assertCachedPollAnswered(ErrorCodes.SLOW_DOWN);
+        }
+        Assert.assertEquals(pollingState.getPollingInterval(),
+                POLLING_INTERVAL + CibaConstants.INTERVAL_INCREMENT_VALUE_IN_SEC * 1000);
+        Assert.assertEquals(pollingState.getLastPolledTime(), lastPolledTime);
+        // The updated entry has to be added again, as the cache may hold a copy of it.
+        verify(pollingStateCache).addToCache(POLLING_STATE_CACHE_KEY, pollingState);
+    }
+
+    @Test
+    public void testCachedPollAfterIntervalIsPending() throws Exception {
+
+        long lastPolledTime = System.currentTimeMillis() - POLLING_INTERVAL - 1000;
+        PollingStateCacheEntry pollingState = buildCachedPollingState(lastPolledTime);
+        PollingStateCache pollingStateCache = mockPollingStateCache(pollingState);
+
+        try (MockedStatic<PollingStateCache> pollingStateCacheStatic = mockStatic(PollingStateCache.class)) {
+            pollingStateCacheStatic.when(PollingStateCache::getInstance).thenReturn(pollingStateCache);
+            assertCachedPollAnswered(ErrorCodes.AUTHORIZATION_PENDING);
+        }
+        Assert.assertEquals(pollingState.getPollingInterval(), POLLING_INTERVAL);
+        Assert.assertTrue(pollingState.getLastPolledTime() > lastPolledTime);
+        verify(pollingStateCache).addToCache(POLLING_STATE_CACHE_KEY, pollingState);
+    }
+
+    @Test
+    public void testPollingStateNotCachedWhenNotTracked() throws Exception {
+
+        CibaAuthCodeDO cibaAuthCodeDO = new CibaAuthCodeDO();
+        cibaAuthCodeDO.setCibaAuthCodeKey(AUTH_CODE_KEY);
+        cibaAuthCodeDO.setIssuedTime(new Timestamp(System.currentTimeMillis()));
+        PollingStateCache pollingStateCache = mock(PollingStateCache.class);
+        when(pollingStateCache.isPollingStateTrackingEnabled()).thenReturn(false);
+
+        try (MockedStatic<PollingStateCache> pollingStateCacheStatic = mockStatic(PollingStateCache.class)) {
+            pollingStateCacheStatic.when(PollingStateCache::getInstance).thenReturn(pollingStateCache);
+            invokePrivateMethod(cibaGrantHandler, "cachePollingState", AUTH_REQ_ID, cibaAuthCodeDO);
+        }
+        verify(pollingStateCache, never()).addToCache(any(), any());
+    }
+
+    private PollingStateCacheEntry buildCachedPollingState(long lastPolledTime) {
+
+        PollingStateCacheEntry pollingState = new PollingStateCacheEntry();
+        pollingState.setConsumerKey(CLIENT_ID);
+        pollingState.setStatus(AuthReqStatus.REQUESTED.toString());
+        pollingState.setExpiryTime(System.currentTimeMillis() + 60000);
+        pollingState.setPollingInterval(POLLING_INTERVAL);
+        pollingState.setLastPolledTime(lastPolledTime);
+        return pollingState;
+    }
+
+    private PollingStateCache mockPollingStateCache(PollingStateCacheEntry pollingState) {
+
+        PollingStateCacheEntry pollingStateIndex = new PollingStateCacheEntry();
+        pollingStateIndex.setReference(AUTH_CODE_KEY);
+        PollingStateCache pollingStateCache = mock(PollingStateCache.class);
+        when(pollingStateCache.getValueFromCache(new PollingStateCacheKey(
+                CibaConstants.POLLING_STATE_INDEX_CACHE_KEY_PREFIX + AUTH_REQ_ID))).thenReturn(pollingStateIndex);
+        when(pollingStateCache.getValueFromCache(POLLING_STATE_CACHE_KEY)).thenReturn(pollingState);
+        return pollingStateCache;
+    }
+
+    private void assertCachedPollAnswered(String expectedErrorCode) throws Exception {
+
+        try {
+            invokePrivateMethod(cibaGrantHandler, "handleCachedPollingState", AUTH_REQ_ID, CLIENT_ID);
+            Assert.fail("The poll of a pending request should not succeed.");
+        } catch (IdentityOAuth2Exception e) {
+            Assert.assertEquals(e.getErrorCode(), expectedErrorCode);
+        }
+    }
+
     private Object invokePrivateMethod(Object object, String methodName, Object... params) throws Exception {
 
         Class<?>[] paramTypes = new Class[params.length];
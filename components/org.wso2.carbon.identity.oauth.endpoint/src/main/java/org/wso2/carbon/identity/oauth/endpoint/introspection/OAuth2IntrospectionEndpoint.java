@@ -20,11 +20,14 @@ package org.wso2.carbon.identity.oauth.endpoint.introspection;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.json.JSONArray;
 import org.json.JSONException;
+import org.json.JSONObject;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.central.log.mgt.utils.LogConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.handler.AbstractIdentityHandler;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
@@ -33,6 +36,7 @@ import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.OAuth2TokenValidationService;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
 import org.wso2.carbon.utils.DiagnosticLog;
 
 import java.util.List;
@@ -102,15 +106,120 @@ public class OAuth2IntrospectionEndpoint {
                     entity("{\"error\": \"" + INVALID_INPUT + "\"}").build();
         }
 
+        // validate the access token against the OAuth2TokenValidationService OSGi service.
+        introspectionRequest = buildIntrospectionRequest(token, tokenTypeHint, getRequiredClaimURIs(requiredClaims));
+
+        OAuth2TokenValidationService tokenService = (OAuth2TokenValidationService) PrivilegedCarbonContext
+                .getThreadLocalCarbonContext().getOSGiService(OAuth2TokenValidationService.class);
+
+        introspectionResponse = tokenService.buildIntrospectionResponse(introspectionRequest);
+
+        if (introspectionResponse.getError() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("The error why token is made inactive: " + introspectionResponse.getError());
+            }
+            return Response.status(Response.Status.OK).entity("{\"active\":false}").build();
+        }
+
+        try {
+            return Response.ok(buildIntrospectionResponseBody(introspectionRequest, introspectionResponse,
+                    requiredClaims), MediaType.APPLICATION_JSON).status(Response.Status.OK).build();
+        } catch (IdentityOAuth2Exception e) {
+            return handleIntrospectionDataError(e);
+        } catch (JSONException e) {
+            if (LoggerUtils.isDiagnosticLogsEnabled()) {
+                LoggerUtils.triggerDiagnosticLogEvent(new DiagnosticLog.DiagnosticLogBuilder(
+                        OAuthConstants.LogConstants.OAUTH_INBOUND_SERVICE,
+                        OAuthConstants.LogConstants.ActionIDs.GENERATE_INTROSPECTION_RESPONSE)
+                        .inputParam(LogConstants.InputKeys.ERROR_MESSAGE, e.getMessage())
+                        .resultMessage("System error occurred.")
+                        .logDetailLevel(DiagnosticLog.LogDetailLevel.APPLICATION)
+                        .resultStatus(DiagnosticLog.ResultStatus.FAILED));
+            }
+            log.error("Error occurred while building the json response.", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("{\"error\": \"Error occurred while building the json response.\"}").build();
+        }
+    }
+
+    /**
+     * Batch token introspection endpoint. Introspects each of the given tokens as the token introspection endpoint
+     * does, but retrieves the access tokens of the batch at once.
+     *
+     * @param tokens         access tokens or refresh tokens
+     * @param tokenTypeHint  hint for the type of the tokens submitted for introspection
+     * @param requiredClaims comma separated list of claims to be returned in JWT
+     * @return JSON array of the introspection responses, in the order of the tokens
+     */
+    @POST
+    @Path("/batch")
+    public Response introspectBatch(@FormParam("token") List<String> tokens,
+                                    @FormParam("token_type_hint") String tokenTypeHint,
+                                    @FormParam("required_claims") String requiredClaims) {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(OAuth2Constants.BatchIntrospectionConfig.ENABLE))) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        int maxTokens = getMaxBatchIntrospectionTokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > maxTokens ||
+                tokens.stream().anyMatch(StringUtils::isBlank)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalid number of tokens in the batch introspection request: " +
+                        (tokens == null ? 0 : tokens.size()) + ". Maximum allowed: " + maxTokens);
+            }
+            return Response.status(Response.Status.BAD_REQUEST).
+                    entity("{\"error\": \"" + INVALID_INPUT + "\"}").build();
+        }
+
+        String[] claimsUris = getRequiredClaimURIs(requiredClaims);
+        OAuth2TokenValidationRequestDTO[] introspectionRequests = new OAuth2TokenValidationRequestDTO[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            introspectionRequests[i] = buildIntrospectionRequest(tokens.get(i), tokenTypeHint, claimsUris);
+        }
+
+        OAuth2TokenValidationService tokenService = (OAuth2TokenValidationService) PrivilegedCarbonContext
+                .getThreadLocalCarbonContext().getOSGiService(OAuth2TokenValidationService.class);
+        OAuth2IntrospectionResponseDTO[] introspectionResponses =
+                tokenService.buildIntrospectionResponses(introspectionRequests);
+
+        JSONArray responseBody = new JSONArray();
+        try {
+            for (int i = 0; i < introspectionRequests.length; i++) {
+                if (introspectionResponses[i].getError() != null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("The error why token is made inactive: " + introspectionResponses[i].getError());
+                    }
+                    responseBody.put(new JSONObject().put(IntrospectionResponse.ACTIVE, false));
+                    continue;
+                }
+                responseBody.put(new JSONObject(buildIntrospectionResponseBody(introspectionRequests[i],
+                        introspectionResponses[i], requiredClaims)));
+            }
+        } catch (IdentityOAuth2Exception e) {
+            return handleIntrospectionDataError(e);
+        } catch (JSONException e) {
+            log.error("Error occurred while building the json response.", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity("{\"error\": \"Error occurred while building the json response.\"}").build();
+        }
+        return Response.ok(responseBody.toString(), MediaType.APPLICATION_JSON).status(Response.Status.OK).build();
+    }
+
+    private String[] getRequiredClaimURIs(String requiredClaims) {
+
         String[] claimsUris = null;
         if (StringUtils.isNotEmpty(requiredClaims)) {
             claimsUris = requiredClaims.split(",");
         } else if (requiredClaims != null && requiredClaims.length() == 0) {
             claimsUris = new String[0];
         }
+        return claimsUris;
+    }
 
-        // validate the access token against the OAuth2TokenValidationService OSGi service.
-        introspectionRequest = new OAuth2TokenValidationRequestDTO();
+    private OAuth2TokenValidationRequestDTO buildIntrospectionRequest(String token, String tokenTypeHint,
+                                                                      String[] claimsUris) {
+
+        OAuth2TokenValidationRequestDTO introspectionRequest = new OAuth2TokenValidationRequestDTO();
         OAuth2TokenValidationRequestDTO.OAuth2AccessToken oAuth2Token = introspectionRequest.new OAuth2AccessToken();
 
         if (tokenTypeHint == null || StringUtils.equals(tokenTypeHint, ACCESS_TOKEN_HINT)) {
@@ -122,18 +231,13 @@ public class OAuth2IntrospectionEndpoint {
         oAuth2Token.setIdentifier(token);
         introspectionRequest.setAccessToken(oAuth2Token);
         introspectionRequest.setRequiredClaimURIs(claimsUris);
+        return introspectionRequest;
+    }
 
-        OAuth2TokenValidationService tokenService = (OAuth2TokenValidationService) PrivilegedCarbonContext
-                .getThreadLocalCarbonContext().getOSGiService(OAuth2TokenValidationService.class);
-
-        introspectionResponse = tokenService.buildIntrospectionResponse(introspectionRequest);
-
-        if (introspectionResponse.getError() != null) {
-            if (log.isDebugEnabled()) {
-                log.debug("The error why token is made inactive: " + introspectionResponse.getError());
-            }
-            return Response.status(Response.Status.OK).entity("{\"active\":false}").build();
-        }
+    private String buildIntrospectionResponseBody(OAuth2TokenValidationRequestDTO introspectionRequest,
+                                                  OAuth2IntrospectionResponseDTO introspectionResponse,
+                                                  String requiredClaims)
+            throws IdentityOAuth2Exception, JSONException {
 
         IntrospectionResponseBuilder respBuilder = new IntrospectionResponseBuilder()
                 .setActive(introspectionResponse.isActive())
@@ -201,45 +305,36 @@ public class OAuth2IntrospectionEndpoint {
                 if (log.isDebugEnabled()) {
                     log.debug("Executing introspection data provider: " + dataProvider.getClass().getName());
                 }
-                try {
-                    respBuilder.setAdditionalData(
-                            (((IntrospectionDataProvider) dataProvider).getIntrospectionData(
-                                    introspectionRequest, introspectionResponse)));
-                } catch (IdentityOAuth2Exception e) {
-                    if (LoggerUtils.isDiagnosticLogsEnabled()) {
-                        LoggerUtils.triggerDiagnosticLogEvent(new DiagnosticLog.DiagnosticLogBuilder(
-                                OAuthConstants.LogConstants.OAUTH_INBOUND_SERVICE,
-                                OAuthConstants.LogConstants.ActionIDs.GENERATE_INTROSPECTION_RESPONSE)
-                                .inputParam(LogConstants.InputKeys.ERROR_MESSAGE, e.getMessage())
-                                .resultMessage("System error occurred.")
-                                .logDetailLevel(DiagnosticLog.LogDetailLevel.APPLICATION)
-                                .resultStatus(DiagnosticLog.ResultStatus.FAILED));
-                    }
-                    log.error("Error occurred while processing additional token introspection data.", e);
-
-                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                            .entity("{\"error\": \"Error occurred while building the introspection " +
-                                    "response.\"}")
-                            .build();
-                }
+                respBuilder.setAdditionalData(
+                        (((IntrospectionDataProvider) dataProvider).getIntrospectionData(
+                                introspectionRequest, introspectionResponse)));
             }
         }
 
-        try {
-            return Response.ok(respBuilder.build(), MediaType.APPLICATION_JSON).status(Response.Status.OK).build();
-        } catch (JSONException e) {
-            if (LoggerUtils.isDiagnosticLogsEnabled()) {
-                LoggerUtils.triggerDiagnosticLogEvent(new DiagnosticLog.DiagnosticLogBuilder(
-                        OAuthConstants.LogConstants.OAUTH_INBOUND_SERVICE,
-                        OAuthConstants.LogConstants.ActionIDs.GENERATE_INTROSPECTION_RESPONSE)
-                        .inputParam(LogConstants.InputKeys.ERROR_MESSAGE, e.getMessage())
-                        .resultMessage("System error occurred.")
-                        .logDetailLevel(DiagnosticLog.LogDetailLevel.APPLICATION)
-                        .resultStatus(DiagnosticLog.ResultStatus.FAILED));
-            }
-            log.error("Error occurred while building the json response.", e);
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity("{\"error\": \"Error occurred while building the json response.\"}").build();
+        return respBuilder.build();
+    }
+
+    private Response handleIntrospectionDataError(IdentityOAuth2Exception e) {
+
+        if (LoggerUtils.isDiagnosticLogsEnabled()) {
+            LoggerUtils.triggerDiagnosticLogEvent(new DiagnosticLog.DiagnosticLogBuilder(
+                    OAuthConstants.LogConstants.OAUTH_INBOUND_SERVICE,
+                    OAuthConstants.LogConstants.ActionIDs.GENERATE_INTROSPECTION_RESPONSE)
+                    .inputParam(LogConstants.InputKeys.ERROR_MESSAGE, e.getMessage())
+                    .resultMessage("System error occurred.")
+                    .logDetailLevel(DiagnosticLog.LogDetailLevel.APPLICATION)
+                    .resultStatus(DiagnosticLog.ResultStatus.FAILED));
         }
+        log.error("Error occurred while processing additional token introspection data.", e);
+
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity("{\"error\": \"Error occurred while building the introspection response.\"}")
+                .build();
+    }
+
+    private int getMaxBatchIntrospectionTokens() {
+
+        return IdentityConfigUtil.getIntProperty(OAuth2Constants.BatchIntrospectionConfig.MAX_TOKENS,
+                OAuth2Constants.BatchIntrospectionConfig.DEFAULT_MAX_TOKENS);
     }
 }
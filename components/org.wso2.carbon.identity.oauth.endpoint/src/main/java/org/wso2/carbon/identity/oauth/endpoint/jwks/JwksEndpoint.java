@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
 import java.security.KeyStore;
@@ -51,9 +52,14 @@ import java.util.List;
 
 import javax.jws.WebService;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 /**
  * Rest implementation for JWKS endpoint.
@@ -68,14 +74,18 @@ public class JwksEndpoint {
     private static final String ENABLE_X5C_IN_RESPONSE = "JWTValidatorConfigs.JWKSEndpoint.EnableX5CInResponse";
     public static final String JWKS_IS_THUMBPRINT_HEXIFY_REQUIRED = "JWTValidatorConfigs.JWKSEndpoint" +
             ".IsThumbprintHexifyRequired";
+    private static final String ENABLE_RESPONSE_CACHE = "JWTValidatorConfigs.JWKSEndpoint.EnableResponseCache";
+    private static final String CACHE_CONTROL_MAX_AGE = "JWTValidatorConfigs.JWKSEndpoint.CacheControlMaxAge";
+    private static final int DEFAULT_CACHE_CONTROL_MAX_AGE = 300;
 
     @GET
     @Path(value = "/jwks")
     @Produces(MediaType.APPLICATION_JSON)
-    public String jwks() {
+    public Response jwks(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
 
         String tenantDomain = getTenantDomain();
 
+        JwksResponseCache.JwksResponse jwksResponse;
         try {
             final KeyStore keystore = IdentityKeyStoreResolver.getInstance().getKeyStore(tenantDomain,
                     IdentityKeyStoreResolverConstants.InboundProtocol.OAUTH);
@@ -89,11 +99,54 @@ public class JwksEndpoint {
                     certificateInfoList.add(certificateInfo);
                 }
             }
-            return buildResponse(certificateInfoList);
+            jwksResponse = getJwksResponse(tenantDomain, certificateInfoList);
         } catch (Exception e) {
             String errorMessage = "Error while generating the keyset for tenant domain: " + tenantDomain;
-            return logAndReturnError(errorMessage, e);
+            return Response.ok(logAndReturnError(errorMessage, e)).build();
         }
+
+        EntityTag entityTag = new EntityTag(jwksResponse.getEntityTag());
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setMaxAge(getCacheControlMaxAge());
+        if (jwksResponse.isNotModified(ifNoneMatch)) {
+            return Response.notModified(entityTag).cacheControl(cacheControl).build();
+        }
+        return Response.ok(jwksResponse.getBody()).tag(entityTag).cacheControl(cacheControl).build();
+    }
+
+    /**
+     * Get the serialized JWKS of the tenant. The JWKS is only rebuilt if the key entries of the tenant keystore have
+     * changed since the cached response was built, or if response caching is disabled.
+     */
+    private JwksResponseCache.JwksResponse getJwksResponse(String tenantDomain,
+                                                           List<CertificateInfo> certificateInfoList)
+            throws IdentityOAuth2Exception, ParseException, CertificateEncodingException, JOSEException {
+
+        JwksResponseCache jwksResponseCache = JwksResponseCache.getInstance();
+        if (isResponseCacheEnabled()) {
+            JwksResponseCache.JwksResponse jwksResponse =
+                    jwksResponseCache.getResponse(tenantDomain, certificateInfoList);
+            if (jwksResponse != null) {
+                return jwksResponse;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Building the JWKS response of tenant domain: " + tenantDomain);
+            }
+        } else {
+            jwksResponseCache.clearResponse(tenantDomain);
+        }
+        return jwksResponseCache.addResponse(tenantDomain, certificateInfoList, buildResponse(certificateInfoList));
+    }
+
+    private boolean isResponseCacheEnabled() {
+
+        String responseCacheEnabled = IdentityUtil.getProperty(ENABLE_RESPONSE_CACHE);
+        return StringUtils.isBlank(responseCacheEnabled) || Boolean.parseBoolean(responseCacheEnabled);
+    }
+
+    private int getCacheControlMaxAge() {
+
+        return IdentityConfigUtil.getIntProperty(CACHE_CONTROL_MAX_AGE, DEFAULT_CACHE_CONTROL_MAX_AGE);
     }
 
     private String buildResponse(List<CertificateInfo> certInfoList)
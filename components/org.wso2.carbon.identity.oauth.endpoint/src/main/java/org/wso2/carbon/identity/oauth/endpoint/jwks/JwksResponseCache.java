@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.endpoint.jwks;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the serialized JWKS responses of the tenants.
+ * <p>
+ * A cached response is only served while the key entries of the tenant keystore are the same as the ones the
+ * response was built from. Therefore, a keystore change is picked up by the next request without an explicit
+ * invalidation.
+ */
+public class JwksResponseCache {
+
+    private static final JwksResponseCache INSTANCE = new JwksResponseCache();
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+
+    private final Map<String, JwksResponse> responses = new ConcurrentHashMap<>();
+
+    public static JwksResponseCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached response of the tenant, if it was built from the given key entries.
+     *
+     * @param tenantDomain        Tenant domain.
+     * @param certificateInfoList Key entries currently in the keystore of the tenant.
+     * @return Cached response or null.
+     */
+    public JwksResponse getResponse(String tenantDomain, List<CertificateInfo> certificateInfoList) {
+
+        JwksResponse response = responses.get(tenantDomain);
+        if (response != null && response.isBuiltFrom(certificateInfoList)) {
+            return response;
+        }
+        return null;
+    }
+
+    /**
+     * Cache the response of the tenant built from the given key entries.
+     *
+     * @param tenantDomain        Tenant domain.
+     * @param certificateInfoList Key entries the response was built from.
+     * @param body                Serialized JWKS.
+     * @return Cached response.
+     */
+    public JwksResponse addResponse(String tenantDomain, List<CertificateInfo> certificateInfoList, String body) {
+
+        JwksResponse response = new JwksResponse(certificateInfoList, body);
+        responses.put(tenantDomain, response);
+        return response;
+    }
+
+    public void clearResponse(String tenantDomain) {
+
+        responses.remove(tenantDomain);
+    }
+
+    public void clear() {
+
+        responses.clear();
+    }
+
+    /**
+     * Serialized JWKS of a tenant along with its entity tag.
+     */
+    public static class JwksResponse {
+
+        private final List<String> aliases = new ArrayList<>();
+        private final List<Certificate> certificates = new ArrayList<>();
+        private final List<Certificate[]> certificateChains = new ArrayList<>();
+        private final String body;
+        private final String entityTag;
+
+        private JwksResponse(List<CertificateInfo> certificateInfoList, String body) {
+
+            for (CertificateInfo certificateInfo : certificateInfoList) {
+                aliases.add(certificateInfo.getCertificateAlias());
+                certificates.add(certificateInfo.getCertificate());
+                certificateChains.add(certificateInfo.getCertificateChain());
+            }
+            this.body = body;
+            this.entityTag = DigestUtils.sha256Hex(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public String getBody() {
+
+            return body;
+        }
+
+        /**
+         * Get the entity tag of the response, without the enclosing quotes.
+         *
+         * @return Entity tag.
+         */
+        public String getEntityTag() {
+
+            return entityTag;
+        }
+
+        /**
+         * Check whether the value of an If-None-Match header matches the entity tag of the response.
+         *
+         * @param ifNoneMatch Value of the If-None-Match request header.
+         * @return True if the client already has the response.
+         */
+        public boolean isNotModified(String ifNoneMatch) {
+
+            if (StringUtils.isBlank(ifNoneMatch)) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (ANY_ETAG.equals(tag)) {
+                    return true;
+                }
+                // If-None-Match uses the weak comparison.
+                if (tag.startsWith(WEAK_ETAG_PREFIX)) {
+                    tag = tag.substring(WEAK_ETAG_PREFIX.length());
+                }
+                if (StringUtils.strip(tag, "\"").equals(entityTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isBuiltFrom(List<CertificateInfo> certificateInfoList) {
+
+            if (certificateInfoList.size() != aliases.size()) {
+                return false;
+            }
+            for (int i = 0; i < certificateInfoList.size(); i++) {
+                CertificateInfo certificateInfo = certificateInfoList.get(i);
+                if (!StringUtils.equals(aliases.get(i), certificateInfo.getCertificateAlias())
+                        || !Objects.equals(certificates.get(i), certificateInfo.getCertificate())
+                        || !Arrays.equals(certificateChains.get(i), certificateInfo.getCertificateChain())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
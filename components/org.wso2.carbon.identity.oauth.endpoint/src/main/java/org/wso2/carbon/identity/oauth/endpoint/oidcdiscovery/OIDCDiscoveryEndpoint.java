@@ -29,6 +29,8 @@ import org.wso2.carbon.identity.discovery.OIDCProcessor;
 import org.wso2.carbon.identity.discovery.builders.OIDProviderResponseBuilder;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.endpoint.util.factory.OIDCProviderServiceFactory;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCache;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCacheEntry;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -37,6 +39,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 /**
@@ -48,6 +52,8 @@ public class OIDCDiscoveryEndpoint {
     private static final Log log = LogFactory.getLog(OIDCDiscoveryEndpoint.class);
     private static final String DISCOVERY_ENDPOINT_PATH_COMPONENT_VALUE_TOKEN = "token";
     private static final String DISCOVERY_ENDPOINT_PATH_COMPONENT_VALUE_OIDCDISCOVERY = "oidcdiscovery";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
     private OIDProviderResponseBuilder oidProviderResponseBuilder;
 
     @GET
@@ -95,6 +101,12 @@ public class OIDCDiscoveryEndpoint {
 
     private Response getResponse(HttpServletRequest request, String tenant) {
 
+        OIDCDiscoveryDocumentCache documentCache = OIDCDiscoveryDocumentCache.getInstance();
+        String requestUri = request.getRequestURI();
+        OIDCDiscoveryDocumentCacheEntry cachedDocument = documentCache.getDocument(tenant, requestUri);
+        if (cachedDocument != null) {
+            return buildDocumentResponse(request, cachedDocument);
+        }
         String response;
         OIDCProcessor processor = OIDCProviderServiceFactory.getOIDCService();
         try {
@@ -108,7 +120,50 @@ public class OIDCDiscoveryEndpoint {
             Response.ResponseBuilder errorResponse = Response.status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             return errorResponse.entity("Error in reading configuration.").build();
         }
+        if (documentCache.isEnabled() && response != null) {
+            return buildDocumentResponse(request, documentCache.addDocument(tenant, requestUri, response));
+        }
         Response.ResponseBuilder responseBuilder = Response.status(HttpServletResponse.SC_OK);
         return responseBuilder.entity(response).build();
     }
+
+    private Response buildDocumentResponse(HttpServletRequest request, OIDCDiscoveryDocumentCacheEntry document) {
+
+        EntityTag entityTag = new EntityTag(document.getETag());
+        if (isNotModified(request, document)) {
+            return Response.notModified(entityTag).lastModified(document.getLastModified()).build();
+        }
+        Response.ResponseBuilder responseBuilder = Response.status(HttpServletResponse.SC_OK);
+        return responseBuilder.entity(document.getDocument()).tag(entityTag).lastModified(document.getLastModified())
+                .build();
+    }
+
+    /**
+     * Evaluate the conditional request headers against the discovery document. If-None-Match takes precedence over
+     * If-Modified-Since as defined in RFC 9110.
+     */
+    private boolean isNotModified(HttpServletRequest request, OIDCDiscoveryDocumentCacheEntry document) {
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (StringUtils.isNotBlank(ifNoneMatch)) {
+            String quotedETag = "\"" + document.getETag() + "\"";
+            for (String eTag : ifNoneMatch.split(",")) {
+                String value = StringUtils.removeStart(eTag.trim(), WEAK_ETAG_PREFIX);
+                if (ANY_ETAG.equals(value) || quotedETag.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Ignoring the invalid If-Modified-Since header of the discovery request.", e);
+            }
+            return false;
+        }
+        return ifModifiedSince >= 0 && document.getLastModified().getTime() <= ifModifiedSince;
+    }
 }
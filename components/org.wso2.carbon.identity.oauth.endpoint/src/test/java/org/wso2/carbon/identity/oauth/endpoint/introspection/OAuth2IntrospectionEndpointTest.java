@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.oauth.endpoint.introspection;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.testng.MockitoTestNGListener;
@@ -32,6 +33,7 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.tokenprocessor.TokenPersistenceProcessor;
@@ -41,7 +43,9 @@ import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
 
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.ws.rs.core.Response;
@@ -145,6 +149,65 @@ public class OAuth2IntrospectionEndpointTest {
 
     }
 
+    @Test
+    public void testIntrospectBatch() throws Exception {
+
+        OAuth2TokenValidationService mockedTokenService = mock(OAuth2TokenValidationService.class);
+        OAuth2IntrospectionResponseDTO inactiveResponse = new OAuth2IntrospectionResponseDTO();
+        inactiveResponse.setError("Token validation failed");
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext =
+                     mockStatic(PrivilegedCarbonContext.class);
+             MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration =
+                     mockStatic(OAuthServerConfiguration.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(OAuth2Constants.BatchIntrospectionConfig.ENABLE))
+                    .thenReturn("true");
+            mockOAuthServerConfiguration(oAuthServerConfiguration);
+            privilegedCarbonContext.when(
+                    PrivilegedCarbonContext::getThreadLocalCarbonContext).thenReturn(mockedPrivilegedCarbonContext);
+            when(mockedPrivilegedCarbonContext.getOSGiService(any())).thenReturn(mockedTokenService);
+
+            when(mockedIntrospectionResponse.getError()).thenReturn(null);
+            when(mockedIntrospectionResponse.isActive()).thenReturn(true);
+            when(mockedIntrospectionResponse.getClientId()).thenReturn("clientId");
+            ArgumentCaptor<OAuth2TokenValidationRequestDTO[]> requestCaptor =
+                    ArgumentCaptor.forClass(OAuth2TokenValidationRequestDTO[].class);
+            when(mockedTokenService.buildIntrospectionResponses(requestCaptor.capture())).thenReturn(
+                    new OAuth2IntrospectionResponseDTO[]{mockedIntrospectionResponse, inactiveResponse});
+
+            Response response = oAuth2IntrospectionEndpoint.introspectBatch(Arrays.asList("TOKEN1", "TOKEN2"),
+                    null, null);
+
+            assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+            List<Map<String, Object>> results = new Gson().fromJson((String) response.getEntity(),
+                    new TypeToken<List<Map<String, Object>>>() {
+                    }.getType());
+            assertEquals(results.size(), 2);
+            assertEquals(results.get(0).get("active"), true);
+            assertEquals(results.get(0).get("client_id"), "clientId");
+            assertEquals(results.get(1).get("active"), false);
+            assertEquals(requestCaptor.getValue()[1].getAccessToken().getIdentifier(), "TOKEN2");
+            assertEquals(requestCaptor.getValue()[1].getAccessToken().getTokenType(), BEARER_TOKEN_TYPE_HINT);
+        }
+    }
+
+    @Test
+    public void testIntrospectBatchWithTooManyTokens() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(OAuth2Constants.BatchIntrospectionConfig.ENABLE))
+                    .thenReturn("true");
+            identityUtil.when(() -> IdentityUtil.getProperty(OAuth2Constants.BatchIntrospectionConfig.MAX_TOKENS))
+                    .thenReturn("1");
+
+            Response response = oAuth2IntrospectionEndpoint.introspectBatch(Arrays.asList("TOKEN1", "TOKEN2"),
+                    null, null);
+
+            assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+        }
+    }
+
     private void mockOAuthServerConfiguration(MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration)
             throws Exception {
 
@@ -58,13 +58,19 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
@@ -148,6 +154,7 @@ public class JwksEndpointTest {
     @Test(dataProvider = "provideTenantDomain")
     public void testJwks(String tenantDomain, int tenantId) throws Exception {
 
+        JwksResponseCache.getInstance().clear();
         try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
                 OAuthServerConfiguration.class);
              MockedStatic<CarbonUtils> carbonUtils = mockStatic(CarbonUtils.class);
@@ -217,7 +224,7 @@ public class JwksEndpointTest {
 
                 identityUtil.when(() -> IdentityUtil.getProperty(ENABLE_X5C_IN_RESPONSE)).thenReturn("true");
 
-                String result = jwksEndpoint.jwks();
+                String result = (String) jwksEndpoint.jwks(null).getEntity();
 
                 try {
                     JSONObject jwksJson = new JSONObject(result);
@@ -258,6 +265,49 @@ public class JwksEndpointTest {
         }
     }
 
+    @Test(dependsOnMethods = "testJwks")
+    public void testJwksResponseCaching() throws Exception {
+
+        JwksResponseCache.getInstance().clear();
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
+                OAuthServerConfiguration.class)) {
+            mockOAuthServerConfiguration(oAuthServerConfiguration);
+
+            try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class);
+                 MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+
+                oAuth2Util.when(() -> OAuth2Util.getKID(any(), any(), anyString())).thenReturn(CERT_THUMB_PRINT);
+                oAuth2Util.when(() -> OAuth2Util.mapSignatureAlgorithmForJWSAlgorithm(anyString()))
+                        .thenReturn(JWSAlgorithm.RS256);
+
+                Response response = jwksEndpoint.jwks(null);
+                assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+                EntityTag entityTag = response.getEntityTag();
+                assertNotNull(entityTag, "ETag should be available in the response.");
+
+                // The cached response should be served without building the key set again.
+                Response cachedResponse = jwksEndpoint.jwks(null);
+                assertEquals(cachedResponse.getEntity(), response.getEntity());
+                assertEquals(cachedResponse.getEntityTag(), entityTag);
+                oAuth2Util.verify(() -> OAuth2Util.getKID(any(), any(), anyString()), times(1));
+
+                Response notModifiedResponse = jwksEndpoint.jwks("\"" + entityTag.getValue() + "\"");
+                assertEquals(notModifiedResponse.getStatus(), Response.Status.NOT_MODIFIED.getStatusCode());
+                assertNull(notModifiedResponse.getEntity());
+
+                Response modifiedResponse = jwksEndpoint.jwks("\"outdated\"");
+                assertEquals(modifiedResponse.getStatus(), Response.Status.OK.getStatusCode());
+                assertEquals(modifiedResponse.getEntity(), response.getEntity());
+
+                // The key set should be built again once caching is disabled.
+                identityUtil.when(() -> IdentityUtil.getProperty("JWTValidatorConfigs.JWKSEndpoint" +
+                        ".EnableResponseCache")).thenReturn("false");
+                jwksEndpoint.jwks(null);
+                oAuth2Util.verify(() -> OAuth2Util.getKID(any(), any(), anyString()), times(2));
+            }
+        }
+    }
+
     private void mockOAuthServerConfiguration(MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration)
             throws Exception {
 
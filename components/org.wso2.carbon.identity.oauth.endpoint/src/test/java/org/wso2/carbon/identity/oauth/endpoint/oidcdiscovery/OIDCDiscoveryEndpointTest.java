@@ -36,6 +36,7 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.context.internal.OSGiDataHolder;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.discovery.DefaultOIDCProcessor;
 import org.wso2.carbon.identity.discovery.OIDCDiscoveryEndPointException;
@@ -44,6 +45,7 @@ import org.wso2.carbon.identity.discovery.OIDProviderConfigResponse;
 import org.wso2.carbon.identity.discovery.builders.OIDProviderResponseBuilder;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.endpoint.util.factory.OIDCProviderServiceFactory;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCache;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -53,13 +55,19 @@ import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -190,6 +198,71 @@ public class OIDCDiscoveryEndpointTest {
 
     }
 
+    @Test
+    public void testConditionalRequestsForCachedDocument() throws Exception {
+
+        IdentityCacheConfig cacheConfig = mock(IdentityCacheConfig.class);
+        lenient().when(cacheConfig.isEnabled()).thenReturn(true);
+        lenient().when(cacheConfig.getTimeout()).thenReturn(60);
+        lenient().when(cacheConfig.getCapacity()).thenReturn(100);
+        resetDocumentCache();
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS);
+             MockedStatic<OIDCProviderServiceFactory> oidcProviderServiceFactory =
+                     mockStatic(OIDCProviderServiceFactory.class);
+             MockedStatic<OIDCDiscoveryServiceFactory> oidcDiscoveryServiceFactory =
+                     mockStatic(OIDCDiscoveryServiceFactory.class)) {
+
+            identityUtil.when(() -> IdentityUtil.getIdentityCacheConfig(anyString(),
+                    eq(OIDCDiscoveryDocumentCache.OIDC_DISCOVERY_DOCUMENT_CACHE))).thenReturn(cacheConfig);
+            oidcDiscoveryServiceFactory.when(OIDCDiscoveryServiceFactory::getOIDProviderResponseBuilder)
+                    .thenReturn(oidProviderResponseBuilder);
+            oidcProviderServiceFactory.when(OIDCProviderServiceFactory::getOIDCService)
+                    .thenReturn(defaultOIDCProcessor);
+            when(defaultOIDCProcessor.getResponse(any(), any())).thenReturn(oidProviderConfigResponse);
+            when(oidProviderResponseBuilder.getOIDProviderConfigString(oidProviderConfigResponse))
+                    .thenReturn("{\"issuer\":\"https://localhost:9443/oauth2/token\"}");
+            when(httpServletRequest.getRequestURI()).thenReturn("/oauth2/token/.well-known/openid-configuration");
+            lenient().when(httpServletRequest.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE)).thenReturn(-1L);
+
+            Response response = oidcDiscoveryEndpoint.getOIDProviderConfiguration("token", httpServletRequest);
+            Assert.assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+            Assert.assertNotNull(response.getEntityTag());
+            String eTag = "\"" + response.getEntityTag().getValue() + "\"";
+
+            // A matching entity tag is answered from the cache without a body.
+            when(httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("W/" + eTag);
+            response = oidcDiscoveryEndpoint.getOIDProviderConfiguration("token", httpServletRequest);
+            Assert.assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+            Assert.assertNull(response.getEntity());
+
+            // If-None-Match takes precedence over a matching If-Modified-Since.
+            when(httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"other\"");
+            lenient().when(httpServletRequest.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE))
+                    .thenReturn(System.currentTimeMillis());
+            response = oidcDiscoveryEndpoint.getOIDProviderConfiguration("token", httpServletRequest);
+            Assert.assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+
+            when(httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn(null);
+            response = oidcDiscoveryEndpoint.getOIDProviderConfiguration("token", httpServletRequest);
+            Assert.assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+
+            verify(defaultOIDCProcessor, times(1)).getResponse(any(), any());
+        } finally {
+            resetDocumentCache();
+        }
+    }
+
+    private void resetDocumentCache() throws Exception {
+
+        Field instance = OIDCDiscoveryDocumentCache.class.getDeclaredField("instance");
+        instance.setAccessible(true);
+        OIDCDiscoveryDocumentCache documentCache = (OIDCDiscoveryDocumentCache) instance.get(null);
+        if (documentCache != null) {
+            documentCache.clear(MultitenantConstants.SUPER_TENANT_ID);
+        }
+        instance.set(null, null);
+    }
+
     private Map<String, Object> getSampleConfigMap() {
 
         Map<String, Object> configMap = new HashMap<>();
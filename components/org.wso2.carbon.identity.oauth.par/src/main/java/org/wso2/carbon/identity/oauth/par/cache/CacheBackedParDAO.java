@@ -21,23 +21,48 @@ package org.wso2.carbon.identity.oauth.par.cache;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.par.common.ParConstants;
 import org.wso2.carbon.identity.oauth.par.dao.ParMgtDAO;
 import org.wso2.carbon.identity.oauth.par.dao.ParMgtDAOImpl;
 import org.wso2.carbon.identity.oauth.par.exceptions.ParCoreException;
 import org.wso2.carbon.identity.oauth.par.model.ParRequestCacheEntry;
 import org.wso2.carbon.identity.oauth.par.model.ParRequestDO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Caching layer for PAR Requests.
+ * <p>
+ * When the memory only storage is enabled, the requests are only kept in {@link ParCache} and are written to the
+ * database only if the cache is disabled. The requests are still looked up in the database on a cache miss, so that
+ * the requests persisted before the storage mode was changed can be used. As the entries of the cache are kept on the
+ * node which received the request, the memory only storage is not enabled when clustering is enabled.
  */
 public class CacheBackedParDAO implements ParMgtDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedParDAO.class);
-    private final ParCache parCache = ParCache.getInstance();
-    private final ParMgtDAOImpl parMgtDAO = new ParMgtDAOImpl();
+    private final ParCache parCache;
+    private final ParMgtDAOImpl parMgtDAO;
+    private final boolean memoryOnlyStorageEnabled;
+    // Request URIs being consumed on this node, so that a request is not handed out twice by concurrent requests.
+    private final Set<String> consumingRequestURIs = ConcurrentHashMap.newKeySet();
+
+    public CacheBackedParDAO() {
+
+        this(ParCache.getInstance(), new ParMgtDAOImpl(), isMemoryOnlyStorageConfigured());
+    }
+
+    CacheBackedParDAO(ParCache parCache, ParMgtDAOImpl parMgtDAO, boolean memoryOnlyStorageEnabled) {
+
+        this.parCache = parCache;
+        this.parMgtDAO = parMgtDAO;
+        this.memoryOnlyStorageEnabled = memoryOnlyStorageEnabled;
+    }
 
     @Override
     public void persistRequestData(String requestURIReference, String clientId, long expiresIn,
@@ -45,7 +70,9 @@ public class CacheBackedParDAO implements ParMgtDAO {
 
         ParRequestCacheEntry parRequestCacheEntry = new ParRequestCacheEntry(requestURIReference, parameters,
                 expiresIn, clientId);
-        parMgtDAO.persistRequestData(requestURIReference, clientId, expiresIn, parameters);
+        if (!isMemoryOnlyStorage()) {
+            parMgtDAO.persistRequestData(requestURIReference, clientId, expiresIn, parameters);
+        }
         parCache.addToCache(requestURIReference, parRequestCacheEntry);
     }
 
@@ -79,4 +106,59 @@ public class CacheBackedParDAO implements ParMgtDAO {
         parCache.clearCacheEntry(requestURIReference);
         parMgtDAO.removeRequestData(requestURIReference);
     }
+
+    @Override
+    public Optional<ParRequestDO> consumeRequestData(String requestURIReference) throws ParCoreException {
+
+        if (!consumingRequestURIs.add(requestURIReference)) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("PAR request with uuid: %s is being consumed by another request.",
+                        requestURIReference));
+            }
+            return Optional.empty();
+        }
+        try {
+            ParRequestCacheEntry parRequest = parCache.getValueFromCache(requestURIReference);
+            if (parRequest == null) {
+                // The request is either persisted in the database only or does not exist.
+                return parMgtDAO.consumeRequestData(requestURIReference);
+            }
+            parCache.clearCacheEntry(requestURIReference);
+            // The request is consumed through another node if it was already removed from the database.
+            if (!isMemoryOnlyStorage() && !parMgtDAO.removeRequestDataIfExists(requestURIReference)) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("PAR request with uuid: %s is already consumed.", requestURIReference));
+                }
+                return Optional.empty();
+            }
+            return Optional.of(new ParRequestDO(parRequest.getParams(), parRequest.getExpiresIn(),
+                    parRequest.getClientId()));
+        } finally {
+            consumingRequestURIs.remove(requestURIReference);
+        }
+    }
+
+    private boolean isMemoryOnlyStorage() {
+
+        return memoryOnlyStorageEnabled && parCache.isEnabled();
+    }
+
+    /**
+     * Check whether the memory only storage is enabled in the configuration and can be used on this node.
+     *
+     * @return True if the requests can be kept in the cache only.
+     */
+    static boolean isMemoryOnlyStorageConfigured() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(ParConstants.MEMORY_ONLY_STORAGE_ENABLE))) {
+            return false;
+        }
+        if (OAuth2Util.isClusteringEnabled()) {
+            log.warn("PAR memory only storage is not supported when clustering is enabled, since the PAR cache " +
+                    "entries are kept on the node which received the request. Hence the PAR requests are " +
+                    "persisted in the database.");
+            return false;
+        }
+        return true;
+    }
 }
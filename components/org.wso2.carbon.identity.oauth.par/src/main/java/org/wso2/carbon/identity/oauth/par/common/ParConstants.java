@@ -47,6 +47,11 @@ public class ParConstants {
     public static final String INVALID_REQUEST_OBJECT = "Unable to build a valid Request Object from the" +
             " pushed authorization request.";
     public static final String REQUEST_OBJECT_MISSING = "Request object is missing.";
+    public static final String MEMORY_ONLY_STORAGE_ENABLE = "OAuth.PAR.MemoryOnlyStorage.Enable";
+    public static final String EXPIRED_REQUEST_CLEANUP_ENABLE = "OAuth.PAR.ExpiredRequestCleanup.Enable";
+    public static final String EXPIRED_REQUEST_CLEANUP_INTERVAL =
+            "OAuth.PAR.ExpiredRequestCleanup.IntervalInSeconds";
+    public static final long DEFAULT_EXPIRED_REQUEST_CLEANUP_INTERVAL = 300;
 
     private ParConstants() {
 
@@ -39,5 +39,7 @@ public class SQLQueries {
                 "FROM IDN_OAUTH_PAR WHERE REQ_URI_REF = ?";
 
         public static final String REMOVE_PAR_REQUEST = "DELETE FROM IDN_OAUTH_PAR WHERE REQ_URI_REF = ?";
+
+        public static final String REMOVE_EXPIRED_PAR_REQUESTS = "DELETE FROM IDN_OAUTH_PAR WHERE SCHEDULED_EXPIRY < ?";
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.par.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.par.common.ParConstants;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background cleaner of the expired PAR requests, which are left in the database when a request URI is never used.
+ */
+public class ExpiredParRequestCleaner {
+
+    private static final Log log = LogFactory.getLog(ExpiredParRequestCleaner.class);
+    private static final String WORKER_THREAD_NAME = "OAuthExpiredParRequestCleaner";
+
+    private static volatile ExpiredParRequestCleaner instance;
+
+    private final long intervalInMillis;
+    private final ParMgtDAOImpl parMgtDAO;
+    private ScheduledExecutorService scheduler;
+
+    ExpiredParRequestCleaner(long intervalInMillis, ParMgtDAOImpl parMgtDAO) {
+
+        this.intervalInMillis = Math.max(intervalInMillis, 1);
+        this.parMgtDAO = parMgtDAO;
+    }
+
+    /**
+     * Start the cleaner of the server, if it is enabled.
+     */
+    public static void startInstance() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(ParConstants.EXPIRED_REQUEST_CLEANUP_ENABLE))) {
+            return;
+        }
+        synchronized (ExpiredParRequestCleaner.class) {
+            if (instance != null) {
+                return;
+            }
+            instance = new ExpiredParRequestCleaner(TimeUnit.SECONDS.toMillis(IdentityConfigUtil.getLongProperty(
+                    ParConstants.EXPIRED_REQUEST_CLEANUP_INTERVAL,
+                    ParConstants.DEFAULT_EXPIRED_REQUEST_CLEANUP_INTERVAL)), new ParMgtDAOImpl());
+            instance.start();
+        }
+    }
+
+    /**
+     * Stop the cleaner of the server.
+     */
+    public static void shutdownInstance() {
+
+        ExpiredParRequestCleaner cleaner;
+        synchronized (ExpiredParRequestCleaner.class) {
+            cleaner = instance;
+            instance = null;
+        }
+        if (cleaner != null) {
+            cleaner.shutdown();
+        }
+    }
+
+    void start() {
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, intervalInMillis, intervalInMillis, TimeUnit.MILLISECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("Expired PAR request cleaner is started with interval: " + intervalInMillis + "ms");
+        }
+    }
+
+    void shutdown() {
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void run() {
+
+        try {
+            int removedCount = parMgtDAO.removeExpiredRequestData(System.currentTimeMillis());
+            if (log.isDebugEnabled()) {
+                log.debug("Expired PAR request cleaner removed " + removedCount + " requests.");
+            }
+        } catch (Throwable e) {
+            // Do not let the error cancel the subsequent runs.
+            log.error("Error occurred while cleaning up expired PAR requests.", e);
+        }
+    }
+}
@@ -89,17 +89,89 @@ public class ParMgtDAOImpl implements ParMgtDAO {
     @Override
     public void removeRequestData(String requestURIReference) throws ParCoreException {
 
+        removeRequestDataIfExists(requestURIReference);
+    }
+
+    /**
+     * Remove the ParAuthRequest from the database.
+     *
+     * @param requestURIReference PAR request identifier.
+     * @return True if the request was removed by this call, false if it did not exist or was already removed.
+     * @throws ParCoreException Exception thrown from PAR Core Component.
+     */
+    public boolean removeRequestDataIfExists(String requestURIReference) throws ParCoreException {
+
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true);
              PreparedStatement prepStmt = connection.prepareStatement(SQLQueries
                      .ParSQLQueries.REMOVE_PAR_REQUEST)) {
             prepStmt.setString(1, requestURIReference);
-            prepStmt.execute();
+            int removedCount = prepStmt.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
+            return removedCount > 0;
         } catch (SQLException e) {
             throw new ParCoreException("Error occurred while clearing PAR request from Database", e);
         }
     }
 
+    @Override
+    public Optional<ParRequestDO> consumeRequestData(String requestURIReference) throws ParCoreException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try {
+                Optional<ParRequestDO> parRequestDO;
+                try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries
+                        .ParSQLQueries.RETRIEVE_PAR_REQUEST)) {
+                    prepStmt.setString(1, requestURIReference);
+                    try (ResultSet resultSet = prepStmt.executeQuery()) {
+                        if (!resultSet.next()) {
+                            IdentityDatabaseUtil.commitTransaction(connection);
+                            return Optional.empty();
+                        }
+                        parRequestDO = Optional.of(new ParRequestDO(
+                                getDeserializedParams(resultSet.getString(ParConstants.COL_LBL_PARAMETERS)),
+                                resultSet.getLong(ParConstants.COL_LBL_SCHEDULED_EXPIRY),
+                                resultSet.getString(ParConstants.COL_LBL_CLIENT_ID)));
+                    }
+                }
+                int removedCount;
+                try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries
+                        .ParSQLQueries.REMOVE_PAR_REQUEST)) {
+                    prepStmt.setString(1, requestURIReference);
+                    removedCount = prepStmt.executeUpdate();
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+                // The request is consumed by another request if it was already removed when deleting.
+                return removedCount > 0 ? parRequestDO : Optional.empty();
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new ParCoreException("Error occurred while consuming PAR request from the database.", e);
+        }
+    }
+
+    /**
+     * Remove the PAR requests which have expired before the given time.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @return Number of removed requests.
+     * @throws ParCoreException Exception thrown from PAR Core Component.
+     */
+    public int removeExpiredRequestData(long currentTime) throws ParCoreException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+             PreparedStatement prepStmt = connection.prepareStatement(SQLQueries
+                     .ParSQLQueries.REMOVE_EXPIRED_PAR_REQUESTS)) {
+            prepStmt.setLong(1, currentTime);
+            int removedCount = prepStmt.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return removedCount;
+        } catch (SQLException e) {
+            throw new ParCoreException("Error occurred while clearing expired PAR requests from Database", e);
+        }
+    }
+
     private String getSerializedParams(Map<String, String> params) throws ParCoreException {
 
         try {
@@ -24,6 +24,7 @@ import org.osgi.service.component.annotations.Component;
 import org.wso2.carbon.identity.oauth.par.core.ParAuthService;
 import org.wso2.carbon.identity.oauth.par.core.ParAuthServiceImpl;
 import org.wso2.carbon.identity.oauth.par.core.ParRequestBuilder;
+import org.wso2.carbon.identity.oauth.par.dao.ExpiredParRequestCleaner;
 import org.wso2.carbon.identity.oauth2.OAuthAuthorizationRequestBuilder;
 
 /**
@@ -47,6 +48,7 @@ public class ParServiceComponent {
                     parAuthServiceImpl, null);
             context.getBundleContext().registerService(OAuthAuthorizationRequestBuilder.class.getName(),
                     new ParRequestBuilder(), null);
+            ExpiredParRequestCleaner.startInstance();
             log.debug("PAR component bundle is activated.");
         } catch (Throwable e) {
             log.error("Error occurred while activating PAR component.", e);
@@ -55,6 +57,7 @@ public class ParServiceComponent {
 
     protected void deactivate(ComponentContext context) {
 
+        ExpiredParRequestCleaner.shutdownInstance();
         log.debug("PAR component bundle is deactivated.");
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.par.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.par.common.ParConstants;
+import org.wso2.carbon.identity.oauth.par.dao.ParMgtDAOImpl;
+import org.wso2.carbon.identity.oauth.par.model.ParRequestCacheEntry;
+import org.wso2.carbon.identity.oauth.par.model.ParRequestDO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for CacheBackedParDAO.
+ */
+public class CacheBackedParDAOTest {
+
+    private static final String REQUEST_URI = "c0143cb3-7ae0-43a3-a023-b7218c7182df";
+    private static final String CLIENT_ID = "clientId";
+
+    private ParCache parCache;
+    private ParMgtDAOImpl parMgtDAO;
+
+    @BeforeMethod
+    public void setUp() {
+
+        parCache = mock(ParCache.class);
+        parMgtDAO = mock(ParMgtDAOImpl.class);
+        when(parCache.isEnabled()).thenReturn(true);
+        when(parCache.getValueFromCache(REQUEST_URI)).thenReturn(new ParRequestCacheEntry(REQUEST_URI,
+                Collections.singletonMap("scope", "openid"), 60000, CLIENT_ID));
+    }
+
+    @Test
+    public void testConsumeCachedRequestRemovedFromDatabase() throws Exception {
+
+        when(parMgtDAO.removeRequestDataIfExists(REQUEST_URI)).thenReturn(true);
+        CacheBackedParDAO cacheBackedParDAO = new CacheBackedParDAO(parCache, parMgtDAO, false);
+
+        Optional<ParRequestDO> parRequestDO = cacheBackedParDAO.consumeRequestData(REQUEST_URI);
+
+        assertTrue(parRequestDO.isPresent());
+        assertEquals(parRequestDO.get().getClientId(), CLIENT_ID);
+        verify(parCache).clearCacheEntry(REQUEST_URI);
+    }
+
+    @Test
+    public void testConsumeCachedRequestAlreadyRemovedFromDatabase() throws Exception {
+
+        when(parMgtDAO.removeRequestDataIfExists(REQUEST_URI)).thenReturn(false);
+        CacheBackedParDAO cacheBackedParDAO = new CacheBackedParDAO(parCache, parMgtDAO, false);
+
+        assertFalse(cacheBackedParDAO.consumeRequestData(REQUEST_URI).isPresent(),
+                "Request already consumed through another node should not be handed out again.");
+    }
+
+    @Test
+    public void testConsumeRequestFromMemoryOnlyStorage() throws Exception {
+
+        CacheBackedParDAO cacheBackedParDAO = new CacheBackedParDAO(parCache, parMgtDAO, true);
+
+        assertTrue(cacheBackedParDAO.consumeRequestData(REQUEST_URI).isPresent());
+        verify(parMgtDAO, never()).removeRequestDataIfExists(anyString());
+    }
+
+    @Test
+    public void testMemoryOnlyStorageNotEnabledWhenClustered() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(ParConstants.MEMORY_ONLY_STORAGE_ENABLE))
+                    .thenReturn("true");
+            oAuth2Util.when(OAuth2Util::isClusteringEnabled).thenReturn(false);
+            assertTrue(CacheBackedParDAO.isMemoryOnlyStorageConfigured());
+
+            oAuth2Util.when(OAuth2Util::isClusteringEnabled).thenReturn(true);
+            assertFalse(CacheBackedParDAO.isMemoryOnlyStorageConfigured(),
+                    "Memory only storage should not be enabled when the cache entries are not shared.");
+        }
+    }
+}
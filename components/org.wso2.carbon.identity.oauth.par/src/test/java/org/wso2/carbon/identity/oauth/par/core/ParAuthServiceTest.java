@@ -170,7 +170,7 @@ public class ParAuthServiceTest {
     public void testRetrieveParamsFailure(long expiryTime, String clientId, String expectedError)
             throws ParCoreException {
 
-        when(parMgtDAO.getRequestData(anyString())).thenReturn(Optional.ofNullable(parRequestDO));
+        when(parMgtDAO.consumeRequestData(anyString())).thenReturn(Optional.ofNullable(parRequestDO));
         when(parRequestDO.getExpiresIn()).thenReturn(expiryTime);
         when(parRequestDO.getClientId()).thenReturn(clientId);
 
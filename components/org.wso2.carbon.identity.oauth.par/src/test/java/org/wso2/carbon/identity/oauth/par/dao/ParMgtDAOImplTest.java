@@ -37,7 +37,9 @@ import java.util.Optional;
 
 import static org.mockito.Mockito.mockStatic;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class for ParMgtDAOImpl.
@@ -142,6 +144,44 @@ public class ParMgtDAOImplTest {
             prepareConnection(connection, true, identityDatabaseUtil);
             parMgtDAO.removeRequestData(REQUEST_URI_2);
         }
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            prepareConnection(connection, true, identityDatabaseUtil);
+            assertFalse(parMgtDAO.removeRequestDataIfExists(REQUEST_URI_2),
+                    "Already removed request should not be reported as removed.");
+        }
+    }
+
+    @Test(dependsOnMethods = {"testGetRequestDataSuccess"})
+    public void testConsumeRequestData() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            prepareConnection(connection, true, identityDatabaseUtil);
+            Optional<ParRequestDO> parRequestDO = parMgtDAO.consumeRequestData(REQUEST_URI_1);
+            assertTrue(parRequestDO.isPresent());
+            assertEquals(parRequestDO.get().getParams(), this.parRequestDO.getParams());
+        }
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            prepareConnection(connection, true, identityDatabaseUtil);
+            assertFalse(parMgtDAO.consumeRequestData(REQUEST_URI_1).isPresent());
+        }
+    }
+
+    @Test(dependsOnMethods = {"testGetRequestData", "testConsumeRequestData", "testRemoveRequestData"})
+    public void testRemoveExpiredRequestData() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            prepareConnection(connection, true, identityDatabaseUtil);
+            assertTrue(parMgtDAO.removeExpiredRequestData(System.currentTimeMillis()) > 0);
+        }
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            prepareConnection(connection, false, identityDatabaseUtil);
+            assertFalse(parMgtDAO.getRequestData(REQUEST_URI_3).isPresent());
+        }
     }
 
     public static Connection getConnection(String database) throws SQLException {
@@ -37,7 +37,10 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.oauth.rar.exception.AuthorizationDetailsProcessingException;
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetail;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.wso2.carbon.identity.oauth.rar.util.AuthorizationDetailsConstants.SCHEMA_VALIDATION_FAILED_ERR_MSG_FORMAT;
 import static org.wso2.carbon.identity.oauth.rar.util.AuthorizationDetailsConstants.TYPE_VALIDATION_FAILED_ERR_MSG_FORMAT;
@@ -68,10 +71,24 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
 
     private static final String ADDITIONAL_PROPERTIES = "additionalProperties";
     private static final String BASE_URI = "https://wso2.com/identity-server/schemas";
+    private static final int MAX_CACHED_VALIDATORS = 256;
 
     private static volatile AuthorizationDetailsSchemaValidator instance;
     private final JsonSchemaOptions jsonSchemaOptions;
     private final SchemaRepository schemaRepository;
+    /**
+     * Compiled validators of authorization details type schemas, evicted in least recently used order. A changed
+     * schema of a type results in a different key, hence the validator compiled for the old schema is never reused.
+     */
+    private final Map<SchemaKey, Validator> validatorCache = Collections.synchronizedMap(
+            new LinkedHashMap<SchemaKey, Validator>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SchemaKey, Validator> eldest) {
+
+                    return size() > MAX_CACHED_VALIDATORS;
+                }
+            });
 
     private AuthorizationDetailsSchemaValidatorImpl() {
 
@@ -129,12 +146,50 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
 
         // Validate the jsonSchema if present, otherwise validate the schema itself against json-schema DRAFT202012
         final Validator validator = (jsonSchema != null)
-                ? this.schemaRepository.validator(JsonSchema.of(jsonSchema), this.jsonSchemaOptions)
+                ? this.compileValidator(jsonSchema)
                 : this.schemaRepository.validator(this.jsonSchemaOptions.getDraft().getIdentifier());
 
         return validator.validate(jsonInput);
     }
 
+    private Validator compileValidator(final JsonObject jsonSchema) {
+
+        return this.schemaRepository.validator(JsonSchema.of(jsonSchema), this.jsonSchemaOptions);
+    }
+
+    /**
+     * Returns the compiled validator of the given authorization details type schema, compiling it only if the schema
+     * has not been seen before.
+     *
+     * @param type                 the authorization details type.
+     * @param schemaSource         the schema as received by the caller, used to identify the compiled validator.
+     * @param additionalProperties whether the compiled schema allows properties which are not defined in it.
+     * @param schemaResolver       resolves the {@link JsonObject} schema to be compiled on a cache miss.
+     * @return the compiled validator.
+     * @throws AuthorizationDetailsProcessingException if the schema cannot be resolved.
+     */
+    private Validator getValidator(final String type, final Object schemaSource, final boolean additionalProperties,
+                                   final SchemaResolver schemaResolver)
+            throws AuthorizationDetailsProcessingException {
+
+        final Validator cachedValidator =
+                this.validatorCache.get(new SchemaKey(type, schemaSource, additionalProperties));
+        if (cachedValidator != null) {
+            return cachedValidator;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compiling schema validator for authorization details type: " + type);
+        }
+        final JsonObject jsonSchema = schemaResolver.resolve();
+        final Validator validator = this.compileValidator(jsonSchema);
+        // Snapshot the schema source, so that later changes to the caller's object do not corrupt the cache key.
+        final Object schemaSnapshot = (schemaSource instanceof JsonObject)
+                ? ((JsonObject) schemaSource).copy() : schemaSource;
+        this.validatorCache.put(new SchemaKey(type, schemaSnapshot, additionalProperties), validator);
+        return validator;
+    }
+
     /**
      * Converts a JSON string into a {@link JsonObject}. If the input is invalid, throws an exception.
      *
@@ -182,7 +237,9 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
             return false;
         }
 
-        return this.isSchemaCompliant(this.parseJsonObject(schema), authorizationDetail);
+        return this.isSchemaCompliant(
+                this.getValidator(authorizationDetail.getType(), schema, true, () -> this.parseJsonObject(schema)),
+                authorizationDetail);
     }
 
     public boolean isSchemaCompliant(final JsonObject schema, final AuthorizationDetail authorizationDetail)
@@ -193,8 +250,14 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
             return false;
         }
 
-        final OutputUnit outputUnit =
-                this.buildOutputUnit(schema, this.parseJsonObject(authorizationDetail.toJsonString()));
+        return this.isSchemaCompliant(
+                this.getValidator(authorizationDetail.getType(), schema, true, schema::copy), authorizationDetail);
+    }
+
+    private boolean isSchemaCompliant(final Validator validator, final AuthorizationDetail authorizationDetail)
+            throws AuthorizationDetailsProcessingException {
+
+        final OutputUnit outputUnit = validator.validate(this.parseJsonObject(authorizationDetail.toJsonString()));
 
         try {
             // Validates the authorization detail against the schema
@@ -218,9 +281,60 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
             return false;
         }
 
-        final JsonObject jsonSchema = new JsonObject(schema);
-        jsonSchema.put(ADDITIONAL_PROPERTIES, false); // Ensure no unknown fields are allowed
+        final Validator validator =
+                this.getValidator(authorizationDetail.getType(), new JsonObject(schema), false, () -> {
+                    final JsonObject jsonSchema = new JsonObject(schema).copy();
+                    jsonSchema.put(ADDITIONAL_PROPERTIES, false); // Ensure no unknown fields are allowed
+                    return jsonSchema;
+                });
+        return this.isSchemaCompliant(validator, authorizationDetail);
+    }
+
+    /**
+     * Resolves the JSON schema to be compiled on a validator cache miss.
+     */
+    @FunctionalInterface
+    private interface SchemaResolver {
+
+        JsonObject resolve() throws AuthorizationDetailsProcessingException;
+    }
+
+    /**
+     * Identifies a compiled validator by the authorization details type and the schema it was compiled from.
+     */
+    private static final class SchemaKey {
+
+        private final String type;
+        private final Object schema;
+        private final boolean additionalProperties;
+        private final int hashCode;
 
-        return this.isSchemaCompliant(jsonSchema, authorizationDetail);
+        SchemaKey(final String type, final Object schema, final boolean additionalProperties) {
+
+            this.type = type;
+            this.schema = schema;
+            this.additionalProperties = additionalProperties;
+            this.hashCode = Objects.hash(type, schema, additionalProperties);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SchemaKey)) {
+                return false;
+            }
+            final SchemaKey that = (SchemaKey) o;
+            return this.hashCode == that.hashCode && this.additionalProperties == that.additionalProperties
+                    && Objects.equals(this.type, that.type) && this.schema.equals(that.schema);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return this.hashCode;
+        }
     }
 }
@@ -114,6 +114,27 @@ public class AuthorizationDetailsSchemaValidatorTest {
         assertFalse(this.uut.isValidSchema(invalidSchema));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test(expectedExceptions = {AuthorizationDetailsProcessingException.class})
+    public void shouldThrowAuthorizationDetailsProcessingException_whenSchemaOfTypeIsUpdated()
+            throws AuthorizationDetailsProcessingException {
+
+        AuthorizationDetail testAuthorizationDetail = new TestDAOUtils.TestAuthorizationDetail();
+        testAuthorizationDetail.setType(TEST_TYPE);
+        testAuthorizationDetail.setActions(Collections.singletonList("initiate"));
+
+        final Map<String, Object> testSchema = this.getTestSchema();
+        assertTrue(this.uut.isSchemaCompliant(testSchema, testAuthorizationDetail));
+        assertTrue(this.uut.isSchemaCompliant(testSchema, testAuthorizationDetail));
+
+        // Update the schema of the type to only allow the "cancel" action.
+        final Map<String, Object> actions =
+                (Map<String, Object>) ((Map<String, Object>) testSchema.get("properties")).get("actions");
+        ((Map<String, Object>) actions.get("items")).put("enum", Collections.singletonList("cancel"));
+
+        this.uut.isSchemaCompliant(testSchema, testAuthorizationDetail);
+    }
+
     private Map<String, Object> getTestSchema() {
         final Map<String, Object> items = new HashMap<>();
         items.put("type", "string");
@@ -52,6 +52,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.cache.AppInfoCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.common.OAuth2ErrorCodes;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
@@ -76,6 +77,7 @@ import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
 import org.wso2.carbon.identity.oauth2.authz.handlers.ResponseTypeHandler;
+import org.wso2.carbon.identity.oauth2.dao.BulkTokenRevocationEngine;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
@@ -554,6 +556,7 @@ public class OAuthAdminServiceImpl {
                         app.setFapiConformanceEnabled(application.isFapiConformanceEnabled());
                         app.setSubjectTokenEnabled(application.isSubjectTokenEnabled());
                         app.setSubjectTokenExpiryTime(application.getSubjectTokenExpiryTime());
+                        app.setStatelessJWTValidationEnabled(application.isStatelessJWTValidationEnabled());
                         if (isAccessTokenClaimsSeparationFeatureEnabled()) {
                             validateAccessTokenClaims(application, tenantDomain);
                             app.setAccessTokenClaims(application.getAccessTokenClaims());
@@ -993,6 +996,7 @@ public class OAuthAdminServiceImpl {
             oAuthAppDO.setRequirePushedAuthorizationRequests(consumerAppDTO.getRequirePushedAuthorizationRequests());
             oAuthAppDO.setSubjectTokenEnabled(consumerAppDTO.isSubjectTokenEnabled());
             oAuthAppDO.setSubjectTokenExpiryTime(consumerAppDTO.getSubjectTokenExpiryTime());
+            oAuthAppDO.setStatelessJWTValidationEnabled(consumerAppDTO.isStatelessJWTValidationEnabled());
 
             if (isAccessTokenClaimsSeparationFeatureEnabled()) {
                 // We check if the AT claims separation enabled at server level and
@@ -1462,6 +1466,10 @@ public class OAuthAdminServiceImpl {
     void updateAppAndRevokeTokensAndAuthzCodes(String consumerKey,
                                                Properties properties) throws IdentityOAuthAdminException {
 
+        if (BulkTokenRevocationEngine.isEnabled()) {
+            updateAppAndRevokeTokensAndAuthzCodesInBatches(consumerKey, properties);
+            return;
+        }
         int countToken = 0;
         try {
             Set<AccessTokenDO> activeDetailedTokens = OAuthTokenPersistenceFactory
@@ -1501,6 +1509,47 @@ public class OAuthAdminServiceImpl {
         }
     }
 
+    /**
+     * Update the OAuth app and revoke its access tokens in bounded batches. The state of the app and the
+     * authorization codes are updated first, so that no further tokens are issued with the old state or secret.
+     * Then the access tokens issued up to that point are revoked and removed from the cache batch by batch.
+     *
+     * @param consumerKey Consumer key of the app.
+     * @param properties  Properties of the update.
+     * @throws IdentityOAuthAdminException Error while updating the app or revoking the tokens.
+     */
+    private void updateAppAndRevokeTokensAndAuthzCodesInBatches(String consumerKey, Properties properties)
+            throws IdentityOAuthAdminException {
+
+        try {
+            Set<String> authorizationCodes = OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO()
+                    .getActiveAuthorizationCodesByConsumerKey(consumerKey);
+            for (String authorizationCode : authorizationCodes) {
+                OAuthCacheKey cacheKey = new OAuthCacheKey(authorizationCode);
+                OAuthCache.getInstance().clearCacheEntry(cacheKey);
+            }
+            OAuthTokenPersistenceFactory.getInstance().getTokenManagementDAO()
+                    .updateAppAndRevokeTokensAndAuthzCodes(consumerKey, properties,
+                            authorizationCodes.toArray(new String[0]), new String[0]);
+
+            long revokedCount = new BulkTokenRevocationEngine().revokeTokensOfApplication(consumerKey,
+                    IdentityTenantUtil.getLoginTenantId(), accessTokenDOs -> {
+                        try {
+                            clearTokenCacheEntry(consumerKey, new HashSet<>(accessTokenDOs));
+                        } catch (IdentityOAuthAdminException e) {
+                            throw new IdentityOAuth2Exception(e.getMessage(), e);
+                        }
+                    });
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(revokedCount + " access tokens are revoked and removed from the cache for OAuth App " +
+                        "with consumerKey: " + consumerKey);
+            }
+        } catch (IdentityOAuth2Exception | IdentityApplicationManagementException e) {
+            throw handleError("Error in updating oauth app & revoking access tokens and authz " +
+                    "codes for OAuth App with consumerKey: " + consumerKey, e);
+        }
+    }
+
     /**
      * Removes an OAuth consumer application.
      *
@@ -2107,7 +2156,7 @@ public class OAuthAdminServiceImpl {
         String token = accessTokenDO.getAccessToken();
         AuthenticatedUser authenticatedUser = accessTokenDO.getAuthzUser();
 
-        OAuthCacheKey cacheKeyToken = new OAuthCacheKey(token);
+        OAuthCacheKey cacheKeyToken = new OAuthCacheKey(token, OAuthCacheType.ACCESS_TOKEN);
         String scope = buildScopeString(accessTokenDO.getScope());
         TokenBinding tokenBinding = accessTokenDO.getTokenBinding();
         String tokenBindingReference = (tokenBinding != null &&
@@ -2806,7 +2855,7 @@ public class OAuthAdminServiceImpl {
     private static void clearTokensFromCache(String consumerKey, AccessTokenDO detailToken, String token)
             throws IdentityOAuthAdminException {
 
-        OAuthCacheKey cacheKeyToken = new OAuthCacheKey(token);
+        OAuthCacheKey cacheKeyToken = new OAuthCacheKey(token, OAuthCacheType.ACCESS_TOKEN);
         OAuthCache.getInstance().clearCacheEntry(cacheKeyToken);
 
         String scope = buildScopeString(detailToken.getScope());
@@ -2838,7 +2887,7 @@ public class OAuthAdminServiceImpl {
             cacheKeyString = consumerKey + ":" + authorizedUser.toLowerCase() + ":" + scope + ":"
                     + authenticatedIDP;
         }
-        OAuthCacheKey cacheKeyUser = new OAuthCacheKey(cacheKeyString);
+        OAuthCacheKey cacheKeyUser = new OAuthCacheKey(cacheKeyString, OAuthCacheType.TOKEN_ISSUANCE);
         OAuthCache.getInstance().clearCacheEntry(cacheKeyUser);
         String tokenBindingRef = NONE;
         if (detailToken.getTokenBinding() != null) {
@@ -47,6 +47,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
@@ -312,8 +313,8 @@ public final class OAuthUtil {
                 return;
             }
             clearOAuthCache(consumerKey, userId, scope);
-            clearOAuthCache(buildCacheKeyStringForToken(consumerKey, scope, userId, null,
-                    tokenBindingReference));
+            clearTokenIssuanceCache(buildCacheKeyStringForToken(consumerKey, scope, userId, null,
+                    tokenBindingReference), null);
         }
     }
 
@@ -360,7 +361,7 @@ public final class OAuthUtil {
         if (authorizedUser.getAccessingOrganization() != null) {
             authorizedOrganization = authorizedUser.getAccessingOrganization();
         }
-        clearOAuthCacheByTenant(OAuth2Util.buildCacheKeyStringForTokenWithUserIdOrgId(consumerKey, scope, userId,
+        clearTokenIssuanceCache(OAuth2Util.buildCacheKeyStringForTokenWithUserIdOrgId(consumerKey, scope, userId,
                 authenticatedIDP, tokenBindingReference, authorizedOrganization), tenantDomain);
     }
 
@@ -385,7 +386,7 @@ public final class OAuthUtil {
 
     private static void clearOAuthCache(String consumerKey, String authorizedUserId, String scope) {
 
-        clearOAuthCache(consumerKey + ":" + authorizedUserId + ":" + scope);
+        clearTokenIssuanceCache(consumerKey + ":" + authorizedUserId + ":" + scope, null);
     }
 
     /**
@@ -399,7 +400,7 @@ public final class OAuthUtil {
     private static void clearOAuthCacheWithAuthenticatedIDP(String consumerKey, String authorizedUserId, String scope
             , String authenticatedIDP, String tenantDomain) {
 
-        clearOAuthCacheByTenant(consumerKey + ":" + authorizedUserId + ":" + scope + ":" + authenticatedIDP,
+        clearTokenIssuanceCache(consumerKey + ":" + authorizedUserId + ":" + scope + ":" + authenticatedIDP,
                 tenantDomain);
     }
 
@@ -434,13 +435,19 @@ public final class OAuthUtil {
         OAuthCache.getInstance().clearCacheEntry(cacheKey, tenantDomain);
     }
 
+    private static void clearTokenIssuanceCache(String oauthCacheKey, String tenantDomain) {
+
+        OAuthCacheKey cacheKey = new OAuthCacheKey(oauthCacheKey, OAuthCacheType.TOKEN_ISSUANCE);
+        OAuthCache.getInstance().clearCacheEntry(cacheKey, tenantDomain);
+    }
+
     public static void clearOAuthCache(AccessTokenDO accessTokenDO) {
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Clearing cache for access token as cache key of user: " +
                     accessTokenDO.getAuthzUser().getLoggableUserId());
         }
-        OAuthCacheKey cacheKey = new OAuthCacheKey(accessTokenDO.getAccessToken());
+        OAuthCacheKey cacheKey = new OAuthCacheKey(accessTokenDO.getAccessToken(), OAuthCacheType.ACCESS_TOKEN);
         String tenantDomain = accessTokenDO.getAuthzUser().getTenantDomain();
         OAuthCache.getInstance().clearCacheEntry(cacheKey,  tenantDomain);
     }
@@ -564,6 +571,7 @@ public final class OAuthUtil {
         dto.setSubjectTokenEnabled(appDO.isSubjectTokenEnabled());
         dto.setSubjectTokenExpiryTime(appDO.getSubjectTokenExpiryTime());
         dto.setAccessTokenClaims(appDO.getAccessTokenClaims());
+        dto.setStatelessJWTValidationEnabled(appDO.isStatelessJWTValidationEnabled());
         return dto;
     }
 
@@ -687,7 +695,7 @@ public final class OAuthUtil {
             for (AuthzCodeDO authorizationCode : authorizationCodes) {
                 OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(
                         OAuth2Util.buildCacheKeyStringForAuthzCode(authorizationCode.getConsumerKey(),
-                                authorizationCode.getAuthorizationCode())));
+                                authorizationCode.getAuthorizationCode()), OAuthCacheType.AUTHORIZATION_CODE));
                 OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO()
                         .updateAuthorizationCodeState(authorizationCode.getAuthorizationCode(),
                                 authorizationCode.getAuthzCodeId(), OAuthConstants.AuthorizationCodeState.REVOKED);
@@ -22,7 +22,6 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
@@ -30,6 +29,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.ClientCertificateCache;
 import org.wso2.carbon.identity.oauth.common.OAuth2ErrorCodes;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
@@ -41,9 +41,7 @@ import org.wso2.carbon.identity.oauth2.validators.jwt.JWKSBasedJWTValidator;
 import org.wso2.carbon.identity.openidconnect.model.Constants;
 import org.wso2.carbon.identity.openidconnect.model.RequestObject;
 
-import java.security.PublicKey;
 import java.security.cert.Certificate;
-import java.security.interfaces.RSAPublicKey;
 import java.util.Arrays;
 import java.util.List;
 
@@ -136,7 +134,7 @@ public class RequestObjectValidatorUtil {
                         "client_id: " + oAuth2Parameters.getClientId() + " of tenantDomain: " + oAuth2Parameters
                         .getTenantDomain() + ". Using public certificate  for validating request object");
             }
-            isVerified = isSignatureVerified(jwt, certificate);
+            isVerified = isSignatureVerified(jwt, certificate, clientId, oAuth2Parameters.getTenantDomain());
         }
         requestObject.setIsSignatureValid(isVerified);
         return isVerified;
@@ -302,6 +300,22 @@ public class RequestObjectValidatorUtil {
      */
     public static boolean isSignatureVerified(SignedJWT signedJWT, Certificate x509Certificate) {
 
+        return isSignatureVerified(signedJWT, x509Certificate, null, null);
+    }
+
+    /**
+     * Validate the signedJWT signature with the given certificate of the client, reusing the signature verifier
+     * built for the cached certificate of the client.
+     *
+     * @param signedJWT       signed JWT
+     * @param x509Certificate X509 certificate
+     * @param clientId        client ID, or null if the certificate is not the certificate of a client
+     * @param tenantDomain    tenant domain of the client
+     * @return signature validity
+     */
+    private static boolean isSignatureVerified(SignedJWT signedJWT, Certificate x509Certificate, String clientId,
+                                               String tenantDomain) {
+
         JWSVerifier verifier;
         JWSHeader header = signedJWT.getHeader();
         if (x509Certificate == null) {
@@ -317,10 +331,8 @@ public class RequestObjectValidatorUtil {
         }
         if (alg.indexOf(RS) == 0 || alg.indexOf(PS) == 0) {
             // At this point 'x509Certificate' will never be null.
-            PublicKey publicKey = x509Certificate.getPublicKey();
-            if (publicKey instanceof RSAPublicKey) {
-                verifier = new RSASSAVerifier((RSAPublicKey) publicKey);
-            } else {
+            verifier = ClientCertificateCache.getInstance().getRSAVerifier(clientId, tenantDomain, x509Certificate);
+            if (verifier == null) {
                 if (log.isDebugEnabled()) {
                     log.debug("Public key is not an RSA public key.");
                 }
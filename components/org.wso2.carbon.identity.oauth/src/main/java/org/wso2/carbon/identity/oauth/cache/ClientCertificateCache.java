@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import com.nimbusds.jose.JWSVerifier;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+
+/**
+ * Cache of the parsed certificates of the OAuth clients, so that the PEM encoded certificate of a client is not parsed
+ * and the signature verifier is not rebuilt for every request of the client. The thumbprints of the certificates
+ * presented for the certificate bound tokens are cached against the certificate content as well.
+ * <p>
+ * The timeout and the capacity of the cache are configured in identity.xml. A cached certificate is only used while
+ * the certificate content of the client matches the content it was parsed from, and the certificate of a client is
+ * removed across the cluster when the application of the client is updated. The entries are kept in the super tenant
+ * space with the tenant in the key, so that they can be added, read and removed regardless of the tenant of the
+ * thread.
+ */
+public class ClientCertificateCache extends BaseCache<String, ClientCertificateCacheEntry> {
+
+    private static final Log log = LogFactory.getLog(ClientCertificateCache.class);
+    private static final String CLIENT_CERTIFICATE_CACHE_NAME = "ClientCertificateCache";
+    private static final String CERTIFICATE_PREFIX = "cert:";
+    private static final String THUMBPRINT_PREFIX = "thumbprint:";
+    private static final String KEY_SEPARATOR = ":";
+
+    private static volatile ClientCertificateCache instance;
+
+    private ClientCertificateCache() {
+
+        super(CLIENT_CERTIFICATE_CACHE_NAME);
+    }
+
+    public static ClientCertificateCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (ClientCertificateCache.class) {
+                if (instance == null) {
+                    instance = new ClientCertificateCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the parsed certificate of the client, parsing and caching it if it is not cached for the given content.
+     *
+     * @param clientId           Client ID.
+     * @param tenantDomain       Tenant domain of the client.
+     * @param certificateContent PEM encoded certificate content of the client.
+     * @return Parsed certificate.
+     * @throws CertificateException If the certificate content cannot be parsed.
+     */
+    public Certificate getCertificate(String clientId, String tenantDomain, String certificateContent)
+            throws CertificateException {
+
+        if (!isEnabled() || clientId == null || tenantDomain == null || certificateContent == null) {
+            return IdentityUtil.convertPEMEncodedContentToCertificate(certificateContent);
+        }
+        String key = buildCertificateKey(clientId, tenantDomain);
+        ClientCertificateCacheEntry entry = getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+        if (entry != null && entry.getCertificateContent().equals(certificateContent)) {
+            return entry.getCertificate();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for the certificate of the client: " + clientId + " of tenant: " + tenantDomain);
+        }
+        Certificate certificate = IdentityUtil.convertPEMEncodedContentToCertificate(certificateContent);
+        addToCache(key, new ClientCertificateCacheEntry(certificateContent, certificate),
+                MultitenantConstants.SUPER_TENANT_ID);
+        return certificate;
+    }
+
+    /**
+     * Get the verifier of the RSA signatures made with the key of the given certificate. The verifier is reused if the
+     * certificate is the cached certificate of the client.
+     *
+     * @param clientId     Client ID.
+     * @param tenantDomain Tenant domain of the client.
+     * @param certificate  Certificate of the client.
+     * @return Signature verifier, or null if the public key of the certificate is not an RSA public key.
+     */
+    public JWSVerifier getRSAVerifier(String clientId, String tenantDomain, Certificate certificate) {
+
+        if (isEnabled() && clientId != null && tenantDomain != null) {
+            ClientCertificateCacheEntry entry = getValueFromCache(buildCertificateKey(clientId, tenantDomain),
+                    MultitenantConstants.SUPER_TENANT_ID);
+            if (entry != null) {
+                try {
+                    if (entry.getCertificate() == certificate) {
+                        return entry.getRSAVerifier();
+                    }
+                } catch (CertificateException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error while parsing the cached certificate of the client: " + clientId, e);
+                    }
+                }
+            }
+        }
+        return ClientCertificateCacheEntry.buildRSAVerifier(certificate.getPublicKey());
+    }
+
+    /**
+     * Get the thumbprint of the certificate with the given content.
+     *
+     * @param certificateContent Certificate content.
+     * @return Thumbprint of the certificate, or null if it is not cached.
+     */
+    public String getThumbprint(String certificateContent) {
+
+        if (certificateContent == null) {
+            return null;
+        }
+        ClientCertificateCacheEntry entry = getValueFromCache(THUMBPRINT_PREFIX + certificateContent,
+                MultitenantConstants.SUPER_TENANT_ID);
+        return entry == null ? null : entry.getThumbprint();
+    }
+
+    /**
+     * Add the thumbprint of the certificate with the given content.
+     *
+     * @param certificateContent Certificate content.
+     * @param thumbprint         Thumbprint of the certificate.
+     */
+    public void addThumbprint(String certificateContent, String thumbprint) {
+
+        if (certificateContent != null && thumbprint != null) {
+            addToCache(THUMBPRINT_PREFIX + certificateContent,
+                    new ClientCertificateCacheEntry(certificateContent, thumbprint),
+                    MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    /**
+     * Remove the certificate of the client in the tenant, e.g. when the application of the client is updated.
+     *
+     * @param clientId     Client ID.
+     * @param tenantDomain Tenant domain of the client.
+     */
+    public void clearCacheEntry(String clientId, String tenantDomain) {
+
+        if (clientId != null && tenantDomain != null) {
+            clearCacheEntry(buildCertificateKey(clientId, tenantDomain), MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    private static String buildCertificateKey(String clientId, String tenantDomain) {
+
+        return CERTIFICATE_PREFIX + tenantDomain + KEY_SEPARATOR + clientId;
+    }
+}
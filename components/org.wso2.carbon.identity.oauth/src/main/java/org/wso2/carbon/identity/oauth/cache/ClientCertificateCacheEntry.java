@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * Cache entry of {@link ClientCertificateCache}, which holds the PEM encoded content of a certificate together with
+ * the values derived from it.
+ * <p>
+ * Only the content and the thumbprint are serialized. The parsed certificate and the signature verifier are built
+ * when they are first used, so that an entry read from another node is parsed once on this node.
+ */
+public class ClientCertificateCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3486028457183722315L;
+
+    private final String certificateContent;
+    private final String thumbprint;
+    private transient volatile Certificate certificate;
+    private transient volatile JWSVerifier rsaVerifier;
+
+    ClientCertificateCacheEntry(String certificateContent, Certificate certificate) {
+
+        this.certificateContent = certificateContent;
+        this.certificate = certificate;
+        this.thumbprint = null;
+    }
+
+    ClientCertificateCacheEntry(String certificateContent, String thumbprint) {
+
+        this.certificateContent = certificateContent;
+        this.thumbprint = thumbprint;
+    }
+
+    String getCertificateContent() {
+
+        return certificateContent;
+    }
+
+    String getThumbprint() {
+
+        return thumbprint;
+    }
+
+    Certificate getCertificate() throws CertificateException {
+
+        if (certificate == null) {
+            // Parsing the certificate more than once under contention is harmless.
+            certificate = IdentityUtil.convertPEMEncodedContentToCertificate(certificateContent);
+        }
+        return certificate;
+    }
+
+    /**
+     * Get the verifier of the RSA signatures made with the key of the parsed certificate.
+     *
+     * @return Signature verifier, or null if the certificate is not parsed or its key is not an RSA public key.
+     */
+    JWSVerifier getRSAVerifier() {
+
+        Certificate parsedCertificate = certificate;
+        if (rsaVerifier == null && parsedCertificate != null) {
+            // Building the verifier more than once under contention is harmless.
+            rsaVerifier = buildRSAVerifier(parsedCertificate.getPublicKey());
+        }
+        return rsaVerifier;
+    }
+
+    static JWSVerifier buildRSAVerifier(PublicKey publicKey) {
+
+        return publicKey instanceof RSAPublicKey ? new RSASSAVerifier((RSAPublicKey) publicKey) : null;
+    }
+}
@@ -28,24 +28,41 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.utils.CarbonUtils;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * OAuth cache.
+ * OAuth cache. Entries are kept in a separate cache per {@link OAuthCacheType}, selected by the type of the
+ * {@link OAuthCacheKey}, so that access tokens, authorization codes and client user lookups can be sized and timed
+ * out independently. Keys without a type are kept in this cache. The enablement of this cache applies to all types.
+ * <p>
+ * A lookup with a typed key which misses the cache of its type falls back to this cache, so that entries added with
+ * a key without a type, e.g. by extensions written before the types were introduced, are still served to the callers
+ * which look them up with a typed key.
  */
 public class OAuthCache extends AuthenticationBaseCache<OAuthCacheKey, CacheEntry> {
 
-    private static final String OAUTH_CACHE_NAME = "OAuthCache";
+    private static final String OAUTH_CACHE_NAME = OAuthCacheType.DEFAULT.getCacheName();
     private static final List<AbstractCacheListener<OAuthCacheKey, CacheEntry>> cacheListeners = new ArrayList<>();
     private static volatile OAuthCache instance;
     private static final Log LOG = LogFactory.getLog(OAuthCache.class);
 
+    private final Map<OAuthCacheType, OAuthCacheRegion> regions = new EnumMap<>(OAuthCacheType.class);
+    private final Map<OAuthCacheType, OAuthCacheMetrics> metrics = new EnumMap<>(OAuthCacheType.class);
+
     static {
         cacheListeners.add(new OAuthCacheRemoveListener());
     }
 
     private OAuthCache() {
         super(OAUTH_CACHE_NAME, cacheListeners);
+        for (OAuthCacheType cacheType : OAuthCacheType.values()) {
+            if (cacheType != OAuthCacheType.DEFAULT) {
+                regions.put(cacheType, new OAuthCacheRegion(cacheType, cacheListeners));
+            }
+            metrics.put(cacheType, new OAuthCacheMetrics(cacheType.getCacheName()));
+        }
     }
 
     public static OAuthCache getInstance() {
@@ -60,9 +77,21 @@ public class OAuthCache extends AuthenticationBaseCache<OAuthCacheKey, CacheEntr
         return instance;
     }
 
+    /**
+     * Get the hit and miss counters of the cache holding the given type of entries.
+     *
+     * @param cacheType Type of the cache entries.
+     * @return Metrics of the cache.
+     */
+    public OAuthCacheMetrics getMetrics(OAuthCacheType cacheType) {
+
+        return metrics.get(cacheType);
+    }
+
     @Override
     public void addToCache(OAuthCacheKey key, CacheEntry entry) {
 
+        OAuthCacheRegion region = getRegion(key);
         if (entry instanceof AccessTokenDO) {
             AccessTokenDO tokenDO = (AccessTokenDO) entry;
             String tenantDomain = tokenDO.getAuthzUser().getTenantDomain();
@@ -70,48 +99,128 @@ public class OAuthCache extends AuthenticationBaseCache<OAuthCacheKey, CacheEntr
                 LOG.debug(String.format("AccessTokenDO was added for the given token identifier: %s in the tenant: %s.",
                         ((AccessTokenDO) entry).getTokenId(), tenantDomain));
             }
-            super.addToCache(key, entry, tenantDomain);
+            if (region != null) {
+                region.addToCache(key, entry, tenantDomain);
+            } else {
+                super.addToCache(key, entry, tenantDomain);
+            }
+        } else if (region != null) {
+            region.addToCache(key, entry);
         } else {
             super.addToCache(key, entry);
         }
+        metrics.get(key.getCacheType()).recordAddition();
+    }
+
+    @Override
+    public void clearCacheEntry(OAuthCacheKey key) {
+
+        clearCacheEntry(key, null);
     }
 
     @Override
     public void clearCacheEntry(OAuthCacheKey key, String tenantDomain) {
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Hit OAuthCache for clearing in tenant domain: " + tenantDomain);
+            LOG.debug("Hit " + key.getCacheType().getCacheName() + " for clearing in tenant domain: " +
+                    tenantDomain);
         }
-        if (LOG.isDebugEnabled() && getValueFromCache(key, tenantDomain) == null) {
-            LOG.debug(String.format("No cache entry found for the given cache key in the tenant: %s.", tenantDomain));
+        OAuthCacheRegion region = getRegion(key);
+        if (region != null) {
+            clearCacheEntry(region, key, tenantDomain);
         }
+        // Typed lookups fall back to this cache, hence an entry added without a type is cleared with a typed key too.
         if (StringUtils.isNotBlank(tenantDomain)) {
             super.clearCacheEntry(key, tenantDomain);
         } else {
             super.clearCacheEntry(key);
         }
-        // Added below logs to make sure the cache is cleared properly.
-        if (LOG.isDebugEnabled() && super.getValueFromCache(key, tenantDomain) == null) {
-            LOG.debug("Successfully cleared OAuthCache for the provided key in tenant domain: " + tenantDomain);
+        if (key.getCacheType() == OAuthCacheType.DEFAULT && isEnabled()) {
+            // The type of the entry is not known to the caller, hence clear it from all the caches.
+            for (OAuthCacheRegion typedRegion : regions.values()) {
+                clearCacheEntry(typedRegion, key, tenantDomain);
+            }
         }
+        metrics.get(key.getCacheType()).recordRemoval();
     }
 
+    @Override
+    public CacheEntry getValueFromCache(OAuthCacheKey key) {
+
+        return getValueFromCache(key, null);
+    }
 
     @Override
     public CacheEntry getValueFromCache(OAuthCacheKey key, String tenantDomain) {
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Hit OAuthCache for getting the cache entry in tenant domain: " + tenantDomain);
+            LOG.debug("Hit " + key.getCacheType().getCacheName() + " for getting the cache entry in tenant domain: " +
+                    tenantDomain);
         }
-        CacheEntry cacheEntry;
-        if (StringUtils.isNotBlank(tenantDomain)) {
-            cacheEntry = super.getValueFromCache(key, tenantDomain);
-        } else {
-            cacheEntry = super.getValueFromCache(key);
+        CacheEntry cacheEntry = lookUp(key, tenantDomain);
+        if (isEnabled()) {
+            metrics.get(key.getCacheType()).recordLookup(cacheEntry != null);
         }
         if (LOG.isDebugEnabled() && cacheEntry != null) {
-            LOG.debug("Successfully retrieved cache entry from OauthCache for tenant domain: " + tenantDomain);
+            LOG.debug("Successfully retrieved cache entry from " + key.getCacheType().getCacheName() +
+                    " for tenant domain: " + tenantDomain);
         }
         return cacheEntry;
     }
+
+    /**
+     * Get the entry cached against the given key without counting it as a lookup in the metrics of the cache, e.g. to
+     * check whether an entry has to be loaded ahead of the lookup which is served with it.
+     *
+     * @param key Key of the cache entry.
+     * @return Cached entry, or null if there is no entry against the key.
+     */
+    public CacheEntry peekValueFromCache(OAuthCacheKey key) {
+
+        return lookUp(key, null);
+    }
+
+    @Override
+    public void clear(int tenantId) {
+
+        super.clear(tenantId);
+        for (OAuthCacheRegion region : regions.values()) {
+            region.clear(tenantId);
+        }
+    }
+
+    private CacheEntry lookUp(OAuthCacheKey key, String tenantDomain) {
+
+        OAuthCacheRegion region = getRegion(key);
+        if (region != null) {
+            CacheEntry cacheEntry = StringUtils.isNotBlank(tenantDomain) ? region.getValueFromCache(key, tenantDomain) :
+                    region.getValueFromCache(key);
+            if (cacheEntry != null) {
+                return cacheEntry;
+            }
+        }
+        // The type is not part of the identity of the key, hence entries added without a type are found with it.
+        if (StringUtils.isNotBlank(tenantDomain)) {
+            return super.getValueFromCache(key, tenantDomain);
+        }
+        return super.getValueFromCache(key);
+    }
+
+    private OAuthCacheRegion getRegion(OAuthCacheKey key) {
+
+        // Typed caches are only used when the OAuth cache is enabled, which keeps the existing switch in effect.
+        if (key.getCacheType() == OAuthCacheType.DEFAULT || !isEnabled()) {
+            return null;
+        }
+        return regions.get(key.getCacheType());
+    }
+
+    private void clearCacheEntry(OAuthCacheRegion region, OAuthCacheKey key, String tenantDomain) {
+
+        if (StringUtils.isNotBlank(tenantDomain)) {
+            region.clearCacheEntry(key, tenantDomain);
+        } else {
+            region.clearCacheEntry(key);
+        }
+    }
 }
@@ -25,15 +25,33 @@ public class OAuthCacheKey extends CacheKey {
 
     private static final long serialVersionUID = 5025710840178743769L;
     private String cacheKeyString;
+    private OAuthCacheType cacheType;
 
     public OAuthCacheKey(String cacheKeyString) {
+        this(cacheKeyString, OAuthCacheType.DEFAULT);
+    }
+
+    /**
+     * Create a key of an entry of the given type. The type selects the cache that holds the entry and is not part of
+     * the identity of the key.
+     *
+     * @param cacheKeyString Cache key string.
+     * @param cacheType      Type of the entry stored against the key.
+     */
+    public OAuthCacheKey(String cacheKeyString, OAuthCacheType cacheType) {
         this.cacheKeyString = cacheKeyString;
+        this.cacheType = cacheType;
     }
 
     public String getCacheKeyString() {
         return cacheKeyString;
     }
 
+    public OAuthCacheType getCacheType() {
+        // Keys serialized before the type was introduced do not carry one.
+        return cacheType != null ? cacheType : OAuthCacheType.DEFAULT;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof OAuthCacheKey)) {
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss, addition and removal counters of one of the caches behind the {@link OAuthCache}.
+ */
+public class OAuthCacheMetrics {
+
+    private final String cacheName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder additions = new LongAdder();
+    private final LongAdder removals = new LongAdder();
+
+    public OAuthCacheMetrics(String cacheName) {
+
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public long getAdditionCount() {
+
+        return additions.sum();
+    }
+
+    public long getRemovalCount() {
+
+        return removals.sum();
+    }
+
+    /**
+     * Get the ratio of lookups that were served from the cache.
+     *
+     * @return Hit ratio between 0 and 1, or 0 if there were no lookups.
+     */
+    public double getHitRatio() {
+
+        long hitCount = hits.sum();
+        long lookupCount = hitCount + misses.sum();
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * Reset all counters.
+     */
+    public void reset() {
+
+        hits.reset();
+        misses.reset();
+        additions.reset();
+        removals.reset();
+    }
+
+    void recordLookup(boolean hit) {
+
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    void recordAddition() {
+
+        additions.increment();
+    }
+
+    void recordRemoval() {
+
+        removals.increment();
+    }
+
+    @Override
+    public String toString() {
+
+        return cacheName + " [hits: " + getHitCount() + ", misses: " + getMissCount() + ", hitRatio: " +
+                String.format("%.4f", getHitRatio()) + ", additions: " + getAdditionCount() + ", removals: " +
+                getRemovalCount() + "]";
+    }
+}
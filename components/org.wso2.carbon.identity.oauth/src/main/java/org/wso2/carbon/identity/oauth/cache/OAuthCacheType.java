@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+/**
+ * Kinds of entries held in the {@link OAuthCache}. Each kind other than {@link #DEFAULT} is kept in a cache of its
+ * own, so that its capacity and timeout can be configured in identity.xml under the given cache name without the
+ * other kinds competing for the same entries.
+ */
+public enum OAuthCacheType {
+
+    /**
+     * Entries that are not classified. These are kept in the OAuthCache itself.
+     */
+    DEFAULT("OAuthCache"),
+
+    /**
+     * Access token DOs keyed by the access token or its alias.
+     */
+    ACCESS_TOKEN("OAuthAccessTokenCache"),
+
+    /**
+     * Access token DOs keyed by the client, user, scope and binding they were issued for.
+     */
+    TOKEN_ISSUANCE("OAuthTokenIssuanceCache"),
+
+    /**
+     * Authorization code DOs keyed by the client ID and the code.
+     */
+    AUTHORIZATION_CODE("OAuthAuthorizationCodeCache"),
+
+    /**
+     * Users resolved for a client ID during client credential authentication.
+     */
+    CLIENT_USER("OAuthClientUserCache");
+
+    private final String cacheName;
+
+    OAuthCacheType(String cacheName) {
+
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+}
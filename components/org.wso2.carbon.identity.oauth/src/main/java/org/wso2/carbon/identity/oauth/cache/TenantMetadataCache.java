@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Cache of the tenant ID and the activity of the tenants, keyed by the tenant domain, so that the client
+ * authentication, token, introspection and revocation paths do not query the tenant manager for each request.
+ * <p>
+ * The timeout and the capacity of the cache are configured in identity.xml. The entry of a tenant is removed across
+ * the cluster as soon as the tenant is activated, deactivated, renamed or deleted. The entries are kept in the super
+ * tenant space, so that they can be added, read and removed regardless of the tenant of the thread. The hits of the
+ * cache, i.e. the tenant manager lookups saved, are counted in the node local metrics of the cache.
+ */
+public class TenantMetadataCache extends BaseCache<String, TenantMetadataCacheEntry> {
+
+    private static final String TENANT_METADATA_CACHE_NAME = "TenantMetadataCache";
+
+    private static volatile TenantMetadataCache instance;
+
+    private final OAuthCacheMetrics metrics = new OAuthCacheMetrics(TENANT_METADATA_CACHE_NAME);
+
+    private TenantMetadataCache() {
+
+        super(TENANT_METADATA_CACHE_NAME);
+    }
+
+    public static TenantMetadataCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (TenantMetadataCache.class) {
+                if (instance == null) {
+                    instance = new TenantMetadataCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the cached tenant ID of the tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Tenant ID, or null if it is not cached.
+     */
+    public Integer getTenantId(String tenantDomain) {
+
+        if (!isEnabled() || tenantDomain == null) {
+            return null;
+        }
+        TenantMetadataCacheEntry entry = getValueFromCache(tenantDomain, MultitenantConstants.SUPER_TENANT_ID);
+        metrics.recordLookup(entry != null);
+        return entry == null ? null : entry.getTenantId();
+    }
+
+    /**
+     * Get the cached activity of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return True if the tenant is active, false if it is not, or null if the activity is not cached.
+     */
+    public Boolean isTenantActive(String tenantDomain) {
+
+        if (!isEnabled() || tenantDomain == null) {
+            return null;
+        }
+        TenantMetadataCacheEntry entry = getValueFromCache(tenantDomain, MultitenantConstants.SUPER_TENANT_ID);
+        Boolean active = entry == null ? null : entry.isActive();
+        metrics.recordLookup(active != null);
+        return active;
+    }
+
+    /**
+     * Add the tenant ID of the tenant domain. The cached activity of the tenant is kept if the tenant ID is unchanged.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantId     Tenant ID.
+     */
+    public void addTenantId(String tenantDomain, int tenantId) {
+
+        if (!isEnabled() || tenantDomain == null) {
+            return;
+        }
+        TenantMetadataCacheEntry entry = getValueFromCache(tenantDomain, MultitenantConstants.SUPER_TENANT_ID);
+        Boolean active = entry != null && entry.getTenantId() == tenantId ? entry.isActive() : null;
+        addTenantMetadata(tenantDomain, tenantId, active);
+    }
+
+    /**
+     * Add the tenant ID and the activity of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantId     Tenant ID.
+     * @param active       Whether the tenant is active.
+     */
+    public void addTenantActivity(String tenantDomain, int tenantId, boolean active) {
+
+        if (isEnabled() && tenantDomain != null) {
+            addTenantMetadata(tenantDomain, tenantId, active);
+        }
+    }
+
+    /**
+     * Remove the entry of the tenant, e.g. when the tenant is deactivated.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearCacheEntry(String tenantDomain) {
+
+        if (isEnabled() && tenantDomain != null) {
+            clearCacheEntry(tenantDomain, MultitenantConstants.SUPER_TENANT_ID);
+            metrics.recordRemoval();
+        }
+    }
+
+    /**
+     * Get the hit, miss, addition and removal counters of the cache on this node. The hits are the tenant manager
+     * lookups saved.
+     *
+     * @return Metrics of the cache.
+     */
+    public OAuthCacheMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    private void addTenantMetadata(String tenantDomain, int tenantId, Boolean active) {
+
+        if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+            return;
+        }
+        addToCache(tenantDomain, new TenantMetadataCacheEntry(tenantId, active), MultitenantConstants.SUPER_TENANT_ID);
+        metrics.recordAddition();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+/**
+ * Cache entry of {@link TenantMetadataCache}, which holds the tenant ID and, if it is known, the activity of a tenant.
+ */
+public class TenantMetadataCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -6218035710648920573L;
+
+    private final int tenantId;
+    private final Boolean active;
+
+    public TenantMetadataCacheEntry(int tenantId, Boolean active) {
+
+        this.tenantId = tenantId;
+        this.active = active;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public Boolean isActive() {
+
+        return active;
+    }
+}
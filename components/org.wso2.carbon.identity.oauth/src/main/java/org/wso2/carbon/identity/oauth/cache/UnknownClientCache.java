@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Negative cache of the client IDs for which no OAuth application or service provider is found, so that the repeated
+ * requests with unknown client IDs do not query the database each time.
+ * <p>
+ * The cache is used only when it is configured in the CacheConfig section of identity.xml, as the default timeout
+ * of the identity caches would keep a newly registered client ID unknown for too long. The entries of a client ID
+ * are removed when an application with the client ID is created or updated, and the removal is propagated to the
+ * other nodes of the cluster. The entries are kept in the super tenant space with the tenant in the key, so that
+ * they can be added, read and removed regardless of the tenant of the thread.
+ */
+public class UnknownClientCache extends BaseCache<String, UnknownClientCacheEntry> {
+
+    private static final Log log = LogFactory.getLog(UnknownClientCache.class);
+    private static final String IDENTITY_CACHE_MANAGER = "IdentityApplicationManagementCacheManager";
+    private static final String UNKNOWN_CLIENT_CACHE_NAME = "UnknownClientCache";
+    private static final String APP_PREFIX = "app:";
+    private static final String SERVICE_PROVIDER_PREFIX = "sp:";
+    private static final String KEY_SEPARATOR = ":";
+
+    private static volatile UnknownClientCache instance;
+
+    private final boolean configured;
+
+    private UnknownClientCache() {
+
+        super(UNKNOWN_CLIENT_CACHE_NAME);
+        configured = IdentityUtil.getIdentityCacheConfig(IDENTITY_CACHE_MANAGER, UNKNOWN_CLIENT_CACHE_NAME) != null;
+    }
+
+    public static UnknownClientCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (UnknownClientCache.class) {
+                if (instance == null) {
+                    instance = new UnknownClientCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether no OAuth application is recently found for the client ID in the tenant.
+     *
+     * @param clientId Client ID.
+     * @param tenantId Tenant ID.
+     * @return True if the client ID is known to be unknown in the tenant.
+     */
+    public boolean isUnknownApp(String clientId, int tenantId) {
+
+        return configured && clientId != null && getValueFromCache(buildAppKey(clientId, tenantId),
+                MultitenantConstants.SUPER_TENANT_ID) != null;
+    }
+
+    /**
+     * Record that no OAuth application is found for the client ID in the tenant.
+     *
+     * @param clientId Client ID.
+     * @param tenantId Tenant ID.
+     */
+    public void addUnknownApp(String clientId, int tenantId) {
+
+        if (configured && clientId != null) {
+            addToCache(buildAppKey(clientId, tenantId), new UnknownClientCacheEntry(),
+                    MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    /**
+     * Check whether no service provider is recently found for the client ID in the tenant.
+     *
+     * @param clientId     Client ID.
+     * @param tenantDomain Tenant domain.
+     * @return True if the client ID is known to be unknown in the tenant.
+     */
+    public boolean isUnknownServiceProvider(String clientId, String tenantDomain) {
+
+        return configured && clientId != null && getValueFromCache(buildServiceProviderKey(clientId, tenantDomain),
+                MultitenantConstants.SUPER_TENANT_ID) != null;
+    }
+
+    /**
+     * Record that no service provider is found for the client ID in the tenant.
+     *
+     * @param clientId     Client ID.
+     * @param tenantDomain Tenant domain.
+     */
+    public void addUnknownServiceProvider(String clientId, String tenantDomain) {
+
+        if (configured && clientId != null) {
+            addToCache(buildServiceProviderKey(clientId, tenantDomain), new UnknownClientCacheEntry(),
+                    MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    /**
+     * Remove the entries of the client ID in the tenant, e.g. when an application with the client ID is created.
+     *
+     * @param clientId     Client ID.
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearCacheEntry(String clientId, String tenantDomain) {
+
+        if (!configured || !isEnabled() || clientId == null || tenantDomain == null) {
+            return;
+        }
+        clearCacheEntry(buildAppKey(clientId, IdentityTenantUtil.getTenantId(tenantDomain)),
+                MultitenantConstants.SUPER_TENANT_ID);
+        clearCacheEntry(buildServiceProviderKey(clientId, tenantDomain), MultitenantConstants.SUPER_TENANT_ID);
+        if (log.isDebugEnabled()) {
+            log.debug("Removed the unknown client cache entries of the client ID: " + clientId + " in tenant: " +
+                    tenantDomain);
+        }
+    }
+
+    private static String buildAppKey(String clientId, int tenantId) {
+
+        return APP_PREFIX + tenantId + KEY_SEPARATOR + clientId;
+    }
+
+    private static String buildServiceProviderKey(String clientId, String tenantDomain) {
+
+        return SERVICE_PROVIDER_PREFIX + tenantDomain + KEY_SEPARATOR + clientId;
+    }
+}
@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.oauth.Error;
 import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.IdentityOAuthClientException;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
+import org.wso2.carbon.identity.oauth.cache.UnknownClientCache;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
@@ -88,6 +89,7 @@ import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigPro
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.IS_CERTIFICATE_BOUND_ACCESS_TOKEN;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.IS_FAPI_CONFORMANT_APP;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.IS_PUSH_AUTH;
+import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.IS_STATELESS_JWT_VALIDATION_ENABLED;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.IS_SUBJECT_TOKEN_ENABLED;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.RENEW_REFRESH_TOKEN;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.REQUEST_OBJECT_ENCRYPTION_ALGORITHM;
@@ -228,6 +230,8 @@ public class OAuthAppDAO {
                     // Handle OIDC Related Properties. These are persisted in IDN_OIDC_PROPERTY table.
                     addServiceProviderOIDCProperties(connection, consumerAppDO, processedClientId, spTenantId);
                     IdentityDatabaseUtil.commitTransaction(connection);
+                    UnknownClientCache.getInstance().clearCacheEntry(consumerAppDO.getOauthConsumerKey(),
+                            tenantDomain);
                 } catch (SQLException e1) {
                     IdentityDatabaseUtil.rollbackTransaction(connection);
                     if (isDuplicateClient(e1)) {
@@ -429,6 +433,10 @@ public class OAuthAppDAO {
     public OAuthAppDO getAppInformation(String consumerKey, int tenantId) throws
             InvalidOAuthClientException, IdentityOAuth2Exception {
 
+        // Repeated requests with an unknown consumer key are not looked up in the database until the entry expires.
+        if (UnknownClientCache.getInstance().isUnknownApp(consumerKey, tenantId)) {
+            handleRequestForANonExistingConsumerKey(consumerKey);
+        }
         OAuthAppDO oauthApp = null;
         try (Connection connection = IdentityDatabaseUtil.getDBConnection()) {
             String sqlQuery = SQLQueries.OAuthAppDAOSQLQueries.GET_APP_INFO_WITH_PKCE;
@@ -496,6 +504,7 @@ public class OAuthAppDAO {
                     }
 
                     if (!appExists) {
+                        UnknownClientCache.getInstance().addUnknownApp(consumerKey, tenantId);
                         handleRequestForANonExistingConsumerKey(consumerKey);
                     }
                     connection.commit();
@@ -1078,6 +1087,10 @@ public class OAuthAppDAO {
                 IS_SUBJECT_TOKEN_ENABLED, String.valueOf(oauthAppDO.isSubjectTokenEnabled()),
                 prepStatementForPropertyAdd, preparedStatementForPropertyUpdate);
 
+        addOrUpdateOIDCSpProperty(preprocessedClientId, spTenantId, spOIDCProperties,
+                IS_STATELESS_JWT_VALIDATION_ENABLED, String.valueOf(oauthAppDO.isStatelessJWTValidationEnabled()),
+                prepStatementForPropertyAdd, preparedStatementForPropertyUpdate);
+
         if (oauthAppDO.getSubjectTokenExpiryTime() <= 0) {
             oauthAppDO.setSubjectTokenExpiryTime(SUBJECT_TOKEN_EXPIRY_TIME_VALUE);
         }
@@ -1807,6 +1820,10 @@ public class OAuthAppDAO {
             addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
                     IS_SUBJECT_TOKEN_ENABLED, String.valueOf(consumerAppDO.isSubjectTokenEnabled()));
 
+            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                    IS_STATELESS_JWT_VALIDATION_ENABLED,
+                    String.valueOf(consumerAppDO.isStatelessJWTValidationEnabled()));
+
             if (consumerAppDO.getSubjectTokenExpiryTime() <= 0) {
                 consumerAppDO.setSubjectTokenExpiryTime(SUBJECT_TOKEN_EXPIRY_TIME_VALUE);
             }
@@ -1993,6 +2010,12 @@ public class OAuthAppDAO {
             oauthApp.setSubjectTokenExpiryTime(Integer.parseInt(subjectTokenExpiryTime));
         }
 
+        String isStatelessJWTValidationEnabled = getFirstPropertyValue(spOIDCProperties,
+                IS_STATELESS_JWT_VALIDATION_ENABLED);
+        if (isStatelessJWTValidationEnabled != null) {
+            oauthApp.setStatelessJWTValidationEnabled(Boolean.parseBoolean(isStatelessJWTValidationEnabled));
+        }
+
         String hybridFlowEnabledProperty = getFirstPropertyValue(spOIDCProperties, HYBRID_FLOW_ENABLED);
 
         // Check if the application has the `hybridFlowEnabled` property configured
@@ -114,6 +114,7 @@ public class OAuthAppDO extends InboundConfigurationProtocol implements Serializ
     private boolean subjectTokenEnabled;
     private int subjectTokenExpiryTime;
     private String[] accessTokenClaims;
+    private boolean statelessJWTValidationEnabled;
 
     public AuthenticatedUser getAppOwner() {
 
@@ -556,6 +557,16 @@ public class OAuthAppDO extends InboundConfigurationProtocol implements Serializ
         this.accessTokenClaims = accessTokenClaims;
     }
 
+    public boolean isStatelessJWTValidationEnabled() {
+
+        return statelessJWTValidationEnabled;
+    }
+
+    public void setStatelessJWTValidationEnabled(boolean statelessJWTValidationEnabled) {
+
+        this.statelessJWTValidationEnabled = statelessJWTValidationEnabled;
+    }
+
     /**
      * Resolves the back-channel logout URL for the shared oAuth apps in organizations.
      *
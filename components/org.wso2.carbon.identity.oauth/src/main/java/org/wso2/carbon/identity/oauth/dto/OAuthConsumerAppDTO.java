@@ -81,6 +81,7 @@ public class OAuthConsumerAppDTO implements InboundProtocolConfigurationDTO {
     private boolean subjectTokenEnabled;
     private int subjectTokenExpiryTime;
     private String[] accessTokenClaims;
+    private boolean statelessJWTValidationEnabled;
 
     // CORS origin related properties. This will be used by the CORS management service
     @IgnoreNullElement
@@ -539,5 +540,15 @@ public class OAuthConsumerAppDTO implements InboundProtocolConfigurationDTO {
 
         this.accessTokenClaims = accessTokenClaims;
     }
+
+    public boolean isStatelessJWTValidationEnabled() {
+
+        return statelessJWTValidationEnabled;
+    }
+
+    public void setStatelessJWTValidationEnabled(boolean statelessJWTValidationEnabled) {
+
+        this.statelessJWTValidationEnabled = statelessJWTValidationEnabled;
+    }
 }
 
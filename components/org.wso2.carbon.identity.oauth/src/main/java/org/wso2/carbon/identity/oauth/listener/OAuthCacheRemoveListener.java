@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.core.cache.AbstractCacheListener;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
@@ -63,7 +64,7 @@ public class OAuthCacheRemoveListener extends AbstractCacheListener<OAuthCacheKe
 
         OAuthCache oauthCache = OAuthCache.getInstance();
 
-        OAuthCacheKey oauthcacheKey = new OAuthCacheKey(accessTokenDO.getAccessToken());
+        OAuthCacheKey oauthcacheKey = new OAuthCacheKey(accessTokenDO.getAccessToken(), OAuthCacheType.ACCESS_TOKEN);
         oauthCache.clearCacheEntry(oauthcacheKey, accessTokenDO.getAuthzUser().getTenantDomain());
 
         try {
@@ -73,7 +74,7 @@ public class OAuthCacheRemoveListener extends AbstractCacheListener<OAuthCacheKe
                     OAuth2Util.buildScopeString(accessTokenDO.getScope()) + ":" +
                     accessTokenDO.getAuthzUser().getFederatedIdPName();
 
-            oauthcacheKey = new OAuthCacheKey(cacheKeyString);
+            oauthcacheKey = new OAuthCacheKey(cacheKeyString, OAuthCacheType.TOKEN_ISSUANCE);
 
             oauthCache.clearCacheEntry(oauthcacheKey);
         } catch (UserIdNotFoundException e) {
@@ -29,6 +29,8 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * An implementation of <Code>TokenPersistenceProcessor</Code>
@@ -40,6 +42,12 @@ public class HashingPersistenceProcessor implements TokenPersistenceProcessor {
     public static final String ALGORITHM = "algorithm";
     public static final String HASH = "hash";
 
+    // Upper bound of the values memoized per request, e.g. during the introspection of a batch of tokens.
+    private static final int MAX_HASH_MEMO_SIZE = 256;
+
+    private static final ThreadLocal<Map<String, HashContext>> hashContexts = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, String>> hashMemo = new ThreadLocal<>();
+
     @Override
     public String getProcessedClientId(String clientId) throws IdentityOAuth2Exception {
 
@@ -101,6 +109,30 @@ public class HashingPersistenceProcessor implements TokenPersistenceProcessor {
         return processedRefreshToken;
     }
 
+    /**
+     * Start memoizing the hashes computed by the current thread, so that a value hashed more than once while serving
+     * a request, e.g. by the token validation flow and by the access token DAO, is hashed only once. The memo is kept
+     * until {@link #clearHashMemo()} is called, which should be done only by the caller which started it.
+     *
+     * @return true if the memo was started by this call, false if the thread already had a memo.
+     */
+    public static boolean startHashMemo() {
+
+        if (hashMemo.get() != null) {
+            return false;
+        }
+        hashMemo.set(new HashMap<>());
+        return true;
+    }
+
+    /**
+     * Clear the hashes memoized by the current thread.
+     */
+    public static void clearHashMemo() {
+
+        hashMemo.remove();
+    }
+
     /**
      * Method to generate hash value
      *
@@ -113,30 +145,112 @@ public class HashingPersistenceProcessor implements TokenPersistenceProcessor {
             throw new IdentityOAuth2Exception("plainText value is null or empty to be hash.");
         }
 
-        MessageDigest messageDigest = null;
-        byte[] hash = null;
         String hashAlgorithm = OAuthServerConfiguration.getInstance().getHashAlgorithm();
-        try {
-            messageDigest = MessageDigest.getInstance(hashAlgorithm);
-            messageDigest.update(plainText.getBytes(StandardCharsets.UTF_8));
-            hash = messageDigest.digest();
-
-        } catch (NoSuchAlgorithmException e) {
-            throw new IdentityOAuth2Exception(
-                    "Error while retrieving MessageDigest for the provided hash algorithm: " + hashAlgorithm, e);
+        Map<String, String> memo = hashMemo.get();
+        String memoKey = null;
+        if (memo != null) {
+            memoKey = hashAlgorithm + ':' + plainText;
+            String memoizedHash = memo.get(memoKey);
+            if (memoizedHash != null) {
+                return memoizedHash;
+            }
+        }
+
+        Map<String, HashContext> threadHashContexts = hashContexts.get();
+        HashContext hashContext = threadHashContexts.get(hashAlgorithm);
+        if (hashContext == null) {
+            try {
+                hashContext = new HashContext(hashAlgorithm, MessageDigest.getInstance(hashAlgorithm));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IdentityOAuth2Exception(
+                        "Error while retrieving MessageDigest for the provided hash algorithm: " + hashAlgorithm, e);
+            }
+            threadHashContexts.put(hashAlgorithm, hashContext);
+        }
+        String hashedValue = hashContext.hash(plainText);
+
+        if (memo != null && memo.size() < MAX_HASH_MEMO_SIZE) {
+            memo.put(memoKey, hashedValue);
         }
-        JSONObject object = new JSONObject();
-        object.put(ALGORITHM, hashAlgorithm);
-        object.put(HASH, bytesToHex(hash));
-        return object.toString();
+        return hashedValue;
     }
 
-    private static String bytesToHex(byte[] bytes) {
+    /**
+     * Digest of a hash algorithm held by a single thread, along with the buffers reused across the hashes computed by
+     * that thread. The hash is written as hex straight into a buffer which already holds the rest of the persisted
+     * JSON value, so that hashing a value allocates nothing but the resulting string.
+     */
+    private static final class HashContext {
+
+        private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+        private static final String HASH_PLACEHOLDER = "#";
+
+        private final MessageDigest messageDigest;
+        private final char[] hashedValue;
+        private final int hashOffset;
+        private byte[] plainTextBytes = new byte[64];
+
+        HashContext(String hashAlgorithm, MessageDigest messageDigest) {
+
+            this.messageDigest = messageDigest;
+            // The JSON value is built once through JSONObject, so that the persisted format stays the same.
+            JSONObject object = new JSONObject();
+            object.put(ALGORITHM, hashAlgorithm);
+            object.put(HASH, HASH_PLACEHOLDER);
+            String template = object.toString();
+            String quotedPlaceholder = '"' + HASH_PLACEHOLDER + '"';
+            int placeholderIndex = template.indexOf(quotedPlaceholder, template.indexOf('"' + HASH + '"'));
+            String prefix = template.substring(0, placeholderIndex + 1);
+            String suffix = template.substring(placeholderIndex + quotedPlaceholder.length() - 1);
+
+            int digestLength = messageDigest.getDigestLength();
+            if (digestLength == 0) {
+                // The provider does not report the length, so it is taken from the digest of an empty value.
+                digestLength = messageDigest.digest().length;
+            }
+            int hexLength = digestLength * 2;
+            hashedValue = new char[prefix.length() + hexLength + suffix.length()];
+            prefix.getChars(0, prefix.length(), hashedValue, 0);
+            suffix.getChars(0, suffix.length(), hashedValue, prefix.length() + hexLength);
+            hashOffset = prefix.length();
+        }
+
+        String hash(String plainText) {
+
+            int length = encode(plainText);
+            messageDigest.update(plainTextBytes, 0, length);
+            byte[] hash = messageDigest.digest();
+            int position = hashOffset;
+            for (byte byt : hash) {
+                hashedValue[position++] = HEX_DIGITS[(byt >> 4) & 0xf];
+                hashedValue[position++] = HEX_DIGITS[byt & 0xf];
+            }
+            return new String(hashedValue);
+        }
+
+        /**
+         * Write the UTF-8 bytes of the given value into the reused byte buffer. Tokens, codes and secrets are ASCII,
+         * so they are copied as they are, and only the other values go through the charset encoder.
+         */
+        private int encode(String plainText) {
 
-        StringBuilder result = new StringBuilder();
-        for (byte byt : bytes) {
-            result.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
+            int length = plainText.length();
+            if (plainTextBytes.length < length) {
+                plainTextBytes = new byte[Math.max(length, plainTextBytes.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                char character = plainText.charAt(i);
+                if (character >= 0x80) {
+                    byte[] bytes = plainText.getBytes(StandardCharsets.UTF_8);
+                    if (plainTextBytes.length < bytes.length) {
+                        plainTextBytes = new byte[bytes.length];
+                    }
+                    System.arraycopy(bytes, 0, plainTextBytes, 0, bytes.length);
+                    return bytes.length;
+                }
+                plainTextBytes[i] = (byte) character;
+            }
+            return length;
         }
-        return result.toString();
     }
 }
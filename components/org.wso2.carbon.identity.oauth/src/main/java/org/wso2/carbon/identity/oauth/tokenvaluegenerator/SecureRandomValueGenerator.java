@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.tokenvaluegenerator;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.oltu.oauth2.as.issuer.ValueGenerator;
+import org.apache.oltu.oauth2.common.exception.OAuthSystemException;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants.TokenValueGeneratorConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Token value generator which returns the configured number of random bytes as an unpadded base64url string.
+ * <p>
+ * Every thread uses its own SHA1PRNG instance, or the default SecureRandom of the platform when SHA1PRNG is not
+ * available. The instances are seeded, and periodically reseeded, from the non-blocking native source of the
+ * platform when it is available. The random bytes are encoded straight into a reusable char buffer of the thread.
+ * The generator can be enabled with the {@code AccessTokenValueGenerator} element of the OAuth configuration.
+ */
+public class SecureRandomValueGenerator implements ValueGenerator {
+
+    private static final Log log = LogFactory.getLog(SecureRandomValueGenerator.class);
+    private static final String PRNG_ALGORITHM = "SHA1PRNG";
+    private static final String NON_BLOCKING_SEED_ALGORITHM = "NativePRNGNonBlocking";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int SEED_LENGTH = 32;
+    // Number of values generated by a thread before its SecureRandom is reseeded.
+    private static final int RESEED_INTERVAL = 1 << 16;
+    private static final char[] BASE64URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private static final SecureRandom SEED_SOURCE = createSeedSource();
+
+    private final int entropyInBytes;
+    private final ThreadLocal<GeneratorState> generatorState;
+
+    public SecureRandomValueGenerator() {
+
+        this(readEntropyInBytes());
+    }
+
+    /**
+     * Create a generator of the given entropy.
+     *
+     * @param entropyInBytes Number of random bytes of a generated value.
+     */
+    public SecureRandomValueGenerator(int entropyInBytes) {
+
+        if (entropyInBytes < TokenValueGeneratorConfig.MIN_ENTROPY) {
+            throw new IllegalArgumentException("Token entropy must be at least " +
+                    TokenValueGeneratorConfig.MIN_ENTROPY + " bytes.");
+        }
+        this.entropyInBytes = entropyInBytes;
+        this.generatorState = ThreadLocal.withInitial(() -> new GeneratorState(entropyInBytes));
+    }
+
+    @Override
+    public String generateValue() throws OAuthSystemException {
+
+        GeneratorState state = generatorState.get();
+        state.nextBytes();
+        return encode(state.randomBytes, entropyInBytes, state.encodeBuffer);
+    }
+
+    @Override
+    public String generateValue(String value) throws OAuthSystemException {
+
+        if (value == null) {
+            throw new OAuthSystemException("Cannot generate a token value from a null value.");
+        }
+        GeneratorState state = generatorState.get();
+        byte[] digest = state.getMessageDigest().digest(value.getBytes(StandardCharsets.UTF_8));
+        return encode(digest, digest.length, new char[getEncodedLength(digest.length)]);
+    }
+
+    /**
+     * Get the number of random bytes of a generated value.
+     *
+     * @return Entropy of a generated value in bytes.
+     */
+    public int getEntropyInBytes() {
+
+        return entropyInBytes;
+    }
+
+    private static String encode(byte[] bytes, int length, char[] buffer) {
+
+        int charIndex = 0;
+        int byteIndex = 0;
+        while (byteIndex + 2 < length) {
+            int bits = (bytes[byteIndex++] & 0xff) << 16 | (bytes[byteIndex++] & 0xff) << 8 |
+                    (bytes[byteIndex++] & 0xff);
+            buffer[charIndex++] = BASE64URL_ALPHABET[bits >>> 18];
+            buffer[charIndex++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3f];
+            buffer[charIndex++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3f];
+            buffer[charIndex++] = BASE64URL_ALPHABET[bits & 0x3f];
+        }
+        int remaining = length - byteIndex;
+        if (remaining > 0) {
+            int bits = (bytes[byteIndex++] & 0xff) << 16;
+            if (remaining == 2) {
+                bits |= (bytes[byteIndex] & 0xff) << 8;
+            }
+            buffer[charIndex++] = BASE64URL_ALPHABET[bits >>> 18];
+            buffer[charIndex++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3f];
+            if (remaining == 2) {
+                buffer[charIndex++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3f];
+            }
+        }
+        return new String(buffer, 0, charIndex);
+    }
+
+    private static int getEncodedLength(int length) {
+
+        return (length * 4 + 2) / 3;
+    }
+
+    private static SecureRandom createSeedSource() {
+
+        try {
+            return SecureRandom.getInstance(NON_BLOCKING_SEED_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            if (log.isDebugEnabled()) {
+                log.debug(NON_BLOCKING_SEED_ALGORITHM + " is not available. Hence using the default SecureRandom " +
+                        "as the seed source.");
+            }
+            return new SecureRandom();
+        }
+    }
+
+    static SecureRandom createSecureRandom(String algorithm) {
+
+        try {
+            return SecureRandom.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            if (log.isDebugEnabled()) {
+                log.debug(algorithm + " is not available. Hence using the default SecureRandom.");
+            }
+            return new SecureRandom();
+        }
+    }
+
+    private static byte[] newSeed() {
+
+        // nextBytes is used rather than generateSeed, which may read from the blocking source on some platforms.
+        byte[] seed = new byte[SEED_LENGTH];
+        SEED_SOURCE.nextBytes(seed);
+        return seed;
+    }
+
+    private static int readEntropyInBytes() {
+
+        String value = IdentityUtil.getProperty(TokenValueGeneratorConfig.ENTROPY);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int entropyInBytes = Integer.parseInt(value.trim());
+                if (entropyInBytes >= TokenValueGeneratorConfig.MIN_ENTROPY) {
+                    return entropyInBytes;
+                }
+            } catch (NumberFormatException e) {
+                // Falls through to the default value.
+            }
+            log.warn("Invalid value: " + value + " configured for " + TokenValueGeneratorConfig.ENTROPY +
+                    ". Hence using the default value: " + TokenValueGeneratorConfig.DEFAULT_ENTROPY);
+        }
+        return TokenValueGeneratorConfig.DEFAULT_ENTROPY;
+    }
+
+    /**
+     * Random source and buffers of a thread.
+     */
+    private static class GeneratorState {
+
+        private final SecureRandom secureRandom;
+        private final byte[] randomBytes;
+        private final char[] encodeBuffer;
+        private MessageDigest messageDigest;
+        private int generatedCount;
+
+        GeneratorState(int entropyInBytes) {
+
+            secureRandom = createSecureRandom(PRNG_ALGORITHM);
+            // Seeding before the first use prevents SHA1PRNG from seeding itself from the blocking source.
+            secureRandom.setSeed(newSeed());
+            randomBytes = new byte[entropyInBytes];
+            encodeBuffer = new char[getEncodedLength(entropyInBytes)];
+        }
+
+        void nextBytes() {
+
+            if (++generatedCount >= RESEED_INTERVAL) {
+                secureRandom.setSeed(newSeed());
+                generatedCount = 0;
+            }
+            secureRandom.nextBytes(randomBytes);
+        }
+
+        MessageDigest getMessageDigest() throws OAuthSystemException {
+
+            if (messageDigest == null) {
+                try {
+                    messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+                } catch (NoSuchAlgorithmException e) {
+                    throw new OAuthSystemException("Error while generating the token value.", e);
+                }
+            }
+            return messageDigest;
+        }
+    }
+}
@@ -58,6 +58,111 @@ public class OAuth2Constants {
 
     public static final int MAX_ALLOWED_LENGTH = 256;
 
+    /**
+     * Configurations of the lock manager used to serialize concurrent token issuance requests.
+     */
+    public static class TokenIssuanceLockConfig {
+
+        public static final String LOCK_TIMEOUT = "OAuth.TokenIssuanceLock.TimeoutInMillis";
+        public static final long DEFAULT_LOCK_TIMEOUT = 0;
+        public static final String CLUSTER_COORDINATION_ENABLE = "OAuth.TokenIssuanceLock.ClusterCoordination.Enable";
+        public static final String LEASE_DURATION = "OAuth.TokenIssuanceLock.ClusterCoordination.LeaseDurationInMillis";
+        public static final String LEASE_POLL_INTERVAL =
+                "OAuth.TokenIssuanceLock.ClusterCoordination.PollIntervalInMillis";
+        public static final long DEFAULT_LEASE_DURATION = 30000;
+        public static final long DEFAULT_LEASE_POLL_INTERVAL = 50;
+    }
+
+    /**
+     * Configurations of the per tenant cache of signing keys, certificates and key IDs used to sign JWTs.
+     */
+    public static class SigningContextCacheConfig {
+
+        public static final String ENABLE = "OAuth.SigningContextCache.Enable";
+        public static final String TIMEOUT = "OAuth.SigningContextCache.TimeoutInSeconds";
+        public static final long DEFAULT_TIMEOUT = 300;
+    }
+
+    /**
+     * Configurations of the background reaper of expired and inactive tokens and authorization codes.
+     */
+    public static class TokenCleanupReaperConfig {
+
+        public static final String ENABLE = "OAuth.TokenCleanup.Reaper.Enable";
+        public static final String INTERVAL = "OAuth.TokenCleanup.Reaper.IntervalInSeconds";
+        public static final String RETENTION_PERIOD = "OAuth.TokenCleanup.Reaper.RetentionPeriodInMinutes";
+        public static final String BATCH_SIZE = "OAuth.TokenCleanup.Reaper.BatchSize";
+        public static final String BATCH_PAUSE = "OAuth.TokenCleanup.Reaper.BatchPauseInMillis";
+        public static final String MAX_BATCHES_PER_RUN = "OAuth.TokenCleanup.Reaper.MaxBatchesPerRun";
+        public static final String CLUSTER_COORDINATION_ENABLE = "OAuth.TokenCleanup.Reaper.ClusterCoordination.Enable";
+        public static final long DEFAULT_INTERVAL = 3600;
+        public static final long DEFAULT_RETENTION_PERIOD = 60;
+        public static final int DEFAULT_BATCH_SIZE = 500;
+        public static final long DEFAULT_BATCH_PAUSE = 200;
+        public static final int DEFAULT_MAX_BATCHES_PER_RUN = 200;
+    }
+
+    /**
+     * Constants for the batch token introspection.
+     */
+    public static class BatchIntrospectionConfig {
+
+        public static final String ENABLE = "OAuth.Introspection.Batch.Enable";
+        public static final String MAX_TOKENS = "OAuth.Introspection.Batch.MaxTokens";
+        public static final int DEFAULT_MAX_TOKENS = 100;
+    }
+
+    /**
+     * Constants for the bulk token revocation.
+     */
+    public static class BulkTokenRevocationConfig {
+
+        public static final String ENABLE = "OAuth.TokenRevocation.Bulk.Enable";
+        public static final String BATCH_SIZE = "OAuth.TokenRevocation.Bulk.BatchSize";
+        public static final String PROGRESS_LOG_INTERVAL = "OAuth.TokenRevocation.Bulk.ProgressLogIntervalInBatches";
+        public static final int DEFAULT_BATCH_SIZE = 500;
+        public static final int DEFAULT_PROGRESS_LOG_INTERVAL = 100;
+    }
+
+    /**
+     * Constants for the secure random token value generator.
+     */
+    public static class TokenValueGeneratorConfig {
+
+        public static final String ENTROPY = "OAuth.AccessTokenValueGenerator.EntropyInBytes";
+        public static final int DEFAULT_ENTROPY = 32;
+        public static final int MIN_ENTROPY = 16;
+    }
+
+    /**
+     * Constants for the stateless validation of JWT access tokens.
+     */
+    public static class StatelessJWTValidationConfig {
+
+        public static final String ENABLE = "OAuth.StatelessJWTValidation.Enable";
+        public static final String REVOKED_TOKEN_RETENTION =
+                "OAuth.StatelessJWTValidation.RevokedTokenRetentionInSeconds";
+        public static final String MAX_REVOKED_TOKENS = "OAuth.StatelessJWTValidation.MaxRevokedTokens";
+        public static final long DEFAULT_REVOKED_TOKEN_RETENTION = 3600;
+        public static final int DEFAULT_MAX_REVOKED_TOKENS = 100000;
+    }
+
+    /**
+     * Configurations of the node local filter of the known access tokens.
+     */
+    public static class KnownAccessTokenFilterConfig {
+
+        public static final String ENABLE = "OAuth.KnownAccessTokenFilter.Enable";
+        public static final String EXPECTED_TOKENS = "OAuth.KnownAccessTokenFilter.ExpectedTokens";
+        public static final String FALSE_POSITIVE_RATE = "OAuth.KnownAccessTokenFilter.FalsePositiveRate";
+        public static final String REBUILD_INTERVAL = "OAuth.KnownAccessTokenFilter.RebuildIntervalInSeconds";
+        public static final String SCAN_BATCH_SIZE = "OAuth.KnownAccessTokenFilter.ScanBatchSize";
+        public static final long DEFAULT_EXPECTED_TOKENS = 1000000;
+        public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+        public static final long DEFAULT_REBUILD_INTERVAL = 900;
+        public static final int DEFAULT_SCAN_BATCH_SIZE = 10000;
+    }
+
     /**
      * Constants for global role based scope issuer.
      */
@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.core.AbstractAdmin;
 import org.wso2.carbon.identity.oauth.event.OAuthEventInterceptor;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
+import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2ClientApplicationDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
@@ -30,6 +31,7 @@ import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationResponseDTO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.oauth2.validators.TokenValidationHandler;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -59,6 +61,7 @@ public class OAuth2TokenValidationService extends AbstractAdmin {
             return errRespDTO;
         }
         OAuth2TokenValidationResponseDTO responseDTO = null;
+        boolean hashMemoStarted = HashingPersistenceProcessor.startHashMemo();
         try {
             responseDTO = validationHandler.validate(validationReqDTO);
         } catch (IdentityOAuth2Exception e) {
@@ -66,6 +69,10 @@ public class OAuth2TokenValidationService extends AbstractAdmin {
             responseDTO = new OAuth2TokenValidationResponseDTO();
             responseDTO.setValid(false);
             responseDTO.setErrorMsg("Server error occurred while validating the OAuth2 access token");
+        } finally {
+            if (hashMemoStarted) {
+                HashingPersistenceProcessor.clearHashMemo();
+            }
         }
         //trigger post listeners
         triggerPostValidationListeners(validationReqDTO, responseDTO);
@@ -81,6 +88,7 @@ public class OAuth2TokenValidationService extends AbstractAdmin {
 
         TokenValidationHandler validationHandler = TokenValidationHandler.getInstance();
 
+        boolean hashMemoStarted = HashingPersistenceProcessor.startHashMemo();
         try {
             return validationHandler.findOAuthConsumerIfTokenIsValid(validationReqDTO);
         } catch (IdentityOAuth2Exception e) {
@@ -91,6 +99,10 @@ public class OAuth2TokenValidationService extends AbstractAdmin {
             errRespDTO.setErrorMsg(e.getMessage());
             appDTO.setAccessTokenValidationResponse(errRespDTO);
             return appDTO;
+        } finally {
+            if (hashMemoStarted) {
+                HashingPersistenceProcessor.clearHashMemo();
+            }
         }
     }
 
@@ -113,6 +125,7 @@ public class OAuth2TokenValidationService extends AbstractAdmin {
             triggerOnIntrospectionExceptionListeners(validationReq, errRespDTO);
             return errRespDTO;
         }
+        boolean hashMemoStarted = HashingPersistenceProcessor.startHashMemo();
         try {
             oAuth2IntrospectionResponseDTO = validationHandler.buildIntrospectionResponse(validationReq);
         } catch (IdentityOAuth2Exception e) {
@@ -126,6 +139,10 @@ public class OAuth2TokenValidationService extends AbstractAdmin {
                 oAuth2IntrospectionResponseDTO.setError(
                         "Server error occurred while building the introspection response");
             }
+        } finally {
+            if (hashMemoStarted) {
+                HashingPersistenceProcessor.clearHashMemo();
+            }
         }
         triggerPostIntrospectionValidationListeners(validationReq, oAuth2IntrospectionResponseDTO,
                 oAuth2IntrospectionResponseDTO.getProperties());
@@ -134,6 +151,39 @@ public class OAuth2TokenValidationService extends AbstractAdmin {
         return oAuth2IntrospectionResponseDTO;
     }
 
+    /**
+     * Returns back the introspection responses of a batch of tokens, which are compatible with RFC 7662. The access
+     * tokens of the batch are retrieved at once, and each token is then introspected as an individual request.
+     *
+     * @param validationReqs Introspection requests of the batch.
+     * @return Introspection responses in the order of the requests.
+     */
+    public OAuth2IntrospectionResponseDTO[] buildIntrospectionResponses(
+            OAuth2TokenValidationRequestDTO[] validationReqs) {
+
+        // Tokens hashed while retrieving the batch are not hashed again while introspecting them one by one.
+        boolean hashMemoStarted = HashingPersistenceProcessor.startHashMemo();
+        try {
+            TokenValidationHandler.getInstance().prefetchAccessTokens(Arrays.asList(validationReqs));
+        } catch (IdentityOAuth2Exception e) {
+            // The tokens are then retrieved while introspecting them individually.
+            log.warn("Error occurred while retrieving the access tokens of the introspection batch.", e);
+        }
+        try {
+            OAuth2IntrospectionResponseDTO[] introspectionResponses =
+                    new OAuth2IntrospectionResponseDTO[validationReqs.length];
+            for (int i = 0; i < validationReqs.length; i++) {
+                introspectionResponses[i] = buildIntrospectionResponse(validationReqs[i]);
+            }
+            return introspectionResponses;
+        } finally {
+            OAuth2Util.clearPrefetchedAccessTokens();
+            if (hashMemoStarted) {
+                HashingPersistenceProcessor.clearHashMemo();
+            }
+        }
+    }
+
     private void triggerPreValidationListeners(OAuth2TokenValidationRequestDTO requestDTO)
             throws IdentityOAuth2Exception {
         OAuthEventInterceptor oAuthEventInterceptorProxy = OAuthComponentServiceHolder.getInstance()
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.oauth2.authz;
 
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetails;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeReqDTO;
+import org.wso2.carbon.identity.openidconnect.model.OIDCClaimResolutionContext;
 
 import java.io.Serializable;
 import java.util.Properties;
@@ -63,6 +64,8 @@ public class OAuthAuthzReqMessageContext implements Serializable {
 
     private AuthorizationDetails requestedAuthorizationDetails;
 
+    private transient OIDCClaimResolutionContext claimResolutionContext;
+
     public OAuthAuthzReqMessageContext(OAuth2AuthorizeReqDTO authorizationReqDTO) {
 
         this.authorizationReqDTO = authorizationReqDTO;
@@ -273,4 +276,22 @@ public class OAuthAuthzReqMessageContext implements Serializable {
 
         this.requestedAuthorizationDetails = requestedAuthorizationDetails;
     }
+
+    /**
+     * Get the claim resolution context shared by the token builders of this request.
+     *
+     * @return Claim resolution context of the request.
+     */
+    public OIDCClaimResolutionContext getClaimResolutionContext() {
+
+        if (claimResolutionContext == null) {
+            claimResolutionContext = new OIDCClaimResolutionContext();
+        }
+        return claimResolutionContext;
+    }
+
+    public void setClaimResolutionContext(OIDCClaimResolutionContext claimResolutionContext) {
+
+        this.claimResolutionContext = claimResolutionContext;
+    }
 }
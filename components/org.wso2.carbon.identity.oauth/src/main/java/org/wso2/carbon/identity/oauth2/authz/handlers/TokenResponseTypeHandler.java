@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheEntry;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
@@ -46,9 +47,11 @@ import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeReqDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeRespDTO;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.IDTokenBuilder;
 
@@ -117,7 +120,7 @@ public class TokenResponseTypeHandler extends AbstractResponseTypeHandler {
 
         oAuthCacheKeyString = consumerKey + ":" + authorizedUserId + ":" + scope;
 
-        OAuthCacheKey cacheKey = new OAuthCacheKey(oAuthCacheKeyString);
+        OAuthCacheKey cacheKey = new OAuthCacheKey(oAuthCacheKeyString, OAuthCacheType.TOKEN_ISSUANCE);
         String userStoreDomain = null;
 
         // Select the user store domain when multiple user stores are configured.
@@ -138,7 +141,8 @@ public class TokenResponseTypeHandler extends AbstractResponseTypeHandler {
 
         AccessTokenDO tokenDO = null;
 
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope).intern()) {
+        try (TokenIssuanceLock ignored = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .acquire(consumerKey + ":" + authorizedUserId + ":" + scope)) {
 
             AccessTokenDO existingAccessTokenDO = null;
             /*
@@ -447,7 +451,7 @@ public class TokenResponseTypeHandler extends AbstractResponseTypeHandler {
                     }
                 }
                 // Adding AccessTokenDO to improve validation performance
-                OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(accessToken);
+                OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(accessToken, OAuthCacheType.ACCESS_TOKEN);
                 OAuthCache.getInstance().addToCache(accessTokenCacheKey, newAccessTokenDO);
                 if (log.isDebugEnabled()) {
                     log.debug("Access Token was added to OAuthCache for cache key : " + accessTokenCacheKey
@@ -38,6 +38,7 @@ import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.common.OAuth2ErrorCodes;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
@@ -58,6 +59,7 @@ import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.IDTokenBuilder;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
@@ -169,7 +171,8 @@ public class ResponseTypeHandlerUtil {
                     + authorizationReqDTO.getUser().getLoggableUserId());
         }
 
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope).intern()) {
+        try (TokenIssuanceLock ignored = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .acquire(consumerKey + ":" + authorizedUserId + ":" + scope)) {
 
             AccessTokenDO existingTokenBean = getExistingToken(oauthAuthzMsgCtx, authorizedUserId, cacheEnabled);
 
@@ -314,7 +317,8 @@ public class ResponseTypeHandlerUtil {
             // tokens and authorization codes are in a single cache.
             String cacheKeyString = OAuth2Util.buildCacheKeyStringForAuthzCode(
                     authorizationReqDTO.getConsumerKey(), authorizationCode);
-            OAuthCache.getInstance().addToCache(new OAuthCacheKey(cacheKeyString), authzCodeDO);
+            OAuthCache.getInstance().addToCache(
+                    new OAuthCacheKey(cacheKeyString, OAuthCacheType.AUTHORIZATION_CODE), authzCodeDO);
             if (log.isDebugEnabled()) {
                 log.debug("Authorization Code info was added to the cache for client id : " +
                         authorizationReqDTO.getConsumerKey());
@@ -1002,7 +1006,7 @@ public class ResponseTypeHandlerUtil {
 
         String cacheKeyString = OAuth2Util.buildCacheKeyStringForTokenWithUserId(consumerKey, scope, authorizedUserId,
                 authenticatedIDP);
-        return new OAuthCacheKey(cacheKeyString);
+        return new OAuthCacheKey(cacheKeyString, OAuthCacheType.TOKEN_ISSUANCE);
     }
 
     private static void addTokenToCache(OAuthCacheKey cacheKey, AccessTokenDO tokenBean) {
@@ -1015,7 +1019,7 @@ public class ResponseTypeHandlerUtil {
             OAuthCache.getInstance().addToCache(cacheKey, tokenBean);
         }
         // Adding AccessTokenDO to improve validation performance
-        OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(tokenBean.getAccessToken());
+        OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(tokenBean.getAccessToken(), OAuthCacheType.ACCESS_TOKEN);
         OAuthCache.getInstance().addToCache(accessTokenCacheKey, tokenBean);
         if (log.isDebugEnabled()) {
             log.debug("Access token info was added to the cache for cache key : " + cacheKey.getCacheKeyString());
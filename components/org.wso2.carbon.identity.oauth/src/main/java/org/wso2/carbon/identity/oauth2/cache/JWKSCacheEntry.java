@@ -27,12 +27,27 @@ import com.nimbusds.jose.proc.SecurityContext;
 public class JWKSCacheEntry extends org.wso2.carbon.identity.application.common.cache.CacheEntry {
 
     private transient RemoteJWKSet<SecurityContext> jwkSet;
+    private long version;
 
     public JWKSCacheEntry(RemoteJWKSet<SecurityContext> jwkSet) {
         this.jwkSet = jwkSet;
     }
 
+    public JWKSCacheEntry(RemoteJWKSet<SecurityContext> jwkSet, long version) {
+        this.jwkSet = jwkSet;
+        this.version = version;
+    }
+
     public RemoteJWKSet<SecurityContext> getValue() {
         return jwkSet;
     }
+
+    /**
+     * Returns the version of the retrieved JWKS the cached JWK set was created for.
+     *
+     * @return JWKS version.
+     */
+    public long getVersion() {
+        return version;
+    }
 }
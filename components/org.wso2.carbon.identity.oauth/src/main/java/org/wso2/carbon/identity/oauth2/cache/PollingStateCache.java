@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Tracks the polling state of pending back-channel (CIBA) and device authorization requests, so that token requests
+ * which poll a pending authorization request can be answered with authorization_pending or slow_down without
+ * reading and updating the persisted authorization request. Entries must be cleared whenever the state of the
+ * persisted authorization request changes.
+ * <p>
+ * The polling state changes on every poll, hence an updated entry is added to the cache again. As the update of an
+ * entry only invalidates the copies held by the other nodes, a client polling the nodes in turn through a load
+ * balancer would always be answered from a fresh polling state, and would never be asked to slow down. Hence the
+ * polling state is only tracked when clustering is disabled.
+ */
+public class PollingStateCache extends BaseCache<PollingStateCacheKey, PollingStateCacheEntry> {
+
+    private static final String POLLING_STATE_CACHE_NAME = "PollingStateCache";
+
+    private static volatile PollingStateCache instance;
+
+    private PollingStateCache() {
+
+        super(POLLING_STATE_CACHE_NAME);
+    }
+
+    /**
+     * Returns PollingStateCache instance.
+     *
+     * @return instance of PollingStateCache.
+     */
+    public static PollingStateCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (PollingStateCache.class) {
+                if (instance == null) {
+                    instance = new PollingStateCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether the polling state of the pending authorization requests is tracked in this cache.
+     *
+     * @return True if the cache is enabled and clustering is disabled.
+     */
+    public boolean isPollingStateTrackingEnabled() {
+
+        return isEnabled() && !OAuth2Util.isClusteringEnabled();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+
+/**
+ * Polling state of a pending authorization request. The last polled time and the polling interval change on every
+ * poll, hence the entry has to be added to the cache again once it is updated.
+ */
+public class PollingStateCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7306825913245178409L;
+
+    private String consumerKey;
+    private String status;
+    private String reference;
+    private long expiryTime;
+    private long pollingInterval;
+    private long lastPolledTime;
+
+    public String getConsumerKey() {
+
+        return consumerKey;
+    }
+
+    public void setConsumerKey(String consumerKey) {
+
+        this.consumerKey = consumerKey;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+
+    public void setStatus(String status) {
+
+        this.status = status;
+    }
+
+    /**
+     * Returns the identifier of another entry this entry refers to, e.g. the key of the persisted authorization
+     * request the polled identifier belongs to.
+     *
+     * @return Referenced identifier.
+     */
+    public String getReference() {
+
+        return reference;
+    }
+
+    public void setReference(String reference) {
+
+        this.reference = reference;
+    }
+
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+
+    public void setExpiryTime(long expiryTime) {
+
+        this.expiryTime = expiryTime;
+    }
+
+    public synchronized long getPollingInterval() {
+
+        return pollingInterval;
+    }
+
+    public synchronized void setPollingInterval(long pollingInterval) {
+
+        this.pollingInterval = pollingInterval;
+    }
+
+    public synchronized long getLastPolledTime() {
+
+        return lastPolledTime;
+    }
+
+    public synchronized void setLastPolledTime(long lastPolledTime) {
+
+        this.lastPolledTime = lastPolledTime;
+    }
+
+    /**
+     * Records a poll of the pending authorization request. A poll made before the polling interval has passed since
+     * the last accepted poll raises the polling interval by the given increment, otherwise it becomes the last poll.
+     *
+     * @param pollTime          Time of the poll in milliseconds.
+     * @param intervalIncrement Increment of the polling interval in milliseconds.
+     * @return True if the client should slow down.
+     */
+    public synchronized boolean recordPoll(long pollTime, long intervalIncrement) {
+
+        if (pollTime < lastPolledTime + pollingInterval) {
+            pollingInterval += intervalIncrement;
+            return true;
+        }
+        lastPolledTime = pollTime;
+        return false;
+    }
+
+    /**
+     * Checks whether the authorization request has expired.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @return True if the authorization request has expired.
+     */
+    public boolean isExpired(long currentTime) {
+
+        return currentTime > expiryTime;
+    }
+}
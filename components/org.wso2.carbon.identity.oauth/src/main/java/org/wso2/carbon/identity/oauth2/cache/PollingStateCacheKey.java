@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.oauth.cache.CacheKey;
+
+/**
+ * Key of the PollingStateCache. The key is the identifier of the polled authorization request, prefixed by the
+ * flow it belongs to.
+ */
+public class PollingStateCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -2486573401298631374L;
+
+    private final String cacheKeyString;
+
+    public PollingStateCacheKey(String cacheKeyString) {
+
+        this.cacheKeyString = cacheKeyString;
+    }
+
+    public String getCacheKeyString() {
+
+        return cacheKeyString;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (!(o instanceof PollingStateCacheKey)) {
+            return false;
+        }
+        return StringUtils.equals(this.cacheKeyString, ((PollingStateCacheKey) o).getCacheKeyString());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return cacheKeyString.hashCode();
+    }
+}
@@ -23,7 +23,9 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -99,6 +101,27 @@ public interface AccessTokenDAO {
 
     AccessTokenDO getAccessToken(String accessTokenIdentifier, boolean includeExpired) throws IdentityOAuth2Exception;
 
+    /**
+     * Get the ACTIVE access tokens of the given identifiers. The default implementation retrieves the tokens one by
+     * one.
+     *
+     * @param accessTokenIdentifiers Access token identifiers.
+     * @return Access tokens mapped by the identifier. Identifiers without an ACTIVE access token are not mapped.
+     * @throws IdentityOAuth2Exception If an error occurred while retrieving the access tokens.
+     */
+    default Map<String, AccessTokenDO> getActiveAccessTokens(List<String> accessTokenIdentifiers)
+            throws IdentityOAuth2Exception {
+
+        Map<String, AccessTokenDO> accessTokens = new HashMap<>();
+        for (String accessTokenIdentifier : accessTokenIdentifiers) {
+            AccessTokenDO accessTokenDO = getAccessToken(accessTokenIdentifier, false);
+            if (accessTokenDO != null) {
+                accessTokens.put(accessTokenIdentifier, accessTokenDO);
+            }
+        }
+        return accessTokens;
+    }
+
     Set<String> getAccessTokensByUser(AuthenticatedUser authenticatedUser) throws IdentityOAuth2Exception;
 
     default Set<AccessTokenDO> getAccessTokensByUserForOpenidScope(AuthenticatedUser authenticatedUser)
@@ -52,6 +52,7 @@ import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.jwt.RevokedJWTRegistry;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.sql.Connection;
@@ -93,7 +94,9 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
     private static final int DEFAULT_TOKEN_PERSIST_RETRY_COUNT = 5;
     private static final String IDN_OAUTH2_ACCESS_TOKEN = "IDN_OAUTH2_ACCESS_TOKEN";
     private static final String CONSENTED_TOKEN_COLUMN_NAME = "CONSENTED_TOKEN";
-    private boolean isTokenCleanupFeatureEnabled = OAuthServerConfiguration.getInstance().isTokenCleanupEnabled();
+    // Old tokens are removed by the background reaper when it is enabled, instead of while refreshing or revoking.
+    private boolean isTokenCleanupFeatureEnabled = OAuthServerConfiguration.getInstance().isTokenCleanupEnabled()
+            && !TokenCleanupReaper.isEnabled();
     private static final String DEFAULT_TOKEN_TO_SESSION_MAPPING = "DEFAULT";
 
     private static final Log log = LogFactory.getLog(AccessTokenDAOImpl.class);
@@ -232,8 +235,13 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             insertTokenPrepStmt.setString(13, accessTokenDO.getTokenId());
             insertTokenPrepStmt.setString(14, accessTokenDO.getGrantType());
             insertTokenPrepStmt.setString(15, accessTokenDO.getAuthzUser().getAuthenticatedSubjectIdentifier());
-            insertTokenPrepStmt
-                    .setString(16, getHashingPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenHash));
+            String processedAccessTokenHash =
+                    getHashingPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenHash);
+            insertTokenPrepStmt.setString(16, processedAccessTokenHash);
+            KnownAccessTokenFilter knownAccessTokenFilter = KnownAccessTokenFilter.getInstance();
+            if (knownAccessTokenFilter != null) {
+                knownAccessTokenFilter.add(processedAccessTokenHash);
+            }
             if (accessTokenDO.getRefreshToken() != null) {
                 insertTokenPrepStmt.setString(17,
                         getHashingPersistenceProcessor().getProcessedRefreshToken(accessTokenDO.getRefreshToken()));
@@ -1060,6 +1068,17 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                     (accessTokenIdentifier));
         }
 
+        String processedAccessTokenHash =
+                getHashingPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenIdentifier);
+        // Tokens which are definitely not known are not looked up in the database.
+        KnownAccessTokenFilter knownAccessTokenFilter = KnownAccessTokenFilter.getInstance();
+        if (knownAccessTokenFilter != null && !knownAccessTokenFilter.mightContain(processedAccessTokenHash)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Access token is not found in the known access token filter.");
+            }
+            return null;
+        }
+
         AccessTokenDO dataDO = null;
         Connection connection = IdentityDatabaseUtil.getDBConnection(false);
         PreparedStatement prepStmt = null;
@@ -1095,8 +1114,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
 
             prepStmt = connection.prepareStatement(sql);
 
-            prepStmt.setString(1,
-                    getHashingPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenIdentifier));
+            prepStmt.setString(1, processedAccessTokenHash);
             resultSet = prepStmt.executeQuery();
 
             int iterateId = 0;
@@ -1104,66 +1122,8 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             while (resultSet.next()) {
 
                 if (iterateId == 0) {
-
-                    String consumerKey = getPersistenceProcessor().getPreprocessedClientId(resultSet.getString(1));
-                    String authorizedUser = resultSet.getString(2);
-                    int tenantId = resultSet.getInt(3);
-                    String tenantDomain = OAuth2Util.getTenantDomain(tenantId);
-                    String userDomain = resultSet.getString(4);
-                    String[] scope = OAuth2Util.buildScopeArray(resultSet.getString(5));
-                    Timestamp issuedTime = resultSet.getTimestamp(6, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
-                    Timestamp refreshTokenIssuedTime = resultSet.getTimestamp(7,
-                            Calendar.getInstance(TimeZone.getTimeZone(UTC)));
-                    long validityPeriodInMillis = resultSet.getLong(8);
-                    long refreshTokenValidityPeriodMillis = resultSet.getLong(9);
-                    String tokenType = resultSet.getString(10);
-                    String refreshToken = resultSet.getString(11);
-                    String tokenId = resultSet.getString(12);
-                    String grantType = resultSet.getString(13);
-                    String subjectIdentifier = resultSet.getString(14);
-                    String authenticatedIDP = null;
-                    String tokenBindingReference = resultSet.getString(15);
-                    String authorizedOrganization = resultSet.getString(16);
-                    int appResideTenantId = resultSet.getInt(17);
-
-                    if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
-                        authenticatedIDP = resultSet.getString(18);
-                    }
-
-                    boolean isConsentedToken = false;
-                    if (isConsentedColumnDataFetched) {
-                        int consentedTokenColumnIndex = resultSet.findColumn(CONSENTED_TOKEN_COLUMN_NAME);
-                        isConsentedToken = resultSet.getBoolean(consentedTokenColumnIndex);
-                    }
-
-                    AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(authorizedUser,
-                            userDomain, tenantDomain, authenticatedIDP, authorizedOrganization, appResideTenantId);
-                    ServiceProvider serviceProvider;
-                    try {
-                        serviceProvider = OAuth2ServiceComponentHolder.getApplicationMgtService().
-                                getServiceProviderByClientId(consumerKey, OAuthConstants.Scope.OAUTH2, tenantDomain);
-                    } catch (IdentityApplicationManagementException e) {
-                        throw new IdentityOAuth2Exception("Error occurred while retrieving OAuth2 application data " +
-                                "for client id " + consumerKey, e);
-                    }
-
-                    user.setAuthenticatedSubjectIdentifier(subjectIdentifier, serviceProvider);
-
-                    dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime, refreshTokenIssuedTime,
-                            validityPeriodInMillis, refreshTokenValidityPeriodMillis, tokenType);
-                    dataDO.setAccessToken(accessTokenIdentifier);
-                    dataDO.setRefreshToken(refreshToken);
-                    dataDO.setTokenId(tokenId);
-                    dataDO.setGrantType(grantType);
-                    dataDO.setTenantID(tenantId);
-                    dataDO.setIsConsentedToken(isConsentedToken);
-                    dataDO.setAppResidentTenantId(appResideTenantId);
-                    dataDO.setAccessTokenExtendedAttributes(new AccessTokenExtendedAttributes(
-                            getAccessTokenExtendedAttributeParameters(tokenId)));
-
-                    if (StringUtils.isNotBlank(tokenBindingReference) && !NONE.equals(tokenBindingReference)) {
-                        setTokenBindingToAccessTokenDO(dataDO, connection, tokenId);
-                    }
+                    dataDO = buildAccessTokenDO(resultSet, accessTokenIdentifier, isConsentedColumnDataFetched,
+                            connection);
                 } else {
                     scopes.add(resultSet.getString(5));
                 }
@@ -1182,6 +1142,143 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
         }
 
+        if (dataDO == null && knownAccessTokenFilter != null) {
+            knownAccessTokenFilter.recordUnconfirmedLookup();
+        }
+        return dataDO;
+    }
+
+    @Override
+    public Map<String, AccessTokenDO> getActiveAccessTokens(List<String> accessTokenIdentifiers)
+            throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving information of " + accessTokenIdentifiers.size() + " access tokens.");
+        }
+
+        Map<String, AccessTokenDO> accessTokens = new HashMap<>();
+        Map<String, String> accessTokenIdentifiersByHash = new HashMap<>();
+        for (String accessTokenIdentifier : accessTokenIdentifiers) {
+            accessTokenIdentifiersByHash.put(getHashingPersistenceProcessor()
+                    .getProcessedAccessTokenIdentifier(accessTokenIdentifier), accessTokenIdentifier);
+        }
+        if (accessTokenIdentifiersByHash.isEmpty()) {
+            return accessTokens;
+        }
+        if (OAuth2Util.checkAccessTokenPartitioningEnabled()) {
+            // Tokens may reside in different partitions, hence retrieve them one by one.
+            for (String accessTokenIdentifier : accessTokenIdentifiersByHash.values()) {
+                AccessTokenDO accessTokenDO = getAccessToken(accessTokenIdentifier, false);
+                if (accessTokenDO != null) {
+                    accessTokens.put(accessTokenIdentifier, accessTokenDO);
+                }
+            }
+            return accessTokens;
+        }
+
+        String sql;
+        boolean isConsentedColumnDataFetched = OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled();
+        if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+            sql = isConsentedColumnDataFetched ? SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKENS_IDP_NAME_WITH_CONSENTED_TOKEN
+                    : SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKENS_IDP_NAME;
+        } else {
+            sql = isConsentedColumnDataFetched ? SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKENS_WITH_CONSENTED_TOKEN
+                    : SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKENS;
+        }
+        sql = sql.replace(SQLQueries.ACCESS_TOKEN_HASH_LIST_PLACEHOLDER,
+                String.join(", ", Collections.nCopies(accessTokenIdentifiersByHash.size(), "?")));
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            for (String accessTokenHash : accessTokenIdentifiersByHash.keySet()) {
+                prepStmt.setString(parameterIndex++, accessTokenHash);
+            }
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    String accessTokenIdentifier = accessTokenIdentifiersByHash.get(
+                            resultSet.getString("ACCESS_TOKEN_HASH"));
+                    if (accessTokenIdentifier == null) {
+                        continue;
+                    }
+                    AccessTokenDO dataDO = accessTokens.get(accessTokenIdentifier);
+                    if (dataDO == null) {
+                        accessTokens.put(accessTokenIdentifier, buildAccessTokenDO(resultSet, accessTokenIdentifier,
+                                isConsentedColumnDataFetched, connection));
+                    } else {
+                        // Each additional row of a token carries one more scope of it.
+                        dataDO.setScope((String[]) ArrayUtils.add(dataDO.getScope(), resultSet.getString(5)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error when retrieving access tokens.", e);
+        }
+        return accessTokens;
+    }
+
+    private AccessTokenDO buildAccessTokenDO(ResultSet resultSet, String accessTokenIdentifier,
+                                             boolean isConsentedColumnDataFetched, Connection connection)
+            throws SQLException, IdentityOAuth2Exception {
+
+        String consumerKey = getPersistenceProcessor().getPreprocessedClientId(resultSet.getString(1));
+        String authorizedUser = resultSet.getString(2);
+        int tenantId = resultSet.getInt(3);
+        String tenantDomain = OAuth2Util.getTenantDomain(tenantId);
+        String userDomain = resultSet.getString(4);
+        String[] scope = OAuth2Util.buildScopeArray(resultSet.getString(5));
+        Timestamp issuedTime = resultSet.getTimestamp(6, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+        Timestamp refreshTokenIssuedTime = resultSet.getTimestamp(7, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+        long validityPeriodInMillis = resultSet.getLong(8);
+        long refreshTokenValidityPeriodMillis = resultSet.getLong(9);
+        String tokenType = resultSet.getString(10);
+        String refreshToken = resultSet.getString(11);
+        String tokenId = resultSet.getString(12);
+        String grantType = resultSet.getString(13);
+        String subjectIdentifier = resultSet.getString(14);
+        String authenticatedIDP = null;
+        String tokenBindingReference = resultSet.getString(15);
+        String authorizedOrganization = resultSet.getString(16);
+        int appResideTenantId = resultSet.getInt(17);
+
+        if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+            authenticatedIDP = resultSet.getString(18);
+        }
+
+        boolean isConsentedToken = false;
+        if (isConsentedColumnDataFetched) {
+            int consentedTokenColumnIndex = resultSet.findColumn(CONSENTED_TOKEN_COLUMN_NAME);
+            isConsentedToken = resultSet.getBoolean(consentedTokenColumnIndex);
+        }
+
+        AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(authorizedUser,
+                userDomain, tenantDomain, authenticatedIDP, authorizedOrganization, appResideTenantId);
+        ServiceProvider serviceProvider;
+        try {
+            serviceProvider = OAuth2ServiceComponentHolder.getApplicationMgtService().
+                    getServiceProviderByClientId(consumerKey, OAuthConstants.Scope.OAUTH2, tenantDomain);
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving OAuth2 application data " +
+                    "for client id " + consumerKey, e);
+        }
+
+        user.setAuthenticatedSubjectIdentifier(subjectIdentifier, serviceProvider);
+
+        AccessTokenDO dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime, refreshTokenIssuedTime,
+                validityPeriodInMillis, refreshTokenValidityPeriodMillis, tokenType);
+        dataDO.setAccessToken(accessTokenIdentifier);
+        dataDO.setRefreshToken(refreshToken);
+        dataDO.setTokenId(tokenId);
+        dataDO.setGrantType(grantType);
+        dataDO.setTenantID(tenantId);
+        dataDO.setIsConsentedToken(isConsentedToken);
+        dataDO.setAppResidentTenantId(appResideTenantId);
+        dataDO.setAccessTokenExtendedAttributes(new AccessTokenExtendedAttributes(
+                getAccessTokenExtendedAttributeParameters(tokenId)));
+
+        if (StringUtils.isNotBlank(tokenBindingReference) && !NONE.equals(tokenBindingReference)) {
+            setTokenBindingToAccessTokenDO(dataDO, connection, tokenId);
+        }
         return dataDO;
     }
 
@@ -1359,6 +1456,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             String sql = SQLQueries.UPDATE_TOKEN_STATE;
             try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
 
+                addToRevokedJWTRegistry(connection, SQLQueries.RETRIEVE_ACCESS_TOKEN_BY_TOKEN_ID, tokenId, tokenState);
                 prepStmt.setString(1, tokenState);
                 prepStmt.setString(2, UUID.randomUUID().toString());
                 prepStmt.setString(3, tokenId);
@@ -1415,6 +1513,8 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                         " userStoreDomain: " + userStoreDomain);
             }
 
+            addToRevokedJWTRegistry(connection, OAuth2Util.getTokenPartitionedSqlByUserStore(
+                    SQLQueries.RETRIEVE_ACCESS_TOKEN_BY_TOKEN_ID, userStoreDomain), tokenId, tokenState);
             String sql = SQLQueries.UPDATE_TOKEN_STATE;
             sql = OAuth2Util.getTokenPartitionedSqlByUserStore(sql, userStoreDomain);
             prepStmt = connection.prepareStatement(sql);
@@ -1593,6 +1693,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                 IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
             }
         }
+        addToRevokedJWTRegistry(tokens);
     }
 
     /**
@@ -1669,6 +1770,51 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
         }
+        addToRevokedJWTRegistry(tokens);
+    }
+
+    /**
+     * Record the revoked tokens, so that the revoked JWT access tokens are not validated statelessly anymore.
+     *
+     * @param tokens Revoked tokens.
+     */
+    private void addToRevokedJWTRegistry(String[] tokens) {
+
+        RevokedJWTRegistry revokedJWTRegistry = RevokedJWTRegistry.getInstance();
+        for (String token : tokens) {
+            revokedJWTRegistry.addRevokedToken(token);
+        }
+    }
+
+    /**
+     * Record a token which leaves the active state, e.g. when it is refreshed or replaced, so that the JWT access
+     * token is not validated statelessly anymore. The token is recorded before its state is updated, so that it is
+     * never validated statelessly once the update is visible.
+     *
+     * @param connection Database connection.
+     * @param sql        Query to retrieve the access token of the token id, partitioned if required.
+     * @param tokenId    Id of the token.
+     * @param tokenState New state of the token.
+     * @throws SQLException            If an error occurred while retrieving the access token.
+     * @throws IdentityOAuth2Exception If an error occurred while processing the access token.
+     */
+    private void addToRevokedJWTRegistry(Connection connection, String sql, String tokenId, String tokenState)
+            throws SQLException, IdentityOAuth2Exception {
+
+        RevokedJWTRegistry revokedJWTRegistry = RevokedJWTRegistry.getInstance();
+        if (!revokedJWTRegistry.isEnabled() || tokenId == null ||
+                OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE.equals(tokenState)) {
+            return;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            prepStmt.setString(1, tokenId);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                if (resultSet.next()) {
+                    revokedJWTRegistry.addRevokedToken(
+                            getPersistenceProcessor().getPreprocessedAccessTokenIdentifier(resultSet.getString(1)));
+                }
+            }
+        }
     }
 
     /**
@@ -1687,6 +1833,9 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         Connection connection = IdentityDatabaseUtil.getDBConnection();
         PreparedStatement ps = null;
         try {
+            addToRevokedJWTRegistry(connection, OAuth2Util.getTokenPartitionedSqlByUserId(
+                    SQLQueries.RETRIEVE_ACCESS_TOKEN_BY_TOKEN_ID, userId), tokenId,
+                    OAuthConstants.TokenStates.TOKEN_STATE_REVOKED);
             String sqlQuery = OAuth2Util.getTokenPartitionedSqlByUserId(SQLQueries.REVOKE_ACCESS_TOKEN_BY_TOKEN_ID,
                     userId);
             ps = connection.prepareStatement(sqlQuery);
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TokenBindings.NONE;
+
+/**
+ * DAO used to revoke access tokens in bounded batches. Tokens are walked in the order of their token id, so that
+ * a revocation of any size can be carried out with a fixed amount of memory. The stored access tokens and consumer
+ * keys are converted back with the token persistence processor, as in {@link AccessTokenDAOImpl}, so that the caches
+ * keyed by them can be cleared.
+ */
+public class BulkTokenRevocationDAO extends AbstractOAuthDAO {
+
+    /**
+     * The set of tokens a bulk revocation applies to.
+     */
+    public enum RevocationScope {
+
+        CONSUMER_KEY(SQLQueries.RETRIEVE_TOKEN_REVOCATION_BATCH_BY_CONSUMER_KEY),
+        TENANT(SQLQueries.RETRIEVE_TOKEN_REVOCATION_BATCH_BY_TENANT),
+        AUTHORIZED_ORGANIZATION(SQLQueries.RETRIEVE_TOKEN_REVOCATION_BATCH_BY_AUTHORIZED_ORGANIZATION);
+
+        private final String batchQuery;
+
+        RevocationScope(String batchQuery) {
+
+            this.batchQuery = batchQuery;
+        }
+    }
+
+    /**
+     * Retrieve the next batch of tokens to be revoked. The scope value is the consumer key, the tenant id or the
+     * organization id depending on the revocation scope.
+     *
+     * @param scope        Revocation scope.
+     * @param scopeValue   Consumer key, tenant id or organization id the tokens belong to.
+     * @param appTenantId  Tenant id of the application. Only used with the consumer key scope.
+     * @param tokenStates  States of the tokens to be revoked. At most two states are supported.
+     * @param issuedBefore Tokens issued after this time are not revoked.
+     * @param afterTokenId Token id of the last token of the previous batch or null for the first batch.
+     * @param limit        Maximum number of tokens in the batch.
+     * @return Tokens of the batch along with their scopes, ordered by token id.
+     * @throws IdentityOAuth2Exception If an error occurred while retrieving the tokens.
+     */
+    public List<AccessTokenDO> getTokenRevocationBatch(RevocationScope scope, String scopeValue, int appTenantId,
+                                                       String[] tokenStates, Timestamp issuedBefore,
+                                                       String afterTokenId, int limit)
+            throws IdentityOAuth2Exception {
+
+        List<AccessTokenDO> accessTokenDOs = new ArrayList<>();
+        String sql = scope.batchQuery.replace(SQLQueries.TOKEN_ID_CURSOR_PLACEHOLDER,
+                afterTokenId == null ? StringUtils.EMPTY : SQLQueries.TOKEN_ID_CURSOR_CONDITION);
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+                int index = 1;
+                if (scope == RevocationScope.TENANT) {
+                    prepStmt.setInt(index++, Integer.parseInt(scopeValue));
+                } else {
+                    if (scope == RevocationScope.CONSUMER_KEY) {
+                        prepStmt.setString(index++, getPersistenceProcessor().getProcessedClientId(scopeValue));
+                        prepStmt.setInt(index++, appTenantId);
+                    } else {
+                        prepStmt.setString(index++, scopeValue);
+                    }
+                }
+                prepStmt.setString(index++, tokenStates[0]);
+                prepStmt.setString(index++, tokenStates[tokenStates.length - 1]);
+                prepStmt.setTimestamp(index++, issuedBefore, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                if (afterTokenId != null) {
+                    prepStmt.setString(index, afterTokenId);
+                }
+                prepStmt.setMaxRows(limit);
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        accessTokenDOs.add(buildAccessTokenDO(resultSet));
+                    }
+                }
+            }
+            if (!accessTokenDOs.isEmpty()) {
+                setScopes(accessTokenDOs, connection);
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving the tokens to be revoked for " +
+                    scope + ": " + scopeValue, e);
+        }
+        return accessTokenDOs;
+    }
+
+    /**
+     * Revoke the given tokens within a single transaction. A token is left untouched if its state has changed since
+     * it was retrieved.
+     *
+     * @param accessTokenDOs Tokens to be revoked.
+     * @param newTokenState  New state of the tokens.
+     * @return Number of tokens revoked.
+     * @throws IdentityOAuth2Exception If an error occurred while revoking the tokens.
+     */
+    public int revokeAccessTokens(List<AccessTokenDO> accessTokenDOs, String newTokenState)
+            throws IdentityOAuth2Exception {
+
+        if (accessTokenDOs.isEmpty()) {
+            return 0;
+        }
+        int revokedCount = 0;
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.REVOKE_ACCESS_TOKEN_BY_TOKEN_ID_AND_STATE)) {
+                for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+                    prepStmt.setString(1, newTokenState);
+                    prepStmt.setString(2, UUID.randomUUID().toString());
+                    prepStmt.setString(3, accessTokenDO.getTokenId());
+                    prepStmt.setString(4, accessTokenDO.getTokenState());
+                    prepStmt.addBatch();
+                }
+                for (int count : prepStmt.executeBatch()) {
+                    if (count > 0) {
+                        revokedCount += count;
+                    } else if (count == PreparedStatement.SUCCESS_NO_INFO) {
+                        revokedCount++;
+                    }
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while revoking a batch of " + accessTokenDOs.size() +
+                    " access tokens.", e);
+        }
+        return revokedCount;
+    }
+
+    private AccessTokenDO buildAccessTokenDO(ResultSet resultSet) throws SQLException, IdentityOAuth2Exception {
+
+        String authorizedOrganizationId = resultSet.getString(8);
+        AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(resultSet.getString(4), resultSet.getString(6),
+                OAuth2Util.getTenantDomain(resultSet.getInt(5)), resultSet.getString(12), authorizedOrganizationId,
+                resultSet.getInt(11));
+        user.setAuthenticatedSubjectIdentifier(resultSet.getString(7));
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setTokenId(resultSet.getString(1));
+        accessTokenDO.setAccessToken(getPersistenceProcessor().getPreprocessedAccessTokenIdentifier(
+                resultSet.getString(2)));
+        accessTokenDO.setTokenState(resultSet.getString(3));
+        accessTokenDO.setAuthzUser(user);
+        accessTokenDO.setAuthorizedOrganizationId(authorizedOrganizationId);
+        accessTokenDO.setConsumerKey(getPersistenceProcessor().getPreprocessedClientId(resultSet.getString(10)));
+        accessTokenDO.setScope(new String[0]);
+        String tokenBindingReference = resultSet.getString(9);
+        if (StringUtils.isNotBlank(tokenBindingReference) && !NONE.equals(tokenBindingReference)) {
+            TokenBinding tokenBinding = new TokenBinding();
+            tokenBinding.setBindingReference(tokenBindingReference);
+            accessTokenDO.setTokenBinding(tokenBinding);
+        }
+        return accessTokenDO;
+    }
+
+    private void setScopes(List<AccessTokenDO> accessTokenDOs, Connection connection) throws SQLException {
+
+        Map<String, List<String>> scopesByTokenId = new HashMap<>();
+        String sql = SQLQueries.RETRIEVE_SCOPES_OF_TOKENS.replace(SQLQueries.TOKEN_ID_LIST_PLACEHOLDER,
+                String.join(", ", Collections.nCopies(accessTokenDOs.size(), "?")));
+        try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            for (int i = 0; i < accessTokenDOs.size(); i++) {
+                prepStmt.setString(i + 1, accessTokenDOs.get(i).getTokenId());
+            }
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    scopesByTokenId.computeIfAbsent(resultSet.getString(1), tokenId -> new ArrayList<>())
+                            .add(resultSet.getString(2));
+                }
+            }
+        }
+        for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+            List<String> scopes = scopesByTokenId.get(accessTokenDO.getTokenId());
+            if (scopes != null) {
+                accessTokenDO.setScope(scopes.toArray(new String[0]));
+            }
+        }
+    }
+}
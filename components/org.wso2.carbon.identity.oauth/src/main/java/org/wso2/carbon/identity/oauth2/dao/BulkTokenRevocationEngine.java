@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants.BulkTokenRevocationConfig;
+import org.wso2.carbon.identity.oauth2.dao.BulkTokenRevocationDAO.RevocationScope;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.jwt.RevokedJWTRegistry;
+
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Revokes all the access tokens of an application, a tenant or an organization in bounded batches.
+ * <p>
+ * The tokens issued up to the start of the revocation are walked in the order of their token id. Each batch is
+ * revoked in its own transaction and then handed over to a {@link RevokedTokenBatchHandler}, which is expected to
+ * invalidate the cache entries of the batch. Only one batch is held in memory at a time, regardless of the number of
+ * tokens revoked. The progress is logged every configured number of batches.
+ */
+public class BulkTokenRevocationEngine {
+
+    private static final Log log = LogFactory.getLog(BulkTokenRevocationEngine.class);
+    private static final String[] ACTIVE_TOKEN_STATES = {OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE};
+    private static final String[] ACTIVE_AND_EXPIRED_TOKEN_STATES = {OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE,
+            OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED};
+    // The scopes of a batch are retrieved with a single IN clause, which is limited to 1000 values in some databases.
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final BulkTokenRevocationDAO bulkTokenRevocationDAO;
+    private final int batchSize;
+    private final int progressLogInterval;
+
+    public BulkTokenRevocationEngine() {
+
+        this(new BulkTokenRevocationDAO(), IdentityConfigUtil.getIntProperty(BulkTokenRevocationConfig.BATCH_SIZE,
+                BulkTokenRevocationConfig.DEFAULT_BATCH_SIZE),
+                IdentityConfigUtil.getIntProperty(BulkTokenRevocationConfig.PROGRESS_LOG_INTERVAL,
+                        BulkTokenRevocationConfig.DEFAULT_PROGRESS_LOG_INTERVAL));
+    }
+
+    BulkTokenRevocationEngine(BulkTokenRevocationDAO bulkTokenRevocationDAO, int batchSize, int progressLogInterval) {
+
+        this.bulkTokenRevocationDAO = bulkTokenRevocationDAO;
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        this.progressLogInterval = progressLogInterval;
+    }
+
+    /**
+     * Check whether the bulk token revocation is enabled. The bulk token revocation is not used when the access
+     * token table is partitioned by the user store domain or when the IDP id column is not available.
+     *
+     * @return True if the bulk token revocation is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(BulkTokenRevocationConfig.ENABLE))
+                && OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()
+                && !(OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled());
+    }
+
+    /**
+     * Revoke the active access tokens of an application.
+     *
+     * @param consumerKey Consumer key of the application.
+     * @param appTenantId Tenant id of the application.
+     * @param handler     Handler of the revoked batches.
+     * @return Number of revoked access tokens.
+     * @throws IdentityOAuth2Exception If an error occurred while revoking the access tokens.
+     */
+    public long revokeTokensOfApplication(String consumerKey, int appTenantId, RevokedTokenBatchHandler handler)
+            throws IdentityOAuth2Exception {
+
+        return revoke(RevocationScope.CONSUMER_KEY, consumerKey, appTenantId, ACTIVE_TOKEN_STATES, handler);
+    }
+
+    /**
+     * Revoke the active and expired access tokens issued in a tenant. Expired access tokens are revoked as well, so
+     * that their refresh tokens can no longer be used.
+     *
+     * @param tenantId Tenant id.
+     * @param handler  Handler of the revoked batches.
+     * @return Number of revoked access tokens.
+     * @throws IdentityOAuth2Exception If an error occurred while revoking the access tokens.
+     */
+    public long revokeTokensOfTenant(int tenantId, RevokedTokenBatchHandler handler) throws IdentityOAuth2Exception {
+
+        return revoke(RevocationScope.TENANT, String.valueOf(tenantId), tenantId, ACTIVE_AND_EXPIRED_TOKEN_STATES,
+                handler);
+    }
+
+    /**
+     * Revoke the active and expired access tokens authorized for an organization.
+     *
+     * @param organizationId Organization id.
+     * @param handler        Handler of the revoked batches.
+     * @return Number of revoked access tokens.
+     * @throws IdentityOAuth2Exception If an error occurred while revoking the access tokens.
+     */
+    public long revokeTokensOfOrganization(String organizationId, RevokedTokenBatchHandler handler)
+            throws IdentityOAuth2Exception {
+
+        return revoke(RevocationScope.AUTHORIZED_ORGANIZATION, organizationId, 0, ACTIVE_AND_EXPIRED_TOKEN_STATES,
+                handler);
+    }
+
+    private long revoke(RevocationScope scope, String scopeValue, int appTenantId, String[] tokenStates,
+                        RevokedTokenBatchHandler handler) throws IdentityOAuth2Exception {
+
+        Timestamp issuedBefore = new Timestamp(System.currentTimeMillis());
+        String lastTokenId = null;
+        long revokedCount = 0;
+        int batchCount = 0;
+        List<AccessTokenDO> batch;
+        do {
+            batch = bulkTokenRevocationDAO.getTokenRevocationBatch(scope, scopeValue, appTenantId, tokenStates,
+                    issuedBefore, lastTokenId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            revokedCount += bulkTokenRevocationDAO.revokeAccessTokens(batch,
+                    OAuthConstants.TokenStates.TOKEN_STATE_REVOKED);
+            addToRevokedJWTRegistry(batch);
+            handler.handle(batch);
+            lastTokenId = batch.get(batch.size() - 1).getTokenId();
+            batchCount++;
+            if (progressLogInterval > 0 && batchCount % progressLogInterval == 0) {
+                log.info("Revoked " + revokedCount + " access tokens of " + scope + ": " + scopeValue + " in " +
+                        batchCount + " batches so far.");
+            }
+        } while (batch.size() >= batchSize);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Revoked " + revokedCount + " access tokens of " + scope + ": " + scopeValue + " in " +
+                    batchCount + " batches.");
+        }
+        return revokedCount;
+    }
+
+    /**
+     * Record the applications of the revoked batch as revoked up to now. The applications are recorded instead of
+     * each token, as the whole set of tokens issued before the revocation started is being revoked.
+     */
+    private void addToRevokedJWTRegistry(List<AccessTokenDO> batch) {
+
+        RevokedJWTRegistry revokedJWTRegistry = RevokedJWTRegistry.getInstance();
+        Set<String> consumerKeys = new HashSet<>();
+        for (AccessTokenDO accessTokenDO : batch) {
+            if (consumerKeys.add(accessTokenDO.getConsumerKey())) {
+                revokedJWTRegistry.revokeTokensOfClient(accessTokenDO.getConsumerKey());
+            }
+        }
+    }
+
+    /**
+     * Handler of a batch of revoked access tokens.
+     */
+    @FunctionalInterface
+    public interface RevokedTokenBatchHandler {
+
+        /**
+         * Handle a batch of revoked access tokens. The access tokens hold the token id, the token value as stored
+         * in the database, the consumer key, the authorized user, the scopes and the token binding reference.
+         *
+         * @param accessTokenDOs Revoked access tokens.
+         * @throws IdentityOAuth2Exception If an error occurred while handling the batch.
+         */
+        void handle(List<AccessTokenDO> accessTokenDOs) throws IdentityOAuth2Exception;
+    }
+}
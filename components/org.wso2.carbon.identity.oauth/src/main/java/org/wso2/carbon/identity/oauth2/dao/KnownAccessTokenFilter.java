@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants.KnownAccessTokenFilterConfig;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Node local Bloom filter of the persisted identifiers of the known access tokens, which lets the lookups of the
+ * tokens which were never issued, or are no longer active, be answered without querying the database.
+ * <p>
+ * The filter is fed with the identifier of each access token persisted by the node and is periodically rebuilt from a
+ * scan of the active and expired access tokens in the database. The tokens fed while a rebuild is in progress are
+ * retained by keeping the previous generation of the filter until the next rebuild, hence the tokens which have been
+ * revoked or removed are dropped from the filter within two rebuilds. A lookup which the filter answers negatively is
+ * definitely not a known token, while a positive answer is confirmed against the database as usual. Until the first
+ * rebuild has completed, every lookup is answered positively.
+ * <p>
+ * As the filter only learns about the tokens persisted by the other nodes of a cluster when it is rebuilt, a node
+ * would reject the tokens issued by the other nodes until then. Hence the filter is not started when clustering is
+ * enabled. The filter is not used when the access token tables are partitioned.
+ */
+public class KnownAccessTokenFilter {
+
+    private static final Log log = LogFactory.getLog(KnownAccessTokenFilter.class);
+    private static final String WORKER_THREAD_NAME = "OAuthKnownAccessTokenFilter";
+
+    private static volatile KnownAccessTokenFilter instance;
+
+    private final long expectedTokens;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalInMillis;
+    private final AccessTokenHashScanner scanner;
+    private final LongAdder rejectedLookups = new LongAdder();
+    private final LongAdder passedLookups = new LongAdder();
+    private final LongAdder unconfirmedLookups = new LongAdder();
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile boolean loaded;
+    private ScheduledExecutorService scheduler;
+
+    KnownAccessTokenFilter(long expectedTokens, double falsePositiveRate, long rebuildIntervalInMillis,
+                           AccessTokenHashScanner scanner) {
+
+        this.expectedTokens = Math.max(expectedTokens, 1);
+        this.falsePositiveRate = falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate :
+                KnownAccessTokenFilterConfig.DEFAULT_FALSE_POSITIVE_RATE;
+        this.rebuildIntervalInMillis = Math.max(rebuildIntervalInMillis, 1);
+        this.scanner = scanner;
+        this.current = new BloomFilter(this.expectedTokens, this.falsePositiveRate);
+    }
+
+    /**
+     * Get the filter of the server.
+     *
+     * @return Filter of the server, or null if the filter is not enabled.
+     */
+    public static KnownAccessTokenFilter getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Start the filter of the server, if it is enabled.
+     */
+    public static void startInstance() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(KnownAccessTokenFilterConfig.ENABLE))) {
+            return;
+        }
+        if (OAuth2Util.checkAccessTokenPartitioningEnabled() || !OAuth2Util.isTokenPersistenceEnabled()) {
+            log.warn("Known access token filter is not supported when the access tokens are partitioned or not " +
+                    "persisted. Hence the filter is not started.");
+            return;
+        }
+        if (OAuth2Util.isClusteringEnabled()) {
+            log.warn("Known access token filter is not supported when clustering is enabled, since the access " +
+                    "tokens issued by the other nodes are not known to the filter. Hence the filter is not started.");
+            return;
+        }
+        synchronized (KnownAccessTokenFilter.class) {
+            if (instance != null) {
+                return;
+            }
+            int scanBatchSize = IdentityConfigUtil.getIntProperty(KnownAccessTokenFilterConfig.SCAN_BATCH_SIZE,
+                    KnownAccessTokenFilterConfig.DEFAULT_SCAN_BATCH_SIZE);
+            KnownAccessTokenFilter filter = new KnownAccessTokenFilter(
+                    IdentityConfigUtil.getLongProperty(KnownAccessTokenFilterConfig.EXPECTED_TOKENS,
+                            KnownAccessTokenFilterConfig.DEFAULT_EXPECTED_TOKENS),
+                    IdentityConfigUtil.getDoubleProperty(KnownAccessTokenFilterConfig.FALSE_POSITIVE_RATE,
+                            KnownAccessTokenFilterConfig.DEFAULT_FALSE_POSITIVE_RATE),
+                    TimeUnit.SECONDS.toMillis(IdentityConfigUtil.getLongProperty(
+                            KnownAccessTokenFilterConfig.REBUILD_INTERVAL,
+                            KnownAccessTokenFilterConfig.DEFAULT_REBUILD_INTERVAL)),
+                    consumer -> scanKnownAccessTokenHashes(consumer, Math.max(scanBatchSize, 1)));
+            filter.start();
+            instance = filter;
+        }
+    }
+
+    /**
+     * Stop the filter of the server. Lookups are no longer filtered once the filter is stopped.
+     */
+    public static void shutdownInstance() {
+
+        KnownAccessTokenFilter filter;
+        synchronized (KnownAccessTokenFilter.class) {
+            filter = instance;
+            instance = null;
+        }
+        if (filter != null) {
+            filter.shutdown();
+        }
+    }
+
+    void start() {
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, 0, rebuildIntervalInMillis, TimeUnit.MILLISECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("Known access token filter is started for " + expectedTokens + " tokens with false positive " +
+                    "rate: " + falsePositiveRate + " and rebuild interval: " + rebuildIntervalInMillis + "ms");
+        }
+    }
+
+    void shutdown() {
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void run() {
+
+        try {
+            rebuild();
+        } catch (Throwable e) {
+            // Do not let the error cancel the subsequent rebuilds.
+            log.error("Error occurred while rebuilding the known access token filter.", e);
+        }
+    }
+
+    /**
+     * Rebuild the filter from the access tokens in the database.
+     *
+     * @throws IdentityOAuth2Exception If an error occurred while scanning the access tokens.
+     */
+    void rebuild() throws IdentityOAuth2Exception {
+
+        BloomFilter rebuilt = new BloomFilter(expectedTokens, falsePositiveRate);
+        long[] scannedTokens = new long[1];
+        scanner.scan(accessTokenHash -> {
+            rebuilt.put(accessTokenHash);
+            scannedTokens[0]++;
+        });
+        synchronized (this) {
+            previous = current;
+            current = rebuilt;
+            loaded = true;
+        }
+        if (scannedTokens[0] > expectedTokens) {
+            log.warn("Known access token filter is rebuilt with " + scannedTokens[0] + " access tokens which is " +
+                    "more than the expected " + expectedTokens + " tokens. Hence the false positive rate of the " +
+                    "filter is higher than " + falsePositiveRate + ". Configure a larger value for " +
+                    KnownAccessTokenFilterConfig.EXPECTED_TOKENS);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Known access token filter is rebuilt with " + scannedTokens[0] + " access tokens. " + this);
+        }
+    }
+
+    /**
+     * Record a persisted access token.
+     *
+     * @param accessTokenHash Persisted hash of the access token identifier.
+     */
+    public void add(String accessTokenHash) {
+
+        if (StringUtils.isNotEmpty(accessTokenHash)) {
+            current.put(accessTokenHash);
+        }
+    }
+
+    /**
+     * Check whether an access token could be a known token. The lookup is counted in the metrics of the filter.
+     *
+     * @param accessTokenHash Persisted hash of the access token identifier.
+     * @return False if the access token is definitely not a known token, true otherwise.
+     */
+    public boolean mightContain(String accessTokenHash) {
+
+        if (!loaded) {
+            return true;
+        }
+        BloomFilter previousFilter = previous;
+        boolean known = current.mightContain(accessTokenHash) ||
+                (previousFilter != null && previousFilter.mightContain(accessTokenHash));
+        if (known) {
+            passedLookups.increment();
+        } else {
+            rejectedLookups.increment();
+        }
+        return known;
+    }
+
+    /**
+     * Record a lookup which passed the filter but the access token was not found in the database.
+     */
+    public void recordUnconfirmedLookup() {
+
+        if (loaded) {
+            unconfirmedLookups.increment();
+        }
+    }
+
+    public long getRejectedLookupCount() {
+
+        return rejectedLookups.sum();
+    }
+
+    public long getPassedLookupCount() {
+
+        return passedLookups.sum();
+    }
+
+    public long getUnconfirmedLookupCount() {
+
+        return unconfirmedLookups.sum();
+    }
+
+    /**
+     * Get the observed false positive rate, which is the ratio of the lookups of unknown access tokens which passed the
+     * filter. The known tokens which are no longer active count as false positives as well.
+     *
+     * @return Observed false positive rate between 0 and 1, or 0 if there were no lookups of unknown tokens.
+     */
+    public double getObservedFalsePositiveRate() {
+
+        long unconfirmedCount = unconfirmedLookups.sum();
+        long unknownCount = unconfirmedCount + rejectedLookups.sum();
+        return unknownCount == 0 ? 0 : (double) unconfirmedCount / unknownCount;
+    }
+
+    /**
+     * Get the false positive rate of the filter estimated from the share of the bits set in its generations.
+     *
+     * @return Estimated false positive rate between 0 and 1.
+     */
+    public double getEstimatedFalsePositiveRate() {
+
+        double currentRate = current.getEstimatedFalsePositiveRate();
+        BloomFilter previousFilter = previous;
+        if (previousFilter == null) {
+            return currentRate;
+        }
+        double previousRate = previousFilter.getEstimatedFalsePositiveRate();
+        return currentRate + previousRate - currentRate * previousRate;
+    }
+
+    /**
+     * Reset the lookup counters.
+     */
+    public void resetMetrics() {
+
+        rejectedLookups.reset();
+        passedLookups.reset();
+        unconfirmedLookups.reset();
+    }
+
+    @Override
+    public String toString() {
+
+        return "KnownAccessTokenFilter [rejected: " + getRejectedLookupCount() + ", passed: " +
+                getPassedLookupCount() + ", unconfirmed: " + getUnconfirmedLookupCount() +
+                ", observedFalsePositiveRate: " + String.format("%.4f", getObservedFalsePositiveRate()) +
+                ", estimatedFalsePositiveRate: " + String.format("%.4f", getEstimatedFalsePositiveRate()) + "]";
+    }
+
+    private static void scanKnownAccessTokenHashes(Consumer<String> consumer, int batchSize)
+            throws IdentityOAuth2Exception {
+
+        String lastTokenId = null;
+        int batchCount;
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            do {
+                batchCount = 0;
+                String sql = SQLQueries.RETRIEVE_KNOWN_ACCESS_TOKEN_HASHES.replace(
+                        SQLQueries.TOKEN_ID_CURSOR_PLACEHOLDER,
+                        lastTokenId == null ? StringUtils.EMPTY : SQLQueries.TOKEN_ID_CURSOR_CONDITION);
+                try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+                    prepStmt.setString(1, OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE);
+                    prepStmt.setString(2, OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED);
+                    if (lastTokenId != null) {
+                        prepStmt.setString(3, lastTokenId);
+                    }
+                    prepStmt.setMaxRows(batchSize);
+                    try (ResultSet resultSet = prepStmt.executeQuery()) {
+                        while (resultSet.next()) {
+                            lastTokenId = resultSet.getString(1);
+                            consumer.accept(resultSet.getString(2));
+                            batchCount++;
+                        }
+                    }
+                }
+            } while (batchCount >= batchSize);
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while scanning the known access tokens.", e);
+        }
+    }
+
+    /**
+     * Scanner of the persisted hashes of the known access tokens.
+     */
+    @FunctionalInterface
+    interface AccessTokenHashScanner {
+
+        void scan(Consumer<String> consumer) throws IdentityOAuth2Exception;
+    }
+
+    /**
+     * Bloom filter over strings, sized for an expected number of entries and false positive rate. Entries are
+     * mapped to the bits with double hashing of a 64-bit hash of the entry.
+     */
+    static class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(long expectedEntries, double falsePositiveRate) {
+
+            long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) /
+                    (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Math.max((optimalBits + 63) / 64, 1), Integer.MAX_VALUE - 8);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = (long) wordCount * 64;
+            this.hashCount = (int) Math.max(Math.round((double) bitCount / expectedEntries * Math.log(2)), 1);
+        }
+
+        void put(String entry) {
+
+            long hash1 = hash(entry);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                int wordIndex = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(wordIndex);
+                while ((word & mask) == 0 && !words.compareAndSet(wordIndex, word, word | mask)) {
+                    word = words.get(wordIndex);
+                }
+            }
+        }
+
+        boolean mightContain(String entry) {
+
+            if (entry == null) {
+                return false;
+            }
+            long hash1 = hash(entry);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double getEstimatedFalsePositiveRate() {
+
+            long setBits = 0;
+            for (int i = 0; i < words.length(); i++) {
+                setBits += Long.bitCount(words.get(i));
+            }
+            return Math.pow((double) setBits / bitCount, hashCount);
+        }
+
+        int getHashCount() {
+
+            return hashCount;
+        }
+
+        private static long hash(String entry) {
+
+            // 64-bit FNV-1a over the characters of the entry.
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < entry.length(); i++) {
+                hash ^= entry.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long hash) {
+
+            // Finalizer of the 64-bit MurmurHash3.
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -31,7 +31,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.List;
+import java.util.TimeZone;
 
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TokenBindings.NONE;
 
@@ -43,6 +46,7 @@ import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TokenBindings
 public class OldTokensCleanDAO {
 
     private static final Log log = LogFactory.getLog(OldTokensCleanDAO.class);
+    private static final String UTC = "UTC";
 
     public void cleanupTokenByTokenId(String tokenId, Connection connection) throws SQLException {
 
@@ -199,4 +203,145 @@ public class OldTokensCleanDAO {
             cleanupTokenByTokenValue(token, connection);
         }
     }
+
+    /**
+     * Retrieve the access tokens created within the given time range, ordered by their creation time and ID.
+     *
+     * @param from       Inclusive lower bound of the creation time.
+     * @param fromId     Exclusive lower bound of the ID of the tokens created at the lower bound of the creation time.
+     * @param to         Exclusive upper bound of the creation time.
+     * @param limit      Maximum number of tokens to retrieve.
+     * @param connection Database connection.
+     * @return Tokens to be considered for removal.
+     * @throws SQLException If an error occurred while retrieving the tokens.
+     */
+    public List<TokenCleanupCandidate> getTokenCleanupCandidates(Timestamp from, String fromId, Timestamp to,
+                                                                 int limit, Connection connection)
+            throws SQLException {
+
+        List<TokenCleanupCandidate> candidates = new ArrayList<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.RETRIEVE_TOKEN_CLEANUP_CANDIDATES)) {
+            prepStmt.setTimestamp(1, from, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            prepStmt.setString(2, fromId);
+            prepStmt.setTimestamp(3, from, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            prepStmt.setTimestamp(4, to, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            prepStmt.setMaxRows(limit);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    candidates.add(new TokenCleanupCandidate(resultSet.getString(1), resultSet.getString(2),
+                            getTime(resultSet, 3), resultSet.getLong(4), getTime(resultSet, 5),
+                            resultSet.getLong(6)));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Retrieve the authorization codes created within the given time range, ordered by their creation time and ID.
+     *
+     * @param from       Inclusive lower bound of the creation time.
+     * @param fromId     Exclusive lower bound of the ID of the codes created at the lower bound of the creation time.
+     * @param to         Exclusive upper bound of the creation time.
+     * @param limit      Maximum number of authorization codes to retrieve.
+     * @param connection Database connection.
+     * @return Authorization codes to be considered for removal.
+     * @throws SQLException If an error occurred while retrieving the authorization codes.
+     */
+    public List<TokenCleanupCandidate> getAuthorizationCodeCleanupCandidates(Timestamp from, String fromId,
+                                                                             Timestamp to, int limit,
+                                                                             Connection connection)
+            throws SQLException {
+
+        List<TokenCleanupCandidate> candidates = new ArrayList<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                SQLQueries.RETRIEVE_AUTHORIZATION_CODE_CLEANUP_CANDIDATES)) {
+            prepStmt.setTimestamp(1, from, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            prepStmt.setString(2, fromId);
+            prepStmt.setTimestamp(3, from, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            prepStmt.setTimestamp(4, to, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            prepStmt.setMaxRows(limit);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    long timeCreated = getTime(resultSet, 3);
+                    long validityPeriod = resultSet.getLong(4);
+                    candidates.add(new TokenCleanupCandidate(resultSet.getString(1), resultSet.getString(2),
+                            timeCreated, validityPeriod, timeCreated, validityPeriod));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Remove the given access tokens from the access token table in a single batch, moving them to the audit table
+     * first if old access tokens are retained. The caller is responsible for committing the transaction.
+     *
+     * @param tokenIds   IDs of the tokens to be removed.
+     * @param connection Database connection.
+     * @throws SQLException If an error occurred while removing the tokens.
+     */
+    public void cleanupTokensByTokenIdInBatch(List<String> tokenIds, Connection connection) throws SQLException {
+
+        if (tokenIds.isEmpty()) {
+            return;
+        }
+        if (OAuthServerConfiguration.getInstance().useRetainOldAccessTokens()) {
+            String sql;
+            if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+                sql = SQLQueries.RETRIEVE_AND_STORE_IN_AUDIT_WITH_IDP_NAME;
+            } else {
+                sql = SQLQueries.RETRIEVE_AND_STORE_IN_AUDIT;
+            }
+            Timestamp invalidatedTime = new Timestamp(System.currentTimeMillis());
+            try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+                for (String tokenId : tokenIds) {
+                    prepStmt.setTimestamp(1, invalidatedTime);
+                    prepStmt.setString(2, tokenId);
+                    prepStmt.addBatch();
+                }
+                prepStmt.executeBatch();
+            }
+        }
+        executeBatchDelete(SQLQueries.DELETE_OLD_TOKEN_BY_ID, tokenIds, connection);
+        if (log.isDebugEnabled()) {
+            log.debug("Removed " + tokenIds.size() + " old access tokens from access token table.");
+        }
+    }
+
+    /**
+     * Remove the given authorization codes in a single batch. The caller is responsible for committing the
+     * transaction.
+     *
+     * @param codeIds    IDs of the authorization codes to be removed.
+     * @param connection Database connection.
+     * @throws SQLException If an error occurred while removing the authorization codes.
+     */
+    public void cleanupAuthorizationCodesInBatch(List<String> codeIds, Connection connection) throws SQLException {
+
+        if (codeIds.isEmpty()) {
+            return;
+        }
+        executeBatchDelete(SQLQueries.DELETE_AUTHORIZATION_CODE_BY_CODE_ID, codeIds, connection);
+        if (log.isDebugEnabled()) {
+            log.debug("Removed " + codeIds.size() + " old authorization codes from authorization code table.");
+        }
+    }
+
+    private void executeBatchDelete(String sql, List<String> ids, Connection connection) throws SQLException {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            for (String id : ids) {
+                prepStmt.setString(1, id);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+        }
+    }
+
+    private long getTime(ResultSet resultSet, int columnIndex) throws SQLException {
+
+        Timestamp timestamp = resultSet.getTimestamp(columnIndex, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+        return timestamp != null ? timestamp.getTime() : 0;
+    }
 }
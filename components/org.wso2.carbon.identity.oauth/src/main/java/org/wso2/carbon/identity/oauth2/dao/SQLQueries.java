@@ -437,6 +437,77 @@ public class SQLQueries {
                     + "ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID JOIN "
                     + "IDP ON IDP_ID = IDP.ID";
 
+    public static final String ACCESS_TOKEN_HASH_LIST_PLACEHOLDER = "_ACCESS_TOKEN_HASH_LIST_";
+
+    public static final String RETRIEVE_ACTIVE_ACCESS_TOKENS = "SELECT CONSUMER_KEY, AUTHZ_USER, " +
+            "ACCESS_TOKEN_TABLE.TENANT_ID, USER_DOMAIN, TOKEN_SCOPE, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, " +
+            "VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, REFRESH_TOKEN, ACCESS_TOKEN_TABLE.TOKEN_ID, " +
+            "GRANT_TYPE, SUBJECT_IDENTIFIER, TOKEN_BINDING_REF, " +
+            "AUTHORIZED_ORGANIZATION, ACCESS_TOKEN_TABLE.APP_TENANT_ID, ACCESS_TOKEN_HASH " +
+            "FROM (SELECT TOKEN_ID, CONSUMER_KEY, AUTHZ_USER, " +
+            "IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID AS TENANT_ID, IDN_OAUTH2_ACCESS_TOKEN.USER_DOMAIN AS USER_DOMAIN, " +
+            "TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
+            "REFRESH_TOKEN, IDN_OAUTH2_ACCESS_TOKEN.GRANT_TYPE AS GRANT_TYPE, SUBJECT_IDENTIFIER, " +
+            "TOKEN_BINDING_REF, AUTHORIZED_ORGANIZATION, IDN_OAUTH_CONSUMER_APPS.TENANT_ID AS APP_TENANT_ID, " +
+            "ACCESS_TOKEN_HASH FROM (SELECT * FROM IDN_OAUTH2_ACCESS_TOKEN WHERE ACCESS_TOKEN_HASH IN (" +
+            ACCESS_TOKEN_HASH_LIST_PLACEHOLDER + ") AND TOKEN_STATE='ACTIVE') " +
+            "IDN_OAUTH2_ACCESS_TOKEN JOIN IDN_OAUTH_CONSUMER_APPS ON CONSUMER_KEY_ID = ID) ACCESS_TOKEN_TABLE" +
+            " LEFT JOIN IDN_OAUTH2_ACCESS_TOKEN_SCOPE " +
+            "ON ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID";
+
+    public static final String RETRIEVE_ACTIVE_ACCESS_TOKENS_WITH_CONSENTED_TOKEN = "SELECT CONSUMER_KEY, " +
+            "AUTHZ_USER, ACCESS_TOKEN_TABLE.TENANT_ID, USER_DOMAIN, TOKEN_SCOPE, TIME_CREATED, " +
+            "REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, REFRESH_TOKEN, " +
+            "ACCESS_TOKEN_TABLE.TOKEN_ID, GRANT_TYPE, SUBJECT_IDENTIFIER, TOKEN_BINDING_REF, " +
+            "AUTHORIZED_ORGANIZATION, ACCESS_TOKEN_TABLE.APP_TENANT_ID, CONSENTED_TOKEN, ACCESS_TOKEN_HASH " +
+            "FROM (SELECT TOKEN_ID, CONSUMER_KEY, AUTHZ_USER, " +
+            "IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID AS TENANT_ID, IDN_OAUTH2_ACCESS_TOKEN.USER_DOMAIN AS USER_DOMAIN, " +
+            "TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
+            "REFRESH_TOKEN, IDN_OAUTH2_ACCESS_TOKEN.GRANT_TYPE AS GRANT_TYPE, SUBJECT_IDENTIFIER, " +
+            "TOKEN_BINDING_REF, AUTHORIZED_ORGANIZATION, IDN_OAUTH_CONSUMER_APPS.TENANT_ID AS APP_TENANT_ID, " +
+            "CONSENTED_TOKEN, ACCESS_TOKEN_HASH FROM (SELECT * FROM IDN_OAUTH2_ACCESS_TOKEN WHERE " +
+            "ACCESS_TOKEN_HASH IN (" + ACCESS_TOKEN_HASH_LIST_PLACEHOLDER + ") AND TOKEN_STATE='ACTIVE') " +
+            "IDN_OAUTH2_ACCESS_TOKEN JOIN IDN_OAUTH_CONSUMER_APPS ON CONSUMER_KEY_ID = ID) ACCESS_TOKEN_TABLE" +
+            " LEFT JOIN IDN_OAUTH2_ACCESS_TOKEN_SCOPE " +
+            "ON ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID";
+
+    public static final String RETRIEVE_ACTIVE_ACCESS_TOKENS_IDP_NAME =
+            "SELECT CONSUMER_KEY, AUTHZ_USER, ACCESS_TOKEN_TABLE.TENANT_ID, " +
+                    "USER_DOMAIN, TOKEN_SCOPE, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, " +
+                    "REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, REFRESH_TOKEN, ACCESS_TOKEN_TABLE.TOKEN_ID, " +
+                    "GRANT_TYPE, SUBJECT_IDENTIFIER, TOKEN_BINDING_REF, " +
+                    "AUTHORIZED_ORGANIZATION, ACCESS_TOKEN_TABLE.APP_TENANT_ID, IDP.NAME, ACCESS_TOKEN_HASH " +
+                    "FROM (SELECT TOKEN_ID, CONSUMER_KEY," +
+                    "  AUTHZ_USER, IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID AS TENANT_ID, " +
+                    "IDN_OAUTH2_ACCESS_TOKEN.USER_DOMAIN AS USER_DOMAIN,TIME_CREATED," +
+                    "REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
+                    "REFRESH_TOKEN, IDN_OAUTH2_ACCESS_TOKEN.GRANT_TYPE AS GRANT_TYPE," +
+                    "SUBJECT_IDENTIFIER, IDN_OAUTH2_ACCESS_TOKEN.IDP_ID AS IDP_ID, " +
+                    "TOKEN_BINDING_REF, AUTHORIZED_ORGANIZATION, IDN_OAUTH_CONSUMER_APPS.TENANT_ID AS APP_TENANT_ID, " +
+                    "ACCESS_TOKEN_HASH FROM (SELECT * FROM IDN_OAUTH2_ACCESS_TOKEN WHERE ACCESS_TOKEN_HASH IN (" +
+                    ACCESS_TOKEN_HASH_LIST_PLACEHOLDER + ") AND TOKEN_STATE='ACTIVE') IDN_OAUTH2_ACCESS_TOKEN " +
+                    "JOIN IDN_OAUTH_CONSUMER_APPS ON CONSUMER_KEY_ID = ID) ACCESS_TOKEN_TABLE" +
+                    " LEFT JOIN IDN_OAUTH2_ACCESS_TOKEN_SCOPE ON ACCESS_TOKEN_TABLE.TOKEN_ID = " +
+                    "IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID JOIN IDP ON IDP_ID = IDP.ID";
+
+    public static final String RETRIEVE_ACTIVE_ACCESS_TOKENS_IDP_NAME_WITH_CONSENTED_TOKEN =
+            "SELECT CONSUMER_KEY, AUTHZ_USER, ACCESS_TOKEN_TABLE.TENANT_ID, " +
+                    "USER_DOMAIN, TOKEN_SCOPE, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, " +
+                    "REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, REFRESH_TOKEN, ACCESS_TOKEN_TABLE.TOKEN_ID, " +
+                    "GRANT_TYPE, SUBJECT_IDENTIFIER, TOKEN_BINDING_REF, AUTHORIZED_ORGANIZATION, " +
+                    "ACCESS_TOKEN_TABLE.APP_TENANT_ID, IDP.NAME, CONSENTED_TOKEN, ACCESS_TOKEN_HASH FROM " +
+                    "(SELECT TOKEN_ID, CONSUMER_KEY,  AUTHZ_USER, IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID AS TENANT_ID, " +
+                    "IDN_OAUTH2_ACCESS_TOKEN.USER_DOMAIN AS USER_DOMAIN,TIME_CREATED," +
+                    "REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
+                    "REFRESH_TOKEN, IDN_OAUTH2_ACCESS_TOKEN.GRANT_TYPE AS GRANT_TYPE," +
+                    "SUBJECT_IDENTIFIER, IDN_OAUTH2_ACCESS_TOKEN.IDP_ID AS IDP_ID, " +
+                    "TOKEN_BINDING_REF, AUTHORIZED_ORGANIZATION, IDN_OAUTH_CONSUMER_APPS.TENANT_ID AS APP_TENANT_ID, " +
+                    "CONSENTED_TOKEN, ACCESS_TOKEN_HASH FROM (SELECT * FROM IDN_OAUTH2_ACCESS_TOKEN WHERE " +
+                    "ACCESS_TOKEN_HASH IN (" + ACCESS_TOKEN_HASH_LIST_PLACEHOLDER + ") AND TOKEN_STATE='ACTIVE') " +
+                    "IDN_OAUTH2_ACCESS_TOKEN JOIN IDN_OAUTH_CONSUMER_APPS ON CONSUMER_KEY_ID = ID) ACCESS_TOKEN_TABLE" +
+                    " LEFT JOIN IDN_OAUTH2_ACCESS_TOKEN_SCOPE ON ACCESS_TOKEN_TABLE.TOKEN_ID = " +
+                    "IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID JOIN IDP ON IDP_ID = IDP.ID";
+
 
     public static final String RETRIEVE_ACTIVE_EXPIRED_ACCESS_TOKEN = "SELECT CONSUMER_KEY, AUTHZ_USER, " +
             "ACCESS_TOKEN_TABLE.TENANT_ID, USER_DOMAIN, TOKEN_SCOPE, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, " +
@@ -475,6 +546,9 @@ public class SQLQueries {
     public static final String UPDATE_TOKEN_STATE = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET TOKEN_STATE=?, " +
             "TOKEN_STATE_ID=? WHERE TOKEN_ID=?";
 
+    public static final String RETRIEVE_ACCESS_TOKEN_BY_TOKEN_ID = "SELECT ACCESS_TOKEN FROM IDN_OAUTH2_ACCESS_TOKEN " +
+            "WHERE TOKEN_ID=?";
+
     public static final String UPDATE_TOKEN_CONSENTED_TOKEN = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET " +
             "CONSENTED_TOKEN=? WHERE TOKEN_ID=?";
     @Deprecated
@@ -1724,6 +1798,71 @@ public class SQLQueries {
                     "TOKEN.TOKEN_ID=BINDING.TOKEN_ID WHERE TOKEN.REFRESH_TOKEN = ? " +
                     "AND BINDING.TOKEN_BINDING_TYPE = ?";
 
+    public static final String INSERT_TOKEN_ISSUANCE_LEASE = "INSERT INTO IDN_OAUTH2_TOKEN_ISSUANCE_LEASE " +
+            "(LEASE_KEY, LEASE_OWNER, ACQUIRED_TIME, LEASE_DURATION) VALUES (?, ?, CURRENT_TIMESTAMP, ?)";
+
+    public static final String RETRIEVE_TOKEN_ISSUANCE_LEASE = "SELECT LEASE_OWNER, ACQUIRED_TIME, LEASE_DURATION, " +
+            "CURRENT_TIMESTAMP FROM IDN_OAUTH2_TOKEN_ISSUANCE_LEASE WHERE LEASE_KEY = ?";
+
+    public static final String TAKE_OVER_EXPIRED_TOKEN_ISSUANCE_LEASE = "UPDATE IDN_OAUTH2_TOKEN_ISSUANCE_LEASE " +
+            "SET LEASE_OWNER = ?, ACQUIRED_TIME = CURRENT_TIMESTAMP, LEASE_DURATION = ? WHERE LEASE_KEY = ? AND " +
+            "LEASE_OWNER = ? AND ACQUIRED_TIME = ?";
+
+    public static final String DELETE_TOKEN_ISSUANCE_LEASE = "DELETE FROM IDN_OAUTH2_TOKEN_ISSUANCE_LEASE WHERE " +
+            "LEASE_KEY = ? AND LEASE_OWNER = ?";
+
+    public static final String RETRIEVE_TOKEN_CLEANUP_CANDIDATES = "SELECT TOKEN_ID, TOKEN_STATE, TIME_CREATED, " +
+            "VALIDITY_PERIOD, REFRESH_TOKEN_TIME_CREATED, REFRESH_TOKEN_VALIDITY_PERIOD FROM IDN_OAUTH2_ACCESS_TOKEN " +
+            "WHERE ((TIME_CREATED = ? AND TOKEN_ID > ?) OR TIME_CREATED > ?) AND TIME_CREATED < ? ORDER BY " +
+            "TIME_CREATED, TOKEN_ID";
+
+    public static final String RETRIEVE_AUTHORIZATION_CODE_CLEANUP_CANDIDATES = "SELECT CODE_ID, STATE, " +
+            "TIME_CREATED, VALIDITY_PERIOD FROM IDN_OAUTH2_AUTHORIZATION_CODE WHERE ((TIME_CREATED = ? AND " +
+            "CODE_ID > ?) OR TIME_CREATED > ?) AND TIME_CREATED < ? ORDER BY TIME_CREATED, CODE_ID";
+
+    public static final String DELETE_AUTHORIZATION_CODE_BY_CODE_ID = "DELETE FROM IDN_OAUTH2_AUTHORIZATION_CODE " +
+            "WHERE CODE_ID = ?";
+
+    public static final String TOKEN_ID_LIST_PLACEHOLDER = "_TOKEN_ID_LIST_";
+
+    public static final String TOKEN_ID_CURSOR_PLACEHOLDER = "_TOKEN_ID_CURSOR_";
+
+    public static final String TOKEN_ID_CURSOR_CONDITION = "AND TKN.TOKEN_ID > ? ";
+
+    public static final String RETRIEVE_TOKEN_REVOCATION_BATCH_BY_CONSUMER_KEY = "SELECT TKN.TOKEN_ID, " +
+            "TKN.ACCESS_TOKEN, TKN.TOKEN_STATE, TKN.AUTHZ_USER, TKN.TENANT_ID, TKN.USER_DOMAIN, " +
+            "TKN.SUBJECT_IDENTIFIER, TKN.AUTHORIZED_ORGANIZATION, TKN.TOKEN_BINDING_REF, APP.CONSUMER_KEY, " +
+            "APP.TENANT_ID, IDP.NAME FROM IDN_OAUTH2_ACCESS_TOKEN TKN JOIN IDN_OAUTH_CONSUMER_APPS APP ON " +
+            "APP.ID = TKN.CONSUMER_KEY_ID JOIN IDP ON IDP.ID = TKN.IDP_ID WHERE APP.CONSUMER_KEY = ? AND " +
+            "APP.TENANT_ID = ? AND TKN.TOKEN_STATE IN (?, ?) AND TKN.TIME_CREATED <= ? " +
+            TOKEN_ID_CURSOR_PLACEHOLDER + "ORDER BY TKN.TOKEN_ID";
+
+    public static final String RETRIEVE_TOKEN_REVOCATION_BATCH_BY_TENANT = "SELECT TKN.TOKEN_ID, " +
+            "TKN.ACCESS_TOKEN, TKN.TOKEN_STATE, TKN.AUTHZ_USER, TKN.TENANT_ID, TKN.USER_DOMAIN, " +
+            "TKN.SUBJECT_IDENTIFIER, TKN.AUTHORIZED_ORGANIZATION, TKN.TOKEN_BINDING_REF, APP.CONSUMER_KEY, " +
+            "APP.TENANT_ID, IDP.NAME FROM IDN_OAUTH2_ACCESS_TOKEN TKN JOIN IDN_OAUTH_CONSUMER_APPS APP ON " +
+            "APP.ID = TKN.CONSUMER_KEY_ID JOIN IDP ON IDP.ID = TKN.IDP_ID WHERE TKN.TENANT_ID = ? AND " +
+            "TKN.TOKEN_STATE IN (?, ?) AND TKN.TIME_CREATED <= ? " + TOKEN_ID_CURSOR_PLACEHOLDER +
+            "ORDER BY TKN.TOKEN_ID";
+
+    public static final String RETRIEVE_TOKEN_REVOCATION_BATCH_BY_AUTHORIZED_ORGANIZATION = "SELECT " +
+            "TKN.TOKEN_ID, TKN.ACCESS_TOKEN, TKN.TOKEN_STATE, TKN.AUTHZ_USER, TKN.TENANT_ID, " +
+            "TKN.USER_DOMAIN, TKN.SUBJECT_IDENTIFIER, TKN.AUTHORIZED_ORGANIZATION, TKN.TOKEN_BINDING_REF, " +
+            "APP.CONSUMER_KEY, APP.TENANT_ID, IDP.NAME FROM IDN_OAUTH2_ACCESS_TOKEN TKN JOIN " +
+            "IDN_OAUTH_CONSUMER_APPS APP ON APP.ID = TKN.CONSUMER_KEY_ID JOIN IDP ON IDP.ID = TKN.IDP_ID WHERE " +
+            "TKN.AUTHORIZED_ORGANIZATION = ? AND TKN.TOKEN_STATE IN (?, ?) AND TKN.TIME_CREATED <= ? " +
+            TOKEN_ID_CURSOR_PLACEHOLDER + "ORDER BY TKN.TOKEN_ID";
+
+    public static final String RETRIEVE_SCOPES_OF_TOKENS = "SELECT TOKEN_ID, TOKEN_SCOPE FROM " +
+            "IDN_OAUTH2_ACCESS_TOKEN_SCOPE WHERE TOKEN_ID IN (" + TOKEN_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String REVOKE_ACCESS_TOKEN_BY_TOKEN_ID_AND_STATE = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET " +
+            "TOKEN_STATE = ?, TOKEN_STATE_ID = ? WHERE TOKEN_ID = ? AND TOKEN_STATE = ?";
+
+    public static final String RETRIEVE_KNOWN_ACCESS_TOKEN_HASHES = "SELECT TKN.TOKEN_ID, TKN.ACCESS_TOKEN_HASH " +
+            "FROM IDN_OAUTH2_ACCESS_TOKEN TKN WHERE TKN.TOKEN_STATE IN (?, ?) " + TOKEN_ID_CURSOR_PLACEHOLDER +
+            "ORDER BY TKN.TOKEN_ID";
+
     private SQLQueries() {
 
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+/**
+ * Access token or authorization code row considered for removal by the {@link TokenCleanupReaper}.
+ */
+public class TokenCleanupCandidate {
+
+    private final String id;
+    private final String state;
+    private final long timeCreated;
+    private final long validityPeriod;
+    private final long refreshTokenTimeCreated;
+    private final long refreshTokenValidityPeriod;
+
+    public TokenCleanupCandidate(String id, String state, long timeCreated, long validityPeriod,
+                                 long refreshTokenTimeCreated, long refreshTokenValidityPeriod) {
+
+        this.id = id;
+        this.state = state;
+        this.timeCreated = timeCreated;
+        this.validityPeriod = validityPeriod;
+        this.refreshTokenTimeCreated = refreshTokenTimeCreated;
+        this.refreshTokenValidityPeriod = refreshTokenValidityPeriod;
+    }
+
+    /**
+     * Get the token ID or the authorization code ID.
+     *
+     * @return ID of the row.
+     */
+    public String getId() {
+
+        return id;
+    }
+
+    public String getState() {
+
+        return state;
+    }
+
+    public long getTimeCreated() {
+
+        return timeCreated;
+    }
+
+    public long getValidityPeriod() {
+
+        return validityPeriod;
+    }
+
+    public long getRefreshTokenTimeCreated() {
+
+        return refreshTokenTimeCreated;
+    }
+
+    public long getRefreshTokenValidityPeriod() {
+
+        return refreshTokenValidityPeriod;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants.TokenCleanupReaperConfig;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLeaseDAO;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLeaseDAOImpl;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Background reaper of old access tokens and authorization codes.
+ * <p>
+ * The reaper periodically walks the access token and authorization code tables in the order of the creation time
+ * and removes, in bounded JDBC batches, the rows which are no longer usable: access tokens which are revoked or
+ * inactive, access tokens whose access and refresh tokens have both expired, and authorization codes which have
+ * expired. Active and expired access tokens are treated alike, since the refresh token of an access token in the
+ * expired state can still be used. Expired rows are only removed once the configured retention period has passed since
+ * they expired. Since the time a token was revoked is not stored, revoked and inactive access tokens are removed once
+ * the retention period has passed since they were created.
+ * Removed access tokens are moved to the audit table if old access tokens are retained. The reaper pauses between
+ * batches and limits the number of batches of a run, so that it does not compete with the token requests for the
+ * database. A run which reaches the batch limit is continued from the same position by the next run, and the walk
+ * starts over from the oldest rows once it reaches the end of a table.
+ * <p>
+ * The walk is ordered by the creation time and the ID of the rows, hence the TIME_CREATED columns of
+ * IDN_OAUTH2_ACCESS_TOKEN and IDN_OAUTH2_AUTHORIZATION_CODE need to be indexed.
+ * <p>
+ * When the reaper is enabled, access tokens are no longer cleaned up while they are refreshed or revoked. When
+ * cluster coordination is enabled, a database lease makes sure only one node of the cluster runs the reaper at a time.
+ */
+public class TokenCleanupReaper {
+
+    private static final Log log = LogFactory.getLog(TokenCleanupReaper.class);
+    private static final String WORKER_THREAD_NAME = "OAuthTokenCleanupReaper";
+    private static final String LEASE_KEY = "OAuthTokenCleanupReaper";
+
+    private static volatile TokenCleanupReaper instance;
+
+    private final long intervalInMillis;
+    private final long retentionPeriodInMillis;
+    private final int batchSize;
+    private final long batchPauseInMillis;
+    private final int maxBatchesPerRun;
+    private final boolean clusterCoordinationEnabled;
+    private final OldTokensCleanDAO oldTokensCleanDAO;
+    private final TokenIssuanceLeaseDAO leaseDAO;
+    private final String owner = UUID.randomUUID().toString();
+    private final ScanCursor tokenCursor = new ScanCursor();
+    private final ScanCursor authorizationCodeCursor = new ScanCursor();
+    private volatile boolean shutdown;
+    private ScheduledExecutorService scheduler;
+
+    TokenCleanupReaper(long intervalInMillis, long retentionPeriodInMillis, int batchSize, long batchPauseInMillis,
+                       int maxBatchesPerRun, boolean clusterCoordinationEnabled, OldTokensCleanDAO oldTokensCleanDAO,
+                       TokenIssuanceLeaseDAO leaseDAO) {
+
+        this.intervalInMillis = Math.max(intervalInMillis, 1);
+        this.retentionPeriodInMillis = Math.max(retentionPeriodInMillis, 0);
+        this.batchSize = Math.max(batchSize, 1);
+        this.batchPauseInMillis = Math.max(batchPauseInMillis, 0);
+        this.maxBatchesPerRun = Math.max(maxBatchesPerRun, 1);
+        this.clusterCoordinationEnabled = clusterCoordinationEnabled;
+        this.oldTokensCleanDAO = oldTokensCleanDAO;
+        this.leaseDAO = leaseDAO;
+    }
+
+    /**
+     * Check whether the reaper is enabled in the identity configuration.
+     *
+     * @return True if the reaper is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(TokenCleanupReaperConfig.ENABLE));
+    }
+
+    /**
+     * Start the reaper of the server, if it is enabled.
+     */
+    public static void startInstance() {
+
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (TokenCleanupReaper.class) {
+            if (instance != null) {
+                return;
+            }
+            instance = new TokenCleanupReaper(
+                    TimeUnit.SECONDS.toMillis(IdentityConfigUtil.getLongProperty(TokenCleanupReaperConfig.INTERVAL,
+                            TokenCleanupReaperConfig.DEFAULT_INTERVAL)),
+                    TimeUnit.MINUTES.toMillis(IdentityConfigUtil.getLongProperty(
+                            TokenCleanupReaperConfig.RETENTION_PERIOD,
+                            TokenCleanupReaperConfig.DEFAULT_RETENTION_PERIOD)),
+                    IdentityConfigUtil.getIntProperty(TokenCleanupReaperConfig.BATCH_SIZE,
+                            TokenCleanupReaperConfig.DEFAULT_BATCH_SIZE),
+                    IdentityConfigUtil.getLongProperty(TokenCleanupReaperConfig.BATCH_PAUSE,
+                            TokenCleanupReaperConfig.DEFAULT_BATCH_PAUSE),
+                    IdentityConfigUtil.getIntProperty(TokenCleanupReaperConfig.MAX_BATCHES_PER_RUN,
+                            TokenCleanupReaperConfig.DEFAULT_MAX_BATCHES_PER_RUN),
+                    Boolean.parseBoolean(IdentityUtil.getProperty(
+                            TokenCleanupReaperConfig.CLUSTER_COORDINATION_ENABLE)),
+                    new OldTokensCleanDAO(), new TokenIssuanceLeaseDAOImpl());
+            instance.start();
+        }
+    }
+
+    /**
+     * Stop the reaper of the server. A run in progress stops after its current batch.
+     */
+    public static void shutdownInstance() {
+
+        TokenCleanupReaper reaper;
+        synchronized (TokenCleanupReaper.class) {
+            reaper = instance;
+            instance = null;
+        }
+        if (reaper != null) {
+            reaper.shutdown();
+        }
+    }
+
+    void start() {
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, intervalInMillis, intervalInMillis, TimeUnit.MILLISECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("Token cleanup reaper is started with interval: " + intervalInMillis + "ms, batch size: " +
+                    batchSize + " and retention period: " + retentionPeriodInMillis + "ms");
+        }
+    }
+
+    void shutdown() {
+
+        shutdown = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void run() {
+
+        try {
+            reap(System.currentTimeMillis());
+        } catch (Throwable e) {
+            // Do not let the error cancel the subsequent runs.
+            log.error("Error occurred while cleaning up old access tokens and authorization codes.", e);
+        }
+    }
+
+    /**
+     * Remove the access tokens and authorization codes which have not been usable for the retention period.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @throws IdentityOAuth2Exception If an error occurred while acquiring the lease.
+     * @throws SQLException            If an error occurred while removing the rows.
+     */
+    void reap(long currentTime) throws IdentityOAuth2Exception, SQLException {
+
+        if (clusterCoordinationEnabled && !leaseDAO.tryAcquireLease(LEASE_KEY, owner, intervalInMillis)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Token cleanup reaper is running in another node. Hence skipping this run.");
+            }
+            return;
+        }
+        // The lease is left to expire when the run completes, so that the other nodes skip the runs of this interval.
+        long cutoffTime = currentTime - retentionPeriodInMillis;
+        int removedTokens = reap(cutoffTime, tokenCursor, oldTokensCleanDAO::getTokenCleanupCandidates,
+                candidate -> isRemovableToken(candidate, cutoffTime),
+                oldTokensCleanDAO::cleanupTokensByTokenIdInBatch);
+        int removedCodes = reap(cutoffTime, authorizationCodeCursor,
+                oldTokensCleanDAO::getAuthorizationCodeCleanupCandidates,
+                candidate -> isExpired(candidate.getTimeCreated(), candidate.getValidityPeriod(), cutoffTime),
+                oldTokensCleanDAO::cleanupAuthorizationCodesInBatch);
+        if (log.isDebugEnabled()) {
+            log.debug("Token cleanup reaper removed " + removedTokens + " access tokens and " + removedCodes +
+                    " authorization codes.");
+        }
+    }
+
+    private int reap(long cutoffTime, ScanCursor cursor, CandidateRetriever retriever,
+                     Predicate<TokenCleanupCandidate> removable, BatchRemover remover) throws SQLException {
+
+        int removedCount = 0;
+        long from = cursor.from;
+        String fromId = cursor.fromId;
+        boolean completed = false;
+        for (int batch = 0; batch < maxBatchesPerRun && !shutdown; batch++) {
+            if (batch > 0 && !pause()) {
+                break;
+            }
+            List<TokenCleanupCandidate> candidates;
+            List<String> removableIds = new ArrayList<>();
+            try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+                try {
+                    candidates = retriever.retrieve(new Timestamp(from), fromId, new Timestamp(cutoffTime),
+                            batchSize, connection);
+                    for (TokenCleanupCandidate candidate : candidates) {
+                        if (removable.test(candidate)) {
+                            removableIds.add(candidate.getId());
+                        }
+                    }
+                    remover.remove(removableIds, connection);
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                } catch (SQLException e) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    throw e;
+                }
+            }
+            removedCount += removableIds.size();
+            if (candidates.size() < batchSize) {
+                completed = true;
+                break;
+            }
+            // Continue after the last row, so that no row sharing its creation time is skipped or read again.
+            TokenCleanupCandidate lastCandidate = candidates.get(candidates.size() - 1);
+            from = lastCandidate.getTimeCreated();
+            fromId = lastCandidate.getId();
+        }
+        // The next run continues from where this run stopped, or starts over once the end of the table is reached.
+        cursor.from = completed ? 0 : from;
+        cursor.fromId = completed ? ScanCursor.START_ID : fromId;
+        return removedCount;
+    }
+
+    private boolean pause() {
+
+        if (batchPauseInMillis == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseInMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isRemovableToken(TokenCleanupCandidate candidate, long cutoffTime) {
+
+        String state = candidate.getState();
+        if (OAuthConstants.TokenStates.TOKEN_STATE_REVOKED.equals(state) ||
+                OAuthConstants.TokenStates.TOKEN_STATE_INACTIVE.equals(state)) {
+            return true;
+        }
+        // The refresh token of an expired access token can still be used, hence expired tokens are kept like the
+        // active ones until both the access and the refresh tokens have expired.
+        return (OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE.equals(state) ||
+                OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED.equals(state)) &&
+                isExpired(candidate.getTimeCreated(), candidate.getValidityPeriod(), cutoffTime) &&
+                isExpired(candidate.getRefreshTokenTimeCreated(), candidate.getRefreshTokenValidityPeriod(),
+                        cutoffTime);
+    }
+
+    private static boolean isExpired(long timeCreated, long validityPeriod, long cutoffTime) {
+
+        // A negative validity period means that the token never expires.
+        return validityPeriod >= 0 && validityPeriod <= cutoffTime - timeCreated;
+    }
+
+    /**
+     * Creation time and ID of the row after which the walk of a table continues.
+     */
+    private static class ScanCursor {
+
+        private static final String START_ID = "";
+
+        private long from;
+        private String fromId = START_ID;
+    }
+
+    @FunctionalInterface
+    private interface CandidateRetriever {
+
+        List<TokenCleanupCandidate> retrieve(Timestamp from, String fromId, Timestamp to, int limit,
+                                             Connection connection) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface BatchRemover {
+
+        void remove(List<String> ids, Connection connection) throws SQLException;
+    }
+}
@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenExtendedAttributes;
 import org.wso2.carbon.identity.oauth2.model.RefreshTokenValidationDataDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.jwt.RevokedJWTRegistry;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.sql.Connection;
@@ -763,6 +764,7 @@ public class TokenManagementDAOImpl extends AbstractOAuthDAO implements TokenMan
         } catch (SQLException e) {
             throw new IdentityApplicationManagementException("Error while revoking access tokens. ", e);
         }
+        RevokedJWTRegistry.getInstance().revokeTokensOfClient(consumerKey);
     }
 
     /**
@@ -32,6 +32,9 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCache;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheEntry;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheKey;
 import org.wso2.carbon.identity.oauth2.device.codegenerator.GenerateKeys;
 import org.wso2.carbon.identity.oauth2.device.constants.Constants;
 import org.wso2.carbon.identity.oauth2.device.errorcodes.DeviceErrorCodes;
@@ -63,6 +66,7 @@ import static org.wso2.carbon.identity.oauth2.device.constants.Constants.SLOW_DO
 public class DeviceFlowDAOImpl implements DeviceFlowDAO {
 
     private static final Log log = LogFactory.getLog(DeviceFlowDAOImpl.class);
+    private static final String POLLING_STATE_CACHE_KEY_PREFIX = "DeviceFlow:";
 
     @Override
     public String insertDeviceFlowParametersWithQuantifier(String deviceCode, String userCode, long quantifier,
@@ -133,6 +137,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
                 prepStmt.setString(2, userCode);
                 prepStmt.execute();
                 IdentityDatabaseUtil.commitTransaction(connection);
+                clearPollingStateOfUserCode(userCode);
             } catch (SQLException e) {
                 IdentityDatabaseUtil.rollbackTransaction(connection);
                 throw new IdentityOAuth2Exception("Error when setting the authentication status for the user_code: " +
@@ -158,6 +163,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
                 prepStmt.setString(2, userCode);
                 prepStmt.execute();
                 IdentityDatabaseUtil.commitTransaction(connection);
+                clearPollingStateOfUserCode(userCode);
             } catch (SQLException e) {
                 IdentityDatabaseUtil.rollbackTransaction(connection);
                 throw new IdentityOAuth2Exception("Error when setting the authentication status for the user_code: " +
@@ -185,6 +191,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
         String deviceStatus = null;
         Date date = new Date();
         Timestamp newPollTime = new Timestamp(date.getTime());
+        handleCachedPollingState(deviceCode, clientId, newPollTime);
         DeviceFlowDO deviceFlowDO = new DeviceFlowDO();
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
              PreparedStatement prepStmt =
@@ -202,7 +209,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
                             Calendar.getInstance(TimeZone.getTimeZone(Constants.UTC))));
 
                     if (!Constants.AUTHORIZED.equals(deviceStatus)) {
-                        handleAuthorizationPending(deviceStatus, newPollTime, deviceFlowDO);
+                        handleAuthorizationPending(deviceCode, clientId, deviceStatus, newPollTime, deviceFlowDO);
                     }
 
                     userName = resultSet.getString(5);
@@ -250,7 +257,8 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
         }
     }
 
-    private void handleAuthorizationPending(String deviceStatus, Timestamp newPollTime, DeviceFlowDO deviceFlowDO)
+    private void handleAuthorizationPending(String deviceCode, String clientId, String deviceStatus,
+                                            Timestamp newPollTime, DeviceFlowDO deviceFlowDO)
             throws IdentityOAuth2Exception {
 
         if (!isWithinValidPollInterval(newPollTime, deviceFlowDO)) {
@@ -264,10 +272,73 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
                     DeviceErrorCodes.SubDeviceErrorCodesDescriptions.EXPIRED_TOKEN);
         }
 
+        cachePollingState(deviceCode, clientId, deviceStatus, newPollTime, deviceFlowDO);
         throw new IdentityOAuth2Exception(DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING,
                 deviceStatus);
     }
 
+    /**
+     * Answers a poll for a pending device code from the polling state cache, so that polling devices do not read
+     * the device flow entry until its status changes.
+     *
+     * @param deviceCode  Polled device code.
+     * @param clientId    Client id of the polling client.
+     * @param newPollTime Time of the poll.
+     * @throws IdentityOAuth2Exception With authorization_pending or slow_down, if the device code is pending.
+     */
+    private void handleCachedPollingState(String deviceCode, String clientId, Timestamp newPollTime)
+            throws IdentityOAuth2Exception {
+
+        PollingStateCacheKey cacheKey = getPollingStateCacheKey(deviceCode);
+        PollingStateCacheEntry pollingState = PollingStateCache.getInstance().getValueFromCache(cacheKey);
+        if (pollingState == null || !StringUtils.equals(clientId, pollingState.getConsumerKey())) {
+            return;
+        }
+        if (pollingState.isExpired(newPollTime.getTime())) {
+            PollingStateCache.getInstance().clearCacheEntry(cacheKey);
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Serving the polling state of device_code: " + deviceCode + " from cache.");
+        }
+        if (newPollTime.getTime() - pollingState.getLastPolledTime() <= pollingState.getPollingInterval()) {
+            throw new IdentityOAuth2Exception(DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN, SLOW_DOWN);
+        }
+        throw new IdentityOAuth2Exception(DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING,
+                pollingState.getStatus());
+    }
+
+    private void cachePollingState(String deviceCode, String clientId, String deviceStatus, Timestamp newPollTime,
+                                   DeviceFlowDO deviceFlowDO) {
+
+        if (deviceFlowDO.getExpiryTime() == null || !PollingStateCache.getInstance().isPollingStateTrackingEnabled()) {
+            return;
+        }
+        PollingStateCacheEntry pollingState = new PollingStateCacheEntry();
+        pollingState.setConsumerKey(clientId);
+        pollingState.setStatus(deviceStatus);
+        pollingState.setExpiryTime(deviceFlowDO.getExpiryTime().getTime());
+        pollingState.setPollingInterval(deviceFlowDO.getPollTime());
+        pollingState.setLastPolledTime(newPollTime.getTime());
+        PollingStateCache.getInstance().addToCache(getPollingStateCacheKey(deviceCode), pollingState);
+    }
+
+    private void clearPollingState(String deviceCode) {
+
+        PollingStateCache.getInstance().clearCacheEntry(getPollingStateCacheKey(deviceCode));
+    }
+
+    private void clearPollingStateOfUserCode(String userCode) throws IdentityOAuth2Exception {
+
+        Optional<String> deviceCode = getDeviceCodeForUserCode(userCode);
+        deviceCode.ifPresent(this::clearPollingState);
+    }
+
+    private PollingStateCacheKey getPollingStateCacheKey(String deviceCode) {
+
+        return new PollingStateCacheKey(POLLING_STATE_CACHE_KEY_PREFIX + deviceCode);
+    }
+
     @Override
     @Deprecated
     public DeviceFlowDO getAuthenticationDetails(String deviceCode) throws IdentityOAuth2Exception {
@@ -376,6 +447,15 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
         if (log.isDebugEnabled()) {
             log.debug("Setting last_poll_time: " + newPollTime + " for device_code: " + deviceCode);
         }
+        PollingStateCacheKey cacheKey = getPollingStateCacheKey(deviceCode);
+        PollingStateCacheEntry pollingState = PollingStateCache.getInstance().getValueFromCache(cacheKey);
+        if (pollingState != null) {
+            // The device code is still pending, hence track the poll in the polling state cache only. The cache may
+            // hold a copy of the entry, hence the updated polling state is added again.
+            pollingState.setLastPolledTime(newPollTime.getTime());
+            PollingStateCache.getInstance().addToCache(cacheKey, pollingState);
+            return;
+        }
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
             try (PreparedStatement prepStmt =
                          connection.prepareStatement(SQLQueries.DeviceFlowDAOSQLQueries.SET_LAST_POLL_TIME)) {
@@ -417,6 +497,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
                 prepStmt.setString(8, userCode);
                 prepStmt.execute();
                 IdentityDatabaseUtil.commitTransaction(connection);
+                clearPollingStateOfUserCode(userCode);
             } catch (SQLException e) {
                 IdentityDatabaseUtil.rollbackTransaction(connection);
                 throw new IdentityOAuth2Exception("Error when setting authenticated user for user_code: " +
@@ -441,6 +522,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
                 prepStmt.setString(2, deviceCode);
                 prepStmt.execute();
                 IdentityDatabaseUtil.commitTransaction(connection);
+                clearPollingState(deviceCode);
             } catch (SQLException e) {
                 IdentityDatabaseUtil.rollbackTransaction(connection);
                 throw new IdentityOAuth2Exception("Error when setting expired status for device_code: " +
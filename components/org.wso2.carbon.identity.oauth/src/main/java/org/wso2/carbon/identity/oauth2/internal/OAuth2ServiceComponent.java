@@ -74,7 +74,9 @@ import org.wso2.carbon.identity.oauth2.client.authentication.OAuthClientAuthenti
 import org.wso2.carbon.identity.oauth2.client.authentication.OAuthClientAuthnService;
 import org.wso2.carbon.identity.oauth2.client.authentication.PublicClientAuthenticator;
 import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.KnownAccessTokenFilter;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.dao.TokenCleanupReaper;
 import org.wso2.carbon.identity.oauth2.dao.TokenManagementDAO;
 import org.wso2.carbon.identity.oauth2.device.api.DeviceAuthService;
 import org.wso2.carbon.identity.oauth2.device.api.DeviceAuthServiceImpl;
@@ -111,6 +113,7 @@ import org.wso2.carbon.identity.oauth2.token.handlers.claims.ImpersonatedAccessT
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
 import org.wso2.carbon.identity.oauth2.token.handlers.response.AccessTokenResponseHandler;
 import org.wso2.carbon.identity.oauth2.token.handlers.response.FederatedTokenResponseHandler;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLockManager;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.oauth2.validators.scope.RoleBasedScopeIssuer;
 import org.wso2.carbon.identity.oauth2.validators.scope.ScopeValidator;
@@ -486,6 +489,17 @@ public class OAuth2ServiceComponent {
                 || OAuthServerConfiguration.getInstance().isUseLegacyPermissionAccessForUserBasedAuth()) {
             initializeLegacyScopeToNewScopeMappings();
         }
+        TokenCleanupReaper.startInstance();
+        KnownAccessTokenFilter.startInstance();
+    }
+
+    protected void deactivate(ComponentContext context) {
+
+        TokenCleanupReaper.shutdownInstance();
+        KnownAccessTokenFilter.shutdownInstance();
+        if (log.isDebugEnabled()) {
+            log.debug("Identity OAuth bundle is deactivated");
+        }
     }
 
     /**
@@ -891,6 +905,39 @@ public class OAuth2ServiceComponent {
         OAuth2ServiceComponentHolder.getInstance().setRefreshTokenGrantProcessor(null);
     }
 
+    /**
+     * Sets the token issuance lock manager.
+     *
+     * @param tokenIssuanceLockManager TokenIssuanceLockManager
+     */
+    @Reference(
+            name = "token.issuance.lock.manager",
+            service = TokenIssuanceLockManager.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetTokenIssuanceLockManager"
+    )
+    protected void setTokenIssuanceLockManager(TokenIssuanceLockManager tokenIssuanceLockManager) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Setting token issuance lock manager.");
+        }
+        OAuth2ServiceComponentHolder.getInstance().setTokenIssuanceLockManager(tokenIssuanceLockManager);
+    }
+
+    /**
+     * Unsets the token issuance lock manager.
+     *
+     * @param tokenIssuanceLockManager TokenIssuanceLockManager
+     */
+    protected void unsetTokenIssuanceLockManager(TokenIssuanceLockManager tokenIssuanceLockManager) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Unset token issuance lock manager.");
+        }
+        OAuth2ServiceComponentHolder.getInstance().setTokenIssuanceLockManager(null);
+    }
+
     /**
      * Sets the access token grant processor.
      *
@@ -30,6 +30,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.consent.server.configs.mgt.services.ConsentServerConfigsManagementService;
 import org.wso2.carbon.identity.core.SAMLSSOServiceProviderManager;
 import org.wso2.carbon.identity.core.handler.HandlerComparator;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountDisableService;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
@@ -42,6 +43,7 @@ import org.wso2.carbon.identity.oauth.tokenprocessor.DefaultTokenProvider;
 import org.wso2.carbon.identity.oauth.tokenprocessor.OAuth2RevocationProcessor;
 import org.wso2.carbon.identity.oauth.tokenprocessor.RefreshTokenGrantProcessor;
 import org.wso2.carbon.identity.oauth.tokenprocessor.TokenProvider;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.OAuthAuthorizationRequestBuilder;
 import org.wso2.carbon.identity.oauth2.authz.validators.ResponseTypeRequestValidator;
 import org.wso2.carbon.identity.oauth2.bean.Scope;
@@ -55,6 +57,9 @@ import org.wso2.carbon.identity.oauth2.rar.validator.DefaultAuthorizationDetails
 import org.wso2.carbon.identity.oauth2.responsemode.provider.ResponseModeProvider;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
+import org.wso2.carbon.identity.oauth2.token.lock.ClusteredTokenIssuanceLockManager;
+import org.wso2.carbon.identity.oauth2.token.lock.DefaultTokenIssuanceLockManager;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLockManager;
 import org.wso2.carbon.identity.openidconnect.ClaimProvider;
 import org.wso2.carbon.identity.openidconnect.dao.ScopeClaimMappingDAO;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
@@ -120,6 +125,7 @@ public class OAuth2ServiceComponentHolder {
     private RefreshTokenGrantProcessor refreshTokenGrantProcessor;
     private OAuth2RevocationProcessor revocationProcessor;
     private TokenProvider tokenProvider;
+    private volatile TokenIssuanceLockManager tokenIssuanceLockManager;
     private AuthorizedAPIManagementService authorizedAPIManagementService;
     private APIResourceManager apiResourceManager;
     private RoleManagementService roleManagementServiceV2;
@@ -566,6 +572,38 @@ public class OAuth2ServiceComponentHolder {
         this.revocationProcessor = revocationProcessor;
     }
 
+    /**
+     * Get Token Issuance Lock Manager.
+     *
+     * @return Token Issuance Lock Manager.
+     */
+    public TokenIssuanceLockManager getTokenIssuanceLockManager() {
+
+        if (tokenIssuanceLockManager == null) {
+            synchronized (this) {
+                if (tokenIssuanceLockManager == null) {
+                    if (Boolean.parseBoolean(IdentityUtil.getProperty(
+                            OAuth2Constants.TokenIssuanceLockConfig.CLUSTER_COORDINATION_ENABLE))) {
+                        tokenIssuanceLockManager = new ClusteredTokenIssuanceLockManager();
+                    } else {
+                        tokenIssuanceLockManager = new DefaultTokenIssuanceLockManager();
+                    }
+                }
+            }
+        }
+        return tokenIssuanceLockManager;
+    }
+
+    /**
+     * Set Token Issuance Lock Manager.
+     *
+     * @param tokenIssuanceLockManager Token Issuance Lock Manager.
+     */
+    public void setTokenIssuanceLockManager(TokenIssuanceLockManager tokenIssuanceLockManager) {
+
+        this.tokenIssuanceLockManager = tokenIssuanceLockManager;
+    }
+
     public static boolean isRestrictUnassignedScopes() {
 
         return restrictUnassignedScopes;
@@ -48,8 +48,11 @@ import org.wso2.carbon.identity.oauth.cache.AppInfoCache;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth.cache.ClientCertificateCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
+import org.wso2.carbon.identity.oauth.cache.UnknownClientCache;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
@@ -59,6 +62,7 @@ import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeConsentException;
+import org.wso2.carbon.identity.oauth2.dao.BulkTokenRevocationEngine;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
@@ -135,12 +139,14 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
             throws IdentityApplicationManagementException {
 
         addClientSecret(serviceProvider, tenantDomain);
+        clearClientCaches(serviceProvider, tenantDomain);
         return true;
     }
 
     public boolean doPostUpdateApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
             throws IdentityApplicationManagementException {
 
+        clearClientCaches(serviceProvider, tenantDomain);
         revokeAccessTokensWhenSaaSDisabled(serviceProvider, tenantDomain);
         addClientSecret(serviceProvider, tenantDomain);
         updateAuthApplication(serviceProvider);
@@ -381,6 +387,34 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
         }
     }
 
+    /**
+     * Remove the cache entries of the OAuth client IDs of the given service provider, so that a client ID which has
+     * just been bound to the service provider is no longer reported as unknown and a replaced certificate of the
+     * client is not kept in memory.
+     *
+     * @param serviceProvider Created or updated service provider.
+     * @param tenantDomain    Tenant domain of the service provider.
+     */
+    private void clearClientCaches(ServiceProvider serviceProvider, String tenantDomain) {
+
+        if (serviceProvider == null || serviceProvider.getInboundAuthenticationConfig() == null) {
+            return;
+        }
+        InboundAuthenticationRequestConfig[] inboundRequestConfigs = serviceProvider
+                .getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs();
+        if (inboundRequestConfigs == null) {
+            return;
+        }
+        for (InboundAuthenticationRequestConfig inboundRequestConfig : inboundRequestConfigs) {
+            if (OAUTH2.equals(inboundRequestConfig.getInboundAuthType())) {
+                UnknownClientCache.getInstance().clearCacheEntry(inboundRequestConfig.getInboundAuthKey(),
+                        tenantDomain);
+                ClientCertificateCache.getInstance().clearCacheEntry(inboundRequestConfig.getInboundAuthKey(),
+                        tenantDomain);
+            }
+        }
+    }
+
     private void addClientSecret(ServiceProvider serviceProvider, String tenantDomain)
             throws IdentityApplicationManagementException {
 
@@ -510,18 +544,7 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
         OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(consumerKey));
         if (isNotEmpty(accessTokenDOSet)) {
             for (AccessTokenDO accessTokenDo : accessTokenDOSet) {
-                String tokenBindingReference = "NONE";
-                if (accessTokenDo.getTokenBinding() != null && StringUtils
-                        .isNotBlank(accessTokenDo.getTokenBinding().getBindingReference())) {
-                    tokenBindingReference = accessTokenDo.getTokenBinding().getBindingReference();
-                }
-                // Remove access token from OAuthCache.
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDo.getScope()), tokenBindingReference);
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDo.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDo);
+                clearCacheEntriesAgainstTokenKeys(accessTokenDo);
             }
 
             Set<String> accessTokens = OAuthTokenPersistenceFactory.getInstance()
@@ -530,7 +553,7 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
                 // Remove access token from AuthorizationGrantCache
                 AuthorizationGrantCacheKey grantCacheKey = new AuthorizationGrantCacheKey(accessToken);
                 AuthorizationGrantCache.getInstance().clearCacheEntryByToken(grantCacheKey);
-                OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessToken);
+                OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessToken, OAuthCacheType.ACCESS_TOKEN);
                 CacheEntry oauthCacheEntry = OAuthCache.getInstance().getValueFromCache(oauthCacheKey);
                 if (oauthCacheEntry != null) {
                     OAuthCache.getInstance().clearCacheEntry(oauthCacheKey);
@@ -540,6 +563,33 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
         }
     }
 
+    private void clearCacheEntriesAgainstTokenKeys(AccessTokenDO accessTokenDo) {
+
+        String tokenBindingReference = "NONE";
+        if (accessTokenDo.getTokenBinding() != null && StringUtils
+                .isNotBlank(accessTokenDo.getTokenBinding().getBindingReference())) {
+            tokenBindingReference = accessTokenDo.getTokenBinding().getBindingReference();
+        }
+        // Remove access token from OAuthCache.
+        OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDo.getScope()), tokenBindingReference);
+        OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDo.getScope()));
+        OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser());
+        OAuthUtil.clearOAuthCache(accessTokenDo);
+    }
+
+    private void clearCacheEntriesAgainstToken(AccessTokenDO accessTokenDo, String tenantDomain) {
+
+        clearCacheEntriesAgainstTokenKeys(accessTokenDo);
+        // Remove access token from AuthorizationGrantCache
+        AuthorizationGrantCacheKey grantCacheKey = new AuthorizationGrantCacheKey(accessTokenDo.getAccessToken());
+        AuthorizationGrantCache.getInstance().clearCacheEntryByToken(grantCacheKey);
+        OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessTokenDo.getAccessToken(), OAuthCacheType.ACCESS_TOKEN);
+        OAuthCache.getInstance().clearCacheEntry(oauthCacheKey);
+        OAuthCache.getInstance().clearCacheEntry(oauthCacheKey, tenantDomain);
+    }
+
     /**
      * Clear the cache entries against the authorization code.
      *
@@ -563,7 +613,7 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
                 OAuthCache.getInstance().clearCacheEntry(oauthCacheKey, tenantDomain);
             }
             OAuthCacheKey cacheKey = new OAuthCacheKey(OAuth2Util.buildCacheKeyStringForAuthzCode(
-                    consumerKey, authzCode));
+                    consumerKey, authzCode), OAuthCacheType.AUTHORIZATION_CODE);
             OAuthCache.getInstance().clearCacheEntry(cacheKey);
         }
     }
@@ -607,7 +657,8 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
             AuthorizationGrantCache.getInstance()
                     .clearCacheEntryByTokenId(grantCacheKey, accessTokenDo.getTokenId());
             // Remove access token from OAuthCache
-            OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessTokenDo.getAccessToken());
+            OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessTokenDo.getAccessToken(),
+                    OAuthCacheType.ACCESS_TOKEN);
             CacheEntry oauthCacheEntry = OAuthCache.getInstance().getValueFromCache(oauthCacheKey);
             if (oauthCacheEntry != null) {
                 OAuthCache.getInstance().clearCacheEntry(oauthCacheKey);
@@ -741,6 +792,10 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
                     .equalsIgnoreCase(config.getInboundAuthType()) &&
                     config.getInboundAuthKey() != null) {
                 String oauthKey = config.getInboundAuthKey();
+                if (BulkTokenRevocationEngine.isEnabled()) {
+                    revokeTokensInBatches(oauthKey, tenantDomain);
+                    continue;
+                }
                 int countToken = 0;
                 Set<AccessTokenDO> activeDetailedTokens;
                 try {
@@ -764,6 +819,31 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
         }
     }
 
+    /**
+     * Revokes the active tokens of an OAuth application in bounded batches and removes them from the cache.
+     *
+     * @param consumerKey  Consumer key of the application.
+     * @param tenantDomain Application tenant domain.
+     * @throws IdentityApplicationManagementException
+     */
+    private void revokeTokensInBatches(String consumerKey, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        AppInfoCache.getInstance().clearCacheEntry(consumerKey, tenantDomain);
+        OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(consumerKey));
+        try {
+            new BulkTokenRevocationEngine().revokeTokensOfApplication(consumerKey,
+                    IdentityTenantUtil.getLoginTenantId(), accessTokenDOs -> {
+                        for (AccessTokenDO accessTokenDo : accessTokenDOs) {
+                            clearCacheEntriesAgainstToken(accessTokenDo, tenantDomain);
+                        }
+                    });
+        } catch (IdentityOAuth2Exception e) {
+            throw new IdentityApplicationManagementException("Error occurred while revoking tokens for client ID: " +
+                    consumerKey + " and tenant domain: " + tenantDomain, e);
+        }
+    }
+
     /**
      * Revokes active authz code of OAuth applications if application is disabled.
      *
@@ -22,8 +22,10 @@ import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.core.AbstractIdentityTenantMgtListener;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
+import org.wso2.carbon.identity.oauth.cache.TenantMetadataCache;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.BulkTokenRevocationEngine;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
@@ -48,17 +50,40 @@ public class OAuthTenantMgtListenerImpl extends AbstractIdentityTenantMgtListene
     @Override
     public void onPreDelete(int tenantId) throws StratosException {
 
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+        TenantMetadataCache.getInstance().clearCacheEntry(tenantDomain);
         clearTokenData(tenantId);
+        OAuth2Util.clearSigningContext(tenantDomain);
     }
 
     @Override
     public void onTenantDeactivation(int tenantId) throws StratosException {
 
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+        TenantMetadataCache.getInstance().clearCacheEntry(tenantDomain);
         clearTokenData(tenantId);
+        OAuth2Util.clearSigningContext(tenantDomain);
+    }
+
+    @Override
+    public void onTenantActivation(int tenantId) throws StratosException {
+
+        TenantMetadataCache.getInstance().clearCacheEntry(IdentityTenantUtil.getTenantDomain(tenantId));
+    }
+
+    @Override
+    public void onTenantRename(int tenantId, String oldDomainName, String newDomainName) throws StratosException {
+
+        TenantMetadataCache.getInstance().clearCacheEntry(oldDomainName);
+        TenantMetadataCache.getInstance().clearCacheEntry(newDomainName);
     }
 
     private void clearTokenData(int tenantId) throws StratosException {
 
+        if (BulkTokenRevocationEngine.isEnabled()) {
+            clearTokenDataInBatches(tenantId);
+            return;
+        }
         try {
             Set<AccessTokenDO> accessTokenDOs = OAuthTokenPersistenceFactory.getInstance()
                     .getAccessTokenDAO().getAccessTokensByTenant(tenantId);
@@ -85,18 +110,7 @@ public class OAuthTenantMgtListenerImpl extends AbstractIdentityTenantMgtListene
                 }
 
                 //Clear cache
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDO);
-                TokenBinding tokenBinding = accessTokenDO.getTokenBinding();
-                String tokenBindingReference = (tokenBinding != null &&
-                        StringUtils.isNotBlank(tokenBinding.getBindingReference())) ?
-                        tokenBinding.getBindingReference() : NONE;
-                String authorizedOrgId = StringUtils.isNotEmpty(accessTokenDO.getAuthorizedOrganizationId()) ?
-                        accessTokenDO.getAuthorizedOrganizationId() : OAuthConstants.AuthorizedOrganization.NONE;
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference, authorizedOrgId);
+                clearOAuthCache(accessTokenDO);
             }
             ArrayList<String> tokensToRevoke = new ArrayList<>();
             for (Map.Entry entry : latestAccessTokens.entrySet()) {
@@ -121,4 +135,60 @@ public class OAuthTenantMgtListenerImpl extends AbstractIdentityTenantMgtListene
             throw new StratosException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Revoke the tokens of the tenant and the tokens authorized for the organization of the tenant in bounded
+     * batches, and deactivate the latest authorization codes of the tenant.
+     *
+     * @param tenantId Tenant id.
+     * @throws StratosException If an error occurred while revoking the tokens.
+     */
+    private void clearTokenDataInBatches(int tenantId) throws StratosException {
+
+        try {
+            BulkTokenRevocationEngine bulkTokenRevocationEngine = new BulkTokenRevocationEngine();
+            bulkTokenRevocationEngine.revokeTokensOfTenant(tenantId, this::clearOAuthCacheOfBatch);
+            String organizationId =
+                    OAuth2ServiceComponentHolder.getInstance().getOrganizationManager().resolveOrganizationId(
+                            IdentityTenantUtil.getTenantDomain(tenantId));
+            bulkTokenRevocationEngine.revokeTokensOfOrganization(organizationId, this::clearOAuthCacheOfBatch);
+
+            List<AuthzCodeDO> latestAuthzCodes = OAuthTokenPersistenceFactory.getInstance()
+                    .getAuthorizationCodeDAO().getLatestAuthorizationCodesByTenant(tenantId);
+            for (AuthzCodeDO authzCodeDO : latestAuthzCodes) {
+                // remove the authorization code from the cache
+                OAuthUtil.clearOAuthCache(authzCodeDO.getConsumerKey() + ":" +
+                        authzCodeDO.getAuthorizationCode());
+            }
+            OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO()
+                    .deactivateAuthorizationCodes(latestAuthzCodes);
+        } catch (IdentityOAuth2Exception e) {
+            throw new StratosException("Error occurred while revoking the access tokens in tenant " + tenantId, e);
+        } catch (OrganizationManagementException e) {
+            throw new StratosException(e.getMessage(), e);
+        }
+    }
+
+    private void clearOAuthCacheOfBatch(List<AccessTokenDO> accessTokenDOs) {
+
+        for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+            clearOAuthCache(accessTokenDO);
+        }
+    }
+
+    private void clearOAuthCache(AccessTokenDO accessTokenDO) {
+
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()));
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
+        OAuthUtil.clearOAuthCache(accessTokenDO);
+        TokenBinding tokenBinding = accessTokenDO.getTokenBinding();
+        String tokenBindingReference = (tokenBinding != null &&
+                StringUtils.isNotBlank(tokenBinding.getBindingReference())) ?
+                tokenBinding.getBindingReference() : NONE;
+        String authorizedOrgId = StringUtils.isNotEmpty(accessTokenDO.getAuthorizedOrganizationId()) ?
+                accessTokenDO.getAuthorizedOrganizationId() : OAuthConstants.AuthorizedOrganization.NONE;
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference, authorizedOrgId);
+    }
 }
@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetails;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.openidconnect.model.OIDCClaimResolutionContext;
 
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,8 @@ public class OAuthTokenReqMessageContext {
 
     private AuthorizationDetails authorizationDetails;
 
+    private OIDCClaimResolutionContext claimResolutionContext;
+
     public OAuthTokenReqMessageContext(OAuth2AccessTokenReqDTO oauth2AccessTokenReqDTO) {
 
         this.oauth2AccessTokenReqDTO = oauth2AccessTokenReqDTO;
@@ -267,4 +270,22 @@ public class OAuthTokenReqMessageContext {
 
         this.refreshTokenValidityPeriodInMillis = refreshTokenValidityPeriodInMillis;
     }
+
+    /**
+     * Get the claim resolution context shared by the token builders of this request.
+     *
+     * @return Claim resolution context of the request.
+     */
+    public OIDCClaimResolutionContext getClaimResolutionContext() {
+
+        if (claimResolutionContext == null) {
+            claimResolutionContext = new OIDCClaimResolutionContext();
+        }
+        return claimResolutionContext;
+    }
+
+    public void setClaimResolutionContext(OIDCClaimResolutionContext claimResolutionContext) {
+
+        this.claimResolutionContext = claimResolutionContext;
+    }
 }
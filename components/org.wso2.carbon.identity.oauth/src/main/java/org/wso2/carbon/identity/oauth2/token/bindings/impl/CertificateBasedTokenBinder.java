@@ -25,6 +25,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.oltu.oauth2.common.exception.OAuthSystemException;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.ClientCertificateCache;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
@@ -164,6 +165,11 @@ public class CertificateBasedTokenBinder extends AbstractTokenBinder {
                 .orElse(null);
 
         if (StringUtils.isNotBlank(certificateInHeader)) {
+            // The thumbprint of a certificate presented earlier is reused without parsing the certificate again.
+            String cachedThumbprint = ClientCertificateCache.getInstance().getThumbprint(certificateInHeader);
+            if (cachedThumbprint != null) {
+                return cachedThumbprint;
+            }
             try {
                 certificate = parseCertificate(certificateInHeader);
             } catch (CertificateException | UnsupportedEncodingException e) {
@@ -183,6 +189,9 @@ public class CertificateBasedTokenBinder extends AbstractTokenBinder {
 
         if (certificate != null) {
             certThumbprint = X509CertUtils.computeSHA256Thumbprint(certificate);
+            if (StringUtils.isNotBlank(certificateInHeader)) {
+                ClientCertificateCache.getInstance().addThumbprint(certificateInHeader, certThumbprint.toString());
+            }
             return certThumbprint.toString();
         } else {
             if (log.isDebugEnabled()) {
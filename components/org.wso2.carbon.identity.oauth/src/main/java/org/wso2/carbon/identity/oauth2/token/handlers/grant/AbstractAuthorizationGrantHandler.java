@@ -44,6 +44,7 @@ import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.callback.OAuthCallback;
 import org.wso2.carbon.identity.oauth.callback.OAuthCallbackManager;
 import org.wso2.carbon.identity.oauth.common.OAuth2ErrorCodes;
@@ -65,6 +66,7 @@ import org.wso2.carbon.identity.oauth2.rar.AuthorizationDetailsService;
 import org.wso2.carbon.identity.oauth2.rar.util.AuthorizationDetailsUtils;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.oauth2.util.Oauth2ScopeUtils;
 import org.wso2.carbon.identity.oauth2.validators.OAuth2ScopeHandler;
@@ -178,7 +180,8 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
                     "Error while retrieving oauth issuer for the app with clientId: " + consumerKey, e);
         }
 
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference).intern()) {
+        try (TokenIssuanceLock ignored = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .acquire(consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference)) {
             AccessTokenDO existingTokenBean = null;
 
             OAuthAppDO oAuthAppDO = (OAuthAppDO) tokReqMsgCtx.getProperty(OAUTH_APP);
@@ -883,7 +886,8 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
         if (isHashDisabled && cacheEnabled) {
             oauthCache.addToCache(cacheKey, existingAccessTokenDO);
             // Adding AccessTokenDO to improve validation performance
-            OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(existingAccessTokenDO.getAccessToken());
+            OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(existingAccessTokenDO.getAccessToken(),
+                    OAuthCacheType.ACCESS_TOKEN);
             oauthCache.addToCache(accessTokenCacheKey, existingAccessTokenDO);
             if (log.isDebugEnabled()) {
                 log.debug("Access Token info was added to the cache for the cache key : " +
@@ -960,7 +964,7 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
 
         String cacheKeyString = OAuth2Util.buildCacheKeyStringForTokenWithUserIdOrgId(consumerKey, scope,
                 authorizedUserId, authenticatedIDP, tokenBindingType, authorizedOrganization);
-        return new OAuthCacheKey(cacheKeyString);
+        return new OAuthCacheKey(cacheKeyString, OAuthCacheType.TOKEN_ISSUANCE);
     }
 
     private OAuthAppDO getoAuthApp(String consumerKey) throws IdentityOAuth2Exception {
@@ -36,6 +36,7 @@ import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
@@ -53,6 +54,7 @@ import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.rar.util.AuthorizationDetailsUtils;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.jwt.RevokedJWTRegistry;
 import org.wso2.carbon.utils.DiagnosticLog;
 
 import java.util.HashMap;
@@ -171,7 +173,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
         if (cacheEnabled) {
             String clientId = tokReqMsgCtx.getOauth2AccessTokenReqDTO().getClientId();
             OAuthCacheKey cacheKey = new OAuthCacheKey(OAuth2Util.buildCacheKeyStringForAuthzCode(
-                    clientId, authzCode));
+                    clientId, authzCode), OAuthCacheType.AUTHORIZATION_CODE);
             OAuthCache.getInstance().clearCacheEntry(cacheKey);
 
             if (log.isDebugEnabled()) {
@@ -279,7 +281,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
         // If cache is enabled, check in the cache first.
         if (cacheEnabled) {
             OAuthCacheKey cacheKey = new OAuthCacheKey(OAuth2Util.buildCacheKeyStringForAuthzCode(
-                    tokenReqDTO.getClientId(), tokenReqDTO.getAuthorizationCode()));
+                    tokenReqDTO.getClientId(), tokenReqDTO.getAuthorizationCode()), OAuthCacheType.AUTHORIZATION_CODE);
             authzCodeDO = (AuthzCodeDO) OAuthCache.getInstance().getValueFromCache(cacheKey);
             if (authzCodeDO != null) {
                 return authzCodeDO;
@@ -348,6 +350,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
             }
         }
         OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().revokeAccessToken(tokenId, userId);
+        RevokedJWTRegistry.getInstance().addRevokedToken(accessToken);
         clearAccessTokenOAuthCache(accessTokenDO);
 
         if (log.isDebugEnabled()) {
@@ -472,7 +475,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
 
         if (cacheEnabled) {
             String cacheKeyString = buildCacheKeyForToken(clientId, authzCodeBean);
-            OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(cacheKeyString));
+            OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(cacheKeyString, OAuthCacheType.TOKEN_ISSUANCE));
             if (log.isDebugEnabled()) {
                 log.debug("Removed token from cache for user : " + authzCodeBean.getAuthorizedUser().toString() +
                         ", for client : " + clientId);
@@ -490,7 +493,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
                 }
                 return;
             }
-            OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(tokenAlias));
+            OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(tokenAlias, OAuthCacheType.ACCESS_TOKEN));
             if (log.isDebugEnabled()) {
                 if (IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.ACCESS_TOKEN)) {
                     log.debug("Removed token from cache for token alias : " + tokenAlias);
@@ -565,7 +568,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
             // remove the authorization code from the cache
             OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(
                     OAuth2Util.buildCacheKeyStringForAuthzCode(authzCodeBean.getConsumerKey(),
-                            authzCodeBean.getAuthorizationCode())));
+                            authzCodeBean.getAuthorizationCode()), OAuthCacheType.AUTHORIZATION_CODE));
             if (log.isDebugEnabled()) {
                 log.debug("Expired Authorization code issued for client " + authzCodeBean.getConsumerKey() +
                         " was removed from the cache.");
@@ -610,7 +613,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
             // remove the authorization code from the cache
             OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(
                     OAuth2Util.buildCacheKeyStringForAuthzCode(authzCodeBean.getConsumerKey(),
-                            authzCodeBean.getAuthorizationCode())));
+                            authzCodeBean.getAuthorizationCode()), OAuthCacheType.AUTHORIZATION_CODE));
             if (log.isDebugEnabled()) {
                 log.debug("Revoked Authorization code issued for client " + authzCodeBean.getConsumerKey() +
                         " was removed from the cache.");
@@ -45,6 +45,7 @@ import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheEntry;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.common.OAuth2ErrorCodes;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
@@ -69,6 +70,7 @@ import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.FederatedAssociationManager;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.exception.FederatedAssociationManagerClientException;
@@ -165,7 +167,8 @@ public class RefreshGrantHandler extends AbstractAuthorizationGrantHandler {
                     + tokReqMsgCtx.getAuthorizedUser().getLoggableMaskedUserId(), e);
         }
         String tokenBindingReference = getTokenBindingReference(tokReqMsgCtx);
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference).intern()) {
+        try (TokenIssuanceLock ignored = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .acquire(consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference)) {
             // sets accessToken, refreshToken and validity data
             setTokenData(accessTokenBean, tokReqMsgCtx, validationBean, tokenReq, accessTokenBean.getIssuedTime());
             persistNewToken(tokReqMsgCtx, accessTokenBean, tokenReq.getClientId());
@@ -495,12 +498,13 @@ public class RefreshGrantHandler extends AbstractAuthorizationGrantHandler {
             }
             String cacheKeyString = buildCacheKeyStringForTokenWithUserIdOrgId(clientId, scope, userId,
                     authenticatedIDP, oldAccessToken.getTokenBindingReference(), accessingOrganization);
-            OAuthCacheKey oauthCacheKey = new OAuthCacheKey(cacheKeyString);
+            OAuthCacheKey oauthCacheKey = new OAuthCacheKey(cacheKeyString, OAuthCacheType.TOKEN_ISSUANCE);
             OAuthCache.getInstance().clearCacheEntry(oauthCacheKey, accessTokenBean.getAuthzUser().getTenantDomain());
 
             // Remove old access token from the AccessTokenCache
             if (oldAccessToken.getAccessToken() != null) {
-                OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(oldAccessToken.getAccessToken());
+                OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(oldAccessToken.getAccessToken(),
+                        OAuthCacheType.ACCESS_TOKEN);
                 OAuthCache.getInstance().clearCacheEntry(accessTokenCacheKey,
                         oldAccessToken.getAuthorizedUser().getTenantDomain());
             }
@@ -622,12 +626,12 @@ public class RefreshGrantHandler extends AbstractAuthorizationGrantHandler {
                 authorizedUserId, authenticatedIDP, tokenBindingReference);
 
         // Remove the old access token from the OAuthCache
-        OAuthCacheKey oauthCacheKey = new OAuthCacheKey(cacheKeyString);
+        OAuthCacheKey oauthCacheKey = new OAuthCacheKey(cacheKeyString, OAuthCacheType.TOKEN_ISSUANCE);
         OAuthCache.getInstance().clearCacheEntry(oauthCacheKey, tenantDomain);
 
         // Remove the old access token from the AccessTokenCache
         if (accessToken != null) {
-            OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(accessToken);
+            OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(accessToken, OAuthCacheType.ACCESS_TOKEN);
             OAuthCache.getInstance().clearCacheEntry(accessTokenCacheKey, tenantDomain);
         }
 
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TokenIssuanceLockManager} which serializes token issuance across all the nodes of a cluster. Requests of the
+ * same node are first serialized on a local lock, and the holder of the local lock then acquires a database lease
+ * for the key. Since the token of a key is only issued by the lease holder, the requests waiting on other nodes find
+ * and reuse that token once they get the lease, instead of racing to insert a new one.
+ * Leases expire after the configured lease duration, so a crashed node can not block a key indefinitely.
+ * <p>
+ * A thread holds at most one lease. Locks acquired while the thread already holds a lease, e.g. the token key locked
+ * within the authorization code lock of the same issuance, only take the local lock and share the outer lease.
+ */
+public class ClusteredTokenIssuanceLockManager implements TokenIssuanceLockManager {
+
+    private static final Log log = LogFactory.getLog(ClusteredTokenIssuanceLockManager.class);
+    private final String nodeId = UUID.randomUUID().toString();
+    private final DefaultTokenIssuanceLockManager localLockManager;
+    private final TokenIssuanceLeaseDAO leaseDAO;
+    private final long lockTimeoutInMillis;
+    private final long leaseDurationInMillis;
+    private final long pollIntervalInMillis;
+    // Lease held by the current thread, shared by the nested acquisitions of the thread.
+    private final ThreadLocal<HeldLease> heldLease = new ThreadLocal<>();
+
+    private final AtomicLong leaseAcquiredCount = new AtomicLong();
+    private final AtomicLong leaseContendedCount = new AtomicLong();
+
+    public ClusteredTokenIssuanceLockManager() {
+
+        this(new TokenIssuanceLeaseDAOImpl(),
+                IdentityConfigUtil.getLongProperty(OAuth2Constants.TokenIssuanceLockConfig.LOCK_TIMEOUT,
+                        OAuth2Constants.TokenIssuanceLockConfig.DEFAULT_LOCK_TIMEOUT),
+                IdentityConfigUtil.getLongProperty(
+                        OAuth2Constants.TokenIssuanceLockConfig.LEASE_DURATION,
+                        OAuth2Constants.TokenIssuanceLockConfig.DEFAULT_LEASE_DURATION),
+                IdentityConfigUtil.getLongProperty(
+                        OAuth2Constants.TokenIssuanceLockConfig.LEASE_POLL_INTERVAL,
+                        OAuth2Constants.TokenIssuanceLockConfig.DEFAULT_LEASE_POLL_INTERVAL));
+    }
+
+    /**
+     * @param leaseDAO              DAO of the token issuance leases.
+     * @param lockTimeoutInMillis   Maximum time to wait for a lock. A non positive value waits until the lock is
+     *                              available.
+     * @param leaseDurationInMillis Time after which a lease that was not released can be taken over by another node.
+     * @param pollIntervalInMillis  Interval between two attempts to acquire a lease held by another node.
+     */
+    public ClusteredTokenIssuanceLockManager(TokenIssuanceLeaseDAO leaseDAO, long lockTimeoutInMillis,
+                                             long leaseDurationInMillis, long pollIntervalInMillis) {
+
+        this.localLockManager = new DefaultTokenIssuanceLockManager(lockTimeoutInMillis);
+        this.leaseDAO = leaseDAO;
+        this.lockTimeoutInMillis = lockTimeoutInMillis;
+        this.leaseDurationInMillis = leaseDurationInMillis;
+        this.pollIntervalInMillis = Math.max(1, pollIntervalInMillis);
+    }
+
+    @Override
+    public TokenIssuanceLock acquire(String lockKey) throws IdentityOAuth2Exception {
+
+        long start = System.currentTimeMillis();
+        TokenIssuanceLock localLock = localLockManager.acquire(lockKey);
+        HeldLease lease = heldLease.get();
+        if (lease == null) {
+            // Lock keys contain the scopes of the token, hence they are hashed to fit into the lease key column.
+            lease = new HeldLease(DigestUtils.sha256Hex(lockKey), nodeId + ":" + Thread.currentThread().getId());
+            try {
+                waitForLease(lease.leaseKey, lease.owner, start);
+            } catch (IdentityOAuth2Exception e) {
+                localLock.close();
+                throw e;
+            }
+            heldLease.set(lease);
+        }
+        lease.holdCount++;
+
+        HeldLease acquiredLease = lease;
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (--acquiredLease.holdCount == 0) {
+                    heldLease.remove();
+                    leaseDAO.releaseLease(acquiredLease.leaseKey, acquiredLease.owner);
+                }
+            } catch (IdentityOAuth2Exception e) {
+                // The lease will be released once it expires.
+                log.error("Error while releasing the token issuance lease. The lease will be released after " +
+                        leaseDurationInMillis + "ms.", e);
+            } finally {
+                localLock.close();
+            }
+        };
+    }
+
+    /**
+     * Get the number of leases acquired by this node.
+     *
+     * @return Number of acquired leases.
+     */
+    public long getLeaseAcquiredCount() {
+
+        return leaseAcquiredCount.get();
+    }
+
+    /**
+     * Get the number of lease acquisitions which had to wait for another node holding the same key.
+     *
+     * @return Number of contended lease acquisitions.
+     */
+    public long getLeaseContendedCount() {
+
+        return leaseContendedCount.get();
+    }
+
+    /**
+     * Get the local lock manager which serializes the requests of this node.
+     *
+     * @return Local lock manager.
+     */
+    public DefaultTokenIssuanceLockManager getLocalLockManager() {
+
+        return localLockManager;
+    }
+
+    private void waitForLease(String leaseKey, String owner, long start) throws IdentityOAuth2Exception {
+
+        boolean contended = false;
+        while (!leaseDAO.tryAcquireLease(leaseKey, owner, leaseDurationInMillis)) {
+            if (!contended) {
+                contended = true;
+                leaseContendedCount.incrementAndGet();
+            }
+            if (lockTimeoutInMillis > 0 && System.currentTimeMillis() - start >= lockTimeoutInMillis) {
+                throw new IdentityOAuth2Exception("Timed out after " + lockTimeoutInMillis + "ms while waiting for " +
+                        "the token issuance lease held by another node.");
+            }
+            try {
+                Thread.sleep(pollIntervalInMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdentityOAuth2Exception("Interrupted while waiting for the token issuance lease.", e);
+            }
+        }
+        leaseAcquiredCount.incrementAndGet();
+        if (contended && log.isDebugEnabled()) {
+            log.debug("Token issuance lease acquired after waiting " + (System.currentTimeMillis() - start) +
+                    "ms for another node.");
+        }
+    }
+
+    /**
+     * Lease held by a thread along with the number of nested acquisitions sharing it.
+     */
+    private static class HeldLease {
+
+        private final String leaseKey;
+        private final String owner;
+        private int holdCount;
+
+        HeldLease(String leaseKey, String owner) {
+
+            this.leaseKey = leaseKey;
+            this.owner = owner;
+        }
+    }
+}
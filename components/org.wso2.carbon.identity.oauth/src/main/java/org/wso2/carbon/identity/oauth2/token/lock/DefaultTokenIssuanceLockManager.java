@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Default implementation of {@link TokenIssuanceLockManager} backed by a hashed table of reference counted locks.
+ * A lock entry only lives while at least one thread holds or waits for it, so the table is bounded by the number of
+ * in-flight requests instead of growing with every key ever seen (as the JVM string pool does with String.intern()).
+ */
+public class DefaultTokenIssuanceLockManager implements TokenIssuanceLockManager {
+
+    private static final Log log = LogFactory.getLog(DefaultTokenIssuanceLockManager.class);
+
+    private final ConcurrentHashMap<String, LockEntry> locks = new ConcurrentHashMap<>();
+    private final long lockTimeoutInMillis;
+
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong contendedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong totalWaitTimeInNanos = new AtomicLong();
+
+    public DefaultTokenIssuanceLockManager() {
+
+        this(readLockTimeout());
+    }
+
+    /**
+     * @param lockTimeoutInMillis Maximum time to wait for a lock. A non positive value waits until the lock is
+     *                            available.
+     */
+    public DefaultTokenIssuanceLockManager(long lockTimeoutInMillis) {
+
+        this.lockTimeoutInMillis = lockTimeoutInMillis;
+    }
+
+    @Override
+    public TokenIssuanceLock acquire(String lockKey) throws IdentityOAuth2Exception {
+
+        LockEntry entry = locks.compute(lockKey, (key, existing) -> {
+            LockEntry lockEntry = existing != null ? existing : new LockEntry();
+            lockEntry.references++;
+            return lockEntry;
+        });
+
+        boolean contended = entry.lock.isLocked() && !entry.lock.isHeldByCurrentThread();
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        if (lockTimeoutInMillis > 0) {
+            try {
+                acquired = entry.lock.tryLock(lockTimeoutInMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                release(lockKey);
+                throw new IdentityOAuth2Exception("Interrupted while waiting for the token issuance lock.", e);
+            }
+        } else {
+            entry.lock.lock();
+            acquired = true;
+        }
+        long waitTime = System.nanoTime() - waitStart;
+
+        if (!acquired) {
+            release(lockKey);
+            timedOutCount.incrementAndGet();
+            throw new IdentityOAuth2Exception("Timed out after " + lockTimeoutInMillis + "ms while waiting for the " +
+                    "token issuance lock.");
+        }
+
+        acquiredCount.incrementAndGet();
+        if (contended) {
+            contendedCount.incrementAndGet();
+            totalWaitTimeInNanos.addAndGet(waitTime);
+            if (log.isDebugEnabled()) {
+                log.debug("Token issuance lock acquired after waiting " + TimeUnit.NANOSECONDS.toMillis(waitTime) +
+                        "ms.");
+            }
+        }
+        // Closing the lock more than once must not unlock a hold of the same thread or release the entry of others.
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            entry.lock.unlock();
+            release(lockKey);
+        };
+    }
+
+    /**
+     * Get the number of locks acquired so far.
+     *
+     * @return Number of acquired locks.
+     */
+    public long getAcquiredCount() {
+
+        return acquiredCount.get();
+    }
+
+    /**
+     * Get the number of lock acquisitions which had to wait for another request holding the same key.
+     *
+     * @return Number of contended acquisitions.
+     */
+    public long getContendedCount() {
+
+        return contendedCount.get();
+    }
+
+    /**
+     * Get the number of lock acquisitions which failed due to the timeout.
+     *
+     * @return Number of timed out acquisitions.
+     */
+    public long getTimedOutCount() {
+
+        return timedOutCount.get();
+    }
+
+    /**
+     * Get the total time spent on waiting for contended locks.
+     *
+     * @return Total wait time in milliseconds.
+     */
+    public long getTotalWaitTimeInMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitTimeInNanos.get());
+    }
+
+    /**
+     * Get the number of keys currently held or waited on.
+     *
+     * @return Number of active lock entries.
+     */
+    public int getActiveLockCount() {
+
+        return locks.size();
+    }
+
+    private void release(String lockKey) {
+
+        locks.computeIfPresent(lockKey, (key, entry) -> --entry.references == 0 ? null : entry);
+    }
+
+    private static long readLockTimeout() {
+
+        return IdentityConfigUtil.getLongProperty(OAuth2Constants.TokenIssuanceLockConfig.LOCK_TIMEOUT,
+                OAuth2Constants.TokenIssuanceLockConfig.DEFAULT_LOCK_TIMEOUT);
+    }
+
+    /**
+     * Lock with the number of threads holding or waiting for it. The reference count is only modified inside the
+     * atomic compute operations of the lock table.
+     */
+    private static class LockEntry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int references;
+    }
+}
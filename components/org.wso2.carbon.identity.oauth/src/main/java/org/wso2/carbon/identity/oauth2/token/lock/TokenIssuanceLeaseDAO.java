@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+/**
+ * DAO for the leases used to coordinate token issuance across the nodes of a cluster.
+ */
+public interface TokenIssuanceLeaseDAO {
+
+    /**
+     * Try to acquire the lease for the given key. A lease held by another owner can only be taken over once it has
+     * expired. The expiry is measured with the clock of the database, so that the clocks of the nodes do not need to
+     * be in sync.
+     *
+     * @param leaseKey              Lease key.
+     * @param owner                 Identifier of the node and thread acquiring the lease.
+     * @param leaseDurationInMillis  Time in milliseconds after which the lease expires if it is not released.
+     * @return True if the lease was acquired.
+     * @throws IdentityOAuth2Exception If an error occurred while acquiring the lease.
+     */
+    boolean tryAcquireLease(String leaseKey, String owner, long leaseDurationInMillis) throws IdentityOAuth2Exception;
+
+    /**
+     * Release the lease for the given key, if it is still held by the given owner.
+     *
+     * @param leaseKey Lease key.
+     * @param owner    Identifier of the node and thread which acquired the lease.
+     * @throws IdentityOAuth2Exception If an error occurred while releasing the lease.
+     */
+    void releaseLease(String leaseKey, String owner) throws IdentityOAuth2Exception;
+}
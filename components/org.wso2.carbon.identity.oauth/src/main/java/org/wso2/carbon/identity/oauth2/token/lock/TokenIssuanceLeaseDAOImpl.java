@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.SQLQueries;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+
+/**
+ * JDBC implementation of {@link TokenIssuanceLeaseDAO} backed by the IDN_OAUTH2_TOKEN_ISSUANCE_LEASE table. The
+ * primary key of the table guarantees that only one owner can insert the lease row of a key. The acquired time of a
+ * lease is set and compared with CURRENT_TIMESTAMP of the database, hence the expiry does not depend on the clocks of
+ * the nodes.
+ */
+public class TokenIssuanceLeaseDAOImpl implements TokenIssuanceLeaseDAO {
+
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_PREFIX = "23";
+
+    @Override
+    public boolean tryAcquireLease(String leaseKey, String owner, long leaseDurationInMillis)
+            throws IdentityOAuth2Exception {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.INSERT_TOKEN_ISSUANCE_LEASE)) {
+                prepStmt.setString(1, leaseKey);
+                prepStmt.setString(2, owner);
+                prepStmt.setLong(3, leaseDurationInMillis);
+                prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return true;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+            }
+
+            // The lease is held by another owner. Take it over only if the owner failed to release it in time.
+            String currentOwner;
+            Timestamp acquiredTime;
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.RETRIEVE_TOKEN_ISSUANCE_LEASE)) {
+                prepStmt.setString(1, leaseKey);
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    if (!resultSet.next()) {
+                        // Released in the meantime. The lease is acquired in the next attempt.
+                        IdentityDatabaseUtil.commitTransaction(connection);
+                        return false;
+                    }
+                    currentOwner = resultSet.getString(1);
+                    acquiredTime = resultSet.getTimestamp(2);
+                    long currentLeaseDuration = resultSet.getLong(3);
+                    Timestamp databaseTime = resultSet.getTimestamp(4);
+                    if (databaseTime.getTime() - acquiredTime.getTime() < currentLeaseDuration) {
+                        IdentityDatabaseUtil.commitTransaction(connection);
+                        return false;
+                    }
+                }
+            }
+
+            // The owner and the acquired time are matched, so that only one node takes over the expired lease.
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.TAKE_OVER_EXPIRED_TOKEN_ISSUANCE_LEASE)) {
+                prepStmt.setString(1, owner);
+                prepStmt.setLong(2, leaseDurationInMillis);
+                prepStmt.setString(3, leaseKey);
+                prepStmt.setString(4, currentOwner);
+                prepStmt.setTimestamp(5, acquiredTime);
+                int updatedRows = prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return updatedRows == 1;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while acquiring the token issuance lease.", e);
+        }
+    }
+
+    @Override
+    public void releaseLease(String leaseKey, String owner) throws IdentityOAuth2Exception {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+             PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.DELETE_TOKEN_ISSUANCE_LEASE)) {
+            prepStmt.setString(1, leaseKey);
+            prepStmt.setString(2, owner);
+            prepStmt.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while releasing the token issuance lease.", e);
+        }
+    }
+
+    private boolean isConstraintViolation(SQLException e) {
+
+        // Not all JDBC drivers throw SQLIntegrityConstraintViolationException, hence the SQL state is checked as well.
+        return e instanceof SQLIntegrityConstraintViolationException ||
+                StringUtils.startsWith(e.getSQLState(), INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_PREFIX);
+    }
+}
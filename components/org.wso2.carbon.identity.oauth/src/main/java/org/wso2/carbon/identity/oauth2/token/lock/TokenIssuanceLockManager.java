@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+/**
+ * Serializes concurrent token issuance and revocation requests which operate on the same token key
+ * (ex: consumerKey:userId:scope:bindingReference), so that only one of them creates or renews the token at a time.
+ */
+public interface TokenIssuanceLockManager {
+
+    /**
+     * Acquire the lock for the given key. Requests with different keys never contend with each other.
+     *
+     * @param lockKey Key identifying the token being issued.
+     * @return Lock handle which must be closed to release the lock.
+     * @throws IdentityOAuth2Exception If the lock could not be acquired within the configured timeout.
+     */
+    TokenIssuanceLock acquire(String lockKey) throws IdentityOAuth2Exception;
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.function.Function;
+
+/**
+ * Utility methods to read the numeric properties of identity.xml, falling back to the default value when a property
+ * is not configured or is not a valid number.
+ */
+public class IdentityConfigUtil {
+
+    private static final Log log = LogFactory.getLog(IdentityConfigUtil.class);
+
+    private IdentityConfigUtil() {
+
+    }
+
+    /**
+     * Read a property as a long value.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to be used if the property is not configured or is invalid.
+     * @return Configured value or the default value.
+     */
+    public static long getLongProperty(String propertyName, long defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Long::parseLong);
+    }
+
+    /**
+     * Read a property as an int value.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to be used if the property is not configured or is invalid.
+     * @return Configured value or the default value.
+     */
+    public static int getIntProperty(String propertyName, int defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Integer::parseInt);
+    }
+
+    /**
+     * Read a property as a double value.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to be used if the property is not configured or is invalid.
+     * @return Configured value or the default value.
+     */
+    public static double getDoubleProperty(String propertyName, double defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Double::parseDouble);
+    }
+
+    private static <T> T getProperty(String propertyName, T defaultValue, Function<String, T> parser) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return parser.apply(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for " + propertyName +
+                        ". Hence using the default value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -102,8 +102,12 @@ import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.cache.AppInfoCache;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth.cache.ClientCertificateCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
+import org.wso2.carbon.identity.oauth.cache.TenantMetadataCache;
+import org.wso2.carbon.identity.oauth.cache.UnknownClientCache;
 import org.wso2.carbon.identity.oauth.common.OAuth2ErrorCodes;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
@@ -167,6 +171,7 @@ import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
+import org.wso2.carbon.utils.ConfigurationContextService;
 import org.wso2.carbon.utils.DiagnosticLog;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
@@ -202,6 +207,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -356,13 +362,14 @@ public class OAuth2Util {
     private static ThreadLocal<Integer> clientTenantId = new ThreadLocal<>();
     private static ThreadLocal<OAuthTokenReqMessageContext> tokenRequestContext = new ThreadLocal<>();
     private static ThreadLocal<OAuthAuthzReqMessageContext> authzRequestContext = new ThreadLocal<>();
+    private static ThreadLocal<Map<String, AccessTokenDO>> prefetchedAccessTokens = new ThreadLocal<>();
     //Precompile PKCE Regex pattern for performance improvement
     private static Pattern pkceCodeVerifierPattern = Pattern.compile("[\\w\\-\\._~]+");
     // System flag to allow the weak keys (key length less than 2048) to be used for the signing.
     private static final String ALLOW_WEAK_RSA_SIGNER_KEY = "allow_weak_rsa_signer_key";
 
-    private static Map<Integer, Certificate> publicCerts = new ConcurrentHashMap<Integer, Certificate>();
-    private static Map<Integer, Key> privateKeys = new ConcurrentHashMap<Integer, Key>();
+    // Signing keys, certificates and key IDs of tenants, keyed by tenant domain.
+    private static final Map<String, TenantSigningContext> signingContexts = new ConcurrentHashMap<>();
 
     // Supported Signature Algorithms
     private static final String NONE = "NONE";
@@ -477,6 +484,25 @@ public class OAuth2Util {
         }
     }
 
+    /**
+     * Set the access tokens retrieved ahead for the current request, so that the lookups of those tokens during the
+     * request do not go to the database one by one.
+     *
+     * @param accessTokens ACTIVE access tokens mapped by the token identifier.
+     */
+    public static void setPrefetchedAccessTokens(Map<String, AccessTokenDO> accessTokens) {
+
+        prefetchedAccessTokens.set(accessTokens);
+    }
+
+    /**
+     * Clear the access tokens retrieved ahead for the current request.
+     */
+    public static void clearPrefetchedAccessTokens() {
+
+        prefetchedAccessTokens.remove();
+    }
+
     /**
      * @return
      */
@@ -657,11 +683,19 @@ public class OAuth2Util {
     }
 
     private static boolean isTenantActive(String tenantDomain) throws IdentityOAuth2Exception {
+
+        TenantMetadataCache tenantMetadataCache = TenantMetadataCache.getInstance();
+        Boolean cachedTenantActivity = tenantMetadataCache.isTenantActive(tenantDomain);
+        if (cachedTenantActivity != null) {
+            return cachedTenantActivity;
+        }
         try {
             TenantManager tenantManager = OAuthComponentServiceHolder.getInstance()
                     .getRealmService().getTenantManager();
             int tenantId = tenantManager.getTenantId(tenantDomain);
-            return tenantManager.isTenantActive(tenantId);
+            boolean tenantActive = tenantManager.isTenantActive(tenantId);
+            tenantMetadataCache.addTenantActivity(tenantDomain, tenantId, tenantActive);
+            return tenantActive;
         } catch (UserStoreException e) {
             String error = "Error in obtaining tenant ID from tenant domain : " + tenantDomain;
             throw new IdentityOAuth2Exception(error, e);
@@ -698,6 +732,22 @@ public class OAuth2Util {
 
     }
 
+    /**
+     * Check whether the server is a member of a cluster, i.e. whether a clustering agent is configured for it.
+     *
+     * @return True if clustering is enabled.
+     */
+    public static boolean isClusteringEnabled() {
+
+        ConfigurationContextService configurationContextService =
+                OAuth2ServiceComponentHolder.getConfigurationContextService();
+        if (configurationContextService == null || configurationContextService.getServerConfigContext() == null) {
+            return false;
+        }
+        return configurationContextService.getServerConfigContext().getAxisConfiguration()
+                .getClusteringAgent() != null;
+    }
+
     /**
      * Check whether hashing oauth keys (consumer secret, access token, refresh token and authorization code)
      * configuration is enabled or not in identity.xml file.
@@ -729,8 +779,8 @@ public class OAuth2Util {
 
         if (OAuth2Util.authenticateClient(clientId, clientSecretProvided)) {
 
-            CacheEntry cacheResult =
-                    OAuthCache.getInstance().getValueFromCache(new OAuthCacheKey(clientId + ":" + username));
+            CacheEntry cacheResult = OAuthCache.getInstance().getValueFromCache(
+                    new OAuthCacheKey(clientId + ":" + username, OAuthCacheType.CLIENT_USER));
             if (cacheResult != null && cacheResult instanceof ClientCredentialDO) {
                 // Ugh. This is fugly. Have to have a generic way of caching a key:value pair
                 username = ((ClientCredentialDO) cacheResult).getClientSecret();
@@ -757,10 +807,12 @@ public class OAuth2Util {
                   to have a generalized way of caching a key:value pair
                  */
                 if (isUsernameCaseSensitive) {
-                    OAuthCache.getInstance()
-                            .addToCache(new OAuthCacheKey(clientId + ":" + username), new ClientCredentialDO(username));
+                    OAuthCache.getInstance().addToCache(
+                            new OAuthCacheKey(clientId + ":" + username, OAuthCacheType.CLIENT_USER),
+                            new ClientCredentialDO(username));
                 } else {
-                    OAuthCache.getInstance().addToCache(new OAuthCacheKey(clientId + ":" + username.toLowerCase()),
+                    OAuthCache.getInstance().addToCache(
+                            new OAuthCacheKey(clientId + ":" + username.toLowerCase(), OAuthCacheType.CLIENT_USER),
                             new ClientCredentialDO(username));
                 }
                 if (log.isDebugEnabled()) {
@@ -1374,9 +1426,15 @@ public class OAuth2Util {
 
     public static int getTenantId(String tenantDomain) throws IdentityOAuth2Exception {
 
+        Integer cachedTenantId = TenantMetadataCache.getInstance().getTenantId(tenantDomain);
+        if (cachedTenantId != null) {
+            return cachedTenantId;
+        }
         RealmService realmService = OAuthComponentServiceHolder.getInstance().getRealmService();
         try {
-            return realmService.getTenantManager().getTenantId(tenantDomain);
+            int tenantId = realmService.getTenantManager().getTenantId(tenantDomain);
+            TenantMetadataCache.getInstance().addTenantId(tenantDomain, tenantId);
+            return tenantId;
         } catch (UserStoreException e) {
             String error = "Error in obtaining tenant ID from tenant domain : " + tenantDomain;
             throw new IdentityOAuth2Exception(error, e);
@@ -2188,7 +2246,7 @@ public class OAuth2Util {
         String processedToken = getPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenIdentifier);
 
         // check the cache, if caching is enabled.
-        OAuthCacheKey cacheKey = new OAuthCacheKey(accessTokenIdentifier);
+        OAuthCacheKey cacheKey = new OAuthCacheKey(accessTokenIdentifier, OAuthCacheType.ACCESS_TOKEN);
         CacheEntry result = OAuthCache.getInstance().getValueFromCache(cacheKey);
         // cache hit, do the type check.
         if (result != null && result instanceof AccessTokenDO) {
@@ -2203,11 +2261,16 @@ public class OAuth2Util {
             }
         }
 
-        // cache miss, load the access token info from the database.
+        // cache miss, use the access token retrieved ahead for the request if any.
+        if (accessTokenDO == null && prefetchedAccessTokens.get() != null) {
+            accessTokenDO = prefetchedAccessTokens.get().get(accessTokenIdentifier);
+        }
+
+        // load the access token info from the database.
         if (accessTokenDO == null) {
             accessTokenDO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
                     .getAccessToken(accessTokenIdentifier, includeExpired);
-        } else {
+        } else if (cacheHit) {
             if (log.isDebugEnabled()) {
                 log.debug("Retrieved active access token from OAuthCache for token Identifier: " +
                         accessTokenDO.getTokenId());
@@ -3392,20 +3455,120 @@ public class OAuth2Util {
                         tenantDomain);
             }
 
-            Key privateKey = getPrivateKey(tenantDomain);
-            JWSSigner signer = OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey);
+            TenantSigningContext signingContext = getSigningContext(tenantDomain);
             JWSHeader.Builder headerBuilder = new JWSHeader.Builder((JWSAlgorithm) signatureAlgorithm);
-            headerBuilder.keyID(getKID(getCertificate(tenantDomain), signatureAlgorithm, tenantDomain));
-            Certificate certificate = getCertificate(tenantDomain);
-            headerBuilder.x509CertThumbprint(new Base64URL(getThumbPrintWithPrevAlgorithm(certificate, false)));
+            headerBuilder.keyID(signingContext.getKeyId(signatureAlgorithm));
+            headerBuilder.x509CertThumbprint(new Base64URL(signingContext.getThumbPrintWithPrevAlgorithm()));
             SignedJWT signedJWT = new SignedJWT(headerBuilder.build(), jwtClaimsSet);
-            signedJWT.sign(signer);
+            signedJWT.sign(signingContext.getSigner());
             return signedJWT;
         } catch (JOSEException e) {
             throw new IdentityOAuth2Exception("Error occurred while signing JWT", e);
         }
     }
 
+    /**
+     * Get the signing context of the tenant, holding the private key and certificate of the tenant along with the
+     * thumbprints, key IDs and signer derived from them. The context is cached per tenant until the configured
+     * timeout elapses, so that a rotated key is picked up without a restart.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Signing context of the tenant.
+     * @throws IdentityOAuth2Exception If the key or certificate of the tenant could not be obtained.
+     */
+    public static TenantSigningContext getSigningContext(String tenantDomain) throws IdentityOAuth2Exception {
+
+        TenantSigningContext signingContext = getCachedSigningContext(tenantDomain);
+        if (signingContext == null) {
+            signingContext = new TenantSigningContext(tenantDomain, getPrivateKey(tenantDomain),
+                    getCertificate(tenantDomain), getSigningContextExpiryTime());
+            cacheSigningContext(signingContext);
+        }
+        return signingContext;
+    }
+
+    /**
+     * Get the signing context of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantId     Tenant ID.
+     * @return Signing context of the tenant.
+     * @throws IdentityOAuth2Exception If the key or certificate of the tenant could not be obtained.
+     * @see #getSigningContext(String)
+     */
+    public static TenantSigningContext getSigningContext(String tenantDomain, int tenantId)
+            throws IdentityOAuth2Exception {
+
+        TenantSigningContext signingContext = getCachedSigningContext(tenantDomain);
+        if (signingContext == null) {
+            signingContext = new TenantSigningContext(tenantDomain, getPrivateKey(tenantDomain, tenantId),
+                    getCertificate(tenantDomain, tenantId), getSigningContextExpiryTime());
+            cacheSigningContext(signingContext);
+        }
+        return signingContext;
+    }
+
+    /**
+     * Remove the cached signing context of the tenant, e.g. after its signing key is rotated.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearSigningContext(String tenantDomain) {
+
+        if (tenantDomain != null) {
+            signingContexts.remove(tenantDomain);
+        }
+    }
+
+    /**
+     * Remove the cached signing contexts of all tenants.
+     */
+    public static void clearSigningContexts() {
+
+        signingContexts.clear();
+    }
+
+    private static TenantSigningContext getCachedSigningContext(String tenantDomain) {
+
+        if (!isSigningContextCacheEnabled()) {
+            return null;
+        }
+        TenantSigningContext signingContext = signingContexts.get(tenantDomain);
+        if (signingContext != null && signingContext.isExpired(System.currentTimeMillis())) {
+            signingContexts.remove(tenantDomain, signingContext);
+            return null;
+        }
+        return signingContext;
+    }
+
+    private static void cacheSigningContext(TenantSigningContext signingContext) {
+
+        if (isSigningContextCacheEnabled()) {
+            signingContexts.put(signingContext.getTenantDomain(), signingContext);
+        }
+    }
+
+    private static boolean isSigningContextCacheEnabled() {
+
+        String enabled = IdentityUtil.getProperty(OAuth2Constants.SigningContextCacheConfig.ENABLE);
+        return StringUtils.isBlank(enabled) || Boolean.parseBoolean(enabled);
+    }
+
+    private static long getSigningContextExpiryTime() {
+
+        long timeout = OAuth2Constants.SigningContextCacheConfig.DEFAULT_TIMEOUT;
+        String configuredTimeout = IdentityUtil.getProperty(OAuth2Constants.SigningContextCacheConfig.TIMEOUT);
+        if (StringUtils.isNotBlank(configuredTimeout)) {
+            try {
+                timeout = Long.parseLong(configuredTimeout.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + configuredTimeout + " configured for " +
+                        OAuth2Constants.SigningContextCacheConfig.TIMEOUT + ". Using the default value: " + timeout);
+            }
+        }
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeout);
+    }
+
     /**
      * Method to obtain the tenant's private key for OAuth2 protocol.
      * This could be the primary keystore private key, tenant keystore private key,
@@ -4221,11 +4384,19 @@ public class OAuth2Util {
     public static ServiceProvider getServiceProvider(String clientId,
                                                      String tenantDomain) throws IdentityOAuth2Exception {
 
+        UnknownClientCache unknownClientCache = UnknownClientCache.getInstance();
+        if (unknownClientCache.isUnknownServiceProvider(clientId, tenantDomain)) {
+            return null;
+        }
         ApplicationManagementService applicationMgtService = OAuth2ServiceComponentHolder.getApplicationMgtService();
         try {
             // Get the Service Provider.
-            return applicationMgtService.getServiceProviderByClientId(
+            ServiceProvider serviceProvider = applicationMgtService.getServiceProviderByClientId(
                     clientId, IdentityApplicationConstants.OAuth2.NAME, tenantDomain);
+            if (serviceProvider == null) {
+                unknownClientCache.addUnknownServiceProvider(clientId, tenantDomain);
+            }
+            return serviceProvider;
         } catch (IdentityApplicationManagementException e) {
             throw new IdentityOAuth2Exception("Error while obtaining the service provider for client_id: " +
                     clientId + " of tenantDomain: " + tenantDomain, e);
@@ -4273,8 +4444,9 @@ public class OAuth2Util {
             // Get the certificate content.
             String certificateContent = serviceProvider.getCertificateContent();
             if (StringUtils.isNotBlank(certificateContent)) {
-                // Build the Certificate object from cert content.
-                return IdentityUtil.convertPEMEncodedContentToCertificate(certificateContent);
+                // Build the Certificate object from cert content, reusing it if the content is not changed.
+                return ClientCertificateCache.getInstance().getCertificate(clientId, tenantDomain,
+                        certificateContent);
             } else {
                 throw new IdentityOAuth2Exception("Public certificate not configured for Service Provider with " +
                         "client_id: " + clientId + " of tenantDomain: " + tenantDomain);
@@ -5016,7 +5188,7 @@ public class OAuth2Util {
         try {
             tokenIssuer = OAuth2Util.getOAuthTokenIssuerForOAuthApp(newTokenBean.getConsumerKey());
             String tokenAlias = tokenIssuer.getAccessTokenHash(newTokenBean.getAccessToken());
-            OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(tokenAlias);
+            OAuthCacheKey accessTokenCacheKey = new OAuthCacheKey(tokenAlias, OAuthCacheType.ACCESS_TOKEN);
             AccessTokenDO tokenDO = AccessTokenDO.clone(newTokenBean);
             tokenDO.setAccessToken(tokenAlias);
             OAuthCache.getInstance().addToCache(accessTokenCacheKey, tokenDO);
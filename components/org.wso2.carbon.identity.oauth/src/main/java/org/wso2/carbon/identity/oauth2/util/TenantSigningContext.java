@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.keyidprovider.KeyIDProvider;
+
+import java.security.Key;
+import java.security.cert.Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signing material of a tenant resolved once from the tenant key store. The certificate thumbprints, the key IDs of
+ * each signature algorithm and the signer are derived on first use and reused for every token signed with the same
+ * key, until the context expires or is invalidated.
+ */
+public class TenantSigningContext {
+
+    private final String tenantDomain;
+    private final Key privateKey;
+    private final Certificate certificate;
+    private final long expiryTime;
+    private final KeyIDProvider keyIDProvider = OAuth2ServiceComponentHolder.getKeyIDProvider();
+    private final Map<JWSAlgorithm, String> keyIds = new ConcurrentHashMap<>();
+    private volatile String thumbPrint;
+    private volatile String thumbPrintWithPrevAlgorithm;
+    private volatile JWSSigner signer;
+
+    public TenantSigningContext(String tenantDomain, Key privateKey, Certificate certificate, long expiryTime) {
+
+        this.tenantDomain = tenantDomain;
+        this.privateKey = privateKey;
+        this.certificate = certificate;
+        this.expiryTime = expiryTime;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public Key getPrivateKey() {
+
+        return privateKey;
+    }
+
+    public Certificate getCertificate() {
+
+        return certificate;
+    }
+
+    /**
+     * Get the SHA-256 thumbprint of the signing certificate.
+     *
+     * @return Hexified and base64url encoded thumbprint.
+     * @throws IdentityOAuth2Exception If the thumbprint could not be calculated.
+     */
+    public String getThumbPrint() throws IdentityOAuth2Exception {
+
+        if (thumbPrint == null) {
+            thumbPrint = OAuth2Util.getThumbPrint(certificate);
+        }
+        return thumbPrint;
+    }
+
+    /**
+     * Get the SHA-1 thumbprint of the signing certificate, used as the x5t header of signed tokens.
+     *
+     * @return Base64url encoded thumbprint.
+     * @throws IdentityOAuth2Exception If the thumbprint could not be calculated.
+     */
+    public String getThumbPrintWithPrevAlgorithm() throws IdentityOAuth2Exception {
+
+        if (thumbPrintWithPrevAlgorithm == null) {
+            thumbPrintWithPrevAlgorithm = OAuth2Util.getThumbPrintWithPrevAlgorithm(certificate, false);
+        }
+        return thumbPrintWithPrevAlgorithm;
+    }
+
+    /**
+     * Get the key ID of the signing certificate for the given algorithm, as computed by the registered key ID
+     * provider.
+     *
+     * @param signatureAlgorithm Signature algorithm.
+     * @return Key ID.
+     * @throws IdentityOAuth2Exception If the key ID could not be calculated.
+     */
+    public String getKeyId(JWSAlgorithm signatureAlgorithm) throws IdentityOAuth2Exception {
+
+        String keyId = keyIds.get(signatureAlgorithm);
+        if (keyId == null) {
+            keyId = OAuth2Util.getKID(certificate, signatureAlgorithm, tenantDomain);
+            if (keyId != null) {
+                keyIds.put(signatureAlgorithm, keyId);
+            }
+        }
+        return keyId;
+    }
+
+    /**
+     * Get the RSA signer of the tenant private key. Signers are thread safe and shared by all signing requests.
+     *
+     * @return JWS signer.
+     */
+    public JWSSigner getSigner() {
+
+        if (signer == null) {
+            signer = OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey);
+        }
+        return signer;
+    }
+
+    /**
+     * Check whether the context has to be resolved again, either because it has expired or because the key IDs it
+     * holds were computed by a key ID provider that has since been replaced.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @return True if the context is stale.
+     */
+    public boolean isExpired(long currentTime) {
+
+        return currentTime >= expiryTime || keyIDProvider != OAuth2ServiceComponentHolder.getKeyIDProvider();
+    }
+}
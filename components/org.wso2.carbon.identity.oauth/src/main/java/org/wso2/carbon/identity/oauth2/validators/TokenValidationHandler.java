@@ -33,6 +33,9 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LogConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
@@ -42,6 +45,7 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2ClientException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.authcontext.AuthorizationContextTokenGenerator;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2ClientApplicationDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
@@ -49,6 +53,7 @@ import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationResponseDTO;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.jwt.StatelessJWTAccessTokenValidator;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.utils.DiagnosticLog;
@@ -57,6 +62,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TreeMap;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.IS_FRAGMENT_APP;
@@ -74,6 +80,8 @@ public class TokenValidationHandler {
     private static final Log log = LogFactory.getLog(TokenValidationHandler.class);
     private Map<String, OAuth2TokenValidator> tokenValidators = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     private TokenProvider tokenValidationProcessor;
+    private final StatelessJWTAccessTokenValidator statelessJWTAccessTokenValidator =
+            new StatelessJWTAccessTokenValidator();
     private static final String BEARER_TOKEN_TYPE = "Bearer";
     private static final String DPOP_TOKEN_TYPE = "DPoP";
     private static final String BEARER_TOKEN_TYPE_JWT = "jwt";
@@ -256,6 +264,20 @@ public class TokenValidationHandler {
 
         OAuth2TokenValidationRequestDTO.OAuth2AccessToken oAuth2Token = validationRequest.getAccessToken();
 
+        // JWT access tokens of the applications opted in to the stateless validation are validated without the
+        // database, unless user attributes of the persisted token are requested.
+        if (!RefreshTokenValidator.TOKEN_TYPE.equals(oAuth2Token.getTokenType()) &&
+                !(tokenGenerator != null && validationRequest.getRequiredClaimURIs() != null)) {
+            Optional<OAuth2IntrospectionResponseDTO> statelessIntroResp =
+                    statelessJWTAccessTokenValidator.validate(oAuth2Token.getIdentifier());
+            if (statelessIntroResp.isPresent()) {
+                responseDTO.setAuthorizedUser(statelessIntroResp.get().getUsername());
+                statelessIntroResp.get().getProperties()
+                        .put(OAuth2Util.OAUTH2_VALIDATION_MESSAGE_CONTEXT, messageContext);
+                return statelessIntroResp.get();
+            }
+        }
+
         // To hold the applicable validators list from all the available validators. This list will be prioritized if we
         // have a token_type_hint.
         List<OAuth2TokenValidator> applicableValidators = new ArrayList<>();
@@ -378,6 +400,44 @@ public class TokenValidationHandler {
         return introResp;
     }
 
+    /**
+     * Retrieve the access tokens of a batch of introspection requests at once, so that introspecting the tokens of
+     * the batch does not query the database once per token. The retrieved tokens are served to the lookups of the
+     * current thread until {@link OAuth2Util#clearPrefetchedAccessTokens()} is called.
+     *
+     * @param validationRequests Introspection requests of the batch.
+     * @throws IdentityOAuth2Exception If an error occurred while retrieving the access tokens.
+     */
+    public void prefetchAccessTokens(List<OAuth2TokenValidationRequestDTO> validationRequests)
+            throws IdentityOAuth2Exception {
+
+        List<String> accessTokenIdentifiers = new ArrayList<>();
+        for (OAuth2TokenValidationRequestDTO validationRequest : validationRequests) {
+            OAuth2TokenValidationRequestDTO.OAuth2AccessToken oAuth2Token = validationRequest.getAccessToken();
+            if (oAuth2Token == null || StringUtils.isBlank(oAuth2Token.getIdentifier()) ||
+                    RefreshTokenValidator.TOKEN_TYPE.equals(oAuth2Token.getTokenType()) ||
+                    isJWTTokenValidation(oAuth2Token.getIdentifier())) {
+                continue;
+            }
+            // Tokens in the cache are served from the cache anyway. The cache is only peeked, so that the lookup made
+            // while validating the token is the only one recorded in the cache metrics.
+            OAuthCacheKey cacheKey = new OAuthCacheKey(oAuth2Token.getIdentifier(), OAuthCacheType.ACCESS_TOKEN);
+            if (!(OAuthCache.getInstance().peekValueFromCache(cacheKey) instanceof AccessTokenDO)) {
+                accessTokenIdentifiers.add(oAuth2Token.getIdentifier());
+            }
+        }
+        if (accessTokenIdentifiers.isEmpty()) {
+            return;
+        }
+        Map<String, AccessTokenDO> accessTokens = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
+                .getActiveAccessTokens(accessTokenIdentifiers);
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieved " + accessTokens.size() + " active access tokens out of " +
+                    accessTokenIdentifiers.size() + " tokens of the introspection batch.");
+        }
+        OAuth2Util.setPrefetchedAccessTokens(accessTokens);
+    }
+
     private static void handleTokenValidationException(DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder,
                                                        Exception exception) throws IdentityOAuth2Exception {
 
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resource retriever which guards a single jwks_uri against redundant outbound fetches.
+ * <ul>
+ * <li>Concurrent retrievals are coalesced, so that only one request is in flight for the jwks_uri at a time and all
+ * waiting callers receive its result.</li>
+ * <li>A retrieved JWKS is served again for retrievals within the minimum refresh interval. This rate limits the
+ * re-fetches which {@link com.nimbusds.jose.jwk.source.RemoteJWKSet} triggers for an unknown "kid".</li>
+ * <li>A failed retrieval is remembered for the minimum refresh interval, and the last known JWKS is served instead
+ * when one is available. The JWKS is not refreshed ahead of its expiry either until the interval elapses.</li>
+ * </ul>
+ */
+class JWKSResourceRetriever implements ResourceRetriever {
+
+    private static final Log log = LogFactory.getLog(JWKSResourceRetriever.class);
+
+    private final ResourceRetriever delegate;
+    private final long minRefreshInterval;
+    private final Object lock = new Object();
+    private final AtomicLong remoteRetrievalCount = new AtomicLong();
+    private final AtomicBoolean refreshAheadScheduled = new AtomicBoolean();
+
+    private volatile Resource resource;
+    private volatile long retrievedTime;
+    private volatile IOException lastFailure;
+    private volatile long lastFailureTime;
+    private volatile long version;
+    private CompletableFuture<Resource> inFlightRetrieval;
+
+    JWKSResourceRetriever(ResourceRetriever delegate, long minRefreshInterval) {
+
+        this.delegate = delegate;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    @Override
+    public Resource retrieveResource(URL url) throws IOException {
+
+        Resource cachedResource = resource;
+        if (cachedResource != null && System.currentTimeMillis() - retrievedTime < minRefreshInterval) {
+            if (log.isDebugEnabled()) {
+                log.debug("JWKS of " + url + " was retrieved within the minimum refresh interval. Serving the " +
+                        "retrieved JWKS without contacting the remote endpoint.");
+            }
+            return cachedResource;
+        }
+        IOException failure = lastFailure;
+        if (cachedResource == null && failure != null &&
+                System.currentTimeMillis() - lastFailureTime < minRefreshInterval) {
+            throw new IOException("Retrieval of JWKS from " + url + " failed recently. Retry is suppressed until " +
+                    "the minimum refresh interval elapses.", failure);
+        }
+        return retrieve(url);
+    }
+
+    /**
+     * Retrieve the JWKS from the remote endpoint, joining a retrieval which is already in flight if there is one.
+     *
+     * @param url jwks_uri.
+     * @return Retrieved resource, or the last known resource if the retrieval failed.
+     * @throws IOException If the retrieval failed and there is no last known resource.
+     */
+    Resource retrieve(URL url) throws IOException {
+
+        CompletableFuture<Resource> retrieval;
+        boolean owner = false;
+        synchronized (lock) {
+            if (inFlightRetrieval == null) {
+                inFlightRetrieval = new CompletableFuture<>();
+                owner = true;
+            }
+            retrieval = inFlightRetrieval;
+        }
+
+        if (owner) {
+            try {
+                remoteRetrievalCount.incrementAndGet();
+                Resource retrievedResource = delegate.retrieveResource(url);
+                resource = retrievedResource;
+                retrievedTime = System.currentTimeMillis();
+                lastFailure = null;
+                retrieval.complete(retrievedResource);
+            } catch (IOException | RuntimeException e) {
+                lastFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                lastFailureTime = System.currentTimeMillis();
+                retrieval.completeExceptionally(e);
+            } finally {
+                synchronized (lock) {
+                    inFlightRetrieval = null;
+                }
+            }
+        }
+
+        try {
+            return retrieval.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the JWKS retrieval from " + url, e);
+        } catch (ExecutionException e) {
+            Resource staleResource = resource;
+            if (staleResource != null) {
+                log.warn("Error while retrieving JWKS from " + url + ". Serving the last known JWKS.");
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while retrieving JWKS from " + url, e.getCause());
+                }
+                return staleResource;
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Error while retrieving JWKS from " + url, e.getCause());
+        }
+    }
+
+    /**
+     * Claim the refresh of a JWKS which has reached the given age. Only one caller can claim the refresh until
+     * {@link #refreshAhead(URL)} completes, and the refresh is not claimed again within the minimum refresh interval
+     * after a failed retrieval.
+     *
+     * @param refreshAheadTime Age in milliseconds.
+     * @return True if the caller should schedule {@link #refreshAhead(URL)}.
+     */
+    boolean claimRefreshAhead(long refreshAheadTime) {
+
+        long currentTime = System.currentTimeMillis();
+        if (resource == null || currentTime - retrievedTime < refreshAheadTime) {
+            return false;
+        }
+        if (lastFailure != null && currentTime - lastFailureTime < minRefreshInterval) {
+            return false;
+        }
+        return refreshAheadScheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Retrieve the JWKS ahead of its expiry. Failures are logged, as the last known JWKS remains in use.
+     *
+     * @param url jwks_uri.
+     */
+    void refreshAhead(URL url) {
+
+        try {
+            long previousRetrievedTime = retrievedTime;
+            retrieve(url);
+            if (retrievedTime != previousRetrievedTime) {
+                version++;
+            }
+        } catch (IOException e) {
+            log.warn("Error while refreshing JWKS from " + url);
+            if (log.isDebugEnabled()) {
+                log.debug("Error while refreshing JWKS from " + url, e);
+            }
+        } finally {
+            refreshAheadScheduled.set(false);
+        }
+    }
+
+    /**
+     * Returns a number which changes every time the JWKS is refreshed ahead of its expiry. JWK sets created for an
+     * older version should be replaced, so that they pick up the refreshed JWKS.
+     *
+     * @return Version of the retrieved JWKS.
+     */
+    long getVersion() {
+
+        return version;
+    }
+
+    long getRemoteRetrievalCount() {
+
+        return remoteRetrievalCount.get();
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.oauth2.validators.jwt;
 import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,6 +34,11 @@ import org.wso2.carbon.identity.oauth2.device.constants.Constants;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Provides JWK sources for JWT validation.
@@ -47,10 +53,37 @@ public class JWKSourceDataProvider {
             ".HTTPReadTimeout";
     private static final String HTTP_SIZE_LIMIT_XPATH = "JWTValidatorConfigs.JWKSEndpoint" +
             ".HTTPSizeLimit";
+    private static final String MIN_REFRESH_INTERVAL_XPATH = "JWTValidatorConfigs.JWKSEndpoint" +
+            ".MinRefreshInterval";
+    private static final String REFRESH_AHEAD_TIME_XPATH = "JWTValidatorConfigs.JWKSEndpoint" +
+            ".RefreshAheadTime";
+    private static final int DEFAULT_MIN_REFRESH_INTERVAL = 30000;
+    // RemoteJWKSet keeps a retrieved JWKS for five minutes, hence refresh it a minute ahead by default.
+    private static final int DEFAULT_REFRESH_AHEAD_TIME = 240000;
+    private static final int MAX_RESOURCE_RETRIEVERS = 1000;
     private static final Log log = LogFactory.getLog(JWKSourceDataProvider.class);
 
     private static JWKSourceDataProvider jwkSourceDataProvider = new JWKSourceDataProvider();
 
+    /**
+     * Resource retrievers of the jwks_uris, evicted in least recently used order, so that the tokens of many issuers
+     * do not grow the map without a bound.
+     */
+    private final Map<String, JWKSResourceRetriever> resourceRetrievers = Collections.synchronizedMap(
+            new LinkedHashMap<String, JWKSResourceRetriever>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, JWKSResourceRetriever> eldest) {
+
+                    return size() > MAX_RESOURCE_RETRIEVERS;
+                }
+            });
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwks-refresh-ahead");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private JWKSourceDataProvider() {
 
     }
@@ -74,27 +107,37 @@ public class JWKSourceDataProvider {
      */
     public RemoteJWKSet<SecurityContext> getJWKSource(String jwksUri) throws MalformedURLException {
 
+        URL url = new URL(jwksUri);
+        JWKSResourceRetriever resourceRetriever = getResourceRetriever(jwksUri);
         JWKSCacheKey jwksCacheKey = new JWKSCacheKey(jwksUri);
         JWKSCacheEntry jwksCacheEntry = JWKSCache.getInstance().getValueFromCache(jwksCacheKey);
         RemoteJWKSet<SecurityContext> jwkSet = null;
-        if (jwksCacheEntry != null) {
-            jwkSet = jwksCacheEntry.getValue();
-            if (log.isDebugEnabled()) {
-                log.debug("Retrieving JWKS for " + jwksUri + " from cache.");
+        if (jwksCacheEntry != null && jwksCacheEntry.getValue() != null) {
+            if (jwksCacheEntry.getVersion() == resourceRetriever.getVersion()) {
+                jwkSet = jwksCacheEntry.getValue();
+                if (log.isDebugEnabled()) {
+                    log.debug("Retrieving JWKS for " + jwksUri + " from cache.");
+                }
+            } else if (log.isDebugEnabled()) {
+                log.debug("JWKS for " + jwksUri + " has been refreshed. Replacing the cached JWKS.");
             }
         }
         if (jwkSet == null) {
-            jwkSet = retrieveJWKSFromJWKSEndpoint(jwksUri);
-            JWKSCache.getInstance().addToCache(jwksCacheKey, new JWKSCacheEntry(jwkSet));
+            jwkSet = new RemoteJWKSet<>(url, resourceRetriever);
+            JWKSCache.getInstance().addToCache(jwksCacheKey,
+                    new JWKSCacheEntry(jwkSet, resourceRetriever.getVersion()));
             if (log.isDebugEnabled()) {
                 log.debug("Fetching JWKS from remote endpoint.");
             }
         }
+        scheduleRefreshAhead(url, resourceRetriever);
         return jwkSet;
     }
 
     /**
-     * Retrieve the new-keyset from the JWKS endpoint in case of signature validation failure.
+     * Retrieve the new-keyset from the JWKS endpoint in case of signature validation failure. Retrievals are rate
+     * limited per jwks_uri by the configured minimum refresh interval, so that a burst of tokens signed with an
+     * unknown key does not result in a burst of requests to the JWKS endpoint.
      *
      * @param jwksUri Identity providers jwks_uri.
      * @throws IdentityOAuth2Exception for invalid/malformed URL.
@@ -102,23 +145,56 @@ public class JWKSourceDataProvider {
     public void refreshJWKSResource(String jwksUri) throws IdentityOAuth2Exception {
 
         try {
+            URL url = new URL(jwksUri);
+            JWKSResourceRetriever resourceRetriever = getResourceRetriever(jwksUri);
             JWKSCacheKey jwksCacheKey = new JWKSCacheKey(jwksUri);
             JWKSCache.getInstance().clearCacheEntry(jwksCacheKey);
-            RemoteJWKSet<SecurityContext> jwkSet = retrieveJWKSFromJWKSEndpoint(jwksUri);
-            JWKSCache.getInstance().addToCache(jwksCacheKey, new JWKSCacheEntry(jwkSet));
+            RemoteJWKSet<SecurityContext> jwkSet = new RemoteJWKSet<>(url, resourceRetriever);
+            JWKSCache.getInstance().addToCache(jwksCacheKey,
+                    new JWKSCacheEntry(jwkSet, resourceRetriever.getVersion()));
         } catch (MalformedURLException e) {
             throw new IdentityOAuth2Exception("Provided URI is malformed. jwks_uri: " + jwksUri, e);
         }
     }
 
     /**
-     * Retrieve JWKS from jwks_uri.
+     * Refresh the JWKS in the background once it reaches the configured age, so that the cached JWK set can be
+     * replaced before it expires instead of blocking a validation on the remote JWKS endpoint.
      *
-     * @param jwksUri Identity provider's jwks_uri.
-     * @return RemoteJWKSet
-     * @throws MalformedURLException for invalid URL.
+     * @param url               Identity provider's jwks_uri.
+     * @param resourceRetriever Resource retriever of the jwks_uri.
+     */
+    private void scheduleRefreshAhead(URL url, JWKSResourceRetriever resourceRetriever) {
+
+        int refreshAheadTime = readHTTPConnectionConfigValue(REFRESH_AHEAD_TIME_XPATH);
+        if (refreshAheadTime <= 0) {
+            refreshAheadTime = DEFAULT_REFRESH_AHEAD_TIME;
+        }
+        if (resourceRetriever.claimRefreshAhead(refreshAheadTime)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Scheduling refresh of JWKS from " + url + " ahead of its expiry.");
+            }
+            refreshExecutor.execute(() -> resourceRetriever.refreshAhead(url));
+        }
+    }
+
+    private JWKSResourceRetriever getResourceRetriever(String jwksUri) {
+
+        return resourceRetrievers.computeIfAbsent(jwksUri, uri -> {
+            int minRefreshInterval = readHTTPConnectionConfigValue(MIN_REFRESH_INTERVAL_XPATH);
+            if (minRefreshInterval <= 0) {
+                minRefreshInterval = DEFAULT_MIN_REFRESH_INTERVAL;
+            }
+            return new JWKSResourceRetriever(createResourceRetriever(), minRefreshInterval);
+        });
+    }
+
+    /**
+     * Create the resource retriever used to retrieve JWKS from jwks_uri.
+     *
+     * @return ResourceRetriever.
      */
-    private RemoteJWKSet<SecurityContext> retrieveJWKSFromJWKSEndpoint(String jwksUri) throws MalformedURLException {
+    private ResourceRetriever createResourceRetriever() {
 
         // Retrieve HTTP endpoint configurations.
         int connectionTimeout = readHTTPConnectionConfigValue(HTTP_CONNECTION_TIMEOUT_XPATH);
@@ -137,17 +213,9 @@ public class JWKSourceDataProvider {
         }
 
         if (Boolean.parseBoolean(proxyEnabled)) {
-            ExtendedDefaultResourceRetriever resourceRetriever = new ExtendedDefaultResourceRetriever(
-                    connectionTimeout,
-                    readTimeout,
-                    sizeLimit);
-            return new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
+            return new ExtendedDefaultResourceRetriever(connectionTimeout, readTimeout, sizeLimit);
         }
-        DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
-                connectionTimeout,
-                readTimeout,
-                sizeLimit);
-        return new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
+        return new DefaultResourceRetriever(connectionTimeout, readTimeout, sizeLimit);
     }
 
     /**
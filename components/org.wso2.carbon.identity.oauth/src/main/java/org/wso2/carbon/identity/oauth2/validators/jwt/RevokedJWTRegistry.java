@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants.StatelessJWTValidationConfig;
+import org.wso2.carbon.identity.oauth2.util.IdentityConfigUtil;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.text.ParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local registry of the revoked JWT access tokens, which lets the JWT access tokens be validated without looking
+ * them up in the database.
+ * <p>
+ * The registry is fed by the token revocations with the JTI of each revoked token, which is the persisted identifier
+ * of a JWT access token, and with the consumer key of each application whose tokens are all revoked. An entry is kept
+ * for the configured retention period, so the registry only vouches for tokens whose lifetime is not longer than the
+ * retention period. For the same reason the registry is not available until the retention period has passed since
+ * it was created, as the tokens revoked before that are not known to it. When the number of entries reaches the
+ * configured maximum, the expired entries are purged, and if the registry is still full it stays unavailable until
+ * the tokens which could not be recorded have expired.
+ * <p>
+ * The registry is fed with every token which leaves the active state, whether it is revoked, refreshed or replaced.
+ * As the registry is not shared between the nodes, it is never enabled when clustering is enabled, since a node
+ * would not know about the tokens revoked through the other nodes.
+ */
+public class RevokedJWTRegistry {
+
+    private static final Log log = LogFactory.getLog(RevokedJWTRegistry.class);
+    private static volatile RevokedJWTRegistry instance;
+
+    private final boolean enabled;
+    private final long retentionInMillis;
+    private final int maxRevokedTokens;
+    private final long availableFrom;
+    // JTI of the revoked tokens mapped to the time until which the revocation is retained.
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // Consumer key of the applications whose tokens are revoked mapped to the time of the revocation.
+    private final Map<String, Long> revokedClients = new ConcurrentHashMap<>();
+    private volatile long unavailableUntil;
+
+    RevokedJWTRegistry(boolean enabled, long retentionInMillis, int maxRevokedTokens, long creationTime) {
+
+        this.enabled = enabled;
+        this.retentionInMillis = retentionInMillis;
+        this.maxRevokedTokens = maxRevokedTokens;
+        this.availableFrom = creationTime + retentionInMillis;
+    }
+
+    public static RevokedJWTRegistry getInstance() {
+
+        if (instance == null) {
+            synchronized (RevokedJWTRegistry.class) {
+                if (instance == null) {
+                    boolean enabled =
+                            Boolean.parseBoolean(IdentityUtil.getProperty(StatelessJWTValidationConfig.ENABLE));
+                    if (enabled && OAuth2Util.isClusteringEnabled()) {
+                        log.warn("Stateless JWT validation is not supported when clustering is enabled, since the " +
+                                "revoked JWT registry is not shared between the nodes. Hence the JWT access " +
+                                "tokens are validated against the database.");
+                        enabled = false;
+                    }
+                    instance = new RevokedJWTRegistry(enabled,
+                            TimeUnit.SECONDS.toMillis(IdentityConfigUtil.getLongProperty(
+                                    StatelessJWTValidationConfig.REVOKED_TOKEN_RETENTION,
+                                    StatelessJWTValidationConfig.DEFAULT_REVOKED_TOKEN_RETENTION)),
+                            IdentityConfigUtil.getIntProperty(StatelessJWTValidationConfig.MAX_REVOKED_TOKENS,
+                                    StatelessJWTValidationConfig.DEFAULT_MAX_REVOKED_TOKENS),
+                            System.currentTimeMillis());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether the registry records the revoked tokens.
+     *
+     * @return True if the stateless validation is enabled.
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Check whether the registry knows about every revocation of the tokens it vouches for at this time.
+     *
+     * @return True if the stateless validation is enabled and the registry can be relied on.
+     */
+    public boolean isAvailable() {
+
+        long currentTime = System.currentTimeMillis();
+        return enabled && currentTime >= availableFrom && currentTime >= unavailableUntil;
+    }
+
+    /**
+     * Get the longest lifetime of a token whose revocation is known to the registry.
+     *
+     * @return Retention period of the revocations in milliseconds.
+     */
+    public long getRetentionInMillis() {
+
+        return retentionInMillis;
+    }
+
+    /**
+     * Record the revocation of a token.
+     *
+     * @param tokenIdentifier Value or persisted identifier of the token, which is the JTI for a JWT access token.
+     */
+    public void addRevokedToken(String tokenIdentifier) {
+
+        if (!enabled || StringUtils.isBlank(tokenIdentifier)) {
+            return;
+        }
+        if (JWTUtils.isJWT(tokenIdentifier)) {
+            try {
+                tokenIdentifier = JWTUtils.parseJWT(tokenIdentifier).getJWTClaimsSet().getJWTID();
+            } catch (ParseException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while parsing the revoked JWT access token. Hence it is not recorded.", e);
+                }
+                return;
+            }
+            if (StringUtils.isBlank(tokenIdentifier)) {
+                return;
+            }
+        }
+        long currentTime = System.currentTimeMillis();
+        if (revokedTokens.size() + revokedClients.size() >= maxRevokedTokens) {
+            purgeExpiredEntries(currentTime);
+            if (revokedTokens.size() + revokedClients.size() >= maxRevokedTokens) {
+                // The revoked token could still be valid until the end of the retention period.
+                unavailableUntil = currentTime + retentionInMillis;
+                log.warn("The revoked JWT registry is full with " + maxRevokedTokens + " entries. Hence the JWT " +
+                        "access tokens are validated against the database for the next " +
+                        TimeUnit.MILLISECONDS.toSeconds(retentionInMillis) + " seconds.");
+                return;
+            }
+        }
+        revokedTokens.put(tokenIdentifier, currentTime + retentionInMillis);
+    }
+
+    /**
+     * Record the revocation of all the tokens issued to an application up to now.
+     *
+     * @param consumerKey Consumer key of the application.
+     */
+    public void revokeTokensOfClient(String consumerKey) {
+
+        if (!enabled || StringUtils.isBlank(consumerKey)) {
+            return;
+        }
+        revokedClients.put(consumerKey, System.currentTimeMillis());
+    }
+
+    /**
+     * Check whether a token is revoked.
+     *
+     * @param jti         JTI of the token.
+     * @param consumerKey Consumer key of the application the token is issued to.
+     * @param issuedTime  Issued time of the token in milliseconds.
+     * @return True if the token or all the tokens of the application issued up to the issued time are revoked.
+     */
+    public boolean isRevoked(String jti, String consumerKey, long issuedTime) {
+
+        long currentTime = System.currentTimeMillis();
+        Long retainedUntil = revokedTokens.get(jti);
+        if (retainedUntil != null && retainedUntil > currentTime) {
+            return true;
+        }
+        Long clientRevokedTime = revokedClients.get(consumerKey);
+        return clientRevokedTime != null && clientRevokedTime + retentionInMillis > currentTime &&
+                issuedTime <= clientRevokedTime;
+    }
+
+    private void purgeExpiredEntries(long currentTime) {
+
+        revokedTokens.values().removeIf(retainedUntil -> retainedUntil <= currentTime);
+        revokedClients.values().removeIf(revokedTime -> revokedTime + retentionInMillis <= currentTime);
+        if (log.isDebugEnabled()) {
+            log.debug("Purged the expired entries of the revoked JWT registry. Remaining entries: " +
+                    (revokedTokens.size() + revokedClients.size()));
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.DefaultOAuth2TokenValidator;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.security.cert.X509Certificate;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Validates the JWT access tokens of the applications which opted in to the stateless validation, purely from the
+ * signature, the expiry and the claims of the token, without looking the token up in the database. The revocation of
+ * the tokens is enforced through the {@link RevokedJWTRegistry}.
+ * <p>
+ * The validator only ever confirms that a token is active. Whenever a token can not be confirmed as active from its
+ * claims alone, e.g. because it is revoked, expired, bound to a client or issued for an organization, the validator
+ * returns an empty result so that the token is validated against the database as usual.
+ */
+public class StatelessJWTAccessTokenValidator {
+
+    private static final Log log = LogFactory.getLog(StatelessJWTAccessTokenValidator.class);
+    private static final String CLIENT_ID = "client_id";
+    private static final String ACT = "act";
+    private static final String TOKEN_BINDING_REF = "binding_ref";
+
+    private final RevokedJWTRegistry revokedJWTRegistry;
+
+    public StatelessJWTAccessTokenValidator() {
+
+        this(RevokedJWTRegistry.getInstance());
+    }
+
+    StatelessJWTAccessTokenValidator(RevokedJWTRegistry revokedJWTRegistry) {
+
+        this.revokedJWTRegistry = revokedJWTRegistry;
+    }
+
+    /**
+     * Build the introspection response of a JWT access token from its claims, if the token can be confirmed as active
+     * without looking it up in the database.
+     *
+     * @param accessToken Access token to be introspected.
+     * @return Introspection response of the active token, or an empty result if the token should be validated
+     * against the database.
+     * @throws IdentityOAuth2Exception If an error occurred while validating the token.
+     */
+    public Optional<OAuth2IntrospectionResponseDTO> validate(String accessToken) throws IdentityOAuth2Exception {
+
+        // Persisted identifiers of hashed tokens can not be mapped to the JTI of the revoked tokens.
+        if (!revokedJWTRegistry.isAvailable() || OAuth2Util.isHashEnabled() || StringUtils.isBlank(accessToken) ||
+                !JWTUtils.isJWT(accessToken)) {
+            return Optional.empty();
+        }
+        try {
+            SignedJWT signedJWT = JWTUtils.parseJWT(accessToken);
+            Optional<JWTClaimsSet> claimsSet = JWTUtils.getJWTClaimSet(signedJWT);
+            if (!claimsSet.isPresent() || !isStatelessToken(claimsSet.get())) {
+                return Optional.empty();
+            }
+            JWTClaimsSet claims = claimsSet.get();
+            String consumerKey = claims.getStringClaim(CLIENT_ID);
+            String tenantDomain = JWTUtils.getSigningTenantDomain(claims, null);
+            if (!OAuthServerConfiguration.getInstance().isCrossTenantTokenIntrospectionAllowed() &&
+                    !StringUtils.equalsIgnoreCase(tenantDomain,
+                            PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain())) {
+                return Optional.empty();
+            }
+            if (!isStatelessValidationAllowed(consumerKey, tenantDomain)) {
+                return Optional.empty();
+            }
+            // Users of SaaS applications are validated against the tenant of the persisted token.
+            ServiceProvider serviceProvider = OAuth2Util.getServiceProvider(consumerKey, tenantDomain);
+            if (serviceProvider == null || serviceProvider.isSaasApp()) {
+                return Optional.empty();
+            }
+            if (revokedJWTRegistry.isRevoked(claims.getJWTID(), consumerKey, claims.getIssueTime().getTime())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("JWT access token of the application: " + consumerKey + " is revoked. Hence " +
+                            "validating the token against the database.");
+                }
+                return Optional.empty();
+            }
+            if (!JWTUtils.checkExpirationTime(claims.getExpirationTime()) || !isNotBeforeTimePassed(claims) ||
+                    !validateSignature(signedJWT, claims, tenantDomain)) {
+                return Optional.empty();
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("JWT access token of the application: " + consumerKey + " is validated without the " +
+                        "database.");
+            }
+            return Optional.of(buildIntrospectionResponse(claims, consumerKey, serviceProvider));
+        } catch (ParseException | JOSEException e) {
+            throw new IdentityOAuth2Exception("Error while validating the JWT access token.", e);
+        } catch (OrganizationManagementException e) {
+            throw new IdentityOAuth2Exception("Error while retrieving the organization hierarchy.", e);
+        }
+    }
+
+    /**
+     * Check whether the claims of a token are the ones of a JWT access token issued by this server, whose revocation
+     * is known to the revoked JWT registry.
+     */
+    private boolean isStatelessToken(JWTClaimsSet claims) throws ParseException {
+
+        if (!JWTUtils.validateRequiredFields(claims) || claims.getIssueTime() == null ||
+                StringUtils.isBlank(claims.getStringClaim(CLIENT_ID)) ||
+                StringUtils.isBlank(claims.getStringClaim(OAuthConstants.AUTHORIZED_USER_TYPE))) {
+            return false;
+        }
+        // Bound, impersonated and organization switched tokens need the persisted token data to be validated.
+        if (claims.getClaim(OAuthConstants.CNF) != null || claims.getClaim(TOKEN_BINDING_REF) != null ||
+                claims.getClaim(ACT) != null || claims.getClaim(OAuthConstants.ORG_ID) != null) {
+            return false;
+        }
+        long lifetime = claims.getExpirationTime().getTime() - claims.getIssueTime().getTime();
+        return lifetime <= revokedJWTRegistry.getRetentionInMillis();
+    }
+
+    private boolean isStatelessValidationAllowed(String consumerKey, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        OAuthAppDO oAuthAppDO;
+        try {
+            oAuthAppDO = OAuth2Util.getAppInformationByClientId(consumerKey, tenantDomain);
+        } catch (InvalidOAuthClientException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Application with the client id: " + consumerKey + " is not found in the tenant: " +
+                        tenantDomain, e);
+            }
+            return false;
+        }
+        // Scope validators of the application validate the scopes against the persisted token data.
+        return oAuthAppDO.isStatelessJWTValidationEnabled() &&
+                OAuthConstants.OauthAppStates.APP_STATE_ACTIVE.equalsIgnoreCase(oAuthAppDO.getState()) &&
+                ArrayUtils.isEmpty(oAuthAppDO.getScopeValidators());
+    }
+
+    private boolean isNotBeforeTimePassed(JWTClaimsSet claims) {
+
+        try {
+            JWTUtils.checkNotBeforeTime(claims.getNotBeforeTime());
+            return true;
+        } catch (IdentityOAuth2Exception e) {
+            return false;
+        }
+    }
+
+    private boolean validateSignature(SignedJWT signedJWT, JWTClaimsSet claims, String tenantDomain)
+            throws IdentityOAuth2Exception, OrganizationManagementException, JOSEException {
+
+        IdentityProvider identityProvider = JWTUtils.getResidentIDPForIssuer(claims, tenantDomain);
+        Optional<X509Certificate> certificate = JWTUtils.getCertificateFromClaims(claims);
+        X509Certificate x509Certificate = certificate.isPresent() ? certificate.get() :
+                JWTUtils.resolveSignerCertificate(identityProvider);
+        if (x509Certificate == null) {
+            return false;
+        }
+        return JWTUtils.verifySignature(signedJWT, x509Certificate, JWTUtils.verifyAlgorithm(signedJWT));
+    }
+
+    private OAuth2IntrospectionResponseDTO buildIntrospectionResponse(JWTClaimsSet claims, String consumerKey,
+                                                                      ServiceProvider serviceProvider)
+            throws ParseException {
+
+        String authorizedUserType = claims.getStringClaim(OAuthConstants.AUTHORIZED_USER_TYPE);
+        boolean removeUsername = StringUtils.equals(OAuthConstants.UserType.APPLICATION, authorizedUserType) &&
+                (OAuthServerConfiguration.getInstance().isRemoveUsernameFromIntrospectionResponseForAppTokensEnabled()
+                        || OAuth2Util.isAppVersionAllowed(serviceProvider.getApplicationVersion(),
+                        ApplicationConstants.ApplicationVersion.APP_VERSION_V1));
+
+        OAuth2IntrospectionResponseDTO introResp = new OAuth2IntrospectionResponseDTO();
+        // should be in seconds
+        introResp.setExp(claims.getExpirationTime().getTime() / 1000);
+        introResp.setIat(claims.getIssueTime().getTime() / 1000);
+        Date notBeforeTime = claims.getNotBeforeTime() != null ? claims.getNotBeforeTime() : claims.getIssueTime();
+        introResp.setNbf(notBeforeTime.getTime() / 1000);
+        introResp.setScope(claims.getStringClaim(OAuthConstants.SCOPE));
+        introResp.setClientId(consumerKey);
+        if (!removeUsername) {
+            introResp.setUsername(claims.getSubject());
+        }
+        introResp.setSub(claims.getSubject());
+        introResp.setIss(claims.getIssuer());
+        introResp.setAud(String.join(",", claims.getAudience()));
+        introResp.setJti(claims.getJWTID());
+        introResp.setAut(authorizedUserType);
+        introResp.setTokenType(new DefaultOAuth2TokenValidator().getTokenType());
+        introResp.setActive(true);
+        return introResp;
+    }
+}
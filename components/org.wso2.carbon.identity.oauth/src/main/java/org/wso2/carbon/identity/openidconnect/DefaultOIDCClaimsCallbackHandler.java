@@ -59,6 +59,7 @@ import org.wso2.carbon.identity.oauth2.token.handlers.grant.RefreshGrantHandler;
 import org.wso2.carbon.identity.oauth2.util.AuthzUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.model.OIDCClaimResolutionContext;
 import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.api.UserStoreException;
@@ -409,7 +410,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
             String clientId = requestMsgCtx.getOauth2AccessTokenReqDTO().getClientId();
             AuthenticatedUser authenticatedUser = requestMsgCtx.getAuthorizedUser();
 
-            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    requestMsgCtx.getClaimResolutionContext());
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -542,7 +544,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
             String clientId = authzReqMessageContext.getAuthorizationReqDTO().getConsumerKey();
             AuthenticatedUser authenticatedUser = authzReqMessageContext.getAuthorizationReqDTO().getUser();
 
-            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    authzReqMessageContext.getClaimResolutionContext());
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -595,12 +598,20 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
     }
 
     private Map<String, Object> getUserClaimsInOIDCDialect(String spTenantDomain, String clientId,
-                                                           AuthenticatedUser authenticatedUser)
+                                                           AuthenticatedUser authenticatedUser,
+                                                           OIDCClaimResolutionContext claimResolutionContext)
             throws IdentityApplicationManagementException, IdentityException, UserStoreException,
             OrganizationManagementException {
 
+        if (claimResolutionContext == null) {
+            claimResolutionContext = new OIDCClaimResolutionContext();
+        }
         Map<String, Object> userClaimsMappedToOIDCDialect = new HashMap<>();
-        ServiceProvider serviceProvider = getServiceProvider(spTenantDomain, clientId);
+        ServiceProvider serviceProvider = claimResolutionContext.getServiceProvider(spTenantDomain, clientId);
+        if (serviceProvider == null) {
+            serviceProvider = getServiceProvider(spTenantDomain, clientId);
+            claimResolutionContext.addServiceProvider(spTenantDomain, clientId, serviceProvider);
+        }
         if (serviceProvider == null) {
             log.warn("Unable to find a service provider associated with client_id: " + clientId + " in tenantDomain: " +
                     spTenantDomain + ". Returning empty claim map for user.");
@@ -619,7 +630,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
         List<String> requestedClaimUris = getRequestedClaimUris(requestClaimMappings);
         // Improve runtime claim value storage in cache through https://github.com/wso2/product-is/issues/15056
         requestedClaimUris.removeIf(claim -> claim.startsWith("http://wso2.org/claims/runtime/"));
-        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, requestedClaimUris);
+        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, requestedClaimUris,
+                claimResolutionContext);
     }
 
     private ClaimMapping[] getRequestedClaimMappings(ServiceProvider serviceProvider) {
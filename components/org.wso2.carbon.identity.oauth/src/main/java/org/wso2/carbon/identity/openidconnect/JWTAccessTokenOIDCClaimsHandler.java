@@ -62,6 +62,7 @@ import org.wso2.carbon.identity.oauth2.token.handlers.grant.RefreshGrantHandler;
 import org.wso2.carbon.identity.oauth2.util.AuthzUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.model.OIDCClaimResolutionContext;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.api.UserStoreException;
 
@@ -226,7 +227,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
             String clientId = requestMsgCtx.getOauth2AccessTokenReqDTO().getClientId();
             AuthenticatedUser authenticatedUser = requestMsgCtx.getAuthorizedUser();
 
-            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    requestMsgCtx.getClaimResolutionContext());
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -544,7 +546,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
             String clientId = authzReqMessageContext.getAuthorizationReqDTO().getConsumerKey();
             AuthenticatedUser authenticatedUser = authzReqMessageContext.getAuthorizationReqDTO().getUser();
 
-            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    authzReqMessageContext.getClaimResolutionContext());
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -656,9 +659,10 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
     /**
      * Get user claims in OIDC claim dialect from userstore.
      *
-     * @param spTenantDomain    Service Provider Tenant Domain
-     * @param clientId          Client Id
-     * @param authenticatedUser Authenticated User
+     * @param spTenantDomain         Service Provider Tenant Domain
+     * @param clientId               Client Id
+     * @param authenticatedUser      Authenticated User
+     * @param claimResolutionContext Claim resolution context of the request
      * @return User claims in OIDC dialect
      * @throws IdentityApplicationManagementException Identity Application Management Exception
      * @throws IdentityException                      Identity Exception
@@ -666,12 +670,20 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
      * @throws OrganizationManagementException        Organization Management Exception
      */
     private Map<String, Object> getLocalUserClaimsInOIDCDialect(String spTenantDomain, String clientId,
-                                                                AuthenticatedUser authenticatedUser)
+                                                                AuthenticatedUser authenticatedUser,
+                                                                OIDCClaimResolutionContext claimResolutionContext)
             throws IdentityApplicationManagementException, IdentityException, UserStoreException,
             OrganizationManagementException {
 
+        if (claimResolutionContext == null) {
+            claimResolutionContext = new OIDCClaimResolutionContext();
+        }
         Map<String, Object> userClaimsMappedToOIDCDialect = new HashMap<>();
-        ServiceProvider serviceProvider = getServiceProvider(spTenantDomain, clientId);
+        ServiceProvider serviceProvider = claimResolutionContext.getServiceProvider(spTenantDomain, clientId);
+        if (serviceProvider == null) {
+            serviceProvider = getServiceProvider(spTenantDomain, clientId);
+            claimResolutionContext.addServiceProvider(spTenantDomain, clientId, serviceProvider);
+        }
         if (serviceProvider == null) {
             log.warn("Unable to find a service provider associated with client_id: " + clientId + " in tenantDomain: " +
                     spTenantDomain + ". Returning empty claim map for user.");
@@ -688,7 +700,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
         }
         List<String> localClaimURIs = allowedClaims.stream().map(oidcToLocalClaimMappings::get).filter(Objects::nonNull)
                 .collect(Collectors.toList());
-        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, localClaimURIs);
+        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, localClaimURIs,
+                claimResolutionContext);
     }
 
     /**
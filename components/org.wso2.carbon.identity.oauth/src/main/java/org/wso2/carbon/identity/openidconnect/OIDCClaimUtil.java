@@ -48,6 +48,7 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.model.OIDCClaimResolutionContext;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.api.UserRealm;
@@ -442,8 +443,86 @@ public class OIDCClaimUtil {
                                                           List<String> claimURIList) throws IdentityException,
             UserStoreException, OrganizationManagementException {
 
+        return getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, claimURIList, null);
+    }
+
+    /**
+     * Get user claims in OIDC dialect. When a claim resolution context is given, only the claims that are not
+     * resolved yet within the request are fetched from the user store.
+     *
+     * @param serviceProvider        Service Provider
+     * @param authenticatedUser      Authenticated User
+     * @param claimURIList           List of claim URIs
+     * @param claimResolutionContext Request scoped claim resolution context, can be null
+     * @return User claims in OIDC dialect
+     * @throws IdentityException
+     * @throws UserStoreException
+     * @throws OrganizationManagementException
+     */
+    public static Map<String, Object> getUserClaimsInOIDCDialect(ServiceProvider serviceProvider,
+                                                          AuthenticatedUser authenticatedUser,
+                                                          List<String> claimURIList,
+                                                          OIDCClaimResolutionContext claimResolutionContext)
+            throws IdentityException, UserStoreException, OrganizationManagementException {
+
         Map<String, Object> userClaimsMappedToOIDCDialect = new HashMap<>();
 
+        Map<String, String> userClaims;
+        if (claimResolutionContext == null) {
+            userClaims = getUserClaimsInLocalDialect(serviceProvider, authenticatedUser, claimURIList);
+        } else {
+            List<String> unresolvedClaimURIs =
+                    claimResolutionContext.getUnresolvedClaimURIs(authenticatedUser, claimURIList);
+            if (!unresolvedClaimURIs.isEmpty()) {
+                Map<String, String> fetchedClaims = getUserClaimsInLocalDialect(serviceProvider, authenticatedUser,
+                        new ArrayList<>(unresolvedClaimURIs));
+                claimResolutionContext.addResolvedClaims(authenticatedUser, unresolvedClaimURIs, fetchedClaims);
+            } else if (log.isDebugEnabled()) {
+                log.debug("All requested claims of " + authenticatedUser.toFullQualifiedUsername() +
+                        " are already resolved within the request.");
+            }
+            userClaims = claimResolutionContext.getResolvedClaims(authenticatedUser, claimURIList);
+        }
+
+        if (isEmpty(userClaims)) {
+            // User claims can be empty if user does not exist in user stores. Probably a federated user.
+            if (log.isDebugEnabled()) {
+                log.debug("No claims found for " + authenticatedUser.toFullQualifiedUsername() +
+                        " from user store.");
+            }
+            return userClaimsMappedToOIDCDialect;
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("Number of user claims retrieved for " + authenticatedUser.toFullQualifiedUsername() +
+                        " from user store: " + userClaims.size());
+            }
+            // Map the local roles to SP defined roles.
+            handleServiceProviderRoleMappings(serviceProvider, FrameworkUtils.getMultiAttributeSeparator(),
+                    userClaims);
+
+            // Get the user claims in oidc dialect to be returned in the id_token.
+            Map<String, Object> userClaimsInOIDCDialect = getUserClaimsInOIDCDialect(serviceProvider.getTenantDomain(),
+                    userClaims);
+            userClaimsMappedToOIDCDialect.putAll(userClaimsInOIDCDialect);
+        }
+
+        return userClaimsMappedToOIDCDialect;
+    }
+
+    /**
+     * Fetch the given claims of the user in local dialect, including the role claims resolved through the
+     * application roles resolver and the groups of shared users.
+     *
+     * @param serviceProvider   Service Provider
+     * @param authenticatedUser Authenticated User
+     * @param claimURIList      List of claim URIs
+     * @return User claims in local dialect or null if the user realm cannot be resolved
+     */
+    private static Map<String, String> getUserClaimsInLocalDialect(ServiceProvider serviceProvider,
+                                                                   AuthenticatedUser authenticatedUser,
+                                                                   List<String> claimURIList)
+            throws IdentityException, UserStoreException, OrganizationManagementException {
+
         String fullQualifiedUsername = authenticatedUser.toFullQualifiedUsername();
         String userTenantDomain = authenticatedUser.getTenantDomain();
         String userResidentTenantDomain = userTenantDomain;
@@ -471,7 +550,7 @@ public class OIDCClaimUtil {
         if (realm == null) {
             log.warn("Invalid tenant domain: " + userTenantDomain + " provided. Cannot get claims for user: "
                     + fullQualifiedUsername);
-            return userClaimsMappedToOIDCDialect;
+            return null;
         }
 
         boolean roleClaimRequested = false;
@@ -528,28 +607,7 @@ public class OIDCClaimUtil {
             addSharedUserGroupsFromSharedOrganization(authenticatedUser, userClaims);
         }
 
-        if (isEmpty(userClaims)) {
-            // User claims can be empty if user does not exist in user stores. Probably a federated user.
-            if (log.isDebugEnabled()) {
-                log.debug("No claims found for " + fullQualifiedUsername + " from user store.");
-            }
-            return userClaimsMappedToOIDCDialect;
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Number of user claims retrieved for " + fullQualifiedUsername + " from user store: " +
-                        userClaims.size());
-            }
-            // Map the local roles to SP defined roles.
-            handleServiceProviderRoleMappings(serviceProvider, FrameworkUtils.getMultiAttributeSeparator(),
-                    userClaims);
-
-            // Get the user claims in oidc dialect to be returned in the id_token.
-            Map<String, Object> userClaimsInOIDCDialect = getUserClaimsInOIDCDialect(serviceProvider.getTenantDomain(),
-                    userClaims);
-            userClaimsMappedToOIDCDialect.putAll(userClaimsInOIDCDialect);
-        }
-
-        return userClaimsMappedToOIDCDialect;
+        return userClaims;
     }
 
     /**
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implements a cache to store the serialized OIDC discovery documents of each tenant, so that the document is not
+ * rebuilt and serialized for every discovery request.
+ * <p>
+ * The documents are kept in the space of the tenant and keyed by the request URI, since the endpoint URLs in the
+ * document depend on the path the document is requested from. The timeout and the capacity of the cache are
+ * configured in identity.xml. The documents of a tenant are cleared across the cluster when the OIDC scopes or the
+ * claim metadata of the tenant are changed, and are otherwise rebuilt once the timeout has passed. The entity tag
+ * of a document is derived from its content, so that it does not change when an unchanged document is rebuilt.
+ */
+public class OIDCDiscoveryDocumentCache extends BaseCache<String, OIDCDiscoveryDocumentCacheEntry> {
+
+    public static final String OIDC_DISCOVERY_DOCUMENT_CACHE = "OIDCDiscoveryDocumentCache";
+    private static final Log log = LogFactory.getLog(OIDCDiscoveryDocumentCache.class);
+
+    private static volatile OIDCDiscoveryDocumentCache instance;
+
+    private OIDCDiscoveryDocumentCache() {
+
+        super(OIDC_DISCOVERY_DOCUMENT_CACHE);
+    }
+
+    public static OIDCDiscoveryDocumentCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (OIDCDiscoveryDocumentCache.class) {
+                if (instance == null) {
+                    instance = new OIDCDiscoveryDocumentCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the cached discovery document of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param requestUri   URI the discovery document is requested from.
+     * @return Cached discovery document, or null if the document is not cached.
+     */
+    public OIDCDiscoveryDocumentCacheEntry getDocument(String tenantDomain, String requestUri) {
+
+        OIDCDiscoveryDocumentCacheEntry entry = super.getValueFromCache(requestUri, tenantDomain);
+        if (entry == null && log.isDebugEnabled()) {
+            log.debug("Cache miss for the OIDC discovery document of the tenant: " + tenantDomain);
+        }
+        return entry;
+    }
+
+    /**
+     * Add the discovery document of the tenant to the cache.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param requestUri   URI the discovery document is requested from.
+     * @param document     Serialized discovery document.
+     * @return Discovery document with its validators. The entry is returned even if the cache is disabled.
+     */
+    public OIDCDiscoveryDocumentCacheEntry addDocument(String tenantDomain, String requestUri, String document) {
+
+        String eTag = DigestUtils.sha256Hex(document.getBytes(StandardCharsets.UTF_8));
+        // Last-Modified is sent with a precision of seconds.
+        long lastModified = TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+        OIDCDiscoveryDocumentCacheEntry entry = new OIDCDiscoveryDocumentCacheEntry(document, eTag, lastModified);
+        super.addToCache(requestUri, entry, tenantDomain);
+        return entry;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Date;
+
+/**
+ * Pre-rendered OIDC discovery document held in {@link OIDCDiscoveryDocumentCache}, together with the validators used
+ * to answer conditional requests.
+ */
+public class OIDCDiscoveryDocumentCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 2618529570213460128L;
+
+    private final String document;
+    private final String eTag;
+    private final long lastModified;
+
+    OIDCDiscoveryDocumentCacheEntry(String document, String eTag, long lastModified) {
+
+        this.document = document;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Get the serialized discovery document.
+     *
+     * @return Discovery document.
+     */
+    public String getDocument() {
+
+        return document;
+    }
+
+    /**
+     * Get the entity tag of the discovery document, without the surrounding quotes.
+     *
+     * @return Entity tag.
+     */
+    public String getETag() {
+
+        return eTag;
+    }
+
+    /**
+     * Get the time the discovery document was built, truncated to seconds.
+     *
+     * @return Last modified time.
+     */
+    public Date getLastModified() {
+
+        return new Date(lastModified);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Implements a cache to store the claims requested in the request objects, against the token IDs.
+ * <p>
+ * The token IDs are unique across the tenants, hence the entries are kept in the super tenant space so that they can
+ * be added, read and removed regardless of the tenant of the thread.
+ */
+public class RequestedClaimsCache extends BaseCache<String, RequestedClaimsCacheEntry> {
+
+    public static final String REQUESTED_CLAIMS_CACHE = "OIDCRequestedClaimsCache";
+    private static volatile RequestedClaimsCache instance;
+
+    private RequestedClaimsCache() {
+
+        super(REQUESTED_CLAIMS_CACHE);
+    }
+
+    public static RequestedClaimsCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (RequestedClaimsCache.class) {
+                if (instance == null) {
+                    instance = new RequestedClaimsCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public void addRequestedClaims(String tokenId, RequestedClaimsCacheEntry requestedClaimsCacheEntry) {
+
+        super.addToCache(tokenId, requestedClaimsCacheEntry, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    public void clearRequestedClaims(String tokenId) {
+
+        super.clearCacheEntry(tokenId, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    public RequestedClaimsCacheEntry getRequestedClaims(String tokenId) {
+
+        return super.getValueFromCache(tokenId, MultitenantConstants.SUPER_TENANT_ID);
+    }
+}
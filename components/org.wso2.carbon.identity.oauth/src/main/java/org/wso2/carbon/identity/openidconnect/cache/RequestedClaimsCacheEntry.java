@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache Entry which will use in {@link RequestedClaimsCache}.
+ * <p>
+ * Only the name, the essential flag and the value of a claim are persisted for a token, hence the claims are kept as
+ * flat arrays of those attributes, which are compact to replicate. An entry without claims records that no claims are
+ * requested for the token.
+ */
+public class RequestedClaimsCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -5253096584622385347L;
+    private static final int ATTRIBUTES_PER_CLAIM = 3;
+    private static final String ESSENTIAL = "1";
+    private static final String NOT_ESSENTIAL = "0";
+
+    private final String[] idTokenClaims;
+    private final String[] userInfoClaims;
+
+    public RequestedClaimsCacheEntry(List<RequestedClaim> idTokenClaims, List<RequestedClaim> userInfoClaims) {
+
+        this.idTokenClaims = serialize(idTokenClaims);
+        this.userInfoClaims = serialize(userInfoClaims);
+    }
+
+    /**
+     * Get the claims requested for the ID token or the user info response.
+     *
+     * @param isUserInfo True to get the claims requested for the user info response.
+     * @return Requested claims.
+     */
+    public List<RequestedClaim> getRequestedClaims(boolean isUserInfo) {
+
+        String[] claims = isUserInfo ? userInfoClaims : idTokenClaims;
+        List<RequestedClaim> requestedClaims = new ArrayList<>(claims.length / ATTRIBUTES_PER_CLAIM);
+        for (int i = 0; i < claims.length; i += ATTRIBUTES_PER_CLAIM) {
+            RequestedClaim requestedClaim = new RequestedClaim();
+            requestedClaim.setName(claims[i]);
+            requestedClaim.setEssential(ESSENTIAL.equals(claims[i + 1]));
+            requestedClaim.setValue(claims[i + 2]);
+            requestedClaims.add(requestedClaim);
+        }
+        return requestedClaims;
+    }
+
+    private static String[] serialize(List<RequestedClaim> requestedClaims) {
+
+        String[] claims = new String[requestedClaims.size() * ATTRIBUTES_PER_CLAIM];
+        int i = 0;
+        for (RequestedClaim requestedClaim : requestedClaims) {
+            claims[i++] = requestedClaim.getName();
+            claims[i++] = requestedClaim.isEssential() ? ESSENTIAL : NOT_ESSENTIAL;
+            claims[i++] = requestedClaim.getValue();
+        }
+        return claims;
+    }
+}
@@ -29,10 +29,17 @@ import org.wso2.carbon.identity.application.common.util.IdentityApplicationManag
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheType;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.AuthorizationCodeDAOImpl;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.openidconnect.OIDCConstants;
+import org.wso2.carbon.identity.openidconnect.cache.RequestedClaimsCache;
+import org.wso2.carbon.identity.openidconnect.cache.RequestedClaimsCacheEntry;
 import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
 import org.wso2.carbon.utils.DBUtils;
 
@@ -55,6 +62,7 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
 
     private static final String ID = "ID";
     private static final Log log = LogFactory.getLog(AuthorizationCodeDAOImpl.class);
+    private final RequestedClaimsCache requestedClaimsCache = RequestedClaimsCache.getInstance();
 
     /**
      * Store request object related data into related db tables.
@@ -163,6 +171,7 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
             ps.setString(3, sessionDataKey);
             ps.execute();
             IdentityDatabaseUtil.commitTransaction(connection);
+            requestedClaimsCache.clearRequestedClaims(accessTokenId);
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             String errorMsg = "Can not update code id or the access token id of the table ."
@@ -336,7 +345,8 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
     }
 
     /**
-     * Retrieve Requested claims for the id token and user info endpoint.
+     * Retrieve Requested claims for the id token and user info endpoint. The claims of a token are loaded with a
+     * single query for both the id token and the user info endpoint and are kept in {@link RequestedClaimsCache}.
      *
      * @param token      token
      * @param isUserInfo return true if the claims are requested from user info end point.
@@ -345,20 +355,47 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
      */
     @Override
     public List<RequestedClaim> getRequestedClaims(String token, boolean isUserInfo) throws IdentityOAuth2Exception {
+
+        String tokenId = getTokenId(token);
+        if (tokenId == null) {
+            return new ArrayList<>();
+        }
+        RequestedClaimsCacheEntry requestedClaimsCacheEntry = requestedClaimsCache.getRequestedClaims(tokenId);
+        if (requestedClaimsCacheEntry == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache miss for the requested claims of the token id: " + tokenId);
+            }
+            requestedClaimsCacheEntry = loadRequestedClaims(tokenId);
+            requestedClaimsCache.addRequestedClaims(tokenId, requestedClaimsCacheEntry);
+        }
+        return requestedClaimsCacheEntry.getRequestedClaims(isUserInfo);
+    }
+
+    private String getTokenId(String token) throws IdentityOAuth2Exception {
+
+        // The token is usually validated right before its requested claims are read, hence it is likely to be cached.
+        CacheEntry cacheEntry = OAuthCache.getInstance().getValueFromCache(new OAuthCacheKey(token,
+                OAuthCacheType.ACCESS_TOKEN));
+        if (cacheEntry instanceof AccessTokenDO && ((AccessTokenDO) cacheEntry).getTokenId() != null) {
+            return ((AccessTokenDO) cacheEntry).getTokenId();
+        }
+        return OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().getTokenIdByAccessToken(token);
+    }
+
+    private RequestedClaimsCacheEntry loadRequestedClaims(String tokenId) throws IdentityOAuth2Exception {
+
         Connection connection = null;
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
-        List<RequestedClaim> essentialClaims = new ArrayList<>();
-        String tokenId = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().
-                getTokenIdByAccessToken(token);
+        List<RequestedClaim> idTokenClaims = new ArrayList<>();
+        List<RequestedClaim> userInfoClaims = new ArrayList<>();
         try {
             connection = IdentityDatabaseUtil.getDBConnection(false);
-            String sql = isH2DB() ? SQLQueries.RETRIEVE_REQUESTED_CLAIMS_BY_TOKEN_H2 :
-                    SQLQueries.RETRIEVE_REQUESTED_CLAIMS_BY_TOKEN;
+            String sql = isH2DB() ? SQLQueries.RETRIEVE_ALL_REQUESTED_CLAIMS_BY_TOKEN_H2 :
+                    SQLQueries.RETRIEVE_ALL_REQUESTED_CLAIMS_BY_TOKEN;
 
             prepStmt = connection.prepareStatement(sql);
             prepStmt.setString(1, tokenId);
-            prepStmt.setString(2, isUserInfo ? "1" : "0");
             resultSet = prepStmt.executeQuery();
 
             while (resultSet.next()) {
@@ -366,7 +403,11 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
                 requestedClaim.setName(resultSet.getString(1));
                 requestedClaim.setEssential(!"0".equals(resultSet.getString(2)));
                 requestedClaim.setValue(resultSet.getString(3));
-                essentialClaims.add(requestedClaim);
+                if ("1".equals(resultSet.getString(4))) {
+                    userInfoClaims.add(requestedClaim);
+                } else if ("0".equals(resultSet.getString(4))) {
+                    idTokenClaims.add(requestedClaim);
+                }
             }
         } catch (DataAccessException | SQLException e) {
             String errorMsg = "Error occurred while retrieving request object.";
@@ -374,7 +415,7 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
         }
-        return essentialClaims;
+        return new RequestedClaimsCacheEntry(idTokenClaims, userInfoClaims);
     }
 
     @Override
@@ -391,6 +432,7 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
             ps.setString(2, oldAccessTokenId);
             ps.execute();
             IdentityDatabaseUtil.commitTransaction(connection);
+            moveRequestedClaims(oldAccessTokenId, newAccessTokenId);
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             String errorMsg = "Can not update refreshed token id of the table ."
@@ -416,6 +458,7 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
             ps.setString(2, codeId);
             ps.execute();
             IdentityDatabaseUtil.commitTransaction(connection);
+            requestedClaimsCache.clearRequestedClaims(tokenId);
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             String errorMsg = "Can not update token id for code id: " + codeId;
@@ -429,6 +472,21 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
         }
     }
 
+    /**
+     * Move the cached requested claims of the refreshed token to the new token, so that the claims of the new token
+     * are not loaded from the database again.
+     */
+    private void moveRequestedClaims(String oldAccessTokenId, String newAccessTokenId) {
+
+        RequestedClaimsCacheEntry requestedClaimsCacheEntry = requestedClaimsCache.getRequestedClaims(oldAccessTokenId);
+        if (requestedClaimsCacheEntry != null) {
+            requestedClaimsCache.addRequestedClaims(newAccessTokenId, requestedClaimsCacheEntry);
+        } else {
+            requestedClaimsCache.clearRequestedClaims(newAccessTokenId);
+        }
+        requestedClaimsCache.clearRequestedClaims(oldAccessTokenId);
+    }
+
     private void deleteRequestObjectReferenceforCode(Connection connection, String tokenId)
             throws IdentityOAuthAdminException {
 
@@ -448,6 +506,7 @@ public class RequestObjectDAOImpl implements RequestObjectDAO {
                 prepStmt.setString(1, tokenId);
                 prepStmt.execute();
                 IdentityDatabaseUtil.commitTransaction(connection);
+                requestedClaimsCache.clearRequestedClaims(tokenId);
             } catch (SQLException e1) {
                 IdentityDatabaseUtil.rollbackTransaction(connection);
                 throw handleError("Error when executing the SQL : " + SQLQueries.DELETE_REQ_OBJECT_BY_TOKEN_ID, e1);
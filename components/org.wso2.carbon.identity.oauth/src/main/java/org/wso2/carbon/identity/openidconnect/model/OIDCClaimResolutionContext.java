@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.model;
+
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Request scoped holder of the local user claims resolved while building the token response. The JWT access token
+ * and the ID token of the same request usually ask for overlapping claim sets of the same user, so claims resolved
+ * for one of them are kept here and only the claims that are not resolved yet are fetched for the next one.
+ * Instances are not thread safe and must not outlive the request they are attached to.
+ */
+public class OIDCClaimResolutionContext {
+
+    private final Map<String, Map<String, String>> resolvedClaimValues = new HashMap<>();
+    private final Map<String, Set<String>> resolvedClaimURIs = new HashMap<>();
+    private final Map<String, ServiceProvider> serviceProviders = new HashMap<>();
+
+    /**
+     * Get the claim URIs among the given claim URIs that are not resolved yet for the user.
+     *
+     * @param authenticatedUser Authenticated user.
+     * @param claimURIs         Local claim URIs required by the caller.
+     * @return Claim URIs that need to be fetched from the user store.
+     */
+    public List<String> getUnresolvedClaimURIs(AuthenticatedUser authenticatedUser, List<String> claimURIs) {
+
+        Set<String> resolved = resolvedClaimURIs.get(getUserKey(authenticatedUser));
+        List<String> unresolved = new ArrayList<>();
+        for (String claimURI : claimURIs) {
+            if ((resolved == null || !resolved.contains(claimURI)) && !unresolved.contains(claimURI)) {
+                unresolved.add(claimURI);
+            }
+        }
+        return unresolved;
+    }
+
+    /**
+     * Record the values fetched for the given claim URIs of the user. Claim URIs without a value are recorded as
+     * resolved as well, so that they are not fetched again within the request.
+     *
+     * @param authenticatedUser Authenticated user.
+     * @param claimURIs         Local claim URIs that were fetched.
+     * @param claimValues       Claim values returned for the fetched claim URIs.
+     */
+    public void addResolvedClaims(AuthenticatedUser authenticatedUser, List<String> claimURIs,
+                                  Map<String, String> claimValues) {
+
+        String userKey = getUserKey(authenticatedUser);
+        resolvedClaimURIs.computeIfAbsent(userKey, key -> new HashSet<>()).addAll(claimURIs);
+        if (claimValues != null) {
+            resolvedClaimValues.computeIfAbsent(userKey, key -> new HashMap<>()).putAll(claimValues);
+        }
+    }
+
+    /**
+     * Get the resolved values of the given claim URIs of the user. A new map is returned on each invocation so that
+     * callers can alter it without affecting the other consumers of the request.
+     *
+     * @param authenticatedUser Authenticated user.
+     * @param claimURIs         Local claim URIs required by the caller.
+     * @return Resolved claim values in local dialect.
+     */
+    public Map<String, String> getResolvedClaims(AuthenticatedUser authenticatedUser, List<String> claimURIs) {
+
+        Map<String, String> claimValues = new HashMap<>();
+        Map<String, String> resolved = resolvedClaimValues.get(getUserKey(authenticatedUser));
+        if (resolved == null) {
+            return claimValues;
+        }
+        for (String claimURI : claimURIs) {
+            String value = resolved.get(claimURI);
+            if (value != null) {
+                claimValues.put(claimURI, value);
+            }
+        }
+        return claimValues;
+    }
+
+    /**
+     * Get the service provider resolved earlier in the request for the given client.
+     *
+     * @param tenantDomain Tenant domain of the service provider.
+     * @param clientId     Client id.
+     * @return Service provider or null if it is not resolved yet.
+     */
+    public ServiceProvider getServiceProvider(String tenantDomain, String clientId) {
+
+        return serviceProviders.get(tenantDomain + ":" + clientId);
+    }
+
+    /**
+     * Keep the service provider of the given client for the rest of the request.
+     *
+     * @param tenantDomain    Tenant domain of the service provider.
+     * @param clientId        Client id.
+     * @param serviceProvider Service provider.
+     */
+    public void addServiceProvider(String tenantDomain, String clientId, ServiceProvider serviceProvider) {
+
+        if (serviceProvider != null) {
+            serviceProviders.put(tenantDomain + ":" + clientId, serviceProvider);
+        }
+    }
+
+    private String getUserKey(AuthenticatedUser authenticatedUser) {
+
+        return authenticatedUser.toFullQualifiedUsername() + ":" + authenticatedUser.getAccessingOrganization() + ":"
+                + authenticatedUser.getUserResidentOrganization();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.security.cert.Certificate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link ClientCertificateCache}.
+ */
+@WithCarbonHome
+public class ClientCertificateCacheTest {
+
+    private static final String CACHE_NAME = "ClientCertificateCache";
+    private static final String CLIENT_ID = "clientId";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String CERTIFICATE_CONTENT =
+            "MIIDWTCCAkGgAwIBAgIEcZgeVDANBgkqhkiG9w0BAQsFADBcMQswCQYDVQQGEwJG\n" +
+            "UjEMMAoGA1UECBMDTVBMMQwwCgYDVQQHEwNNUEwxDTALBgNVBAoTBHRlc3QxDTAL\n" +
+            "BgNVBAsTBHRlc3QxEzARBgNVBAMMCioudGVzdC5jb20wIBcNMjEwNTEwMTcwODU4\n" +
+            "WhgPMjA1MTA1MDMxNzA4NThaMFwxCzAJBgNVBAYTAkZSMQwwCgYDVQQIEwNNUEwx\n" +
+            "DDAKBgNVBAcTA01QTDENMAsGA1UEChMEdGVzdDENMAsGA1UECxMEdGVzdDETMBEG\n" +
+            "A1UEAwwKKi50ZXN0LmNvbTCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEB\n" +
+            "AIkuoEuR/or5oL4h6TZ7r90Qyb1xAK6qrAHGCGWz5k1dnmCdvM39zBZF5EDGVKKe\n" +
+            "p+BQWNgG+FST19Z2l71YJllKxVsI0syw3r9PXcAfVLahs3fn8HEa5uJqIdHRsVzz\n" +
+            "uO+rEWYn7kx4jmwwqtb8HBnhlVgn32OWQ6X4mLll/1n87cWGMsNouVP5TCySFNyD\n" +
+            "BFPzC3+gYiVVy7Aj1NBw6Ft4i4r0UIOZ8BPGfHrd7zB4Zmnc9KwyRNj+S3bvJECm\n" +
+            "D1/9hMiHcIj46qnvLJw69f/HmL3LTmp1oQJUnFlA0hykrUcwjVjUEptcBMu627j4\n" +
+            "kfY2xsI613k5NLi6eHlwx7cCAwEAAaMhMB8wHQYDVR0OBBYEFIg+fWViskGrce5K\n" +
+            "48Oy9x1Mh0GTMA0GCSqGSIb3DQEBCwUAA4IBAQB76yS+Wkt2RBh4XEihiMsrgn9L\n" +
+            "2RkxAvDldfVEZTtQHm0uOkjT53AG8RSK5tedWdETJnEa0cq9SGLBjuTB5ojjP18g\n" +
+            "R3fT2HXiP2QDfqnEhj7SYOEPp+QjcgW7rPBpMVOe9qKU6BWw0/ufEFq/SgSb9/xV\n" +
+            "dZa4puEYDVEJ4pu6uJuh/oXgvwcIcL6xURDav1gqTDuMrLnJrKui+FsabnWeC+XB\n" +
+            "1mRWtpZPay9xB5kVWAEVdMtGePP0/wz2zxQU9uCmjwvIsIfx307CpBI54sjomXPU\n" +
+            "DldsCG6l8QRJ3NvijWa/0olA/7BpaOtbNS6S5dBSfPScpUvVQiBYFFvMXbmd\n";
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private ClientCertificateCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtil.resetInstance(ClientCertificateCache.class);
+        identityUtil = TestUtil.enableCache(CACHE_NAME);
+        cache = ClientCertificateCache.getInstance();
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+        identityUtil.close();
+        TestUtil.resetInstance(ClientCertificateCache.class);
+    }
+
+    @Test
+    public void testCertificateIsReusedForSameContent() throws Exception {
+
+        Certificate certificate = cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT);
+
+        assertSame(cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT), certificate);
+        assertSame(cache.getRSAVerifier(CLIENT_ID, TENANT_DOMAIN, certificate),
+                cache.getRSAVerifier(CLIENT_ID, TENANT_DOMAIN, certificate));
+    }
+
+    @Test
+    public void testCertificateIsParsedAgainForChangedContent() throws Exception {
+
+        Certificate certificate = cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT);
+        Certificate updatedCertificate = cache.getCertificate(CLIENT_ID, TENANT_DOMAIN,
+                CERTIFICATE_CONTENT.trim());
+
+        assertNotSame(updatedCertificate, certificate);
+        assertEquals(updatedCertificate, certificate);
+        assertSame(cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT.trim()), updatedCertificate);
+    }
+
+    @Test
+    public void testCertificateIsCachedPerTenant() throws Exception {
+
+        Certificate certificate = cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT);
+
+        assertNotSame(cache.getCertificate(CLIENT_ID, "abc.com", CERTIFICATE_CONTENT), certificate);
+    }
+
+    @Test
+    public void testClearCacheEntry() throws Exception {
+
+        Certificate certificate = cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT);
+        cache.clearCacheEntry(CLIENT_ID, TENANT_DOMAIN);
+
+        assertNotSame(cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT), certificate);
+    }
+
+    @Test
+    public void testRSAVerifierIsBuiltForOtherCertificate() throws Exception {
+
+        Certificate certificate = cache.getCertificate(CLIENT_ID, TENANT_DOMAIN, CERTIFICATE_CONTENT);
+        Certificate otherCertificate = IdentityUtil.convertPEMEncodedContentToCertificate(CERTIFICATE_CONTENT);
+
+        assertNotNull(cache.getRSAVerifier(CLIENT_ID, TENANT_DOMAIN, otherCertificate));
+        assertNotSame(cache.getRSAVerifier(CLIENT_ID, TENANT_DOMAIN, otherCertificate),
+                cache.getRSAVerifier(CLIENT_ID, TENANT_DOMAIN, certificate));
+    }
+
+    @Test
+    public void testEntryParsesTheContentWhenNotParsed() throws Exception {
+
+        ClientCertificateCacheEntry entry = new ClientCertificateCacheEntry(CERTIFICATE_CONTENT, "thumbprint");
+
+        assertNull(entry.getRSAVerifier());
+        Certificate certificate = entry.getCertificate();
+        assertNotNull(certificate);
+        assertSame(entry.getCertificate(), certificate);
+        assertNotNull(entry.getRSAVerifier());
+    }
+
+    @Test
+    public void testThumbprintIsCached() {
+
+        assertNull(cache.getThumbprint(CERTIFICATE_CONTENT));
+
+        cache.addThumbprint(CERTIFICATE_CONTENT, "thumbprint");
+
+        assertEquals(cache.getThumbprint(CERTIFICATE_CONTENT), "thumbprint");
+        assertNull(cache.getThumbprint(CERTIFICATE_CONTENT.trim()));
+    }
+}
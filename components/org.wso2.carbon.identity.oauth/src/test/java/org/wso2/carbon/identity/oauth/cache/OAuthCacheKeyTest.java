@@ -59,4 +59,13 @@ public class OAuthCacheKeyTest {
         Integer oAuthCacheIdHashCodeSample = oAuthCacheKey.hashCode();
         assertEquals(oAuthCacheIdHashCodeSample, cacheKeyStringHashCode, "Get cachekeyHashcode successfully.");
     }
+
+    @Test
+    public void testCacheType() throws Exception {
+        OAuthCacheKey oAuthCacheKey = new OAuthCacheKey(cacheKeyString);
+        OAuthCacheKey typedCacheKey = new OAuthCacheKey(cacheKeyString, OAuthCacheType.ACCESS_TOKEN);
+        assertEquals(oAuthCacheKey.getCacheType(), OAuthCacheType.DEFAULT);
+        assertEquals(typedCacheKey.getCacheType(), OAuthCacheType.ACCESS_TOKEN);
+        assertEquals(typedCacheKey, oAuthCacheKey, "Cache type should not be part of the key identity.");
+    }
 }
@@ -20,7 +20,10 @@ package org.wso2.carbon.identity.oauth.cache;
 
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 public class OAuthCacheTest {
 
@@ -28,4 +31,78 @@ public class OAuthCacheTest {
     public void testGetInstance() throws Exception {
         assertNotNull(OAuthCache.getInstance(), "OAuthCache is not initialized");
     }
+
+    @Test
+    public void testGetMetrics() {
+
+        for (OAuthCacheType cacheType : OAuthCacheType.values()) {
+            OAuthCacheMetrics metrics = OAuthCache.getInstance().getMetrics(cacheType);
+            assertNotNull(metrics, "Metrics are not initialized for " + cacheType);
+            assertEquals(metrics.getCacheName(), cacheType.getCacheName());
+        }
+    }
+
+    @Test
+    public void testMetricsHitRatio() {
+
+        OAuthCacheMetrics metrics = new OAuthCacheMetrics(OAuthCacheType.ACCESS_TOKEN.getCacheName());
+        assertEquals(metrics.getHitRatio(), 0d);
+
+        metrics.recordLookup(true);
+        metrics.recordLookup(true);
+        metrics.recordLookup(true);
+        metrics.recordLookup(false);
+        metrics.recordAddition();
+        metrics.recordRemoval();
+        assertEquals(metrics.getHitCount(), 3);
+        assertEquals(metrics.getMissCount(), 1);
+        assertEquals(metrics.getAdditionCount(), 1);
+        assertEquals(metrics.getRemovalCount(), 1);
+        assertEquals(metrics.getHitRatio(), 0.75d);
+
+        metrics.reset();
+        assertEquals(metrics.getHitCount(), 0);
+        assertEquals(metrics.getHitRatio(), 0d);
+    }
+
+    @Test
+    public void testTypedLookupOfUntypedEntry() {
+
+        OAuthCache oAuthCache = OAuthCache.getInstance();
+        CacheEntry cacheEntry = new DummyCacheEntry();
+        oAuthCache.addToCache(new OAuthCacheKey("untyped-entry"), cacheEntry);
+
+        OAuthCacheKey typedKey = new OAuthCacheKey("untyped-entry", OAuthCacheType.ACCESS_TOKEN);
+        assertSame(oAuthCache.getValueFromCache(typedKey), cacheEntry);
+
+        oAuthCache.clearCacheEntry(typedKey);
+        assertNull(oAuthCache.getValueFromCache(typedKey));
+        assertNull(oAuthCache.getValueFromCache(new OAuthCacheKey("untyped-entry")));
+        oAuthCache.clear(-1234);
+    }
+
+    @Test
+    public void testPeekIsNotRecordedInMetrics() {
+
+        OAuthCache oAuthCache = OAuthCache.getInstance();
+        OAuthCacheMetrics metrics = oAuthCache.getMetrics(OAuthCacheType.CLIENT_USER);
+        OAuthCacheKey cacheKey = new OAuthCacheKey("peeked-entry", OAuthCacheType.CLIENT_USER);
+        CacheEntry cacheEntry = new DummyCacheEntry();
+        oAuthCache.addToCache(cacheKey, cacheEntry);
+        metrics.reset();
+
+        assertSame(oAuthCache.peekValueFromCache(cacheKey), cacheEntry);
+        assertNull(oAuthCache.peekValueFromCache(new OAuthCacheKey("missing-entry", OAuthCacheType.CLIENT_USER)));
+        assertEquals(metrics.getHitCount(), 0);
+        assertEquals(metrics.getMissCount(), 0);
+
+        assertSame(oAuthCache.getValueFromCache(cacheKey), cacheEntry);
+        assertEquals(metrics.getHitCount(), 1);
+        oAuthCache.clear(-1234);
+    }
+
+    private static class DummyCacheEntry extends CacheEntry {
+
+        private static final long serialVersionUID = 1L;
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link TenantMetadataCache}.
+ */
+@WithCarbonHome
+public class TenantMetadataCacheTest {
+
+    private static final String CACHE_NAME = "TenantMetadataCache";
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final int TENANT_ID = 1;
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private TenantMetadataCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtil.resetInstance(TenantMetadataCache.class);
+        identityUtil = TestUtil.enableCache(CACHE_NAME);
+        cache = TenantMetadataCache.getInstance();
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+        identityUtil.close();
+        TestUtil.resetInstance(TenantMetadataCache.class);
+    }
+
+    @Test
+    public void testTenantIdAndActivityAreCached() {
+
+        cache.addTenantId(TENANT_DOMAIN, TENANT_ID);
+
+        assertEquals(cache.getTenantId(TENANT_DOMAIN), Integer.valueOf(TENANT_ID));
+        assertNull(cache.isTenantActive(TENANT_DOMAIN));
+
+        cache.addTenantActivity(TENANT_DOMAIN, TENANT_ID, false);
+        cache.addTenantId(TENANT_DOMAIN, TENANT_ID);
+
+        assertFalse(cache.isTenantActive(TENANT_DOMAIN));
+        assertEquals(cache.getMetrics().getHitCount(), 2);
+        assertEquals(cache.getMetrics().getMissCount(), 1);
+    }
+
+    @Test
+    public void testActivityIsDroppedForChangedTenantId() {
+
+        cache.addTenantActivity(TENANT_DOMAIN, TENANT_ID, true);
+        cache.addTenantId(TENANT_DOMAIN, 2);
+
+        assertEquals(cache.getTenantId(TENANT_DOMAIN), Integer.valueOf(2));
+        assertNull(cache.isTenantActive(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testClearCacheEntryRemovesTenant() {
+
+        cache.addTenantActivity(TENANT_DOMAIN, TENANT_ID, true);
+        cache.addTenantActivity("abc.com", 2, true);
+        assertTrue(cache.isTenantActive(TENANT_DOMAIN));
+
+        cache.clearCacheEntry(TENANT_DOMAIN);
+
+        assertNull(cache.getTenantId(TENANT_DOMAIN));
+        assertNull(cache.isTenantActive(TENANT_DOMAIN));
+        assertTrue(cache.isTenantActive("abc.com"));
+    }
+
+    @Test
+    public void testInvalidTenantIsNotCached() {
+
+        cache.addTenantId("invalid.com", MultitenantConstants.INVALID_TENANT_ID);
+        cache.addTenantId(null, TENANT_ID);
+
+        assertNull(cache.getTenantId("invalid.com"));
+        assertNull(cache.getTenantId(null));
+    }
+}
@@ -1,10 +1,21 @@
 package org.wso2.carbon.identity.oauth.cache;
 
+import org.mockito.MockedStatic;
 import org.wso2.carbon.base.CarbonBaseConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.lang.reflect.Field;
 import java.nio.file.Paths;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
 public class TestUtil {
     public static void startTenantFlow(String tenantDomain) {
         String carbonHome = Paths.get(System.getProperty("user.dir"), "src", "test", "resources").toString();
@@ -12,4 +23,25 @@ public class TestUtil {
         PrivilegedCarbonContext.startTenantFlow();
         PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain);
     }
+
+    /**
+     * Enable a cache which is disabled in the identity.xml of the tests. The singleton of the cache should be reset
+     * before and after the test, so that it is created with the returned configuration.
+     */
+    public static MockedStatic<IdentityUtil> enableCache(String cacheName) {
+        IdentityCacheConfig cacheConfig = mock(IdentityCacheConfig.class);
+        when(cacheConfig.isEnabled()).thenReturn(true);
+        when(cacheConfig.getTimeout()).thenReturn(60);
+        when(cacheConfig.getCapacity()).thenReturn(100);
+        MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS);
+        identityUtil.when(() -> IdentityUtil.getIdentityCacheConfig(anyString(), eq(cacheName)))
+                .thenReturn(cacheConfig);
+        return identityUtil;
+    }
+
+    public static void resetInstance(Class<?> cacheClass) throws Exception {
+        Field instance = cacheClass.getDeclaredField("instance");
+        instance.setAccessible(true);
+        instance.set(null, null);
+    }
 }
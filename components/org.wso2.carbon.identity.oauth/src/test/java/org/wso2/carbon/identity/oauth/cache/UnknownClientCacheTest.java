@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link UnknownClientCache}.
+ */
+@WithCarbonHome
+public class UnknownClientCacheTest {
+
+    private static final String CACHE_NAME = "UnknownClientCache";
+    private static final String CLIENT_ID = "unknownClientId";
+    private static final int TENANT_ID = -1234;
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private UnknownClientCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtil.resetInstance(UnknownClientCache.class);
+        identityUtil = TestUtil.enableCache(CACHE_NAME);
+        cache = UnknownClientCache.getInstance();
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+        identityUtil.close();
+        TestUtil.resetInstance(UnknownClientCache.class);
+    }
+
+    @Test
+    public void testUnknownAppIsCachedPerTenant() {
+
+        cache.addUnknownApp(CLIENT_ID, TENANT_ID);
+
+        assertTrue(cache.isUnknownApp(CLIENT_ID, TENANT_ID));
+        assertFalse(cache.isUnknownApp(CLIENT_ID, 1));
+        assertFalse(cache.isUnknownServiceProvider(CLIENT_ID, TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testUnknownServiceProviderIsCachedPerTenant() {
+
+        cache.addUnknownServiceProvider(CLIENT_ID, TENANT_DOMAIN);
+
+        assertTrue(cache.isUnknownServiceProvider(CLIENT_ID, TENANT_DOMAIN));
+        assertFalse(cache.isUnknownServiceProvider(CLIENT_ID, "abc.com"));
+        assertFalse(cache.isUnknownApp(CLIENT_ID, TENANT_ID));
+    }
+
+    @Test
+    public void testClearCacheEntryRemovesTheEntriesOfTheTenant() {
+
+        cache.addUnknownApp(CLIENT_ID, TENANT_ID);
+        cache.addUnknownServiceProvider(CLIENT_ID, TENANT_DOMAIN);
+        cache.addUnknownApp(CLIENT_ID, 1);
+
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class,
+                CALLS_REAL_METHODS)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+            cache.clearCacheEntry(CLIENT_ID, TENANT_DOMAIN);
+        }
+
+        assertFalse(cache.isUnknownApp(CLIENT_ID, TENANT_ID));
+        assertFalse(cache.isUnknownServiceProvider(CLIENT_ID, TENANT_DOMAIN));
+        assertTrue(cache.isUnknownApp(CLIENT_ID, 1));
+    }
+
+    @Test
+    public void testNullClientIdIsNotCached() {
+
+        cache.addUnknownApp(null, TENANT_ID);
+        cache.addUnknownServiceProvider(null, TENANT_DOMAIN);
+
+        assertFalse(cache.isUnknownApp(null, TENANT_ID));
+        assertFalse(cache.isUnknownServiceProvider(null, TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testCacheIsNotUsedWithoutCacheConfig() throws Exception {
+
+        identityUtil.close();
+        TestUtil.resetInstance(UnknownClientCache.class);
+        identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS);
+        identityUtil.when(() -> IdentityUtil.getIdentityCacheConfig(anyString(), eq(CACHE_NAME))).thenReturn(null);
+        cache = UnknownClientCache.getInstance();
+
+        cache.addUnknownApp(CLIENT_ID, TENANT_ID);
+        cache.addUnknownServiceProvider(CLIENT_ID, TENANT_DOMAIN);
+
+        assertFalse(cache.isUnknownApp(CLIENT_ID, TENANT_ID));
+        assertFalse(cache.isUnknownServiceProvider(CLIENT_ID, TENANT_DOMAIN));
+    }
+}
@@ -19,35 +19,57 @@
 package org.wso2.carbon.identity.oauth.tokenprocessor;
 
 import org.apache.commons.lang.StringUtils;
-import org.mockito.Mock;
+import org.json.JSONObject;
 import org.mockito.MockedStatic;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
-import static org.mockito.MockitoAnnotations.initMocks;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 /**
- * Test Class for the EncryptionDecryptionPersistenceProcessor.
+ * Test Class for the HashingPersistenceProcessor.
  */
 public class HashingPersistenceProcessorTest {
 
     private static final String CLIENT_ID = "test";
+    private static final String SHA_256 = "SHA-256";
+    private static final String TOKEN = "a3f0c2a1-77b5-4e1e-9a42-3c6f5b1d2e9f";
+    private static final int MAX_HASH_MEMO_SIZE = 256;
 
-    @Mock
-    private OAuthServerConfiguration mockedServerConfig;
+    private final HashingPersistenceProcessor hashingPersistenceProcessor = new HashingPersistenceProcessor();
+    private OAuthServerConfiguration serverConfiguration;
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
 
-    private HashingPersistenceProcessor hashingPersistenceProcessor = new HashingPersistenceProcessor();
+    @BeforeMethod
+    public void setUp() {
 
-    @BeforeClass
-    public void setUp() throws Exception {
-        initMocks(this);
+        serverConfiguration = mock(OAuthServerConfiguration.class);
+        when(serverConfiguration.getHashAlgorithm()).thenReturn(SHA_256);
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        HashingPersistenceProcessor.clearHashMemo();
+        oAuthServerConfiguration.close();
     }
 
     @Test
@@ -65,14 +87,14 @@ public class HashingPersistenceProcessorTest {
         hashingPersistenceProcessor.getPreprocessedAuthzCode(CLIENT_ID);
     }
 
-    @Test(expectedExceptions = UnsupportedOperationException.class)
-    public void testPreprocessedAccessTokenIdentifierWithException() throws IdentityOAuth2Exception {
-        hashingPersistenceProcessor.getPreprocessedAccessTokenIdentifier(CLIENT_ID);
+    @Test
+    public void testGetPreprocessedAccessTokenIdentifier() throws IdentityOAuth2Exception {
+        assertEquals(hashingPersistenceProcessor.getPreprocessedAccessTokenIdentifier(CLIENT_ID), CLIENT_ID);
     }
 
-    @Test(expectedExceptions = UnsupportedOperationException.class)
-    public void testPreprocessedRefreshTokenWithException() throws IdentityOAuth2Exception {
-        hashingPersistenceProcessor.getPreprocessedRefreshToken(CLIENT_ID);
+    @Test
+    public void testGetPreprocessedRefreshToken() throws IdentityOAuth2Exception {
+        assertEquals(hashingPersistenceProcessor.getPreprocessedRefreshToken(CLIENT_ID), CLIENT_ID);
     }
 
     @Test(expectedExceptions = UnsupportedOperationException.class)
@@ -81,112 +103,169 @@ public class HashingPersistenceProcessorTest {
     }
 
     @Test
-    public void testGetProcessedClientSecret() throws IdentityOAuth2Exception {
+    public void testGetProcessedClientSecret() throws Exception {
 
-        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
-                OAuthServerConfiguration.class)) {
-            setupMocksForTest(oAuthServerConfiguration);
-            assertEquals(hashingPersistenceProcessor.getProcessedClientSecret(CLIENT_ID), hash(CLIENT_ID));
-        }
+        assertEquals(hashingPersistenceProcessor.getProcessedClientSecret(CLIENT_ID),
+                persistedHash(SHA_256, CLIENT_ID));
     }
 
     @Test
-    public void testGetProcessedAuthzCode() throws IdentityOAuth2Exception {
+    public void testGetProcessedAuthzCode() throws Exception {
 
-        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
-                OAuthServerConfiguration.class)) {
-            setupMocksForTest(oAuthServerConfiguration);
-            assertEquals(hashingPersistenceProcessor.getProcessedAuthzCode(CLIENT_ID), hash(CLIENT_ID));
-        }
+        assertEquals(hashingPersistenceProcessor.getProcessedAuthzCode(CLIENT_ID), persistedHash(SHA_256, CLIENT_ID));
     }
 
     @Test
-    public void testGetProcessedAccessTokenIdentifier() throws IdentityOAuth2Exception {
+    public void testGetProcessedAccessTokenIdentifier() throws Exception {
 
-        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
-                OAuthServerConfiguration.class)) {
-            setupMocksForTest(oAuthServerConfiguration);
-            assertEquals(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(CLIENT_ID), hash(CLIENT_ID));
-        }
+        assertEquals(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(CLIENT_ID),
+                persistedHash(SHA_256, CLIENT_ID));
     }
 
     @Test
-    public void testGetProcessedRefreshToken() throws IdentityOAuth2Exception {
+    public void testGetProcessedRefreshToken() throws Exception {
 
-        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
-                OAuthServerConfiguration.class)) {
-            setupMocksForTest(oAuthServerConfiguration);
-            assertEquals(hashingPersistenceProcessor.getProcessedRefreshToken(CLIENT_ID), hash(CLIENT_ID));
-        }
+        assertEquals(hashingPersistenceProcessor.getProcessedRefreshToken(CLIENT_ID),
+                persistedHash(SHA_256, CLIENT_ID));
     }
 
-    @Test(expectedExceptions = IllegalArgumentException.class)
+    @Test(expectedExceptions = IdentityOAuth2Exception.class)
     public void testHashWithNullValue() throws IdentityOAuth2Exception {
 
-        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
-                OAuthServerConfiguration.class)) {
-            setupMocksForTest(oAuthServerConfiguration);
-            hashingPersistenceProcessor.getProcessedClientSecret(null);
-        }
+        hashingPersistenceProcessor.getProcessedClientSecret(null);
     }
 
     @Test(expectedExceptions = IdentityOAuth2Exception.class)
     public void testHashingWithNotExistingHashAlgorithm() throws IdentityOAuth2Exception {
 
-        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
-                OAuthServerConfiguration.class)) {
-            setupMocksForTest(oAuthServerConfiguration);
-            oAuthServerConfiguration.when(() -> OAuthServerConfiguration.getInstance().getHashAlgorithm())
-                    .thenReturn("TestAlgo");
-            hash("PlainText");
-        }
+        when(serverConfiguration.getHashAlgorithm()).thenReturn("TestAlgo");
+        hashingPersistenceProcessor.getProcessedAccessTokenIdentifier("PlainText");
     }
 
     @Test(expectedExceptions = IdentityOAuth2Exception.class)
     public void testHashingWithEmptyString() throws IdentityOAuth2Exception {
-        hash("");
+
+        hashingPersistenceProcessor.getProcessedAccessTokenIdentifier("");
+    }
+
+    @DataProvider
+    public Object[][] hashedValueProvider() {
+
+        String[] algorithms = {"MD5", "SHA-1", SHA_256, "SHA-384", "SHA-512"};
+        String[] plainTexts = {
+                TOKEN,
+                "a",
+                "\u00e4",
+                "t\u00f6k\u00e9n-\u65e5\u672c\u8a9e-\uD83D\uDE00",
+                StringUtils.repeat("x", 80) + "\u00e9",
+                StringUtils.repeat("0123456789", 100)
+        };
+        List<Object[]> data = new ArrayList<>();
+        for (String algorithm : algorithms) {
+            for (String plainText : plainTexts) {
+                data.add(new Object[]{algorithm, plainText});
+            }
+        }
+        return data.toArray(new Object[0][]);
     }
 
-    private void setupMocksForTest(MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration) {
+    @Test(dataProvider = "hashedValueProvider")
+    public void testHashedValueMatchesPersistedFormat(String algorithm, String plainText) throws Exception {
+
+        when(serverConfiguration.getHashAlgorithm()).thenReturn(algorithm);
 
-        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(mockedServerConfig);
-        oAuthServerConfiguration.when(() -> OAuthServerConfiguration.getInstance().getHashAlgorithm())
-                .thenReturn("SHA-256");
+        String hash = hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(plainText);
+
+        assertEquals(hash.getBytes(StandardCharsets.UTF_8),
+                persistedHash(algorithm, plainText).getBytes(StandardCharsets.UTF_8));
     }
 
-    /**
-     * Method to generate hash value.
-     *
-     * @param plainText Plain text value.
-     * @return Hashed value.
-     */
-    private String hash(String plainText) throws IdentityOAuth2Exception {
+    @Test
+    public void testReusedBuffersDoNotLeakBetweenValues() throws Exception {
 
-        if (StringUtils.isEmpty(plainText)) {
-            throw new IdentityOAuth2Exception("plainText value is null or empty to be hash.");
+        String[] plainTexts = {StringUtils.repeat("0123456789", 100), TOKEN, "t\u00f6k\u00e9n", "a", TOKEN};
+        for (String plainText : plainTexts) {
+            assertEquals(hashingPersistenceProcessor.getProcessedRefreshToken(plainText),
+                    persistedHash(SHA_256, plainText));
         }
+    }
+
+    @Test
+    public void testHashNotMemoizedWithoutMemo() throws Exception {
+
+        String hash = hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN);
+
+        assertNotSame(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN), hash);
+    }
+
+    @Test
+    public void testHashMemoized() throws Exception {
+
+        assertTrue(HashingPersistenceProcessor.startHashMemo());
+        String hash = hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN);
+
+        assertEquals(hash, persistedHash(SHA_256, TOKEN));
+        assertSame(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN), hash);
+    }
+
+    @Test
+    public void testNestedHashMemo() throws Exception {
+
+        assertTrue(HashingPersistenceProcessor.startHashMemo());
+        String hash = hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN);
+
+        // A nested caller shares the memo of the outer caller, and must not clear it.
+        assertFalse(HashingPersistenceProcessor.startHashMemo());
+        assertSame(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN), hash);
+        assertSame(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN), hash);
 
-        MessageDigest messageDigest;
-        byte[] hash;
-        String hashAlgorithm = OAuthServerConfiguration.getInstance().getHashAlgorithm();
-        try {
-            messageDigest = MessageDigest.getInstance(hashAlgorithm);
-            messageDigest.update(plainText.getBytes());
-            hash = messageDigest.digest();
-
-        } catch (NoSuchAlgorithmException e) {
-            throw new IdentityOAuth2Exception(
-                    "Error while retrieving MessageDigest for the provided hash algorithm: " + hashAlgorithm, e);
+        HashingPersistenceProcessor.clearHashMemo();
+        assertTrue(HashingPersistenceProcessor.startHashMemo());
+        assertNotSame(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN), hash);
+    }
+
+    @Test
+    public void testHashMemoKeyedByAlgorithm() throws Exception {
+
+        assertTrue(HashingPersistenceProcessor.startHashMemo());
+        hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN);
+        when(serverConfiguration.getHashAlgorithm()).thenReturn("SHA-512");
+
+        assertEquals(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN),
+                persistedHash("SHA-512", TOKEN));
+    }
+
+    @Test
+    public void testHashMemoSizeCap() throws Exception {
+
+        assertTrue(HashingPersistenceProcessor.startHashMemo());
+        String firstHash = hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN + 0);
+        for (int i = 1; i < MAX_HASH_MEMO_SIZE; i++) {
+            hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN + i);
         }
-        return bytesToHex(hash);
+
+        // The memo is full, hence further values are hashed every time, while the memoized ones are kept.
+        String overflowHash = hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN);
+        assertEquals(overflowHash, persistedHash(SHA_256, TOKEN));
+        assertNotSame(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN), overflowHash);
+        assertSame(hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(TOKEN + 0), firstHash);
     }
 
-    private static String bytesToHex(byte[] bytes) {
+    /**
+     * Build the hashed value the way it has always been persisted, through JSONObject with a hex encoded digest of the
+     * UTF-8 bytes of the value.
+     */
+    private static String persistedHash(String algorithm, String plainText) throws Exception {
 
-        StringBuilder result = new StringBuilder();
-        for (byte byt : bytes) {
-            result.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
+        MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
+        messageDigest.update(plainText.getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder();
+        for (byte byt : messageDigest.digest()) {
+            hex.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
         }
-        return result.toString();
+        JSONObject object = new JSONObject();
+        object.put(HashingPersistenceProcessor.ALGORITHM, algorithm);
+        object.put(HashingPersistenceProcessor.HASH, hex.toString());
+        return object.toString();
     }
 }
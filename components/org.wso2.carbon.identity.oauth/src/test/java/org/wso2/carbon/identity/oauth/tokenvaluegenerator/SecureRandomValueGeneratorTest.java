@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.tokenvaluegenerator;
+
+import org.apache.oltu.oauth2.common.exception.OAuthSystemException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for SecureRandomValueGenerator.
+ */
+public class SecureRandomValueGeneratorTest {
+
+    private static final Pattern BASE64URL_PATTERN = Pattern.compile("^[A-Za-z0-9_-]+$");
+
+    @DataProvider(name = "entropyProvider")
+    public Object[][] entropyProvider() {
+
+        return new Object[][]{{16}, {32}, {33}, {64}};
+    }
+
+    @Test(dataProvider = "entropyProvider")
+    public void testGenerateValue(int entropyInBytes) throws Exception {
+
+        SecureRandomValueGenerator generator = new SecureRandomValueGenerator(entropyInBytes);
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String value = generator.generateValue();
+            assertTrue(BASE64URL_PATTERN.matcher(value).matches(), "Value is not base64url encoded: " + value);
+            assertEquals(Base64.getUrlDecoder().decode(value).length, entropyInBytes);
+            values.add(value);
+        }
+        assertEquals(values.size(), 1000, "Generated values should be unique.");
+    }
+
+    @Test
+    public void testGenerateValueFromValue() throws Exception {
+
+        SecureRandomValueGenerator generator = new SecureRandomValueGenerator(32);
+        String value = generator.generateValue("value");
+        assertEquals(generator.generateValue("value"), value);
+        assertNotEquals(generator.generateValue("otherValue"), value);
+        assertEquals(Base64.getUrlDecoder().decode(value).length, 32);
+    }
+
+    @Test(expectedExceptions = OAuthSystemException.class)
+    public void testGenerateValueFromNullValue() throws Exception {
+
+        new SecureRandomValueGenerator(32).generateValue(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInsufficientEntropy() {
+
+        new SecureRandomValueGenerator(8);
+    }
+
+    @Test
+    public void testUnavailableAlgorithmFallsBackToDefaultSecureRandom() {
+
+        SecureRandom secureRandom = SecureRandomValueGenerator.createSecureRandom("UnavailablePRNG");
+        assertNotNull(secureRandom);
+        assertNotEquals(secureRandom.getAlgorithm(), "UnavailablePRNG");
+    }
+}
@@ -27,6 +27,7 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.event.OAuthEventInterceptor;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
+import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2ClientApplicationDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
@@ -35,13 +36,17 @@ import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.oauth2.validators.TokenValidationHandler;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 @Listeners(MockitoTestNGListener.class)
 public class OAuth2TokenValidationServiceTest {
@@ -240,4 +245,103 @@ public class OAuth2TokenValidationServiceTest {
         assertNotNull(tokenValidationService.buildIntrospectionResponse(mockedOAuth2TokenValidationRequestDTO),
                 "Expected to be not null");
     }
+
+    @Test
+    public void testHashMemoClearedAfterValidate() throws Exception {
+
+        when(mockedOAuthComponentServiceHolder.getOAuthEventInterceptorProxy()).thenReturn(null);
+        when(mockedValidationHandler.validate(any(OAuth2TokenValidationRequestDTO.class))).thenAnswer(invocation -> {
+            assertHashMemoActive();
+            return mockedOAuth2TokenValidationResponseDTO;
+        });
+
+        tokenValidationService.validate(mockedTokenValidationRequestDTO);
+        assertHashMemoCleared();
+    }
+
+    @Test
+    public void testHashMemoClearedAfterFailedValidate() throws Exception {
+
+        when(mockedOAuthComponentServiceHolder.getOAuthEventInterceptorProxy()).thenReturn(null);
+        when(mockedValidationHandler.validate(any(OAuth2TokenValidationRequestDTO.class)))
+                .thenThrow(new IdentityOAuth2Exception("dummyException"));
+
+        tokenValidationService.validate(mockedTokenValidationRequestDTO);
+        assertHashMemoCleared();
+    }
+
+    @Test
+    public void testHashMemoClearedAfterFindOAuthConsumer() throws Exception {
+
+        when(mockedValidationHandler.findOAuthConsumerIfTokenIsValid(any(OAuth2TokenValidationRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    assertHashMemoActive();
+                    throw new IdentityOAuth2Exception("dummyException");
+                });
+
+        tokenValidationService.findOAuthConsumerIfTokenIsValid(mockedTokenValidationRequestDTO);
+        assertHashMemoCleared();
+    }
+
+    @Test
+    public void testHashMemoClearedAfterIntrospection() throws Exception {
+
+        when(mockedOAuthComponentServiceHolder.getOAuthEventInterceptorProxy()).thenReturn(null);
+        when(mockedValidationHandler.buildIntrospectionResponse(any(OAuth2TokenValidationRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    assertHashMemoActive();
+                    return mockedIntrospectionResponseDTO;
+                });
+
+        tokenValidationService.buildIntrospectionResponse(mockedOAuth2TokenValidationRequestDTO);
+        assertHashMemoCleared();
+    }
+
+    @Test
+    public void testHashMemoSharedAcrossBatchIntrospection() throws Exception {
+
+        when(mockedOAuthComponentServiceHolder.getOAuthEventInterceptorProxy()).thenReturn(null);
+        doAnswer(invocation -> {
+            assertHashMemoActive();
+            return null;
+        }).when(mockedValidationHandler).prefetchAccessTokens(anyList());
+        // Each individual introspection joins the memo of the batch instead of clearing it.
+        when(mockedValidationHandler.buildIntrospectionResponse(any(OAuth2TokenValidationRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    assertHashMemoActive();
+                    return mockedIntrospectionResponseDTO;
+                });
+
+        tokenValidationService.buildIntrospectionResponses(new OAuth2TokenValidationRequestDTO[]{
+                mockedTokenValidationRequestDTO, mockedOAuth2TokenValidationRequestDTO});
+        assertHashMemoCleared();
+    }
+
+    @Test
+    public void testHashMemoOfCallerNotCleared() throws Exception {
+
+        when(mockedOAuthComponentServiceHolder.getOAuthEventInterceptorProxy()).thenReturn(null);
+        when(mockedValidationHandler.validate(any(OAuth2TokenValidationRequestDTO.class)))
+                .thenReturn(mockedOAuth2TokenValidationResponseDTO);
+
+        assertTrue(HashingPersistenceProcessor.startHashMemo());
+        try {
+            tokenValidationService.validate(mockedTokenValidationRequestDTO);
+            assertHashMemoActive();
+        } finally {
+            HashingPersistenceProcessor.clearHashMemo();
+        }
+    }
+
+    private void assertHashMemoActive() {
+
+        assertFalse(HashingPersistenceProcessor.startHashMemo(), "Expected the hash memo to be active.");
+    }
+
+    private void assertHashMemoCleared() {
+
+        boolean hashMemoStarted = HashingPersistenceProcessor.startHashMemo();
+        HashingPersistenceProcessor.clearHashMemo();
+        assertTrue(hashMemoStarted, "Expected the hash memo to be cleared.");
+    }
 }
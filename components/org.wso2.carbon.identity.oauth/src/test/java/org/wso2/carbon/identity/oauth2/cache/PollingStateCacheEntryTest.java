@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PollingStateCacheEntryTest {
+
+    private static final long POLLING_INTERVAL = 5000L;
+    private static final long INTERVAL_INCREMENT = 3000L;
+    private static final long LAST_POLLED_TIME = 1000000L;
+
+    @Test
+    public void testEarlyPollSlowsDown() {
+
+        PollingStateCacheEntry pollingState = buildPollingState();
+
+        assertTrue(pollingState.recordPoll(LAST_POLLED_TIME + POLLING_INTERVAL - 1, INTERVAL_INCREMENT));
+        assertEquals(pollingState.getPollingInterval(), POLLING_INTERVAL + INTERVAL_INCREMENT);
+        assertEquals(pollingState.getLastPolledTime(), LAST_POLLED_TIME);
+    }
+
+    @Test
+    public void testRepeatedEarlyPollsRaiseInterval() {
+
+        PollingStateCacheEntry pollingState = buildPollingState();
+
+        assertTrue(pollingState.recordPoll(LAST_POLLED_TIME + 1000, INTERVAL_INCREMENT));
+        // A poll which would have been accepted with the previous interval has to wait for the raised interval.
+        assertTrue(pollingState.recordPoll(LAST_POLLED_TIME + POLLING_INTERVAL, INTERVAL_INCREMENT));
+        assertEquals(pollingState.getPollingInterval(), POLLING_INTERVAL + 2 * INTERVAL_INCREMENT);
+        assertEquals(pollingState.getLastPolledTime(), LAST_POLLED_TIME);
+    }
+
+    @Test
+    public void testPollAfterIntervalUpdatesLastPolledTime() {
+
+        PollingStateCacheEntry pollingState = buildPollingState();
+        long pollTime = LAST_POLLED_TIME + POLLING_INTERVAL;
+
+        assertFalse(pollingState.recordPoll(pollTime, INTERVAL_INCREMENT));
+        assertEquals(pollingState.getPollingInterval(), POLLING_INTERVAL);
+        assertEquals(pollingState.getLastPolledTime(), pollTime);
+        // The interval is counted from the accepted poll.
+        assertTrue(pollingState.recordPoll(pollTime + 1000, INTERVAL_INCREMENT));
+    }
+
+    @Test
+    public void testIsExpired() {
+
+        PollingStateCacheEntry pollingState = buildPollingState();
+        pollingState.setExpiryTime(LAST_POLLED_TIME + 60000);
+
+        assertFalse(pollingState.isExpired(LAST_POLLED_TIME + 60000));
+        assertTrue(pollingState.isExpired(LAST_POLLED_TIME + 60001));
+    }
+
+    private PollingStateCacheEntry buildPollingState() {
+
+        PollingStateCacheEntry pollingState = new PollingStateCacheEntry();
+        pollingState.setPollingInterval(POLLING_INTERVAL);
+        pollingState.setLastPolledTime(LAST_POLLED_TIME);
+        return pollingState;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+@WithCarbonHome
+public class PollingStateCacheTest {
+
+    @Test
+    public void testPollingStateNotTrackedWhenClustered() {
+
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class)) {
+            oAuth2Util.when(OAuth2Util::isClusteringEnabled).thenReturn(true);
+            assertFalse(PollingStateCache.getInstance().isPollingStateTrackingEnabled());
+        }
+    }
+
+    @Test
+    public void testPollingStateTrackedWhenNotClustered() {
+
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class)) {
+            oAuth2Util.when(OAuth2Util::isClusteringEnabled).thenReturn(false);
+            PollingStateCache pollingStateCache = PollingStateCache.getInstance();
+            assertEquals(pollingStateCache.isPollingStateTrackingEnabled(), pollingStateCache.isEnabled());
+        }
+    }
+}
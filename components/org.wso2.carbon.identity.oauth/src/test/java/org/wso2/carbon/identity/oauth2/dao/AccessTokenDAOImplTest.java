@@ -29,9 +29,14 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.util.DAOUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
+import org.wso2.carbon.identity.oauth2.validators.jwt.RevokedJWTRegistry;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -40,11 +45,15 @@ import java.sql.ResultSet;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 
 @WithCarbonHome
 @Listeners(MockitoTestNGListener.class)
@@ -156,4 +165,85 @@ public class AccessTokenDAOImplTest {
 
         accessTokenDAO.revokeAccessTokensInBatch(tokens, isHashedToken);
     }
+
+    @Test
+    public void testUpdateAccessTokenStateRecordsRevokedJWT() throws Exception {
+
+        Connection mockConnection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("d43e8da324a33bdc941b9b95cad6a6a2");
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenReturn(mockConnection);
+
+        OAuthServerConfiguration mockOAuthServerConfiguration = mock(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance)
+                .thenReturn(mockOAuthServerConfiguration);
+        when(mockOAuthServerConfiguration.getPersistenceProcessor()).thenReturn(new PlainTextPersistenceProcessor());
+        RevokedJWTRegistry revokedJWTRegistry = mock(RevokedJWTRegistry.class);
+        when(revokedJWTRegistry.isEnabled()).thenReturn(true);
+
+        try (MockedStatic<RevokedJWTRegistry> registry = mockStatic(RevokedJWTRegistry.class);
+             MockedStatic<OAuth2TokenUtil> oAuth2TokenUtil = mockStatic(OAuth2TokenUtil.class)) {
+            registry.when(RevokedJWTRegistry::getInstance).thenReturn(revokedJWTRegistry);
+
+            new AccessTokenDAOImpl().updateAccessTokenState("2sa9a678f890877856y66e75f605d456",
+                    OAuthConstants.TokenStates.TOKEN_STATE_INACTIVE);
+        }
+        verify(revokedJWTRegistry).addRevokedToken("d43e8da324a33bdc941b9b95cad6a6a2");
+    }
+
+    @Test
+    public void testUnknownAccessTokenNotLookedUp() throws Exception {
+
+        OAuthServerConfiguration mockOAuthServerConfiguration = mock(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance)
+                .thenReturn(mockOAuthServerConfiguration);
+        when(mockOAuthServerConfiguration.getHashAlgorithm()).thenReturn("SHA-256");
+        String knownAccessTokenHash =
+                new HashingPersistenceProcessor().getProcessedAccessTokenIdentifier("knownAccessToken");
+        KnownAccessTokenFilter knownAccessTokenFilter = new KnownAccessTokenFilter(1000, 0.01, 60000,
+                consumer -> consumer.accept(knownAccessTokenHash));
+        knownAccessTokenFilter.rebuild();
+
+        try (MockedStatic<KnownAccessTokenFilter> filter = mockStatic(KnownAccessTokenFilter.class)) {
+            filter.when(KnownAccessTokenFilter::getInstance).thenReturn(knownAccessTokenFilter);
+
+            assertNull(accessTokenDAO.getAccessToken("unknownAccessToken", false));
+        }
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()), never());
+        assertEquals(knownAccessTokenFilter.getRejectedLookupCount(), 1);
+    }
+
+    @Test
+    public void testKnownAccessTokenLookedUp() throws Exception {
+
+        OAuthServerConfiguration mockOAuthServerConfiguration = mock(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance)
+                .thenReturn(mockOAuthServerConfiguration);
+        when(mockOAuthServerConfiguration.getHashAlgorithm()).thenReturn("SHA-256");
+        String knownAccessTokenHash =
+                new HashingPersistenceProcessor().getProcessedAccessTokenIdentifier("knownAccessToken");
+        KnownAccessTokenFilter knownAccessTokenFilter = new KnownAccessTokenFilter(1000, 0.01, 60000,
+                consumer -> consumer.accept(knownAccessTokenHash));
+        knownAccessTokenFilter.rebuild();
+
+        Connection mockConnection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(false)).thenReturn(mockConnection);
+
+        try (MockedStatic<KnownAccessTokenFilter> filter = mockStatic(KnownAccessTokenFilter.class)) {
+            filter.when(KnownAccessTokenFilter::getInstance).thenReturn(knownAccessTokenFilter);
+
+            assertNull(accessTokenDAO.getAccessToken("knownAccessToken", false));
+        }
+        verify(preparedStatement).setString(1, knownAccessTokenHash);
+        verify(preparedStatement).executeQuery();
+        assertEquals(knownAccessTokenFilter.getPassedLookupCount(), 1);
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
+import org.wso2.carbon.identity.oauth.tokenprocessor.TokenPersistenceProcessor;
+import org.wso2.carbon.identity.oauth2.dao.BulkTokenRevocationDAO.RevocationScope;
+import org.wso2.carbon.identity.oauth2.dao.util.DAOUtils;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for BulkTokenRevocationDAO against the H2 schema, with an encrypting token persistence processor.
+ */
+@WithCarbonHome
+public class BulkTokenRevocationDAOTest {
+
+    private static final String DB_NAME = "BulkTokenRevocationDB";
+    private static final String H2_SCRIPT_NAME = "identity.sql";
+    private static final String H2_SCRIPT2_NAME = "insert_encrypted_tokens.sql";
+    private static final String CLIENT_ID = "clientId";
+    private static final String ENCRYPTED_CLIENT_ID = "encryptedClientId";
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String ENCRYPTED_ACCESS_TOKEN = "encryptedAccessToken";
+    private static final String TOKEN_ID = "encryptedTokenId";
+    private static final int TENANT_ID = 1234;
+    private static final String[] ACTIVE_TOKEN_STATES = {OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE};
+
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private BulkTokenRevocationDAO bulkTokenRevocationDAO;
+
+    @BeforeClass
+    public void initTest() throws Exception {
+
+        DAOUtils.initializeBatchDataSource(DB_NAME, H2_SCRIPT_NAME, H2_SCRIPT2_NAME);
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> DAOUtils.getConnection(DB_NAME));
+
+        TokenPersistenceProcessor persistenceProcessor = mock(TokenPersistenceProcessor.class);
+        when(persistenceProcessor.getProcessedClientId(CLIENT_ID)).thenReturn(ENCRYPTED_CLIENT_ID);
+        when(persistenceProcessor.getPreprocessedClientId(ENCRYPTED_CLIENT_ID)).thenReturn(CLIENT_ID);
+        when(persistenceProcessor.getPreprocessedAccessTokenIdentifier(ENCRYPTED_ACCESS_TOKEN))
+                .thenReturn(ACCESS_TOKEN);
+        OAuthServerConfiguration mockOAuthServerConfiguration = mock(OAuthServerConfiguration.class);
+        when(mockOAuthServerConfiguration.getPersistenceProcessor()).thenReturn(persistenceProcessor);
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(mockOAuthServerConfiguration);
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getDomain(TENANT_ID)).thenReturn("wso2.com");
+        OAuthComponentServiceHolder.getInstance().setRealmService(realmService);
+
+        bulkTokenRevocationDAO = new BulkTokenRevocationDAO();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityDatabaseUtil.close();
+        oAuthServerConfiguration.close();
+        OAuthComponentServiceHolder.getInstance().setRealmService(null);
+    }
+
+    @Test
+    public void testTokenRevocationBatchOfConsumerKeyIsDecrypted() throws Exception {
+
+        List<AccessTokenDO> batch = bulkTokenRevocationDAO.getTokenRevocationBatch(RevocationScope.CONSUMER_KEY,
+                CLIENT_ID, TENANT_ID, ACTIVE_TOKEN_STATES, getIssuedBefore(), null, 10);
+
+        assertEquals(batch.size(), 1);
+        AccessTokenDO accessTokenDO = batch.get(0);
+        // The caches are keyed by the plain text token and consumer key, hence they must not be the stored values.
+        assertEquals(accessTokenDO.getAccessToken(), ACCESS_TOKEN);
+        assertEquals(accessTokenDO.getConsumerKey(), CLIENT_ID);
+        assertEquals(accessTokenDO.getTokenId(), TOKEN_ID);
+        assertEquals(accessTokenDO.getScope(), new String[]{"default"});
+    }
+
+    @Test
+    public void testTokenRevocationBatchOfTenantIsDecrypted() throws Exception {
+
+        List<AccessTokenDO> batch = bulkTokenRevocationDAO.getTokenRevocationBatch(RevocationScope.TENANT,
+                String.valueOf(TENANT_ID), TENANT_ID, ACTIVE_TOKEN_STATES, getIssuedBefore(), null, 10);
+
+        assertEquals(batch.size(), 1);
+        assertEquals(batch.get(0).getAccessToken(), ACCESS_TOKEN);
+        assertEquals(batch.get(0).getConsumerKey(), CLIENT_ID);
+    }
+
+    @Test(dependsOnMethods = {"testTokenRevocationBatchOfConsumerKeyIsDecrypted",
+            "testTokenRevocationBatchOfTenantIsDecrypted"})
+    public void testRevokeAccessTokens() throws Exception {
+
+        List<AccessTokenDO> batch = bulkTokenRevocationDAO.getTokenRevocationBatch(RevocationScope.CONSUMER_KEY,
+                CLIENT_ID, TENANT_ID, ACTIVE_TOKEN_STATES, getIssuedBefore(), null, 10);
+
+        assertEquals(bulkTokenRevocationDAO.revokeAccessTokens(batch,
+                OAuthConstants.TokenStates.TOKEN_STATE_REVOKED), 1);
+        assertEquals(getTokenState(), OAuthConstants.TokenStates.TOKEN_STATE_REVOKED);
+        assertTrue(bulkTokenRevocationDAO.getTokenRevocationBatch(RevocationScope.CONSUMER_KEY, CLIENT_ID,
+                TENANT_ID, ACTIVE_TOKEN_STATES, getIssuedBefore(), null, 10).isEmpty());
+    }
+
+    private Timestamp getIssuedBefore() {
+
+        return new Timestamp(System.currentTimeMillis() + 86400000L);
+    }
+
+    private String getTokenState() throws Exception {
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME);
+             PreparedStatement prepStmt = connection.prepareStatement(
+                     "SELECT TOKEN_STATE FROM IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_ID = ?")) {
+            prepStmt.setString(1, TOKEN_ID);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
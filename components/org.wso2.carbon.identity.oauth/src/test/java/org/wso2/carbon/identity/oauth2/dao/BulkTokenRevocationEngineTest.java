@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.BulkTokenRevocationDAO.RevocationScope;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for BulkTokenRevocationEngine.
+ */
+public class BulkTokenRevocationEngineTest {
+
+    private static final String CONSUMER_KEY = "consumerKey";
+    private static final int TENANT_ID = 1;
+
+    @Test
+    public void testRevokeTokensOfApplicationInBatches() throws Exception {
+
+        BulkTokenRevocationDAO dao = mock(BulkTokenRevocationDAO.class);
+        List<AccessTokenDO> firstBatch = getAccessTokens("a", "b");
+        List<AccessTokenDO> secondBatch = getAccessTokens("c");
+        when(dao.getTokenRevocationBatch(eq(RevocationScope.CONSUMER_KEY), eq(CONSUMER_KEY), eq(TENANT_ID),
+                any(String[].class), any(Timestamp.class), isNull(), eq(2))).thenReturn(firstBatch);
+        when(dao.getTokenRevocationBatch(eq(RevocationScope.CONSUMER_KEY), eq(CONSUMER_KEY), eq(TENANT_ID),
+                any(String[].class), any(Timestamp.class), eq("b"), eq(2))).thenReturn(secondBatch);
+        when(dao.revokeAccessTokens(firstBatch, OAuthConstants.TokenStates.TOKEN_STATE_REVOKED)).thenReturn(2);
+        when(dao.revokeAccessTokens(secondBatch, OAuthConstants.TokenStates.TOKEN_STATE_REVOKED)).thenReturn(1);
+
+        List<List<AccessTokenDO>> handledBatches = new ArrayList<>();
+        long revokedCount = new BulkTokenRevocationEngine(dao, 2, 1)
+                .revokeTokensOfApplication(CONSUMER_KEY, TENANT_ID, handledBatches::add);
+
+        assertEquals(revokedCount, 3);
+        assertEquals(handledBatches, Arrays.asList(firstBatch, secondBatch));
+        // The walk stops after a batch which is smaller than the batch size.
+        verify(dao, never()).getTokenRevocationBatch(any(RevocationScope.class), anyString(), anyInt(),
+                any(String[].class), any(Timestamp.class), eq("c"), anyInt());
+    }
+
+    @Test
+    public void testRevokeTokensOfTenantWithoutTokens() throws Exception {
+
+        BulkTokenRevocationDAO dao = mock(BulkTokenRevocationDAO.class);
+        when(dao.getTokenRevocationBatch(eq(RevocationScope.TENANT), eq(String.valueOf(TENANT_ID)), eq(TENANT_ID),
+                eq(new String[]{OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE,
+                        OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED}), any(Timestamp.class), isNull(), eq(10)))
+                .thenReturn(Collections.emptyList());
+
+        List<List<AccessTokenDO>> handledBatches = new ArrayList<>();
+        long revokedCount = new BulkTokenRevocationEngine(dao, 10, 0)
+                .revokeTokensOfTenant(TENANT_ID, handledBatches::add);
+
+        assertEquals(revokedCount, 0);
+        assertEquals(handledBatches.size(), 0);
+        verify(dao, never()).revokeAccessTokens(anyList(), anyString());
+    }
+
+    @Test
+    public void testHandlerFailureStopsRevocation() throws Exception {
+
+        BulkTokenRevocationDAO dao = mock(BulkTokenRevocationDAO.class);
+        List<AccessTokenDO> batch = getAccessTokens("a", "b");
+        when(dao.getTokenRevocationBatch(eq(RevocationScope.AUTHORIZED_ORGANIZATION), eq("orgId"), anyInt(),
+                any(String[].class), any(Timestamp.class), isNull(), eq(2))).thenReturn(batch);
+
+        BulkTokenRevocationEngine engine = new BulkTokenRevocationEngine(dao, 2, 0);
+        expectThrows(IdentityOAuth2Exception.class, () -> engine.revokeTokensOfOrganization("orgId",
+                accessTokenDOs -> {
+                    throw new IdentityOAuth2Exception("Cache failure");
+                }));
+        verify(dao, never()).getTokenRevocationBatch(any(RevocationScope.class), anyString(), anyInt(),
+                any(String[].class), any(Timestamp.class), eq("b"), anyInt());
+    }
+
+    private List<AccessTokenDO> getAccessTokens(String... tokenIds) {
+
+        List<AccessTokenDO> accessTokenDOs = new ArrayList<>();
+        for (String tokenId : tokenIds) {
+            AccessTokenDO accessTokenDO = new AccessTokenDO();
+            accessTokenDO.setTokenId(tokenId);
+            accessTokenDO.setTokenState(OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE);
+            accessTokenDOs.add(accessTokenDO);
+        }
+        return accessTokenDOs;
+    }
+}
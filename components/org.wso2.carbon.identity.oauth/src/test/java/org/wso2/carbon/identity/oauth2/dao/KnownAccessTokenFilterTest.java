@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants.KnownAccessTokenFilterConfig;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for KnownAccessTokenFilter.
+ */
+public class KnownAccessTokenFilterTest {
+
+    private static final long REBUILD_INTERVAL = 60000;
+
+    @Test
+    public void testBloomFilterHasNoFalseNegatives() {
+
+        KnownAccessTokenFilter.BloomFilter bloomFilter = new KnownAccessTokenFilter.BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.put("token-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(bloomFilter.mightContain("token-" + i), "Added entry should always be found.");
+            if (bloomFilter.mightContain("unknown-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "False positive rate should be close to the configured rate. False " +
+                "positives: " + falsePositives);
+        assertTrue(bloomFilter.getEstimatedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    public void testAllLookupsPassUntilFirstRebuild() {
+
+        KnownAccessTokenFilter filter = new KnownAccessTokenFilter(1000, 0.01, REBUILD_INTERVAL,
+                consumer -> consumer.accept("known"));
+
+        assertTrue(filter.mightContain("unknown"), "Lookups should pass until the filter is rebuilt.");
+        filter.recordUnconfirmedLookup();
+        assertEquals(filter.getRejectedLookupCount(), 0);
+        assertEquals(filter.getUnconfirmedLookupCount(), 0);
+    }
+
+    @Test
+    public void testUnknownTokensRejectedAfterRebuild() throws Exception {
+
+        KnownAccessTokenFilter filter = new KnownAccessTokenFilter(1000, 0.01, REBUILD_INTERVAL,
+                consumer -> consumer.accept("known"));
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("known"));
+        assertFalse(filter.mightContain("unknown"));
+        assertEquals(filter.getPassedLookupCount(), 1);
+        assertEquals(filter.getRejectedLookupCount(), 1);
+    }
+
+    @Test
+    public void testAddedTokensRetainedForOneRebuild() throws Exception {
+
+        List<String> persistedTokens = new ArrayList<>(Arrays.asList("first"));
+        KnownAccessTokenFilter filter = new KnownAccessTokenFilter(1000, 0.01, REBUILD_INTERVAL,
+                consumer -> persistedTokens.forEach(consumer));
+        filter.rebuild();
+        filter.add("second");
+        assertTrue(filter.mightContain("second"), "Token added after the rebuild should be known.");
+
+        // The token is not persisted yet when the filter is rebuilt again.
+        filter.rebuild();
+        assertTrue(filter.mightContain("second"), "Token added before the rebuild should be retained.");
+
+        filter.rebuild();
+        assertFalse(filter.mightContain("second"), "Token not found by two rebuilds should be dropped.");
+        assertTrue(filter.mightContain("first"));
+    }
+
+    @Test
+    public void testObservedFalsePositiveRate() throws Exception {
+
+        KnownAccessTokenFilter filter = new KnownAccessTokenFilter(1000, 0.01, REBUILD_INTERVAL,
+                consumer -> consumer.accept("revoked"));
+        filter.rebuild();
+
+        assertFalse(filter.mightContain("unknown1"));
+        assertFalse(filter.mightContain("unknown2"));
+        assertFalse(filter.mightContain("unknown3"));
+        assertTrue(filter.mightContain("revoked"));
+        filter.recordUnconfirmedLookup();
+
+        assertEquals(filter.getObservedFalsePositiveRate(), 0.25, 0.0001);
+        filter.resetMetrics();
+        assertEquals(filter.getObservedFalsePositiveRate(), 0, 0.0001);
+    }
+
+    @Test
+    public void testFilterNotStartedWhenClustered() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(KnownAccessTokenFilterConfig.ENABLE)).thenReturn("true");
+            oAuth2Util.when(OAuth2Util::isTokenPersistenceEnabled).thenReturn(true);
+            oAuth2Util.when(OAuth2Util::isClusteringEnabled).thenReturn(true);
+
+            KnownAccessTokenFilter.startInstance();
+
+            assertNull(KnownAccessTokenFilter.getInstance(),
+                    "Filter should not be started when the tokens of the other nodes are not known to it.");
+        } finally {
+            KnownAccessTokenFilter.shutdownInstance();
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLeaseDAO;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for TokenCleanupReaper.
+ */
+public class TokenCleanupReaperTest {
+
+    private static final long CURRENT_TIME = 10_000_000L;
+    private static final long RETENTION_PERIOD = 60_000L;
+
+    @Test
+    public void testOnlyUnusableTokensRemoved() throws Exception {
+
+        OldTokensCleanDAO oldTokensCleanDAO = mock(OldTokensCleanDAO.class);
+        long cutoffTime = CURRENT_TIME - RETENTION_PERIOD;
+        List<TokenCleanupCandidate> candidates = Arrays.asList(
+                // Revoked token which has not expired yet.
+                new TokenCleanupCandidate("revoked", OAuthConstants.TokenStates.TOKEN_STATE_REVOKED, 1000, 3600000,
+                        1000, 3600000),
+                // Inactive token which has not expired yet.
+                new TokenCleanupCandidate("inactive", OAuthConstants.TokenStates.TOKEN_STATE_INACTIVE, 1500, 3600000,
+                        1500, 3600000),
+                // Active token whose access and refresh tokens have expired.
+                new TokenCleanupCandidate("expired", OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE, 2000, 1000, 2000,
+                        1000),
+                // Active token whose refresh token is still valid.
+                new TokenCleanupCandidate("refreshable", OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE, 3000, 1000,
+                        3000, cutoffTime),
+                // Expired state token whose refresh token is still valid.
+                new TokenCleanupCandidate("expiredRefreshable", OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED, 3500,
+                        1000, 3500, cutoffTime),
+                // Expired state token whose access and refresh tokens have expired.
+                new TokenCleanupCandidate("expiredState", OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED, 3600, 1000,
+                        3600, 1000),
+                // Active token which never expires.
+                new TokenCleanupCandidate("neverExpires", OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE, 4000, -1,
+                        4000, -1));
+        mockTokenCandidates(oldTokensCleanDAO, candidates);
+        mockAuthorizationCodeCandidates(oldTokensCleanDAO, Arrays.asList(
+                new TokenCleanupCandidate("expiredCode", OAuthConstants.AuthorizationCodeState.ACTIVE, 1000, 600000,
+                        1000, 600000),
+                new TokenCleanupCandidate("validCode", OAuthConstants.AuthorizationCodeState.ACTIVE, cutoffTime,
+                        600000, cutoffTime, 600000)));
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                    .thenReturn(mock(Connection.class));
+            createReaper(10, 5, false, oldTokensCleanDAO, null).reap(CURRENT_TIME);
+        }
+
+        verify(oldTokensCleanDAO).cleanupTokensByTokenIdInBatch(
+                eq(Arrays.asList("revoked", "inactive", "expired", "expiredState")), any(Connection.class));
+        verify(oldTokensCleanDAO).cleanupAuthorizationCodesInBatch(eq(Collections.singletonList("expiredCode")),
+                any(Connection.class));
+    }
+
+    @Test
+    public void testCandidatesReadInBoundedBatches() throws Exception {
+
+        OldTokensCleanDAO oldTokensCleanDAO = mock(OldTokensCleanDAO.class);
+        when(oldTokensCleanDAO.getTokenCleanupCandidates(any(Timestamp.class), anyString(), any(Timestamp.class),
+                anyInt(), any(Connection.class))).thenReturn(createExpiredTokens(0, 2), createExpiredTokens(2, 2),
+                createExpiredTokens(4, 1));
+        mockAuthorizationCodeCandidates(oldTokensCleanDAO, Collections.emptyList());
+
+        Connection connection = mock(Connection.class);
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            createReaper(2, 10, false, oldTokensCleanDAO, null).reap(CURRENT_TIME);
+            identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection), times(4));
+        }
+
+        ArgumentCaptor<Timestamp> fromCaptor = ArgumentCaptor.forClass(Timestamp.class);
+        ArgumentCaptor<String> fromIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(oldTokensCleanDAO, times(3)).getTokenCleanupCandidates(fromCaptor.capture(), fromIdCaptor.capture(),
+                any(Timestamp.class), eq(2), any(Connection.class));
+        // Each batch continues after the last token of the previous batch.
+        assertEquals(fromCaptor.getAllValues().get(1).getTime(), 1L);
+        assertEquals(fromIdCaptor.getAllValues().get(1), "token1");
+        assertEquals(fromCaptor.getAllValues().get(2).getTime(), 3L);
+        assertEquals(fromIdCaptor.getAllValues().get(2), "token3");
+        verify(oldTokensCleanDAO, times(3)).cleanupTokensByTokenIdInBatch(anyList(), any(Connection.class));
+    }
+
+    @Test
+    public void testBatchesContinueWithinSameCreationTime() throws Exception {
+
+        OldTokensCleanDAO oldTokensCleanDAO = mock(OldTokensCleanDAO.class);
+        // Tokens which are still refreshable and share the same creation time, hence none of them is removed.
+        List<TokenCleanupCandidate> firstBatch = Arrays.asList(createRefreshableToken("tokenA"),
+                createRefreshableToken("tokenB"));
+        List<TokenCleanupCandidate> secondBatch = Arrays.asList(createRefreshableToken("tokenC"),
+                createRefreshableToken("tokenD"));
+        when(oldTokensCleanDAO.getTokenCleanupCandidates(any(Timestamp.class), anyString(), any(Timestamp.class),
+                anyInt(), any(Connection.class))).thenReturn(firstBatch, secondBatch, Collections.emptyList());
+        mockAuthorizationCodeCandidates(oldTokensCleanDAO, Collections.emptyList());
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                    .thenReturn(mock(Connection.class));
+            createReaper(2, 10, false, oldTokensCleanDAO, null).reap(CURRENT_TIME);
+        }
+
+        ArgumentCaptor<Timestamp> fromCaptor = ArgumentCaptor.forClass(Timestamp.class);
+        ArgumentCaptor<String> fromIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(oldTokensCleanDAO, times(3)).getTokenCleanupCandidates(fromCaptor.capture(), fromIdCaptor.capture(),
+                any(Timestamp.class), eq(2), any(Connection.class));
+        // The walk stays at the same creation time and continues after the ID of the last token read.
+        assertEquals(fromCaptor.getAllValues().get(1).getTime(), 100L);
+        assertEquals(fromIdCaptor.getAllValues().get(1), "tokenB");
+        assertEquals(fromCaptor.getAllValues().get(2).getTime(), 100L);
+        assertEquals(fromIdCaptor.getAllValues().get(2), "tokenD");
+    }
+
+    @Test
+    public void testBatchesPerRunLimited() throws Exception {
+
+        OldTokensCleanDAO oldTokensCleanDAO = mock(OldTokensCleanDAO.class);
+        mockTokenCandidates(oldTokensCleanDAO, createExpiredTokens(0, 2));
+        mockAuthorizationCodeCandidates(oldTokensCleanDAO, Collections.emptyList());
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                    .thenReturn(mock(Connection.class));
+            createReaper(2, 3, false, oldTokensCleanDAO, null).reap(CURRENT_TIME);
+        }
+
+        verify(oldTokensCleanDAO, times(3)).cleanupTokensByTokenIdInBatch(anyList(), any(Connection.class));
+    }
+
+    @Test
+    public void testNextRunContinuesFromLastPosition() throws Exception {
+
+        OldTokensCleanDAO oldTokensCleanDAO = mock(OldTokensCleanDAO.class);
+        when(oldTokensCleanDAO.getTokenCleanupCandidates(any(Timestamp.class), anyString(), any(Timestamp.class),
+                anyInt(), any(Connection.class))).thenReturn(createExpiredTokens(0, 2), createExpiredTokens(2, 2),
+                createExpiredTokens(4, 1), Collections.emptyList());
+        mockAuthorizationCodeCandidates(oldTokensCleanDAO, Collections.emptyList());
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                    .thenReturn(mock(Connection.class));
+            TokenCleanupReaper reaper = createReaper(2, 2, false, oldTokensCleanDAO, null);
+            reaper.reap(CURRENT_TIME);
+            reaper.reap(CURRENT_TIME);
+            reaper.reap(CURRENT_TIME);
+        }
+
+        ArgumentCaptor<Timestamp> fromCaptor = ArgumentCaptor.forClass(Timestamp.class);
+        ArgumentCaptor<String> fromIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(oldTokensCleanDAO, times(4)).getTokenCleanupCandidates(fromCaptor.capture(), fromIdCaptor.capture(),
+                any(Timestamp.class), eq(2), any(Connection.class));
+        // The second run continues from where the batch limit stopped the first run.
+        assertEquals(fromCaptor.getAllValues().get(2).getTime(), 3L);
+        assertEquals(fromIdCaptor.getAllValues().get(2), "token3");
+        // The second run reached the end of the table, hence the third run starts over.
+        assertEquals(fromCaptor.getAllValues().get(3).getTime(), 0L);
+        assertEquals(fromIdCaptor.getAllValues().get(3), "");
+    }
+
+    @Test
+    public void testBatchRolledBackOnError() throws Exception {
+
+        OldTokensCleanDAO oldTokensCleanDAO = mock(OldTokensCleanDAO.class);
+        mockTokenCandidates(oldTokensCleanDAO, createExpiredTokens(0, 1));
+        doThrow(new SQLException("Error")).when(oldTokensCleanDAO)
+                .cleanupTokensByTokenIdInBatch(anyList(), any(Connection.class));
+
+        Connection connection = mock(Connection.class);
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            TokenCleanupReaper reaper = createReaper(2, 3, false, oldTokensCleanDAO, null);
+            expectThrows(SQLException.class, () -> reaper.reap(CURRENT_TIME));
+            identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(connection));
+            identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection), never());
+        }
+    }
+
+    @Test
+    public void testRunSkippedWithoutLease() throws Exception {
+
+        OldTokensCleanDAO oldTokensCleanDAO = mock(OldTokensCleanDAO.class);
+        TokenIssuanceLeaseDAO leaseDAO = mock(TokenIssuanceLeaseDAO.class);
+        when(leaseDAO.tryAcquireLease(anyString(), anyString(), anyLong())).thenReturn(false);
+
+        createReaper(2, 3, true, oldTokensCleanDAO, leaseDAO).reap(CURRENT_TIME);
+
+        verify(leaseDAO).tryAcquireLease(anyString(), anyString(), anyLong());
+        verify(oldTokensCleanDAO, never()).getTokenCleanupCandidates(any(Timestamp.class), anyString(),
+                any(Timestamp.class), anyInt(), any(Connection.class));
+        verify(oldTokensCleanDAO, never()).getAuthorizationCodeCleanupCandidates(any(Timestamp.class), anyString(),
+                any(Timestamp.class), anyInt(), any(Connection.class));
+    }
+
+    private TokenCleanupReaper createReaper(int batchSize, int maxBatchesPerRun, boolean clusterCoordinationEnabled,
+                                            OldTokensCleanDAO oldTokensCleanDAO, TokenIssuanceLeaseDAO leaseDAO) {
+
+        return new TokenCleanupReaper(3600000L, RETENTION_PERIOD, batchSize, 0, maxBatchesPerRun,
+                clusterCoordinationEnabled, oldTokensCleanDAO, leaseDAO);
+    }
+
+    private void mockTokenCandidates(OldTokensCleanDAO oldTokensCleanDAO, List<TokenCleanupCandidate> candidates)
+            throws SQLException {
+
+        when(oldTokensCleanDAO.getTokenCleanupCandidates(any(Timestamp.class), anyString(), any(Timestamp.class),
+                anyInt(), any(Connection.class))).thenReturn(candidates);
+    }
+
+    private void mockAuthorizationCodeCandidates(OldTokensCleanDAO oldTokensCleanDAO,
+                                                 List<TokenCleanupCandidate> candidates) throws SQLException {
+
+        when(oldTokensCleanDAO.getAuthorizationCodeCleanupCandidates(any(Timestamp.class), anyString(),
+                any(Timestamp.class), anyInt(), any(Connection.class))).thenReturn(candidates);
+    }
+
+    private List<TokenCleanupCandidate> createExpiredTokens(int from, int count) {
+
+        List<TokenCleanupCandidate> candidates = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            candidates.add(new TokenCleanupCandidate("token" + i, OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED, i,
+                    1000, i, 1000));
+        }
+        return candidates;
+    }
+
+    private TokenCleanupCandidate createRefreshableToken(String tokenId) {
+
+        return new TokenCleanupCandidate(tokenId, OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE, 100, 1000, 100,
+                CURRENT_TIME);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.device.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCache;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheEntry;
+import org.wso2.carbon.identity.oauth2.cache.PollingStateCacheKey;
+import org.wso2.carbon.identity.oauth2.device.errorcodes.DeviceErrorCodes;
+
+import java.sql.Timestamp;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class DeviceFlowDAOImplTest {
+
+    private static final String DEVICE_CODE = "dummyDeviceCode";
+    private static final String CLIENT_ID = "dummyClientId";
+    private static final long POLLING_INTERVAL = 5000L;
+    private static final PollingStateCacheKey CACHE_KEY = new PollingStateCacheKey("DeviceFlow:" + DEVICE_CODE);
+
+    private PollingStateCache pollingStateCache;
+    private MockedStatic<PollingStateCache> pollingStateCacheStatic;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private DeviceFlowDAOImpl deviceFlowDAO;
+
+    @BeforeMethod
+    public void setUp() {
+
+        pollingStateCache = mock(PollingStateCache.class);
+        pollingStateCacheStatic = mockStatic(PollingStateCache.class);
+        pollingStateCacheStatic.when(PollingStateCache::getInstance).thenReturn(pollingStateCache);
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        deviceFlowDAO = new DeviceFlowDAOImpl();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        pollingStateCacheStatic.close();
+        identityDatabaseUtil.close();
+    }
+
+    @Test
+    public void testCachedPollWithinIntervalSlowsDown() {
+
+        long lastPolledTime = System.currentTimeMillis();
+        when(pollingStateCache.getValueFromCache(CACHE_KEY)).thenReturn(buildPollingState(lastPolledTime));
+
+        assertPollAnswered(DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN);
+    }
+
+    @Test
+    public void testCachedPollAfterIntervalIsPending() {
+
+        long lastPolledTime = System.currentTimeMillis() - POLLING_INTERVAL - 1000;
+        when(pollingStateCache.getValueFromCache(CACHE_KEY)).thenReturn(buildPollingState(lastPolledTime));
+
+        assertPollAnswered(DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING);
+    }
+
+    @Test
+    public void testSetLastPollTimeUpdatesCachedPollingState() throws Exception {
+
+        PollingStateCacheEntry pollingState = buildPollingState(System.currentTimeMillis() - POLLING_INTERVAL);
+        when(pollingStateCache.getValueFromCache(CACHE_KEY)).thenReturn(pollingState);
+        Timestamp newPollTime = new Timestamp(System.currentTimeMillis());
+
+        deviceFlowDAO.setLastPollTime(DEVICE_CODE, newPollTime);
+
+        assertEquals(pollingState.getLastPolledTime(), newPollTime.getTime());
+        // The updated entry has to be added again, as the cache may hold a copy of it.
+        verify(pollingStateCache).addToCache(CACHE_KEY, pollingState);
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()), never());
+    }
+
+    private void assertPollAnswered(String expectedErrorCode) {
+
+        try {
+            deviceFlowDAO.getAuthenticationDetails(DEVICE_CODE, CLIENT_ID);
+            fail("The poll of a pending device code should not succeed.");
+        } catch (IdentityOAuth2Exception e) {
+            assertEquals(e.getErrorCode(), expectedErrorCode);
+        }
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()), never());
+    }
+
+    private PollingStateCacheEntry buildPollingState(long lastPolledTime) {
+
+        PollingStateCacheEntry pollingState = new PollingStateCacheEntry();
+        pollingState.setConsumerKey(CLIENT_ID);
+        pollingState.setStatus("PENDING");
+        pollingState.setExpiryTime(System.currentTimeMillis() + 60000);
+        pollingState.setPollingInterval(POLLING_INTERVAL);
+        pollingState.setLastPolledTime(lastPolledTime);
+        return pollingState;
+    }
+}
@@ -164,6 +164,7 @@ public class JWTTokenIssuerTest {
     public void tearDown() throws Exception {
         reset(mockOAuthServerConfiguration);
         oAuthServerConfiguration.close();
+        OAuth2Util.clearSigningContexts();
     }
 
     @DataProvider(name = "requestScopesProvider")
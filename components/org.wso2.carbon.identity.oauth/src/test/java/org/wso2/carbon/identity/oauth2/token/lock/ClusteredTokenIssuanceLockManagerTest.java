@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth.dao.TestOAuthDAOBase;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test class for ClusteredTokenIssuanceLockManager and TokenIssuanceLeaseDAOImpl. Two lock manager instances sharing
+ * the same H2 database are used to simulate two nodes of a cluster.
+ */
+public class ClusteredTokenIssuanceLockManagerTest extends TestOAuthDAOBase {
+
+    private static final String DB_NAME = "testTokenIssuanceLease";
+    private static final String LOCK_KEY = "consumerKey:userId:scope:bindingRef";
+    private static final String COUNT_LEASES = "SELECT COUNT(*) FROM IDN_OAUTH2_TOKEN_ISSUANCE_LEASE";
+
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+
+    @BeforeClass
+    public void initTest() throws Exception {
+
+        initiateH2Base(DB_NAME, getFilePath("identity.sql"));
+    }
+
+    @AfterClass
+    public void tearDownTest() throws Exception {
+
+        closeH2Base(DB_NAME);
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection(DB_NAME));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityDatabaseUtil.close();
+    }
+
+    @Test
+    public void testLeaseDAO() throws Exception {
+
+        TokenIssuanceLeaseDAO leaseDAO = new TokenIssuanceLeaseDAOImpl();
+        long leaseDuration = 60000;
+
+        assertTrue(leaseDAO.tryAcquireLease("leaseKey", "node1", leaseDuration));
+        assertFalse(leaseDAO.tryAcquireLease("leaseKey", "node2", leaseDuration));
+        // Only the owner can release the lease.
+        leaseDAO.releaseLease("leaseKey", "node2");
+        assertFalse(leaseDAO.tryAcquireLease("leaseKey", "node2", leaseDuration));
+        leaseDAO.releaseLease("leaseKey", "node1");
+        assertTrue(leaseDAO.tryAcquireLease("leaseKey", "node2", leaseDuration));
+        leaseDAO.releaseLease("leaseKey", "node2");
+        assertEquals(countLeases(), 0);
+    }
+
+    @Test
+    public void testLeaseBlocksOtherNode() throws Exception {
+
+        ClusteredTokenIssuanceLockManager node1 =
+                new ClusteredTokenIssuanceLockManager(new TokenIssuanceLeaseDAOImpl(), 100, 60000, 10);
+        ClusteredTokenIssuanceLockManager node2 =
+                new ClusteredTokenIssuanceLockManager(new TokenIssuanceLeaseDAOImpl(), 100, 60000, 10);
+
+        try (TokenIssuanceLock ignored = node1.acquire(LOCK_KEY)) {
+            // Re-entrant acquisition on the same node should not wait for its own lease.
+            try (TokenIssuanceLock ignored2 = node1.acquire(LOCK_KEY)) {
+                assertEquals(countLeases(), 1);
+            }
+            assertEquals(countLeases(), 1);
+            try (TokenIssuanceLock ignored3 = node2.acquire(LOCK_KEY)) {
+                fail("Lease held by another node should not be acquired.");
+            } catch (IdentityOAuth2Exception e) {
+                assertEquals(node2.getLeaseContendedCount(), 1);
+            }
+        }
+        assertEquals(countLeases(), 0);
+
+        try (TokenIssuanceLock ignored = node2.acquire(LOCK_KEY)) {
+            assertEquals(node2.getLeaseAcquiredCount(), 1);
+        }
+        assertEquals(node2.getLocalLockManager().getActiveLockCount(), 0);
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() throws Exception {
+
+        ClusteredTokenIssuanceLockManager node1 =
+                new ClusteredTokenIssuanceLockManager(new TokenIssuanceLeaseDAOImpl(), 100, 1, 10);
+        ClusteredTokenIssuanceLockManager node2 =
+                new ClusteredTokenIssuanceLockManager(new TokenIssuanceLeaseDAOImpl(), 1000, 60000, 10);
+
+        try (TokenIssuanceLock ignored = node1.acquire(LOCK_KEY)) {
+            try (TokenIssuanceLock ignored2 = node2.acquire(LOCK_KEY)) {
+                assertEquals(node2.getLeaseAcquiredCount(), 1);
+            }
+        }
+        assertEquals(countLeases(), 0);
+    }
+
+    @Test
+    public void testNestedLocksShareOneLease() throws Exception {
+
+        ClusteredTokenIssuanceLockManager node1 =
+                new ClusteredTokenIssuanceLockManager(new TokenIssuanceLeaseDAOImpl(), 100, 60000, 10);
+
+        try (TokenIssuanceLock ignored = node1.acquire("authzCode:consumerKey:code:bindingRef:scope")) {
+            try (TokenIssuanceLock ignored2 = node1.acquire(LOCK_KEY)) {
+                assertEquals(countLeases(), 1);
+                assertEquals(node1.getLocalLockManager().getActiveLockCount(), 2);
+            }
+            assertEquals(countLeases(), 1);
+        }
+        assertEquals(countLeases(), 0);
+        assertEquals(node1.getLeaseAcquiredCount(), 1);
+        assertEquals(node1.getLocalLockManager().getActiveLockCount(), 0);
+    }
+
+    private int countLeases() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME);
+             PreparedStatement prepStmt = connection.prepareStatement(COUNT_LEASES);
+             ResultSet resultSet = prepStmt.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
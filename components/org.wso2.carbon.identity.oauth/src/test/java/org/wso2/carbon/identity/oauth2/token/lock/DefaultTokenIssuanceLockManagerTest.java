@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for DefaultTokenIssuanceLockManager.
+ */
+public class DefaultTokenIssuanceLockManagerTest {
+
+    private static final String LOCK_KEY = "consumerKey:userId:scope:bindingRef";
+
+    @Test
+    public void testLockEntryRemovedAfterRelease() throws Exception {
+
+        DefaultTokenIssuanceLockManager lockManager = new DefaultTokenIssuanceLockManager(0);
+        try (TokenIssuanceLock ignored = lockManager.acquire(LOCK_KEY)) {
+            assertEquals(lockManager.getActiveLockCount(), 1);
+            // Re-entrant acquisition by the same thread should not block.
+            try (TokenIssuanceLock ignored2 = lockManager.acquire(LOCK_KEY)) {
+                assertEquals(lockManager.getActiveLockCount(), 1);
+            }
+        }
+        assertEquals(lockManager.getActiveLockCount(), 0);
+        assertEquals(lockManager.getAcquiredCount(), 2);
+        assertEquals(lockManager.getContendedCount(), 0);
+    }
+
+    @Test
+    public void testRepeatedCloseReleasesOnce() throws Exception {
+
+        DefaultTokenIssuanceLockManager lockManager = new DefaultTokenIssuanceLockManager(0);
+        try (TokenIssuanceLock ignored = lockManager.acquire(LOCK_KEY)) {
+            TokenIssuanceLock nestedLock = lockManager.acquire(LOCK_KEY);
+            nestedLock.close();
+            nestedLock.close();
+            // The outer hold must survive the repeated close of the nested one.
+            assertEquals(lockManager.getActiveLockCount(), 1);
+        }
+        assertEquals(lockManager.getActiveLockCount(), 0);
+    }
+
+    @Test(expectedExceptions = IdentityOAuth2Exception.class)
+    public void testLockTimeout() throws Throwable {
+
+        DefaultTokenIssuanceLockManager lockManager = new DefaultTokenIssuanceLockManager(50);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (TokenIssuanceLock ignored = lockManager.acquire(LOCK_KEY)) {
+            Future<TokenIssuanceLock> future = executor.submit(() -> lockManager.acquire(LOCK_KEY));
+            try {
+                future.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertEquals(lockManager.getTimedOutCount(), 1);
+                throw e.getCause();
+            }
+        } finally {
+            executor.shutdownNow();
+            assertEquals(lockManager.getActiveLockCount(), 0);
+        }
+    }
+
+    @Test
+    public void testSameKeySerializesAndDifferentKeysDoNotContend() throws Exception {
+
+        DefaultTokenIssuanceLockManager lockManager = new DefaultTokenIssuanceLockManager(0);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch firstLockAcquired = new CountDownLatch(1);
+        CountDownLatch releaseFirstLock = new CountDownLatch(1);
+        try {
+            Future<?> holder = executor.submit(() -> {
+                try (TokenIssuanceLock ignored = lockManager.acquire(LOCK_KEY)) {
+                    firstLockAcquired.countDown();
+                    releaseFirstLock.await();
+                }
+                return null;
+            });
+            assertTrue(firstLockAcquired.await(5, TimeUnit.SECONDS));
+
+            // A different key must be acquirable while the first key is held.
+            try (TokenIssuanceLock ignored = lockManager.acquire("otherKey")) {
+                assertEquals(lockManager.getActiveLockCount(), 2);
+            }
+
+            Future<?> waiter = executor.submit(() -> {
+                try (TokenIssuanceLock ignored = lockManager.acquire(LOCK_KEY)) {
+                    return null;
+                }
+            });
+            releaseFirstLock.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            waiter.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(lockManager.getActiveLockCount(), 0);
+        assertEquals(lockManager.getAcquiredCount(), 3);
+    }
+}
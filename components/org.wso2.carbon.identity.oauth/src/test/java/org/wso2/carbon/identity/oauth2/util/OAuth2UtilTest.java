@@ -150,13 +150,16 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
@@ -349,6 +352,7 @@ public class OAuth2UtilTest {
 
     @AfterMethod
     public void tearDown() {
+        OAuth2Util.clearSigningContexts();
         oAuthServerConfiguration.close();
         oAuthComponentServiceHolder.close();
         privilegedCarbonContext.close();
@@ -2586,6 +2590,28 @@ public class OAuth2UtilTest {
         }
     }
 
+    @Test
+    public void testGetAccessTokenDOFromTokenIdentifierWithPrefetchedToken() throws Exception {
+
+        try (MockedStatic<OAuthCache> oAuthCache = mockStatic(OAuthCache.class)) {
+            when(oauthServerConfigurationMock.getPersistenceProcessor())
+                    .thenReturn(new PlainTextPersistenceProcessor());
+            oAuthCache.when(OAuthCache::getInstance).thenReturn(oAuthCacheMock);
+            setPrivateField(OAuthTokenPersistenceFactory.getInstance(), "tokenDAO", accessTokenDAO);
+            lenient().when(oauthServerConfigurationMock.isClientSecretHashEnabled()).thenReturn(false);
+            AccessTokenDO prefetchedAccessTokenDO = new AccessTokenDO();
+            OAuth2Util.setPrefetchedAccessTokens(Collections.singletonMap("dummyIdentifier",
+                    prefetchedAccessTokenDO));
+            try {
+                assertEquals(OAuth2Util.getAccessTokenDOfromTokenIdentifier("dummyIdentifier"),
+                        prefetchedAccessTokenDO);
+                verify(accessTokenDAO, never()).getAccessToken(anyString(), anyBoolean());
+            } finally {
+                OAuth2Util.clearPrefetchedAccessTokens();
+            }
+        }
+    }
+
     @Test(dataProvider = "accessTokenData")
     public void testGetClientIdForAccessToken(boolean isCacheAvailable) throws Exception {
 
@@ -3225,6 +3251,30 @@ public class OAuth2UtilTest {
                 "The certificate should match the one in the keystore");
     }
 
+    @Test(description = "Test that the signing context is resolved once and reused until it is cleared")
+    public void testGetSigningContext() throws Exception {
+
+        Key testKey = wso2KeyStore.getKey("wso2carbon", "wso2carbon".toCharArray());
+        Certificate testCert = wso2KeyStore.getCertificate("wso2carbon");
+        when(identityKeyStoreResolver.getPrivateKey(SUPER_TENANT_DOMAIN_NAME,
+                IdentityKeyStoreResolverConstants.InboundProtocol.OAUTH)).thenReturn(testKey);
+        when(identityKeyStoreResolver.getCertificate(SUPER_TENANT_DOMAIN_NAME,
+                IdentityKeyStoreResolverConstants.InboundProtocol.OAUTH)).thenReturn(testCert);
+
+        TenantSigningContext signingContext = OAuth2Util.getSigningContext(SUPER_TENANT_DOMAIN_NAME, -1234);
+        assertEquals(signingContext.getPrivateKey(), testKey);
+        assertEquals(signingContext.getCertificate(), testCert);
+        assertEquals(signingContext.getThumbPrintWithPrevAlgorithm(),
+                OAuth2Util.getThumbPrintWithPrevAlgorithm(testCert, false));
+        assertSame(signingContext.getSigner(), signingContext.getSigner());
+        assertSame(OAuth2Util.getSigningContext(SUPER_TENANT_DOMAIN_NAME, -1234), signingContext);
+        verify(identityKeyStoreResolver, times(1)).getPrivateKey(SUPER_TENANT_DOMAIN_NAME,
+                IdentityKeyStoreResolverConstants.InboundProtocol.OAUTH);
+
+        OAuth2Util.clearSigningContext(SUPER_TENANT_DOMAIN_NAME);
+        assertNotSame(OAuth2Util.getSigningContext(SUPER_TENANT_DOMAIN_NAME, -1234), signingContext);
+    }
+
     @DataProvider
     public Object[][] getTestBuildServiceUrlWithHostnameTestData() {
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.Resource;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test class for JWKSResourceRetriever, backed by a local stub JWKS endpoint.
+ */
+public class JWKSResourceRetrieverTest {
+
+    private static final String JWKS_CONTEXT = "/jwks";
+    private static final String JWKS = "{\"keys\":[]}";
+
+    private HttpServer server;
+    private URL jwksUrl;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus;
+    private volatile long responseDelay;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        requestCount.set(0);
+        responseStatus = 200;
+        responseDelay = 0;
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(JWKS_CONTEXT, exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(responseDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = JWKS.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        jwksUrl = new URL("http://localhost:" + server.getAddress().getPort() + JWKS_CONTEXT);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        server.stop(0);
+    }
+
+    @Test
+    public void testConcurrentRetrievalsAreCoalesced() throws Exception {
+
+        responseDelay = 500;
+        JWKSResourceRetriever retriever = new JWKSResourceRetriever(new DefaultResourceRetriever(), 60000);
+        int callers = 10;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Resource>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit((Callable<Resource>) () -> {
+                    startLatch.await();
+                    return retriever.retrieveResource(jwksUrl);
+                }));
+            }
+            startLatch.countDown();
+            for (Future<Resource> result : results) {
+                assertEquals(result.get().getContent(), JWKS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(requestCount.get(), 1);
+        assertEquals(retriever.getRemoteRetrievalCount(), 1);
+    }
+
+    @Test
+    public void testRetrievalsAreRateLimited() throws Exception {
+
+        JWKSResourceRetriever retriever = new JWKSResourceRetriever(new DefaultResourceRetriever(), 60000);
+        retriever.retrieveResource(jwksUrl);
+        retriever.retrieveResource(jwksUrl);
+        assertEquals(requestCount.get(), 1);
+
+        retriever = new JWKSResourceRetriever(new DefaultResourceRetriever(), 1);
+        retriever.retrieveResource(jwksUrl);
+        Thread.sleep(10);
+        retriever.retrieveResource(jwksUrl);
+        assertEquals(requestCount.get(), 3);
+    }
+
+    @Test
+    public void testLastKnownJWKSServedOnFailure() throws Exception {
+
+        JWKSResourceRetriever retriever = new JWKSResourceRetriever(new DefaultResourceRetriever(), 1);
+        retriever.retrieveResource(jwksUrl);
+        responseStatus = 500;
+        Thread.sleep(10);
+        assertEquals(retriever.retrieveResource(jwksUrl).getContent(), JWKS);
+        assertEquals(requestCount.get(), 2);
+    }
+
+    @Test
+    public void testFailedRetrievalIsNegativelyCached() throws Exception {
+
+        responseStatus = 500;
+        JWKSResourceRetriever retriever = new JWKSResourceRetriever(new DefaultResourceRetriever(), 60000);
+        for (int i = 0; i < 2; i++) {
+            try {
+                retriever.retrieveResource(jwksUrl);
+                fail("Retrieval should fail when the JWKS endpoint returns an error.");
+            } catch (IOException e) {
+                // Expected.
+            }
+        }
+        assertEquals(requestCount.get(), 1);
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+
+        JWKSResourceRetriever retriever = new JWKSResourceRetriever(new DefaultResourceRetriever(), 60000);
+        assertFalse(retriever.claimRefreshAhead(0), "Refresh ahead should not be claimed before a retrieval.");
+        retriever.retrieveResource(jwksUrl);
+        assertFalse(retriever.claimRefreshAhead(60000));
+
+        assertTrue(retriever.claimRefreshAhead(0));
+        assertFalse(retriever.claimRefreshAhead(0), "Refresh ahead should only be claimed once.");
+        retriever.refreshAhead(jwksUrl);
+        assertEquals(retriever.getVersion(), 1);
+        assertEquals(requestCount.get(), 2);
+        assertTrue(retriever.claimRefreshAhead(0));
+    }
+
+    @Test
+    public void testFailedRefreshAheadIsNotRetriedWithinMinRefreshInterval() throws Exception {
+
+        AtomicInteger fetchCount = new AtomicInteger();
+        JWKSResourceRetriever retriever = new JWKSResourceRetriever(url -> {
+            if (fetchCount.incrementAndGet() == 1) {
+                return new Resource(JWKS, "application/json");
+            }
+            throw new IOException("JWKS endpoint is unreachable.");
+        }, 60000);
+        retriever.retrieveResource(jwksUrl);
+
+        assertTrue(retriever.claimRefreshAhead(0));
+        retriever.refreshAhead(jwksUrl);
+        assertEquals(fetchCount.get(), 2);
+        assertEquals(retriever.getVersion(), 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(retriever.claimRefreshAhead(0),
+                    "Refresh ahead should not be claimed within the minimum refresh interval after a failure.");
+            assertEquals(retriever.retrieveResource(jwksUrl).getContent(), JWKS);
+        }
+        assertEquals(fetchCount.get(), 2);
+    }
+}
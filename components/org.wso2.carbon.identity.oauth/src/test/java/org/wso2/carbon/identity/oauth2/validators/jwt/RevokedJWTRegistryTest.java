@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for RevokedJWTRegistry.
+ */
+public class RevokedJWTRegistryTest {
+
+    private static final long RETENTION = 60000;
+    private static final String JTI = "8e4f6c1a-3b52-4d0e-9f1a-5c2d7b6e9a10";
+    private static final String CONSUMER_KEY = "consumerKey";
+
+    @Test
+    public void testIsAvailable() {
+
+        long currentTime = System.currentTimeMillis();
+        assertFalse(new RevokedJWTRegistry(false, RETENTION, 10, currentTime - RETENTION).isAvailable(),
+                "Registry should not be available when the stateless validation is disabled.");
+        assertFalse(new RevokedJWTRegistry(true, RETENTION, 10, currentTime).isAvailable(),
+                "Registry should not be available until the retention period has passed since its creation.");
+        assertTrue(new RevokedJWTRegistry(true, RETENTION, 10, currentTime - RETENTION).isAvailable(),
+                "Registry should be available once the retention period has passed since its creation.");
+    }
+
+    @Test
+    public void testIsRevokedByToken() {
+
+        RevokedJWTRegistry registry = new RevokedJWTRegistry(true, RETENTION, 10, 0);
+        long issuedTime = System.currentTimeMillis();
+        assertFalse(registry.isRevoked(JTI, CONSUMER_KEY, issuedTime));
+
+        registry.addRevokedToken(JTI);
+        assertTrue(registry.isRevoked(JTI, CONSUMER_KEY, issuedTime));
+        assertFalse(registry.isRevoked("otherJti", CONSUMER_KEY, issuedTime));
+    }
+
+    @Test
+    public void testIsRevokedByTokenValue() throws Exception {
+
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder().jwtID(JTI).subject("admin").build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
+        byte[] secret = new byte[32];
+        Arrays.fill(secret, (byte) 'k');
+        signedJWT.sign(new MACSigner(secret));
+
+        RevokedJWTRegistry registry = new RevokedJWTRegistry(true, RETENTION, 10, 0);
+        registry.addRevokedToken(signedJWT.serialize());
+        assertTrue(registry.isRevoked(JTI, CONSUMER_KEY, System.currentTimeMillis()),
+                "Revoking the token value should revoke the JTI of the token.");
+    }
+
+    @Test
+    public void testIsRevokedByClient() {
+
+        RevokedJWTRegistry registry = new RevokedJWTRegistry(true, RETENTION, 10, 0);
+        long issuedTime = System.currentTimeMillis() - 1000;
+        registry.revokeTokensOfClient(CONSUMER_KEY);
+
+        assertTrue(registry.isRevoked(JTI, CONSUMER_KEY, issuedTime),
+                "Tokens issued before the revocation of the client should be revoked.");
+        assertFalse(registry.isRevoked(JTI, CONSUMER_KEY, System.currentTimeMillis() + 1000),
+                "Tokens issued after the revocation of the client should not be revoked.");
+        assertFalse(registry.isRevoked(JTI, "otherConsumerKey", issuedTime));
+    }
+
+    @Test
+    public void testRevocationsAreNotRecordedWhenDisabled() {
+
+        RevokedJWTRegistry registry = new RevokedJWTRegistry(false, RETENTION, 10, 0);
+        registry.addRevokedToken(JTI);
+        registry.revokeTokensOfClient(CONSUMER_KEY);
+
+        assertFalse(registry.isRevoked(JTI, CONSUMER_KEY, System.currentTimeMillis() - 1000));
+    }
+
+    @Test
+    public void testRegistryBecomesUnavailableWhenFull() {
+
+        RevokedJWTRegistry registry = new RevokedJWTRegistry(true, RETENTION, 2, 0);
+        registry.addRevokedToken("jti1");
+        registry.addRevokedToken("jti2");
+        assertTrue(registry.isAvailable());
+
+        registry.addRevokedToken("jti3");
+        assertFalse(registry.isAvailable(),
+                "Registry should not be available when a revocation could not be recorded.");
+        assertTrue(registry.isRevoked("jti1", CONSUMER_KEY, System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for StatelessJWTAccessTokenValidator.
+ */
+@WithCarbonHome
+public class StatelessJWTAccessTokenValidatorTest {
+
+    private static final long RETENTION = 3600000;
+    private static final String CONSUMER_KEY = "consumerKey";
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private KeyPair keyPair;
+    private OAuthAppDO oAuthAppDO;
+    private OAuthServerConfiguration mockOAuthServerConfiguration;
+    private RevokedJWTRegistry revokedJWTRegistry;
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<OAuth2Util> oAuth2Util;
+    private MockedStatic<JWTUtils> jwtUtils;
+
+    @BeforeClass
+    public void initTest() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mockOAuthServerConfiguration = mock(OAuthServerConfiguration.class);
+        when(mockOAuthServerConfiguration.isCrossTenantTokenIntrospectionAllowed()).thenReturn(true);
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(mockOAuthServerConfiguration);
+
+        oAuthAppDO = new OAuthAppDO();
+        oAuthAppDO.setStatelessJWTValidationEnabled(true);
+        oAuthAppDO.setState(OAuthConstants.OauthAppStates.APP_STATE_ACTIVE);
+        oAuth2Util = mockStatic(OAuth2Util.class);
+        oAuth2Util.when(() -> OAuth2Util.getAppInformationByClientId(CONSUMER_KEY, TENANT_DOMAIN))
+                .thenReturn(oAuthAppDO);
+        oAuth2Util.when(() -> OAuth2Util.getServiceProvider(CONSUMER_KEY, TENANT_DOMAIN))
+                .thenReturn(new ServiceProvider());
+
+        // The signature is verified with the key of the test, instead of the key of the resident identity provider.
+        jwtUtils = mockStatic(JWTUtils.class, CALLS_REAL_METHODS);
+        jwtUtils.when(() -> JWTUtils.getSigningTenantDomain(any(JWTClaimsSet.class), any())).thenReturn(TENANT_DOMAIN);
+        jwtUtils.when(() -> JWTUtils.getResidentIDPForIssuer(any(JWTClaimsSet.class), anyString())).thenReturn(null);
+        jwtUtils.when(() -> JWTUtils.resolveSignerCertificate(any())).thenReturn(mock(X509Certificate.class));
+        jwtUtils.when(() -> JWTUtils.verifySignature(any(SignedJWT.class), any(X509Certificate.class), anyString()))
+                .thenReturn(true);
+
+        revokedJWTRegistry = new RevokedJWTRegistry(true, RETENTION, 100, System.currentTimeMillis() - RETENTION);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        oAuthServerConfiguration.close();
+        oAuth2Util.close();
+        jwtUtils.close();
+    }
+
+    @Test
+    public void testActiveTokenIsValidatedStatelessly() throws Exception {
+
+        SignedJWT token = buildToken(new JWTClaimsSet.Builder());
+
+        Optional<OAuth2IntrospectionResponseDTO> introResp = validate(token);
+
+        assertTrue(introResp.isPresent(), "Active token of an opted in application should be validated.");
+        assertTrue(introResp.get().isActive());
+        assertEquals(introResp.get().getClientId(), CONSUMER_KEY);
+        assertEquals(introResp.get().getJti(), token.getJWTClaimsSet().getJWTID());
+    }
+
+    @Test
+    public void testTokenOfApplicationNotOptedIn() throws Exception {
+
+        oAuthAppDO.setStatelessJWTValidationEnabled(false);
+
+        assertFalse(validate(buildToken(new JWTClaimsSet.Builder())).isPresent(),
+                "Token of an application which did not opt in should be validated against the database.");
+    }
+
+    @Test
+    public void testStatelessValidationNotEnabled() throws Exception {
+
+        revokedJWTRegistry = new RevokedJWTRegistry(false, RETENTION, 100, System.currentTimeMillis() - RETENTION);
+
+        assertFalse(validate(buildToken(new JWTClaimsSet.Builder())).isPresent(),
+                "Tokens should be validated against the database when the stateless validation is disabled.");
+    }
+
+    @Test
+    public void testRevokedToken() throws Exception {
+
+        SignedJWT token = buildToken(new JWTClaimsSet.Builder());
+        revokedJWTRegistry.addRevokedToken(token.serialize());
+
+        assertFalse(validate(token).isPresent(), "Revoked token should be validated against the database.");
+    }
+
+    @Test
+    public void testRefreshedToken() throws Exception {
+
+        SignedJWT token = buildToken(new JWTClaimsSet.Builder());
+        // When a token is refreshed, its persisted identifier, which is the JTI of a JWT access token, is recorded.
+        revokedJWTRegistry.addRevokedToken(token.getJWTClaimsSet().getJWTID());
+
+        assertFalse(validate(token).isPresent(), "Refreshed token should be validated against the database.");
+    }
+
+    @Test
+    public void testTokenOfRevokedApplication() throws Exception {
+
+        SignedJWT token = buildToken(new JWTClaimsSet.Builder());
+        revokedJWTRegistry.revokeTokensOfClient(CONSUMER_KEY);
+
+        assertFalse(validate(token).isPresent(),
+                "Token issued before the tokens of the application were revoked should be validated against the " +
+                        "database.");
+    }
+
+    @Test
+    public void testBoundToken() throws Exception {
+
+        SignedJWT token = buildToken(new JWTClaimsSet.Builder()
+                .claim(OAuthConstants.CNF, Collections.singletonMap("x5t#S256", "thumbprint")));
+
+        assertFalse(validate(token).isPresent(), "Bound token should be validated against the database.");
+    }
+
+    @Test
+    public void testOrganizationToken() throws Exception {
+
+        SignedJWT token = buildToken(new JWTClaimsSet.Builder().claim(OAuthConstants.ORG_ID, "orgId"));
+
+        assertFalse(validate(token).isPresent(),
+                "Token issued for an organization should be validated against the database.");
+    }
+
+    @Test
+    public void testTokenOfAnotherTenant() throws Exception {
+
+        when(mockOAuthServerConfiguration.isCrossTenantTokenIntrospectionAllowed()).thenReturn(false);
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("wso2.com");
+            assertFalse(validate(buildToken(new JWTClaimsSet.Builder())).isPresent(),
+                    "Token of another tenant should be validated against the database.");
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    @Test
+    public void testTokenLivingLongerThanRetention() throws Exception {
+
+        long issuedTime = System.currentTimeMillis();
+        SignedJWT token = buildToken(new JWTClaimsSet.Builder()
+                .expirationTime(new Date(issuedTime + RETENTION + 60000)));
+
+        assertFalse(validate(token).isPresent(),
+                "Token living longer than the retention of the revocations should be validated against the database.");
+    }
+
+    private Optional<OAuth2IntrospectionResponseDTO> validate(SignedJWT token) throws Exception {
+
+        return new StatelessJWTAccessTokenValidator(revokedJWTRegistry).validate(token.serialize());
+    }
+
+    private SignedJWT buildToken(JWTClaimsSet.Builder claimsSetBuilder) throws Exception {
+
+        long issuedTime = System.currentTimeMillis();
+        JWTClaimsSet claimsSet = claimsSetBuilder.build();
+        JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder(claimsSet)
+                .issuer("https://localhost:9443/oauth2/token")
+                .subject("user")
+                .audience(CONSUMER_KEY)
+                .issueTime(new Date(issuedTime))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("client_id", CONSUMER_KEY)
+                .claim(OAuthConstants.AUTHORIZED_USER_TYPE, OAuthConstants.UserType.APPLICATION_USER)
+                .claim(OAuthConstants.SCOPE, "openid");
+        if (claimsSet.getExpirationTime() == null) {
+            builder.expirationTime(new Date(issuedTime + 600000));
+        }
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), builder.build());
+        signedJWT.sign(new RSASSASigner(keyPair.getPrivate()));
+        return signedJWT;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.TestUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link OIDCDiscoveryDocumentCache}.
+ */
+@WithCarbonHome
+public class OIDCDiscoveryDocumentCacheTest {
+
+    private static final String TENANT_DOMAIN = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+    private static final String REQUEST_URI = "/oauth2/token/.well-known/openid-configuration";
+    private static final String DOCUMENT = "{\"issuer\":\"https://localhost:9443/oauth2/token\"}";
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private OIDCDiscoveryDocumentCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtil.resetInstance(OIDCDiscoveryDocumentCache.class);
+        identityUtil = TestUtil.enableCache(OIDCDiscoveryDocumentCache.OIDC_DISCOVERY_DOCUMENT_CACHE);
+        cache = OIDCDiscoveryDocumentCache.getInstance();
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+        identityUtil.close();
+        TestUtil.resetInstance(OIDCDiscoveryDocumentCache.class);
+    }
+
+    @Test
+    public void testCachedDocumentIsReturned() {
+
+        OIDCDiscoveryDocumentCacheEntry entry = cache.addDocument(TENANT_DOMAIN, REQUEST_URI, DOCUMENT);
+
+        OIDCDiscoveryDocumentCacheEntry cachedEntry = cache.getDocument(TENANT_DOMAIN, REQUEST_URI);
+        assertNotNull(cachedEntry);
+        assertEquals(cachedEntry.getDocument(), DOCUMENT);
+        assertEquals(cachedEntry.getETag(), entry.getETag());
+        assertEquals(cachedEntry.getLastModified(), entry.getLastModified());
+        assertNull(cache.getDocument(TENANT_DOMAIN, "/t/wso2.com" + REQUEST_URI));
+    }
+
+    @Test
+    public void testETagIsDerivedFromTheContent() {
+
+        OIDCDiscoveryDocumentCacheEntry entry = cache.addDocument(TENANT_DOMAIN, REQUEST_URI, DOCUMENT);
+        OIDCDiscoveryDocumentCacheEntry rebuiltEntry = cache.addDocument(TENANT_DOMAIN, REQUEST_URI, DOCUMENT);
+        assertEquals(rebuiltEntry.getETag(), entry.getETag());
+
+        OIDCDiscoveryDocumentCacheEntry changedEntry = cache.addDocument(TENANT_DOMAIN, REQUEST_URI, DOCUMENT + " ");
+        assertNotEquals(changedEntry.getETag(), entry.getETag());
+        assertEquals(cache.getDocument(TENANT_DOMAIN, REQUEST_URI).getETag(), changedEntry.getETag());
+        assertEquals(changedEntry.getLastModified().getTime() % 1000, 0);
+    }
+
+    @Test
+    public void testClearRemovesTheDocumentsOfTheTenant() {
+
+        cache.addDocument(TENANT_DOMAIN, REQUEST_URI, DOCUMENT);
+        cache.clear(MultitenantConstants.SUPER_TENANT_ID);
+
+        assertNull(cache.getDocument(TENANT_DOMAIN, REQUEST_URI));
+    }
+}
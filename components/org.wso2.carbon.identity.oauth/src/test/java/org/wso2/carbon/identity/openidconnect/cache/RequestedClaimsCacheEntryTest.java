@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link RequestedClaimsCacheEntry}.
+ */
+public class RequestedClaimsCacheEntryTest {
+
+    @Test
+    public void testGetRequestedClaims() {
+
+        RequestedClaimsCacheEntry entry = new RequestedClaimsCacheEntry(
+                Collections.singletonList(buildRequestedClaim("email", true, null)),
+                Arrays.asList(buildRequestedClaim("given_name", false, null),
+                        buildRequestedClaim("acr", true, "urn:mace:incommon:iap:silver")));
+
+        List<RequestedClaim> idTokenClaims = entry.getRequestedClaims(false);
+        assertEquals(idTokenClaims.size(), 1);
+        assertEquals(idTokenClaims.get(0).getName(), "email");
+        assertTrue(idTokenClaims.get(0).isEssential());
+        assertNull(idTokenClaims.get(0).getValue());
+
+        List<RequestedClaim> userInfoClaims = entry.getRequestedClaims(true);
+        assertEquals(userInfoClaims.size(), 2);
+        assertEquals(userInfoClaims.get(0).getName(), "given_name");
+        assertFalse(userInfoClaims.get(0).isEssential());
+        assertEquals(userInfoClaims.get(1).getValue(), "urn:mace:incommon:iap:silver");
+    }
+
+    @Test
+    public void testGetRequestedClaimsOfTokenWithoutRequestObject() {
+
+        RequestedClaimsCacheEntry entry = new RequestedClaimsCacheEntry(Collections.emptyList(),
+                Collections.emptyList());
+
+        assertTrue(entry.getRequestedClaims(false).isEmpty());
+        assertTrue(entry.getRequestedClaims(true).isEmpty());
+    }
+
+    private RequestedClaim buildRequestedClaim(String name, boolean essential, String value) {
+
+        RequestedClaim requestedClaim = new RequestedClaim();
+        requestedClaim.setName(name);
+        requestedClaim.setEssential(essential);
+        requestedClaim.setValue(value);
+        return requestedClaim;
+    }
+}
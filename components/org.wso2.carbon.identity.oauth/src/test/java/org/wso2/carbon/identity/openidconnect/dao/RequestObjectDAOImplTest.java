@@ -23,6 +23,7 @@ package org.wso2.carbon.identity.openidconnect.dao;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.junit.Assert;
+import org.mockito.MockedStatic;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -31,11 +32,15 @@ import org.wso2.carbon.identity.common.testng.WithH2Database;
 import org.wso2.carbon.identity.common.testng.WithRealmService;
 import org.wso2.carbon.identity.core.internal.IdentityCoreServiceDataHolder;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.TestConstants;
 import org.wso2.carbon.identity.oauth2.TestUtil;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
 import org.wso2.carbon.identity.oauth2.dao.AuthorizationCodeDAOImpl;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dao.SQLQueries;
+import org.wso2.carbon.identity.openidconnect.cache.RequestedClaimsCache;
 import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
 
 import java.sql.Connection;
@@ -49,6 +54,10 @@ import java.util.List;
 import java.util.TimeZone;
 import java.util.UUID;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
 /**
  * This class contains unit tests for RequestObjectDAOImplTest..
  */
@@ -66,6 +75,10 @@ public class RequestObjectDAOImplTest {
     private final String tokenId = "2sa9a678f890877856y66e75f605d456";
     private final String newToken = "a8f78c8420cb48ad91cbac72691d4597";
     private final String codeId = "a5eb9b95ca8ea324a63bdc911d6a6a2";
+    private final String claimsSessionDataKey = "f9a3c2e5b7d14e8a9c0b1d2e3f4a5b6c";
+    private final String claimsCodeId = "b7c1d9e3f5a74b2c8d6e0f1a2b3c4d5e";
+    private final String accessToken = "accessTokenOfRequestedClaims";
+    private final String refreshedAccessToken = "refreshedAccessTokenOfRequestedClaims";
     private int consumerId;
 
     private RequestObjectDAO requestObjectDAO;
@@ -200,6 +213,107 @@ public class RequestObjectDAOImplTest {
         }
     }
 
+    @Test(dependsOnMethods = {"testUpdateRequestObjectReferenceCodeToToken"})
+    public void testGetRequestedClaimsIsServedFromCache() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = enableRequestedClaimsCache();
+             MockedStatic<OAuthTokenPersistenceFactory> persistenceFactory = mockTokenIds()) {
+            RequestObjectDAO cachingRequestObjectDAO = new RequestObjectDAOImpl();
+            deleteRequestObjectReferences(tokenId);
+            cachingRequestObjectDAO.insertRequestObjectData(consumerKey, claimsSessionDataKey,
+                    requestedEssentialClaims);
+            cachingRequestObjectDAO.updateRequestObjectReferencebyTokenId(claimsSessionDataKey, tokenId);
+
+            Assert.assertEquals("email", cachingRequestObjectDAO.getRequestedClaims(accessToken, true).get(0)
+                    .getName());
+            // The claims are served from the cache, hence they are returned even though the rows are deleted.
+            deleteRequestObjectReferences(tokenId);
+            Assert.assertEquals(1, cachingRequestObjectDAO.getRequestedClaims(accessToken, true).size());
+            Assert.assertTrue(cachingRequestObjectDAO.getRequestedClaims(accessToken, false).isEmpty());
+        } finally {
+            resetRequestedClaimsCache();
+        }
+    }
+
+    @Test(dependsOnMethods = {"testGetRequestedClaimsIsServedFromCache"})
+    public void testUpdateRequestObjectReferenceCodeToTokenClearsCachedClaims() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = enableRequestedClaimsCache();
+             MockedStatic<OAuthTokenPersistenceFactory> persistenceFactory = mockTokenIds()) {
+            RequestObjectDAO cachingRequestObjectDAO = new RequestObjectDAOImpl();
+            deleteRequestObjectReferences(tokenId);
+            // Tokens without a request object are cached with no claims.
+            Assert.assertTrue(cachingRequestObjectDAO.getRequestedClaims(accessToken, true).isEmpty());
+
+            cachingRequestObjectDAO.insertRequestObjectData(consumerKey, claimsSessionDataKey,
+                    requestedEssentialClaims);
+            insertCodeId(claimsCodeId);
+            cachingRequestObjectDAO.updateRequestObjectReferencebyCodeId(claimsSessionDataKey, claimsCodeId);
+            cachingRequestObjectDAO.updateRequestObjectReferenceCodeToToken(claimsCodeId, tokenId);
+
+            Assert.assertEquals("email", cachingRequestObjectDAO.getRequestedClaims(accessToken, true).get(0)
+                    .getName());
+        } finally {
+            resetRequestedClaimsCache();
+        }
+    }
+
+    @Test(dependsOnMethods = {"testUpdateRequestObjectReferenceCodeToTokenClearsCachedClaims"})
+    public void testRefreshRequestObjectReferenceMovesCachedClaims() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = enableRequestedClaimsCache();
+             MockedStatic<OAuthTokenPersistenceFactory> persistenceFactory = mockTokenIds()) {
+            RequestObjectDAO cachingRequestObjectDAO = new RequestObjectDAOImpl();
+            Assert.assertEquals(1, cachingRequestObjectDAO.getRequestedClaims(accessToken, true).size());
+
+            cachingRequestObjectDAO.refreshRequestObjectReference(tokenId, newToken);
+            Assert.assertEquals(newToken, getData(claimsSessionDataKey).tokenId);
+            Assert.assertNull(RequestedClaimsCache.getInstance().getRequestedClaims(tokenId));
+            // The claims of the refreshed token are served from the moved cache entry.
+            deleteRequestObjectReferences(newToken);
+            Assert.assertEquals("email", cachingRequestObjectDAO.getRequestedClaims(refreshedAccessToken, true)
+                    .get(0).getName());
+        } finally {
+            resetRequestedClaimsCache();
+            deleteCodeId(claimsCodeId);
+        }
+    }
+
+    private MockedStatic<IdentityUtil> enableRequestedClaimsCache() throws Exception {
+
+        resetRequestedClaimsCache();
+        return org.wso2.carbon.identity.oauth.cache.TestUtil.enableCache(RequestedClaimsCache.REQUESTED_CLAIMS_CACHE);
+    }
+
+    private void resetRequestedClaimsCache() throws Exception {
+
+        org.wso2.carbon.identity.oauth.cache.TestUtil.resetInstance(RequestedClaimsCache.class);
+    }
+
+    private MockedStatic<OAuthTokenPersistenceFactory> mockTokenIds() throws Exception {
+
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        when(accessTokenDAO.getTokenIdByAccessToken(accessToken)).thenReturn(tokenId);
+        when(accessTokenDAO.getTokenIdByAccessToken(refreshedAccessToken)).thenReturn(newToken);
+        OAuthTokenPersistenceFactory oAuthTokenPersistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+        when(oAuthTokenPersistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+        MockedStatic<OAuthTokenPersistenceFactory> persistenceFactory =
+                mockStatic(OAuthTokenPersistenceFactory.class);
+        persistenceFactory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(oAuthTokenPersistenceFactory);
+        return persistenceFactory;
+    }
+
+    private void deleteRequestObjectReferences(String tokenId) throws Exception {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection()) {
+            PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM IDN_OIDC_REQ_OBJECT_REFERENCE WHERE TOKEN_ID=?");
+            statement.setString(1, tokenId);
+            statement.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+        }
+    }
+
     private int getConsumerId() throws Exception {
 
         PreparedStatement statement = null;
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.model;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for OIDCClaimResolutionContext.
+ */
+public class OIDCClaimResolutionContextTest {
+
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String GIVEN_NAME_CLAIM = "http://wso2.org/claims/givenname";
+    private static final String COUNTRY_CLAIM = "http://wso2.org/claims/country";
+
+    private OIDCClaimResolutionContext claimResolutionContext;
+    private AuthenticatedUser authenticatedUser;
+
+    @BeforeMethod
+    public void setUp() {
+
+        claimResolutionContext = new OIDCClaimResolutionContext();
+        authenticatedUser = getAuthenticatedUser("alice");
+    }
+
+    @Test
+    public void testUnresolvedClaimURIs() {
+
+        List<String> claimURIs = Arrays.asList(EMAIL_CLAIM, GIVEN_NAME_CLAIM, EMAIL_CLAIM);
+        assertEquals(claimResolutionContext.getUnresolvedClaimURIs(authenticatedUser, claimURIs),
+                Arrays.asList(EMAIL_CLAIM, GIVEN_NAME_CLAIM));
+
+        Map<String, String> claimValues = new HashMap<>();
+        claimValues.put(EMAIL_CLAIM, "alice@wso2.com");
+        claimResolutionContext.addResolvedClaims(authenticatedUser, Arrays.asList(EMAIL_CLAIM, GIVEN_NAME_CLAIM),
+                claimValues);
+
+        // Claims without a value are resolved as well and must not be fetched again.
+        assertEquals(claimResolutionContext.getUnresolvedClaimURIs(authenticatedUser,
+                Arrays.asList(EMAIL_CLAIM, GIVEN_NAME_CLAIM, COUNTRY_CLAIM)), Collections.singletonList(COUNTRY_CLAIM));
+        // Claims resolved for one user are not shared with another user.
+        assertEquals(claimResolutionContext.getUnresolvedClaimURIs(getAuthenticatedUser("bob"),
+                Collections.singletonList(EMAIL_CLAIM)), Collections.singletonList(EMAIL_CLAIM));
+    }
+
+    @Test
+    public void testGetResolvedClaims() {
+
+        Map<String, String> claimValues = new HashMap<>();
+        claimValues.put(EMAIL_CLAIM, "alice@wso2.com");
+        claimValues.put(GIVEN_NAME_CLAIM, "Alice");
+        claimResolutionContext.addResolvedClaims(authenticatedUser, Arrays.asList(EMAIL_CLAIM, GIVEN_NAME_CLAIM),
+                claimValues);
+
+        Map<String, String> resolvedClaims = claimResolutionContext.getResolvedClaims(authenticatedUser,
+                Arrays.asList(EMAIL_CLAIM, COUNTRY_CLAIM));
+        assertEquals(resolvedClaims, Collections.singletonMap(EMAIL_CLAIM, "alice@wso2.com"));
+
+        // Altering the returned map must not affect the other consumers of the request.
+        resolvedClaims.put(EMAIL_CLAIM, "changed");
+        assertEquals(claimResolutionContext.getResolvedClaims(authenticatedUser,
+                Collections.singletonList(EMAIL_CLAIM)).get(EMAIL_CLAIM), "alice@wso2.com");
+        assertTrue(claimResolutionContext.getResolvedClaims(getAuthenticatedUser("bob"),
+                Collections.singletonList(EMAIL_CLAIM)).isEmpty());
+    }
+
+    @Test
+    public void testServiceProvider() {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        assertNull(claimResolutionContext.getServiceProvider("carbon.super", "clientId"));
+
+        claimResolutionContext.addServiceProvider("carbon.super", "clientId", serviceProvider);
+        assertSame(claimResolutionContext.getServiceProvider("carbon.super", "clientId"), serviceProvider);
+        assertNull(claimResolutionContext.getServiceProvider("wso2.com", "clientId"));
+    }
+
+    private AuthenticatedUser getAuthenticatedUser(String userName) {
+
+        AuthenticatedUser user = new AuthenticatedUser();
+        user.setUserName(userName);
+        user.setUserStoreDomain("PRIMARY");
+        user.setTenantDomain("carbon.super");
+        return user;
+    }
+}
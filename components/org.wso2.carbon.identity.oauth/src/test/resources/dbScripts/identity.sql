@@ -154,6 +154,14 @@ CREATE TABLE IF NOT EXISTS IDN_OAUTH2_AUTHZ_CODE_SCOPE(
     FOREIGN KEY (CODE_ID) REFERENCES IDN_OAUTH2_AUTHORIZATION_CODE (CODE_ID) ON DELETE CASCADE
 );
 
+CREATE TABLE IF NOT EXISTS IDN_OAUTH2_TOKEN_ISSUANCE_LEASE (
+    LEASE_KEY VARCHAR(64) NOT NULL,
+    LEASE_OWNER VARCHAR(255) NOT NULL,
+    ACQUIRED_TIME TIMESTAMP NOT NULL,
+    LEASE_DURATION BIGINT NOT NULL,
+    PRIMARY KEY (LEASE_KEY)
+);
+
 CREATE TABLE IF NOT EXISTS IDN_OAUTH2_DEVICE_FLOW (
     CODE_ID VARCHAR(255),
     DEVICE_CODE VARCHAR(255),
@@ -1324,6 +1332,7 @@ CREATE INDEX IDX_AUTHORIZATION_CODE_AU_TI ON IDN_OAUTH2_AUTHORIZATION_CODE (AUTH
 CREATE INDEX IDX_AC_CKID ON IDN_OAUTH2_AUTHORIZATION_CODE(CONSUMER_KEY_ID);
 CREATE INDEX IDX_AC_TID ON IDN_OAUTH2_AUTHORIZATION_CODE(TOKEN_ID);
 CREATE INDEX IDX_AC_AC_CKID ON IDN_OAUTH2_AUTHORIZATION_CODE(AUTHORIZATION_CODE, CONSUMER_KEY_ID);
+CREATE INDEX IDX_AC_TC ON IDN_OAUTH2_AUTHORIZATION_CODE(TIME_CREATED);
 CREATE INDEX IDX_AT_CKID_AU_TID_UD_TSH_TS ON IDN_OAUTH2_ACCESS_TOKEN(CONSUMER_KEY_ID, AUTHZ_USER, TENANT_ID, USER_DOMAIN, TOKEN_SCOPE_HASH, TOKEN_STATE);
 
 -- IDN_SCIM_GROUP --
@@ -0,0 +1,17 @@
+INSERT INTO IDN_OAUTH_CONSUMER_APPS (CONSUMER_KEY, CONSUMER_SECRET, USERNAME, TENANT_ID, USER_DOMAIN, APP_NAME,
+            OAUTH_VERSION, CALLBACK_URL, GRANT_TYPES, APP_STATE) VALUES
+            ('encryptedClientId', 'encryptedClientSecret', 'user1', 1234, 'PRIMARY', 'encryptedApp', 'OAuth-2.0',
+            'http://localhost:8080/redirect', 'client_credentials authorization_code', 'ACTIVE');
+
+INSERT INTO IDN_OAUTH2_ACCESS_TOKEN (TOKEN_ID, ACCESS_TOKEN, REFRESH_TOKEN, CONSUMER_KEY_ID, AUTHZ_USER, TENANT_ID,
+            USER_DOMAIN, USER_TYPE, GRANT_TYPE, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD,
+            REFRESH_TOKEN_VALIDITY_PERIOD, TOKEN_SCOPE_HASH, TOKEN_STATE, TOKEN_STATE_ID, SUBJECT_IDENTIFIER,
+            ACCESS_TOKEN_HASH, REFRESH_TOKEN_HASH, IDP_ID, AUTHORIZED_ORGANIZATION) VALUES
+            ('encryptedTokenId', 'encryptedAccessToken', 'encryptedRefreshToken', 1, 'user1', 1234, 'PRIMARY',
+            'APPLICATION_USER', 'client_credentials', NOW(), NOW(), 3600, 14400, '369db21a386ae433e65c0ff34d35708d',
+            'ACTIVE', 'NONE', 'user1', NULL, NULL, 1, 'NONE');
+
+INSERT INTO IDN_OAUTH2_ACCESS_TOKEN_SCOPE (TOKEN_ID, TOKEN_SCOPE, TENANT_ID) VALUES
+    ('encryptedTokenId', 'default', 1234);
+
+INSERT INTO IDP (TENANT_ID, NAME, UUID) VALUES (1234, 'LOCAL', 5678);
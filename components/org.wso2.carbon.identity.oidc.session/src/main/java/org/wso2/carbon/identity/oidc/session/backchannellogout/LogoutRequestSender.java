@@ -21,15 +21,24 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -40,6 +49,7 @@ import org.wso2.carbon.identity.oidc.session.util.OIDCSessionManagementUtil;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
@@ -47,9 +57,14 @@ import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
@@ -63,11 +78,20 @@ public class LogoutRequestSender {
     private static LogoutRequestSender instance = null;
 
     private static ExecutorService threadPool = null;
+    private static ScheduledExecutorService retryScheduler = null;
+    private static CloseableHttpClient httpClient = null;
     private boolean hostNameVerificationEnabled = true;
     private static int httpConnectTimeout = 0;
     private static int httpSocketTimeout = 0;
+    private static int retryCount = 0;
+    private static long retryBackoffInterval = 0;
     private static final String LOGOUT_TOKEN = "logout_token";
 
+    private final AtomicLong sentRequestCount = new AtomicLong();
+    private final AtomicLong failedRequestCount = new AtomicLong();
+    private final AtomicLong retriedRequestCount = new AtomicLong();
+    private final AtomicLong rejectedRequestCount = new AtomicLong();
+
     private LogoutRequestSender() {
 
         String poolSize = IdentityUtil.getProperty(OIDCSessionConstants.OIDCLogoutRequestConstants.POOL_SIZE);
@@ -81,6 +105,14 @@ public class LogoutRequestSender {
                 OIDCSessionConstants.OIDCLogoutRequestConstants.HTTP_SOCKET_TIMEOUT);
         String hostNameVerificationEnabledProperty = IdentityUtil.getProperty(
                 IdentityConstants.ServerConfig.SLO_HOST_NAME_VERIFICATION_ENABLED);
+        String maxConnectionsProperty = IdentityUtil.getProperty(
+                OIDCSessionConstants.OIDCLogoutRequestConstants.MAX_CONNECTIONS);
+        String maxConnectionsPerRouteProperty = IdentityUtil.getProperty(
+                OIDCSessionConstants.OIDCLogoutRequestConstants.MAX_CONNECTIONS_PER_ROUTE);
+        String retryCountProperty = IdentityUtil.getProperty(
+                OIDCSessionConstants.OIDCLogoutRequestConstants.RETRY_COUNT);
+        String retryBackoffIntervalProperty = IdentityUtil.getProperty(
+                OIDCSessionConstants.OIDCLogoutRequestConstants.RETRY_BACKOFF_INTERVAL);
 
         if (StringUtils.isBlank(poolSize)) {
             poolSize = OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_POOL_SIZE;
@@ -97,6 +129,20 @@ public class LogoutRequestSender {
         if (StringUtils.isBlank(httpSocketTimeoutProperty)) {
             httpSocketTimeoutProperty = OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_HTTP_SOCKET_TIMEOUT;
         }
+        if (StringUtils.isBlank(maxConnectionsProperty)) {
+            maxConnectionsProperty = OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_MAX_CONNECTIONS;
+        }
+        if (StringUtils.isBlank(maxConnectionsPerRouteProperty)) {
+            maxConnectionsPerRouteProperty =
+                    OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+        }
+        if (StringUtils.isBlank(retryCountProperty)) {
+            retryCountProperty = OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_RETRY_COUNT;
+        }
+        if (StringUtils.isBlank(retryBackoffIntervalProperty)) {
+            retryBackoffIntervalProperty =
+                    OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_RETRY_BACKOFF_INTERVAL;
+        }
 
         int poolSizeInt = Integer.parseInt(poolSize);
         int workQueueSizeInt = Integer.parseInt(workQueueSize);
@@ -119,21 +165,78 @@ public class LogoutRequestSender {
         }
 
         threadPool = new ThreadPoolExecutor(poolSizeInt, poolSizeInt, keepAliveTimeLong,
-                TimeUnit.MILLISECONDS, workQueue);
+                TimeUnit.MILLISECONDS, workQueue, new LogoutRequestRejectionHandler());
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "oidc-backchannel-logout-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
 
         httpConnectTimeout = Integer.parseInt(httpConnectTimeoutProperty);
         httpSocketTimeout = Integer.parseInt(httpSocketTimeoutProperty);
+        retryCount = Math.max(0, Integer.parseInt(retryCountProperty));
+        retryBackoffInterval = Math.max(0L, Long.parseLong(retryBackoffIntervalProperty));
         if ("false".equalsIgnoreCase(hostNameVerificationEnabledProperty)) {
             hostNameVerificationEnabled = false;
         }
 
+        int maxConnections = Integer.parseInt(maxConnectionsProperty);
+        int maxConnectionsPerRoute = Integer.parseInt(maxConnectionsPerRouteProperty);
+        if (maxConnections <= 0) {
+            maxConnections = Integer.parseInt(OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_MAX_CONNECTIONS);
+        }
+        if (maxConnectionsPerRoute <= 0) {
+            maxConnectionsPerRoute = Integer.parseInt(
+                    OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+        }
+        httpClient = createHttpClient(maxConnections, maxConnectionsPerRoute, keepAliveTimeLong);
+
         if (LOG.isDebugEnabled()) {
             LOG.debug("LogoutRequestSender thread pool initialized with pool size: " + poolSizeInt +
                     ", work queue size: " + workQueueSizeInt + ", keep alive time: " + keepAliveTimeLong +
                     ". Request parameters: httpConnectTimeout: " + httpConnectTimeout +
                     ", httpSocketTimeout: " + httpSocketTimeout +
-                    ", hostNameVerificationEnabled: " + hostNameVerificationEnabled);
+                    ", hostNameVerificationEnabled: " + hostNameVerificationEnabled +
+                    ", maxConnections: " + maxConnections + ", maxConnectionsPerRoute: " + maxConnectionsPerRoute +
+                    ", retryCount: " + retryCount + ", retryBackoffInterval: " + retryBackoffInterval);
+        }
+    }
+
+    /**
+     * Build the http client shared by all logout requests. Connections are pooled and kept alive so that
+     * consecutive logout requests to the same session participant do not pay the TCP and TLS handshake cost.
+     *
+     * @param maxConnections         Maximum number of pooled connections.
+     * @param maxConnectionsPerRoute Maximum number of pooled connections per host.
+     * @param idleTimeout            Time in milliseconds after which idle connections are evicted.
+     * @return Pooled http client.
+     */
+    private CloseableHttpClient createHttpClient(int maxConnections, int maxConnectionsPerRoute, long idleTimeout) {
+
+        SSLConnectionSocketFactory sslSocketFactory;
+        if (hostNameVerificationEnabled) {
+            sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+        } else {
+            sslSocketFactory = new SSLConnectionSocketFactory(SSLContexts.createDefault(),
+                    SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
         }
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(httpConnectTimeout)
+                .setConnectionRequestTimeout(httpConnectTimeout).setSocketTimeout(httpSocketTimeout).build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS)
+                .build();
     }
 
     /**
@@ -203,7 +306,92 @@ public class LogoutRequestSender {
                 String logoutToken = logoutTokenMap.getKey();
                 String bcLogoutUrl = logoutTokenMap.getValue();
                 LOG.debug("A LogoutReqSenderTask will be assigned to the thread pool.");
-                threadPool.submit(new LogoutReqSenderTask(logoutToken, bcLogoutUrl));
+                threadPool.execute(new LogoutReqSenderTask(logoutToken, bcLogoutUrl));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of logout requests which were acknowledged with a non-error response.
+     *
+     * @return Sent logout request count.
+     */
+    public long getSentRequestCount() {
+
+        return sentRequestCount.get();
+    }
+
+    /**
+     * Returns the number of logout requests which failed, either after exhausting all retry attempts or without being
+     * retried as the session participant may have received them.
+     *
+     * @return Failed logout request count.
+     */
+    public long getFailedRequestCount() {
+
+        return failedRequestCount.get();
+    }
+
+    /**
+     * Returns the number of retry attempts scheduled for failed logout requests.
+     *
+     * @return Retried logout request count.
+     */
+    public long getRetriedRequestCount() {
+
+        return retriedRequestCount.get();
+    }
+
+    /**
+     * Returns the number of logout requests dropped because the work queue was full or the sender was shut down.
+     *
+     * @return Rejected logout request count.
+     */
+    public long getRejectedRequestCount() {
+
+        return rejectedRequestCount.get();
+    }
+
+    private void scheduleRetry(LogoutReqSenderTask task) {
+
+        if (task.attempt >= retryCount) {
+            failedRequestCount.incrementAndGet();
+            LOG.error("Backchannel logout request to: " + task.backChannelLogouturl + " failed after " +
+                    (task.attempt + 1) + " attempt(s).");
+            return;
+        }
+        long delay = retryBackoffInterval << Math.min(task.attempt, 16);
+        task.attempt++;
+        retriedRequestCount.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Retrying backchannel logout request to: " + task.backChannelLogouturl + " in " + delay +
+                    " ms. Attempt: " + (task.attempt + 1));
+        }
+        try {
+            retryScheduler.schedule(() -> threadPool.execute(task), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            rejectedRequestCount.incrementAndGet();
+            LOG.warn("Unable to schedule retry of backchannel logout request to: " + task.backChannelLogouturl);
+        }
+    }
+
+    /**
+     * Drops logout requests which cannot be accepted by the thread pool and keeps track of them, so that a burst of
+     * logouts does not propagate a RejectedExecutionException to the logout flow.
+     */
+    private class LogoutRequestRejectionHandler implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+
+            long rejected = rejectedRequestCount.incrementAndGet();
+            if (runnable instanceof LogoutReqSenderTask) {
+                LOG.warn("Backchannel logout request to: " + ((LogoutReqSenderTask) runnable).backChannelLogouturl
+                        + " was rejected as the logout request work queue is full. Total rejected requests: "
+                        + rejected);
+            } else {
+                LOG.warn("Backchannel logout request was rejected as the logout request work queue is full. " +
+                        "Total rejected requests: " + rejected);
             }
         }
     }
@@ -240,6 +428,7 @@ public class LogoutRequestSender {
 
         private String logoutToken;
         private String backChannelLogouturl;
+        private int attempt;
 
         public LogoutReqSenderTask(String logoutToken, String backChannelLogouturl) {
 
@@ -255,43 +444,42 @@ public class LogoutRequestSender {
             }
 
             List<NameValuePair> logoutReqParams = new ArrayList<NameValuePair>();
-            CloseableHttpClient httpClient = null;
-            try {
-                if (!hostNameVerificationEnabled) {
-                    httpClient = HttpClients.custom()
-                            .setHostnameVerifier(SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)
-                            .build();
-                } else {
-                    httpClient = HttpClients.createDefault();
-                }
-                logoutReqParams.add(new BasicNameValuePair(LOGOUT_TOKEN, logoutToken));
+            logoutReqParams.add(new BasicNameValuePair(LOGOUT_TOKEN, logoutToken));
 
-                HttpPost httpPost = new HttpPost(backChannelLogouturl);
-                try {
-                    httpPost.setEntity(new UrlEncodedFormEntity(logoutReqParams));
-                } catch (UnsupportedEncodingException e) {
-                    LOG.error("Error while encoding logout request parameters.", e);
-                }
-                RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(httpConnectTimeout)
-                        .setSocketTimeout(httpSocketTimeout).build();
-                httpPost.setConfig(requestConfig);
+            HttpPost httpPost = new HttpPost(backChannelLogouturl);
+            try {
+                httpPost.setEntity(new UrlEncodedFormEntity(logoutReqParams));
+            } catch (UnsupportedEncodingException e) {
+                LOG.error("Error while encoding logout request parameters.", e);
+            }
 
-                HttpResponse response = httpClient.execute(httpPost);
+            boolean retry;
+            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+                // Fully consume the entity, so that the connection is released back to the pool.
+                EntityUtils.consumeQuietly(response.getEntity());
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Backchannel logout response: " + response.getStatusLine());
                 }
+                retry = response.getStatusLine().getStatusCode() >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+                if (!retry) {
+                    sentRequestCount.incrementAndGet();
+                }
+            } catch (ConnectException | ConnectTimeoutException e) {
+                // The request has not reached the session participant, hence it is safe to send it again.
+                LOG.error("Error connecting to: " + backChannelLogouturl + " to send the logout request.", e);
+                retry = true;
             } catch (SocketTimeoutException e) {
+                // The session participant may have processed the request, hence it is not sent again.
                 LOG.error("Timeout occurred while sending logout requests to: " + backChannelLogouturl);
+                retry = false;
+                failedRequestCount.incrementAndGet();
             } catch (IOException e) {
                 LOG.error("Error sending logout requests to: " + backChannelLogouturl, e);
-            } finally {
-                if (httpClient != null) {
-                    try {
-                        httpClient.close();
-                    } catch (IOException e) {
-                        LOG.error("Error closing http client.", e);
-                    }
-                }
+                retry = false;
+                failedRequestCount.incrementAndGet();
+            }
+            if (retry) {
+                scheduleRetry(this);
             }
         }
     }
@@ -39,12 +39,15 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
+import java.net.ServerSocket;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockConstruction;
@@ -63,7 +66,8 @@ public class LogoutRequestSenderTest {
      */
     private HttpServer mockServer;
     private static final int MOCK_SERVER_PORT = 8081;
-    private static final List<String> mockServerTokenList = new ArrayList<>();
+    private static final List<String> mockServerTokenList = Collections.synchronizedList(new ArrayList<>());
+    private static final long WAIT_TIMEOUT_IN_MILLIS = 10000L;
 
     @BeforeClass
     public void setUp() throws IOException {
@@ -86,6 +90,8 @@ public class LogoutRequestSenderTest {
         mockServer = HttpServer.create(new InetSocketAddress(MOCK_SERVER_PORT), 0);
         mockServer.createContext("/logout1", new MockHandler(200, "Success"));
         mockServer.createContext("/logout2", new MockHandler(200, "Success"));
+        mockServer.createContext("/error", new MockHandler(500, "Error"));
+        mockServer.createContext("/slow", new MockHandler(200, "Success", 1000));
         // Use the default executor.
         mockServer.setExecutor(null);
         mockServer.start();
@@ -94,6 +100,13 @@ public class LogoutRequestSenderTest {
     private void initLogoutRequestSender(String poolSize, String workQueueSize, String keepAliveTime,
                                          String connectTimeout, String socketTimeout) {
 
+        initLogoutRequestSender(poolSize, workQueueSize, keepAliveTime, connectTimeout, socketTimeout, null, null);
+    }
+
+    private void initLogoutRequestSender(String poolSize, String workQueueSize, String keepAliveTime,
+                                         String connectTimeout, String socketTimeout, String retryCount,
+                                         String retryBackoffInterval) {
+
         try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
             identityUtil.when(() -> IdentityUtil.getProperty(
                     OIDCSessionConstants.OIDCLogoutRequestConstants.POOL_SIZE)).thenReturn(poolSize);
@@ -107,6 +120,11 @@ public class LogoutRequestSenderTest {
                     OIDCSessionConstants.OIDCLogoutRequestConstants.HTTP_SOCKET_TIMEOUT)).thenReturn(socketTimeout);
             identityUtil.when(() -> IdentityUtil.getProperty(
                     IdentityConstants.ServerConfig.SLO_HOST_NAME_VERIFICATION_ENABLED)).thenReturn("true");
+            identityUtil.when(() -> IdentityUtil.getProperty(
+                    OIDCSessionConstants.OIDCLogoutRequestConstants.RETRY_COUNT)).thenReturn(retryCount);
+            identityUtil.when(() -> IdentityUtil.getProperty(
+                    OIDCSessionConstants.OIDCLogoutRequestConstants.RETRY_BACKOFF_INTERVAL))
+                    .thenReturn(retryBackoffInterval);
 
             logoutRequestSender = LogoutRequestSender.getInstance();
         }
@@ -119,11 +137,18 @@ public class LogoutRequestSenderTest {
 
         private final int responseCode;
         private final String responseBody;
+        private final long responseDelay;
 
         public MockHandler(int responseCode, String responseBody) {
 
+            this(responseCode, responseBody, 0);
+        }
+
+        public MockHandler(int responseCode, String responseBody, long responseDelay) {
+
             this.responseCode = responseCode;
             this.responseBody = responseBody;
+            this.responseDelay = responseDelay;
         }
 
         @Override
@@ -136,6 +161,14 @@ public class LogoutRequestSenderTest {
                 mockServerTokenList.add(logoutToken);
             }
 
+            if (responseDelay > 0) {
+                try {
+                    Thread.sleep(responseDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
             // Send the response.
             exchange.sendResponseHeaders(responseCode, responseBody.length());
             try (OutputStream os = exchange.getResponseBody()) {
@@ -201,4 +234,97 @@ public class LogoutRequestSenderTest {
             Assert.assertTrue(mockServerTokenList.contains("logoutToken2"));
         }
     }
+
+    @Test
+    public void testRetryOnServerError() throws Exception {
+
+        initLogoutRequestSender(null, null, null, null, null, "2", "10");
+
+        try (MockedConstruction<DefaultLogoutTokenBuilder> tokenBuilderMockCons =
+                     mockLogoutTokenBuilder("errorToken", "/error")) {
+            logoutRequestSender.sendLogoutRequests("testCookie", "testTenant");
+            waitUntil(() -> logoutRequestSender.getFailedRequestCount() == 1);
+        }
+
+        // The request is sent once and retried twice.
+        Assert.assertEquals(Collections.frequency(mockServerTokenList, "errorToken"), 3);
+        Assert.assertEquals(logoutRequestSender.getRetriedRequestCount(), 2);
+        Assert.assertEquals(logoutRequestSender.getFailedRequestCount(), 1);
+        Assert.assertEquals(logoutRequestSender.getSentRequestCount(), 0);
+    }
+
+    @Test
+    public void testRetryOnConnectFailure() throws Exception {
+
+        initLogoutRequestSender(null, null, null, null, null, "1", "10");
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+
+        try (MockedConstruction<DefaultLogoutTokenBuilder> tokenBuilderMockCons = mockConstruction(
+                DefaultLogoutTokenBuilder.class, (mock, context) -> when(mock.buildLogoutToken(any(), any()))
+                        .thenReturn(Collections.singletonMap("logoutToken", "http://localhost:" + closedPort +
+                                "/logout")))) {
+            logoutRequestSender.sendLogoutRequests("testCookie", "testTenant");
+            waitUntil(() -> logoutRequestSender.getFailedRequestCount() == 1);
+        }
+
+        Assert.assertEquals(logoutRequestSender.getRetriedRequestCount(), 1);
+        Assert.assertEquals(logoutRequestSender.getFailedRequestCount(), 1);
+    }
+
+    @Test
+    public void testNoRetryOnSocketTimeout() throws Exception {
+
+        initLogoutRequestSender(null, null, null, null, "200", "2", "10");
+
+        try (MockedConstruction<DefaultLogoutTokenBuilder> tokenBuilderMockCons =
+                     mockLogoutTokenBuilder("slowToken", "/slow")) {
+            logoutRequestSender.sendLogoutRequests("testCookie", "testTenant");
+            waitUntil(() -> logoutRequestSender.getFailedRequestCount() == 1);
+        }
+
+        // The session participant may have processed the timed out request, hence it is not sent again.
+        Assert.assertEquals(logoutRequestSender.getRetriedRequestCount(), 0);
+        Assert.assertEquals(logoutRequestSender.getFailedRequestCount(), 1);
+        Assert.assertEquals(logoutRequestSender.getSentRequestCount(), 0);
+    }
+
+    @Test
+    public void testRejectWhenWorkQueueIsFull() throws Exception {
+
+        initLogoutRequestSender("1", "1", null, null, null, "0", null);
+        Map<String, String> logoutTokenList = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            logoutTokenList.put("slowToken" + i, "http://localhost:" + MOCK_SERVER_PORT + "/slow");
+        }
+
+        try (MockedConstruction<DefaultLogoutTokenBuilder> tokenBuilderMockCons = mockConstruction(
+                DefaultLogoutTokenBuilder.class,
+                (mock, context) -> when(mock.buildLogoutToken(any(), any())).thenReturn(logoutTokenList))) {
+            // The first request is being sent and the second one is queued, hence the third one is rejected.
+            logoutRequestSender.sendLogoutRequests("testCookie", "testTenant");
+        }
+        Assert.assertEquals(logoutRequestSender.getRejectedRequestCount(), 1);
+
+        waitUntil(() -> logoutRequestSender.getSentRequestCount() == 2);
+        Assert.assertEquals(logoutRequestSender.getSentRequestCount(), 2);
+        Assert.assertEquals(logoutRequestSender.getFailedRequestCount(), 0);
+    }
+
+    private MockedConstruction<DefaultLogoutTokenBuilder> mockLogoutTokenBuilder(String logoutToken, String path) {
+
+        return mockConstruction(DefaultLogoutTokenBuilder.class, (mock, context) ->
+                when(mock.buildLogoutToken(any(), any())).thenReturn(
+                        Collections.singletonMap(logoutToken, "http://localhost:" + MOCK_SERVER_PORT + path)));
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_IN_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
 }